@@ -0,0 +1,156 @@
+package com.github.qacore.seleniumtestingtoolbox.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openqa.selenium.support.FindBy;
+
+import com.github.qacore.seleniumtestingtoolbox.annotations.CacheElements;
+import com.github.qacore.seleniumtestingtoolbox.annotations.Name;
+import com.github.qacore.seleniumtestingtoolbox.stub.LatencyDistribution;
+import com.github.qacore.seleniumtestingtoolbox.stub.StubElement;
+import com.github.qacore.seleniumtestingtoolbox.stub.StubWebDriver;
+import com.github.qacore.seleniumtestingtoolbox.webdriver.AugmentedWebElement;
+
+/**
+ * Page with a typical mix of element and element list fields, initialized by the page benchmarks, and the in-memory page its locators find.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/leocarmona">https://github.com/leocarmona</a></li>
+ *         <li><a href="mailto:lcdesenv@gmail.com">lcdesenv@gmail.com</a></li>
+ *         </ul>
+ *
+ * @since 1.0.2
+ *
+ */
+public class BenchmarkPage {
+
+    static final String              URL = "http://localhost/benchmark";
+
+    @Name("Username")
+    @FindBy(id = "username")
+    public AugmentedWebElement       username;
+
+    @Name("Password")
+    @FindBy(id = "password")
+    public AugmentedWebElement       password;
+
+    @Name("Remember me")
+    @FindBy(name = "remember")
+    public AugmentedWebElement       rememberMe;
+
+    @Name("Sign in")
+    @FindBy(css = "form.login button[type=submit]")
+    public AugmentedWebElement       signIn;
+
+    @FindBy(linkText = "Forgot your password?")
+    public AugmentedWebElement       forgotPassword;
+
+    @FindBy(className = "header")
+    public AugmentedWebElement       header;
+
+    @FindBy(className = "footer")
+    public AugmentedWebElement       footer;
+
+    @FindBy(xpath = "//nav//a[@href='/']")
+    public AugmentedWebElement       home;
+
+    @Name("Menu items")
+    @FindBy(css = "nav li")
+    public List<AugmentedWebElement> menuItems;
+
+    @Name("Rows")
+    @FindBy(css = "table.results tr")
+    public List<AugmentedWebElement> rows;
+
+    /**
+     * The same page, with the lookups of all fields cached.
+     */
+    @CacheElements
+    public static class Cached {
+
+        @Name("Username")
+        @FindBy(id = "username")
+        public AugmentedWebElement       username;
+
+        @Name("Password")
+        @FindBy(id = "password")
+        public AugmentedWebElement       password;
+
+        @Name("Remember me")
+        @FindBy(name = "remember")
+        public AugmentedWebElement       rememberMe;
+
+        @Name("Sign in")
+        @FindBy(css = "form.login button[type=submit]")
+        public AugmentedWebElement       signIn;
+
+        @FindBy(linkText = "Forgot your password?")
+        public AugmentedWebElement       forgotPassword;
+
+        @FindBy(className = "header")
+        public AugmentedWebElement       header;
+
+        @FindBy(className = "footer")
+        public AugmentedWebElement       footer;
+
+        @FindBy(xpath = "//nav//a[@href='/']")
+        public AugmentedWebElement       home;
+
+        @Name("Menu items")
+        @FindBy(css = "nav li")
+        public List<AugmentedWebElement> menuItems;
+
+        @Name("Rows")
+        @FindBy(css = "table.results tr")
+        public List<AugmentedWebElement> rows;
+
+    }
+
+    /**
+     * Creates a driver on the page, with a constant latency for every command.
+     *
+     * @param rows
+     *            How many rows the results table has.
+     *
+     * @param latencyNanos
+     *            The simulated latency of each command, in nanoseconds.
+     *
+     * @return The driver.
+     */
+    static StubWebDriver driver(int rows, long latencyNanos) {
+        StubWebDriver driver = new StubWebDriver(0).page(URL, () -> page(rows));
+
+        driver.get(URL);
+
+        return driver.latency(LatencyDistribution.fixed(latencyNanos, TimeUnit.NANOSECONDS));
+    }
+
+    private static StubElement page(int rows) {
+        StubElement results = new StubElement("table").attribute("class", "results");
+
+        for (int i = 0; i < rows; i++) {
+            results.child(new StubElement("tr").child(new StubElement("td").text("Result " + i)));
+        }
+
+        return new StubElement("html").child(
+                new StubElement("head").child(new StubElement("title").text("Benchmark")),
+                new StubElement("body").child(
+                        new StubElement("div").attribute("class", "header").text("Header"),
+                        new StubElement("nav").child(new StubElement("ul").child(
+                                new StubElement("li").child(new StubElement("a").attribute("href", "/").text("Home")),
+                                new StubElement("li").child(new StubElement("a").attribute("href", "/search").text("Search")),
+                                new StubElement("li").child(new StubElement("a").attribute("href", "/about").text("About")))),
+                        new StubElement("form").attribute("class", "login").child(
+                                new StubElement("input").id("username").attribute("type", "text"),
+                                new StubElement("input").id("password").attribute("type", "password"),
+                                new StubElement("input").attribute("name", "remember").attribute("type", "checkbox"),
+                                new StubElement("button").attribute("type", "submit").text("Sign in")),
+                        new StubElement("a").attribute("href", "/forgot").text("Forgot your password?"),
+                        results,
+                        new StubElement("div").attribute("class", "footer").text("Footer")));
+    }
+
+}
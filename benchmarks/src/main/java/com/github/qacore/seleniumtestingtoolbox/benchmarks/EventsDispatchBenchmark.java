@@ -0,0 +1,128 @@
+package com.github.qacore.seleniumtestingtoolbox.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.qacore.seleniumtestingtoolbox.webdriver.DefaultAugmentedWebDriver;
+import com.github.qacore.seleniumtestingtoolbox.webdriver.events.AbstractAugmentedWebDriverEventListener;
+import com.github.qacore.seleniumtestingtoolbox.webdriver.events.BackpressurePolicy;
+import com.github.qacore.seleniumtestingtoolbox.webdriver.events.DetachedEventListener;
+import com.github.qacore.seleniumtestingtoolbox.webdriver.events.EventsRegistry;
+
+/**
+ * Cost of dispatching an event through {@link EventsRegistry}, with and without listeners, synchronously and asynchronously, and of a command with its before and after events.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/leocarmona">https://github.com/leocarmona</a></li>
+ *         <li><a href="mailto:lcdesenv@gmail.com">lcdesenv@gmail.com</a></li>
+ *         </ul>
+ *
+ * @since 1.0.2
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventsDispatchBenchmark {
+
+    @Param({ "0", "1", "4" })
+    public int                        listeners;
+
+    @Param({ "false", "true" })
+    public boolean                    async;
+
+    private EventsRegistry            registry;
+    private DefaultAugmentedWebDriver driver;
+    private WebElement                element;
+
+    @Setup
+    public void setup() {
+        driver = new DefaultAugmentedWebDriver(BenchmarkPage.driver(1, 0));
+        registry = driver.events();
+        element = driver.findElement(By.id("username"));
+
+        for (int i = 0; i < listeners; i++) {
+            registry.register(new CountingListener());
+        }
+
+        if (async) {
+            registry.async(4096, BackpressurePolicy.DROP);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        registry.close();
+    }
+
+    @Benchmark
+    public void dispatch() {
+        if (!registry.isEmpty()) {
+            registry.dispatch(e -> e.beforeClickOn(element, driver));
+        }
+    }
+
+    @Benchmark
+    public void click() {
+        element.click();
+    }
+
+    @Benchmark
+    public Object navigate() {
+        driver.get("about:blank");
+
+        return driver;
+    }
+
+    private static class CountingListener extends AbstractAugmentedWebDriverEventListener implements DetachedEventListener {
+
+        private long count;
+
+        @Override
+        public void beforeClickOn(WebElement element, WebDriver driver) {
+            count++;
+        }
+
+        @Override
+        public void afterClickOn(WebElement element, WebDriver driver) {
+            count++;
+        }
+
+        @Override
+        public void beforeNavigateTo(String url, WebDriver driver) {
+            count++;
+        }
+
+        @Override
+        public void afterNavigateTo(String url, WebDriver driver) {
+            count++;
+        }
+
+        @Override
+        public String toString() {
+            return "CountingListener(count=" + count + ")";
+        }
+
+    }
+
+}
@@ -0,0 +1,98 @@
+package com.github.qacore.seleniumtestingtoolbox.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.github.qacore.seleniumtestingtoolbox.stub.StubWebDriver;
+import com.github.qacore.seleniumtestingtoolbox.webdriver.DefaultAugmentedWebDriver;
+
+/**
+ * Overhead of {@link DefaultAugmentedWebDriver#findElement(By)} and of the lazily augmented lists of {@link DefaultAugmentedWebDriver#findElements(By)}, compared to the raw driver.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/leocarmona">https://github.com/leocarmona</a></li>
+ *         <li><a href="mailto:lcdesenv@gmail.com">lcdesenv@gmail.com</a></li>
+ *         </ul>
+ *
+ * @since 1.0.2
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FindElementBenchmark {
+
+    private static final By           BY = By.cssSelector("table.results tr");
+
+    @Param({ "0", "50000" })
+    public long                       latencyNanos;
+
+    @Param({ "1", "100" })
+    public int                        rows;
+
+    private StubWebDriver             raw;
+    private DefaultAugmentedWebDriver augmented;
+
+    @Setup
+    public void setup() {
+        raw = BenchmarkPage.driver(rows, latencyNanos);
+        augmented = new DefaultAugmentedWebDriver(raw);
+    }
+
+    @Benchmark
+    public WebElement rawFindElement() {
+        return raw.findElement(BY);
+    }
+
+    @Benchmark
+    public WebElement augmentedFindElement() {
+        return augmented.findElement(BY);
+    }
+
+    @Benchmark
+    public int rawFindElementsSize() {
+        return raw.findElements(BY).size();
+    }
+
+    @Benchmark
+    public int augmentedFindElementsSize() {
+        return augmented.findElements(BY).size();
+    }
+
+    @Benchmark
+    public void rawFindElementsEach(Blackhole blackhole) {
+        for (WebElement element : raw.findElements(BY)) {
+            blackhole.consume(element);
+        }
+    }
+
+    @Benchmark
+    public void augmentedFindElementsEach(Blackhole blackhole) {
+        List<WebElement> found = augmented.findElements(BY);
+
+        for (int i = 0; i < found.size(); i++) {
+            blackhole.consume(found.get(i));
+        }
+    }
+
+}
@@ -0,0 +1,72 @@
+package com.github.qacore.seleniumtestingtoolbox.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.support.PageFactory;
+
+import com.github.qacore.seleniumtestingtoolbox.WebPageFactory;
+import com.github.qacore.seleniumtestingtoolbox.pageobjects.factory.DefaultSeleniumElementLocatorFactory;
+import com.github.qacore.seleniumtestingtoolbox.pageobjects.factory.DefaultSeleniumFieldDecorator;
+import com.github.qacore.seleniumtestingtoolbox.pageobjects.factory.ProxyEngine;
+
+/**
+ * Cost of initializing the fields of a page with {@link DefaultSeleniumFieldDecorator}, with each {@link ProxyEngine}, compared to the Selenium {@link PageFactory} loop.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/leocarmona">https://github.com/leocarmona</a></li>
+ *         <li><a href="mailto:lcdesenv@gmail.com">lcdesenv@gmail.com</a></li>
+ *         </ul>
+ *
+ * @since 1.0.2
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageInitBenchmark {
+
+    @Param({ "REFLECTION", "DIRECT" })
+    public ProxyEngine                           proxyEngine;
+
+    private DefaultSeleniumElementLocatorFactory locatorFactory;
+
+    @Setup
+    public void setup() {
+        locatorFactory = new DefaultSeleniumElementLocatorFactory(BenchmarkPage.driver(1, 0));
+    }
+
+    @Benchmark
+    public BenchmarkPage webPageFactory() {
+        BenchmarkPage page = new BenchmarkPage();
+
+        WebPageFactory.initElements(new DefaultSeleniumFieldDecorator(locatorFactory, proxyEngine), page);
+
+        return page;
+    }
+
+    @Benchmark
+    public BenchmarkPage seleniumPageFactory() {
+        BenchmarkPage page = new BenchmarkPage();
+
+        PageFactory.initElements(new DefaultSeleniumFieldDecorator(locatorFactory, proxyEngine), page);
+
+        return page;
+    }
+
+}
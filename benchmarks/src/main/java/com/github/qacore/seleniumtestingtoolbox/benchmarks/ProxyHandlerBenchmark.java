@@ -0,0 +1,93 @@
+package com.github.qacore.seleniumtestingtoolbox.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.qacore.seleniumtestingtoolbox.WebPageFactory;
+import com.github.qacore.seleniumtestingtoolbox.pageobjects.factory.DefaultSeleniumElementLocatorFactory;
+import com.github.qacore.seleniumtestingtoolbox.pageobjects.factory.DefaultSeleniumFieldDecorator;
+import com.github.qacore.seleniumtestingtoolbox.pageobjects.factory.ProxyEngine;
+import com.github.qacore.seleniumtestingtoolbox.webdriver.AugmentedWebElement;
+
+/**
+ * Cost of calling the element fields of a page through the proxies of each {@link ProxyEngine}, with and without cached lookups.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/leocarmona">https://github.com/leocarmona</a></li>
+ *         <li><a href="mailto:lcdesenv@gmail.com">lcdesenv@gmail.com</a></li>
+ *         </ul>
+ *
+ * @since 1.0.2
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProxyHandlerBenchmark {
+
+    @Param({ "REFLECTION", "DIRECT" })
+    public ProxyEngine                proxyEngine;
+
+    @Param({ "false", "true" })
+    public boolean                    cached;
+
+    @Param({ "0", "50000" })
+    public long                       latencyNanos;
+
+    private AugmentedWebElement       element;
+    private List<AugmentedWebElement> list;
+
+    @Setup
+    public void setup() {
+        DefaultSeleniumFieldDecorator decorator = new DefaultSeleniumFieldDecorator(new DefaultSeleniumElementLocatorFactory(BenchmarkPage.driver(10, latencyNanos)), proxyEngine);
+
+        if (cached) {
+            BenchmarkPage.Cached page = new BenchmarkPage.Cached();
+
+            WebPageFactory.initElements(decorator, page);
+
+            element = page.username;
+            list = page.rows;
+        } else {
+            BenchmarkPage page = new BenchmarkPage();
+
+            WebPageFactory.initElements(decorator, page);
+
+            element = page.username;
+            list = page.rows;
+        }
+    }
+
+    @Benchmark
+    public String getText() {
+        return element.getText();
+    }
+
+    @Benchmark
+    public boolean isEnabled() {
+        return element.isEnabled();
+    }
+
+    @Benchmark
+    public int listSize() {
+        return list.size();
+    }
+
+}
@@ -2,6 +2,7 @@ package com.github.qacore.seleniumtestingtoolbox;
 
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.internal.WrapsDriver;
 
 import com.github.qacore.seleniumtestingtoolbox.webdriver.AugmentedWebDriver;
 import com.github.qacore.seleniumtestingtoolbox.webdriver.AugmentedWebElement;
@@ -50,7 +51,7 @@ public final class WebDriverFactory {
      *            The {@link WebElement} name. Can be null.
      * 
      * @param eventsRegistry
-     *            The {@link EventsRegistry}. Can be null.
+     *            The {@link EventsRegistry}. Can be null: if the element belongs to the driver of the current {@link Thread} in {@link WebDriverManager}, the element dispatches its events to the driver registry, otherwise it shares the {@link EventsRegistry#empty() empty registry}.
      * 
      * @return An augmented {@link WebElement}.
      */
@@ -59,9 +60,23 @@ public final class WebDriverFactory {
             return (AugmentedWebElement) element;
         }
 
+        if (eventsRegistry == null) {
+            eventsRegistry = driverEvents(element);
+        }
+
         return new DefaultAugmentedWebElement(element, name, eventsRegistry);
     }
 
+    private static EventsRegistry driverEvents(WebElement element) {
+        AugmentedWebDriver driver = WebDriverManager.currentDriver();
+
+        if (driver == null || !(element instanceof WrapsDriver) || ((WrapsDriver) element).getWrappedDriver() != driver.getWrappedDriver()) {
+            return null;
+        }
+
+        return driver.events();
+    }
+
     private WebDriverFactory() {
 
     }
@@ -0,0 +1,147 @@
+package com.github.qacore.seleniumtestingtoolbox;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.openqa.selenium.WebDriver;
+
+import com.github.qacore.seleniumtestingtoolbox.metrics.LatencyHistogram;
+import com.github.qacore.seleniumtestingtoolbox.webdriver.AugmentedWebDriver;
+
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * Starts {@link WebDriver} sessions in background threads, limiting how many sessions are started at the same time.
+ * <p>
+ * Starting too many browsers at once thrashes the host and makes some sessions time out. The launcher queues the startups on a fixed pool of {@code maxConcurrentStartups} threads, so the test thread can keep running its own setup while the browser starts:
+ * </p>
+ *
+ * <pre>
+ * WebDriverLauncher launcher = new WebDriverLauncher(4);
+ *
+ * WebDriverManager.setDriver(launcher.launch(ChromeDriver::new)); // does not block
+ * // ... test setup ...
+ * WebDriverManager.getDriver();                                  // blocks until the browser is started
+ * </pre>
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/leocarmona">https://github.com/leocarmona</a></li>
+ *         <li><a href="mailto:lcdesenv@gmail.com">lcdesenv@gmail.com</a></li>
+ *         </ul>
+ *
+ * @see WebDriverManager#setDriver(CompletableFuture)
+ * @see WebDriverPool#warmUp(WebDriverLauncher)
+ *
+ * @since 1.0.2
+ *
+ */
+@ToString(of = { "maxConcurrentStartups" })
+public class WebDriverLauncher implements AutoCloseable {
+
+    private static final AtomicInteger launcherCount = new AtomicInteger();
+
+    private final int              maxConcurrentStartups;
+    private final ExecutorService  executor;
+    private final LatencyHistogram startupLatency;
+    private final LatencyHistogram launchLatency;
+    private final LongAdder        failures;
+
+    /**
+     * Creates a new launcher.
+     *
+     * @param maxConcurrentStartups
+     *            How many sessions can be started at the same time.
+     */
+    public WebDriverLauncher(int maxConcurrentStartups) {
+        if (maxConcurrentStartups < 1) {
+            throw new IllegalArgumentException("Max concurrent startups must be greater than zero");
+        }
+
+        String prefix = "webdriver-launcher-" + launcherCount.incrementAndGet() + "-";
+        AtomicInteger threadCount = new AtomicInteger();
+
+        this.maxConcurrentStartups = maxConcurrentStartups;
+        this.executor = Executors.newFixedThreadPool(maxConcurrentStartups, r -> {
+            Thread thread = new Thread(r, prefix + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+
+            return thread;
+        });
+        this.startupLatency = new LatencyHistogram();
+        this.launchLatency = new LatencyHistogram();
+        this.failures = new LongAdder();
+    }
+
+    /**
+     * Starts a new session in background.
+     *
+     * @param factory
+     *            Creates the {@link WebDriver}.
+     *
+     * @return A future completed with the started driver, or completed exceptionally if the startup failed.
+     */
+    public CompletableFuture<AugmentedWebDriver> launch(@NonNull Supplier<? extends WebDriver> factory) {
+        long launched = System.nanoTime();
+
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                long start = System.nanoTime();
+                WebDriver driver = factory.get();
+                long end = System.nanoTime();
+
+                startupLatency.record(end - start);
+                launchLatency.record(end - launched);
+
+                return WebDriverFactory.augment(driver);
+            } catch (RuntimeException e) {
+                failures.increment();
+
+                throw e;
+            }
+        }, executor);
+    }
+
+    /**
+     * @return How many sessions can be started at the same time.
+     */
+    public int getMaxConcurrentStartups() {
+        return maxConcurrentStartups;
+    }
+
+    /**
+     * @return Time spent by the factory to start each session.
+     */
+    public LatencyHistogram getStartupLatency() {
+        return startupLatency;
+    }
+
+    /**
+     * @return Time from {@link #launch(Supplier)} until each session was ready, including the time waiting for a startup slot.
+     */
+    public LatencyHistogram getLaunchLatency() {
+        return launchLatency;
+    }
+
+    /**
+     * @return How many startups failed.
+     */
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    /**
+     * Stops accepting new startups. Sessions already launched are started normally.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+}
@@ -1,7 +1,11 @@
 package com.github.qacore.seleniumtestingtoolbox;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 import org.openqa.selenium.NoSuchSessionException;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 
 import com.github.qacore.seleniumtestingtoolbox.webdriver.AugmentedWebDriver;
 import com.github.qacore.seleniumtestingtoolbox.webdriver.DefaultAugmentedWebDriver;
@@ -22,12 +26,14 @@ import com.github.qacore.seleniumtestingtoolbox.webdriver.internal.AugmentedWrap
  */
 public final class WebDriverManager {
     
-    private static final ThreadLocal<AugmentedWebDriver> webDriver     = new ThreadLocal<>();
-    private static final AugmentedWrapsDriver            driverContext = new AugmentedWrapsDriver() {
+    private static final ThreadLocal<AugmentedWebDriver>                     webDriver        = new ThreadLocal<>();
+    private static final ThreadLocal<CompletableFuture<? extends WebDriver>> pendingWebDriver = new ThreadLocal<>();
+    private static final ThreadLocal<WebDriverPool>                          webDriverPool    = new ThreadLocal<>();
+    private static final AugmentedWrapsDriver                                driverContext    = new AugmentedWrapsDriver() {
         
         @Override
         public AugmentedWebDriver getWrappedDriver() {            
-            return webDriver.get();
+            return getDriver();
         }
         
         @Override
@@ -38,10 +44,19 @@ public final class WebDriverManager {
     };
 
     public static AugmentedWebDriver getDriver() {
-        return webDriver.get();
+        AugmentedWebDriver driver = webDriver.get();
+
+        if (driver == null && pendingWebDriver.get() != null) {
+            driver = awaitPendingDriver();
+        }
+
+        return driver;
     }
 
     public static void setDriver(WebDriver driver) {
+        releaseLeasedDriver();
+        discardPendingDriver();
+
         if (driver instanceof AugmentedWebDriver) {
             webDriver.set((AugmentedWebDriver) driver);
         } else {
@@ -49,26 +64,68 @@ public final class WebDriverManager {
         }
     }
 
+    /**
+     * Leases a driver from the pool for the current {@link Thread}. The driver is returned to the pool by {@link #quit()}.
+     * 
+     * @param pool
+     *            The {@link WebDriverPool}.
+     */
+    public static void setDriver(WebDriverPool pool) {
+        releaseLeasedDriver();
+        discardPendingDriver();
+
+        AugmentedWebDriver driver = pool.lease();
+
+        webDriver.set(driver);
+        webDriverPool.set(pool);
+    }
+
+    /**
+     * Sets a driver that is still being started for the current {@link Thread}. The first call to {@link #getDriver()} waits until the driver is started.
+     * 
+     * @param driver
+     *            The driver being started.
+     * 
+     * @see WebDriverLauncher
+     */
+    public static void setDriver(CompletableFuture<? extends WebDriver> driver) {
+        releaseLeasedDriver();
+        discardPendingDriver();
+
+        webDriver.remove();
+        pendingWebDriver.set(driver);
+    }
+
     public static AugmentedWrapsDriver getDriverContext() {
         return driverContext;
     }
     
     public static void quit() {
-        WebDriver driver = webDriver.get();
+        discardPendingDriver();
+
+        AugmentedWebDriver driver = webDriver.get();
+        WebDriverPool pool = webDriverPool.get();
         
         if (driver != null) {
             try {
-                driver.quit();
+                driver.events().sync();
+
+                if (pool != null && pool.isLeased(driver)) {
+                    pool.release(driver);
+                } else {
+                    driver.quit();
+                }
             } catch (Exception e) {
                 e.printStackTrace();
             } finally {
                 webDriver.set(null);
+                webDriverPool.remove();
             }
         }
     }
 
     public static boolean isOpened() {
-        WebDriver driver = webDriver.get();
+        WebDriver driver = getDriver();
 
         if (driver == null) {
             return false;
@@ -81,6 +138,58 @@ public final class WebDriverManager {
         }
     }
 
+    /**
+     * Retrieves the driver of the current {@link Thread}, without waiting for a driver that is still being started.
+     * 
+     * @return The driver, or {@code null} if there is none yet.
+     */
+    static AugmentedWebDriver currentDriver() {
+        return webDriver.get();
+    }
+
+    private static AugmentedWebDriver awaitPendingDriver() {
+        CompletableFuture<? extends WebDriver> pending = pendingWebDriver.get();
+
+        pendingWebDriver.remove();
+
+        try {
+            AugmentedWebDriver driver = WebDriverFactory.augment(pending.join());
+
+            webDriver.set(driver);
+
+            return driver;
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof WebDriverException) {
+                throw (WebDriverException) e.getCause();
+            }
+
+            throw new WebDriverException("An error ocurred while starting the WebDriver", e.getCause());
+        }
+    }
+
+    private static void discardPendingDriver() {
+        CompletableFuture<? extends WebDriver> pending = pendingWebDriver.get();
+
+        if (pending != null) {
+            pendingWebDriver.remove();
+            pending.thenAccept(WebDriver::quit);
+        }
+    }
+
+    private static void releaseLeasedDriver() {
+        WebDriverPool pool = webDriverPool.get();
+
+        if (pool != null) {
+            AugmentedWebDriver driver = webDriver.get();
+
+            if (pool.isLeased(driver)) {
+                pool.release(driver);
+            }
+
+            webDriverPool.remove();
+        }
+    }
+
     private WebDriverManager() {
 
     }
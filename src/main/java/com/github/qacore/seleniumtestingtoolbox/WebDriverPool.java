@@ -0,0 +1,486 @@
+package com.github.qacore.seleniumtestingtoolbox;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import com.github.qacore.seleniumtestingtoolbox.webdriver.AugmentedWebDriver;
+
+import lombok.Data;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * Pool of warm {@link WebDriver} sessions that can be leased and returned instead of being started and quit by every test.
+ * <p>
+ * Sessions are created by the given {@link Supplier} when the pool is {@link #warmUp() warmed up} or when a lease finds no idle session and the pool is not full. Before a session goes back to the pool it is reset by the {@link #setResetHook(Consumer) reset hook}, and it is quit instead when it reached the {@link #setMaxUsesPerSession(int) maximum number of uses}.
+ * </p>
+ *
+ * <pre>
+ * WebDriverPool pool = new WebDriverPool(ChromeDriver::new, 4).setMaxUsesPerSession(50).warmUp();
+ *
+ * WebDriverManager.setDriver(pool); // lease
+ * WebDriverManager.quit();          // return
+ * </pre>
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/leocarmona">https://github.com/leocarmona</a></li>
+ *         <li><a href="mailto:lcdesenv@gmail.com">lcdesenv@gmail.com</a></li>
+ *         </ul>
+ *
+ * @see WebDriverManager#setDriver(WebDriverPool)
+ *
+ * @since 1.0.2
+ *
+ */
+@ToString(of = { "size", "maxUsesPerSession" })
+public class WebDriverPool implements AutoCloseable {
+
+    /**
+     * Default reset hook: closes every window but one through the driver, so its window registry stays in sync, clears the web storage and the cookies of the current page and navigates to {@code about:blank}.
+     */
+    public static final Consumer<AugmentedWebDriver> DEFAULT_RESET_HOOK = WebDriverPool::reset;
+
+    private static final long                             RETRY_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final Supplier<? extends WebDriver>           factory;
+    private final int                                     size;
+    private final BlockingQueue<Session>                  idle;
+    private final Map<AugmentedWebDriver, Session>        leased;
+    private final AtomicInteger                           created;
+
+    private final LongAdder                               leases;
+    private final LongAdder                               leaseWaitNanos;
+    private final AtomicLong                              maxLeaseWaitNanos;
+    private final LongAdder                               recycled;
+    private final LongAdder                               failedResets;
+    private final LongAdder                               failedQuits;
+
+    private volatile int                                  maxUsesPerSession;
+    private volatile Consumer<? super AugmentedWebDriver> resetHook;
+    private volatile boolean                              closed;
+
+    /**
+     * Creates a new pool.
+     *
+     * @param factory
+     *            Creates new {@link WebDriver} sessions.
+     *
+     * @param size
+     *            The maximum number of sessions of this pool.
+     */
+    public WebDriverPool(@NonNull Supplier<? extends WebDriver> factory, int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Pool size must be greater than zero");
+        }
+
+        this.factory = factory;
+        this.size = size;
+        this.idle = new LinkedBlockingDeque<>();
+        this.leased = new ConcurrentHashMap<>();
+        this.created = new AtomicInteger();
+
+        this.leases = new LongAdder();
+        this.leaseWaitNanos = new LongAdder();
+        this.maxLeaseWaitNanos = new AtomicLong();
+        this.recycled = new LongAdder();
+        this.failedResets = new LongAdder();
+        this.failedQuits = new LongAdder();
+
+        this.resetHook = DEFAULT_RESET_HOOK;
+    }
+
+    /**
+     * Sets how many leases a session serves before it is quit and replaced by a new one.
+     *
+     * @param maxUsesPerSession
+     *            The maximum number of leases per session. Zero or less means unlimited.
+     *
+     * @return {@code this} to chain method calls.
+     */
+    public WebDriverPool setMaxUsesPerSession(int maxUsesPerSession) {
+        this.maxUsesPerSession = maxUsesPerSession;
+
+        return this;
+    }
+
+    /**
+     * Sets the hook that resets a session before it goes back to the pool. If the hook throws, the session is quit instead of
+     * being pooled and the failure is counted in the {@link #metrics() metrics}.
+     *
+     * @param resetHook
+     *            The reset hook.
+     *
+     * @return {@code this} to chain method calls.
+     *
+     * @see #DEFAULT_RESET_HOOK
+     */
+    public WebDriverPool setResetHook(@NonNull Consumer<? super AugmentedWebDriver> resetHook) {
+        this.resetHook = resetHook;
+
+        return this;
+    }
+
+    /**
+     * Creates sessions until the pool is full.
+     *
+     * @return {@code this} to chain method calls.
+     */
+    public WebDriverPool warmUp() {
+        Session session;
+
+        while ((session = this.tryCreate()) != null) {
+            idle.offer(session);
+        }
+
+        return this;
+    }
+
+    /**
+     * Creates sessions until the pool is full, in background, using the launcher. Leases wait for these sessions instead of creating new ones.
+     *
+     * @param launcher
+     *            The {@link WebDriverLauncher} that starts the sessions.
+     *
+     * @return {@code this} to chain method calls.
+     */
+    public WebDriverPool warmUp(@NonNull WebDriverLauncher launcher) {
+        while (this.reserve()) {
+            launcher.launch(factory).whenComplete((driver, e) -> {
+                if (e != null) {
+                    created.decrementAndGet();
+                } else if (closed) {
+                    this.discard(new Session(driver));
+                } else {
+                    idle.offer(new Session(driver));
+                }
+            });
+        }
+
+        return this;
+    }
+
+    /**
+     * Leases a session, waiting for one to be returned if the pool is full.
+     *
+     * @return The leased driver.
+     */
+    public AugmentedWebDriver lease() {
+        return this.lease(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Leases a session, waiting up to the given time for one to be returned if the pool is full.
+     *
+     * @param timeout
+     *            How long to wait.
+     *
+     * @param unit
+     *            The unit of the timeout.
+     *
+     * @return The leased driver.
+     *
+     * @throws WebDriverException
+     *             If no session was available in time.
+     */
+    public AugmentedWebDriver lease(long timeout, TimeUnit unit) {
+        if (closed) {
+            throw new IllegalStateException("WebDriverPool is closed");
+        }
+
+        long start = System.nanoTime();
+        long deadline = start + Math.min(unit.toNanos(timeout), Long.MAX_VALUE / 2);
+        Session session = idle.poll();
+
+        // A recycled session frees a slot without going back to the idle queue, so waiters retry the creation periodically.
+        while (session == null && (session = this.tryCreate()) == null) {
+            long remaining = deadline - System.nanoTime();
+
+            if (remaining <= 0) {
+                throw new WebDriverException("No WebDriver session available after " + timeout + " " + unit);
+            }
+
+            try {
+                session = idle.poll(Math.min(remaining, RETRY_INTERVAL_NANOS), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+
+                throw new WebDriverException("Interrupted while waiting for a WebDriver session", e);
+            }
+        }
+
+        long wait = System.nanoTime() - start;
+
+        leases.increment();
+        leaseWaitNanos.add(wait);
+        maxLeaseWaitNanos.accumulateAndGet(wait, Math::max);
+
+        session.uses++;
+        leased.put(session.driver, session);
+
+        return session.driver;
+    }
+
+    /**
+     * Returns a leased session to the pool.
+     *
+     * @param driver
+     *            A driver leased from this pool.
+     */
+    public void release(AugmentedWebDriver driver) {
+        Session session = leased.remove(driver);
+
+        if (session == null) {
+            throw new IllegalArgumentException("Driver was not leased from this pool: " + driver);
+        }
+
+        int maxUses = this.maxUsesPerSession;
+
+        if (closed || (maxUses > 0 && session.uses >= maxUses)) {
+            if (!closed) {
+                recycled.increment();
+            }
+
+            this.discard(session);
+
+            return;
+        }
+
+        try {
+            resetHook.accept(session.driver);
+        } catch (RuntimeException e) {
+            failedResets.increment();
+            this.discard(session);
+
+            return;
+        }
+
+        idle.offer(session);
+
+        if (closed && idle.remove(session)) {
+            this.discard(session);
+        }
+    }
+
+    /**
+     * Checks if the driver was leased from this pool and was not returned yet.
+     *
+     * @param driver
+     *            The driver.
+     *
+     * @return {@code true} if the driver is leased from this pool. Otherwise, {@code false}.
+     */
+    public boolean isLeased(AugmentedWebDriver driver) {
+        return driver != null && leased.containsKey(driver);
+    }
+
+    /**
+     * @return A snapshot of the pool metrics.
+     */
+    public Metrics metrics() {
+        long leaseCount = leases.sum();
+        long totalWait = leaseWaitNanos.sum();
+
+        return new Metrics(created.get(), idle.size(), leased.size(), leaseCount, recycled.sum(), failedResets.sum(), failedQuits.sum(), leaseCount == 0 ? 0 : totalWait / leaseCount, maxLeaseWaitNanos.get());
+    }
+
+    /**
+     * Quits all idle sessions. Leased sessions are quit when they are returned.
+     *
+     * @throws WebDriverException
+     *             If some sessions could not be quit, with their failures as suppressed exceptions. The other sessions are quit anyway.
+     */
+    @Override
+    public void close() {
+        closed = true;
+
+        List<Session> sessions = new ArrayList<>();
+        idle.drainTo(sessions);
+
+        WebDriverException failure = null;
+
+        for (Session session : sessions) {
+            RuntimeException e = this.discard(session);
+
+            if (e != null) {
+                if (failure == null) {
+                    failure = new WebDriverException("Could not quit all the idle sessions of the pool");
+                }
+
+                failure.addSuppressed(e);
+            }
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * @return The maximum number of sessions of this pool.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @return The maximum number of leases per session. Zero or less means unlimited.
+     */
+    public int getMaxUsesPerSession() {
+        return maxUsesPerSession;
+    }
+
+    private boolean reserve() {
+        if (created.incrementAndGet() > size) {
+            created.decrementAndGet();
+
+            return false;
+        }
+
+        return true;
+    }
+
+    private Session tryCreate() {
+        if (!this.reserve()) {
+            return null;
+        }
+
+        try {
+            return new Session(WebDriverFactory.augment(factory.get()));
+        } catch (RuntimeException e) {
+            created.decrementAndGet();
+
+            throw e;
+        }
+    }
+
+    /**
+     * Quits a session, counting the failure instead of throwing it.
+     *
+     * @return The failure, or {@code null} if the session was quit.
+     */
+    private RuntimeException discard(Session session) {
+        try {
+            session.driver.quit();
+
+            return null;
+        } catch (RuntimeException e) {
+            failedQuits.increment();
+
+            return e;
+        } finally {
+            created.decrementAndGet();
+        }
+    }
+
+    private static void reset(AugmentedWebDriver driver) {
+        WebDriver webDriver = driver.getWrappedDriver();
+        Set<String> windowHandles = driver.getWindowHandles();
+        String first = windowHandles.iterator().next();
+
+        for (String windowHandle : windowHandles) {
+            if (!first.equals(windowHandle)) {
+                driver.switchTo().window(windowHandle);
+                driver.close();
+            }
+        }
+
+        driver.switchTo().window(first);
+        driver.executeScriptKeepingWindows("try { localStorage.clear(); sessionStorage.clear(); } catch (e) { }");
+        webDriver.manage().deleteAllCookies();
+        webDriver.get("about:blank");
+    }
+
+    /**
+     * Pooled session.
+     */
+    private static class Session {
+
+        private final AugmentedWebDriver driver;
+        private int                      uses;
+
+        private Session(AugmentedWebDriver driver) {
+            this.driver = driver;
+        }
+
+    }
+
+    /**
+     * Immutable snapshot of the {@link WebDriverPool} metrics.
+     *
+     * @author Leonardo Carmona da Silva
+     *         <ul>
+     *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+     *         <li><a href="https://github.com/leocarmona">https://github.com/leocarmona</a></li>
+     *         <li><a href="mailto:lcdesenv@gmail.com">lcdesenv@gmail.com</a></li>
+     *         </ul>
+     *
+     * @since 1.0.2
+     *
+     */
+    @Data
+    public static class Metrics {
+
+        /**
+         * Sessions currently alive, idle or leased.
+         */
+        private final int  sessions;
+
+        /**
+         * Sessions waiting to be leased.
+         */
+        private final int  idleSessions;
+
+        /**
+         * Sessions currently leased.
+         */
+        private final int  leasedSessions;
+
+        /**
+         * Total number of leases.
+         */
+        private final long leases;
+
+        /**
+         * Sessions quit because they reached the maximum number of uses.
+         */
+        private final long recycledSessions;
+
+        /**
+         * Sessions quit because the reset hook threw.
+         */
+        private final long failedResets;
+
+        /**
+         * Sessions that threw when they were quit.
+         */
+        private final long failedQuits;
+
+        /**
+         * Average time a lease waited for a session, in nanoseconds.
+         */
+        private final long averageLeaseWaitNanos;
+
+        /**
+         * Longest time a lease waited for a session, in nanoseconds.
+         */
+        private final long maxLeaseWaitNanos;
+
+    }
+
+}
@@ -1,11 +1,17 @@
 package com.github.qacore.seleniumtestingtoolbox;
 
+import java.lang.reflect.Field;
+
 import org.openqa.selenium.internal.WrapsDriver;
 import org.openqa.selenium.support.PageFactory;
+import org.openqa.selenium.support.pagefactory.FieldDecorator;
 
+import com.github.qacore.seleniumtestingtoolbox.annotations.Prefetch;
 import com.github.qacore.seleniumtestingtoolbox.pageobjects.AbstractPage;
 import com.github.qacore.seleniumtestingtoolbox.pageobjects.factory.DefaultSeleniumElementLocatorFactory;
 import com.github.qacore.seleniumtestingtoolbox.pageobjects.factory.DefaultSeleniumFieldDecorator;
+import com.github.qacore.seleniumtestingtoolbox.pageobjects.factory.PageMetadata;
+import com.github.qacore.seleniumtestingtoolbox.pageobjects.factory.PagePrefetcher;
 
 /**
  * Web Page Factory class to make using Page Objects simpler and easier.
@@ -23,15 +29,58 @@ import com.github.qacore.seleniumtestingtoolbox.pageobjects.factory.DefaultSelen
 public final class WebPageFactory {
 
     public static void initElements(AbstractPage<?> page) {
-        PageFactory.initElements(new DefaultSeleniumFieldDecorator(new DefaultSeleniumElementLocatorFactory(page)), page);
+        initElements(new DefaultSeleniumFieldDecorator(new DefaultSeleniumElementLocatorFactory(page)), page);
     }
 
     public static void initElements(WrapsDriver page) {
-        PageFactory.initElements(new DefaultSeleniumFieldDecorator(new DefaultSeleniumElementLocatorFactory(page)), page);
+        initElements(new DefaultSeleniumFieldDecorator(new DefaultSeleniumElementLocatorFactory(page)), page);
     }
 
     public static void initElements(Object page) {
-        PageFactory.initElements(new DefaultSeleniumFieldDecorator(new DefaultSeleniumElementLocatorFactory()), page);
+        initElements(new DefaultSeleniumFieldDecorator(new DefaultSeleniumElementLocatorFactory()), page);
+    }
+
+    /**
+     * Decorates the fields of the page, like {@link PageFactory#initElements(FieldDecorator, Object)}, but walking the fields cached by {@link PageMetadata}.
+     *
+     * @param decorator
+     *            The field decorator.
+     *
+     * @param page
+     *            The page.
+     *
+     * @since 1.0.2
+     */
+    public static void initElements(FieldDecorator decorator, Object page) {
+        ClassLoader loader = page.getClass().getClassLoader();
+
+        for (Field field : PageMetadata.of(page.getClass()).getFields()) {
+            Object value = decorator.decorate(loader, field);
+
+            if (value != null) {
+                try {
+                    field.set(page, value);
+                } catch (IllegalAccessException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Locates the element fields of an initialized page in one script, instead of one lookup per field. The located elements are returned by the next lookup of each field, or cached if the lookups of the field are cached.
+     *
+     * @param page
+     *            The page.
+     *
+     * @return The number of fields located by the script. Fields that cannot be located by a script, like {@code @FindBys} and {@code @FindAll} fields, and fields that are not found, are located on their first use.
+     *
+     * @see Prefetch
+     *
+     * @since 1.0.2
+     */
+    public static int prefetch(Object page) {
+        return PagePrefetcher.prefetch(page);
     }
 
     private WebPageFactory() {
@@ -38,4 +38,31 @@ public @interface AjaxElement {
      */
     TimeUnit unit() default TimeUnit.SECONDS;
 
+    /**
+     * How to wait for the element. {@link WaitStrategy#MUTATION_OBSERVER} is opt-in.
+     * 
+     * @return The wait strategy.
+     * 
+     * @since 1.0.2
+     */
+    WaitStrategy strategy() default WaitStrategy.POLLING;
+
+    /**
+     * How often to search the element while polling.
+     * 
+     * @return The polling strategy.
+     * 
+     * @since 1.0.2
+     */
+    PollingStrategy polling() default PollingStrategy.FIXED;
+
+    /**
+     * The interval between searches of a {@link PollingStrategy#FIXED fixed} polling, and the longest interval of the other polling strategies.
+     * 
+     * @return The interval, in milliseconds.
+     * 
+     * @since 1.0.2
+     */
+    long pollingInterval() default 500L;
+
 }
@@ -0,0 +1,36 @@
+package com.github.qacore.seleniumtestingtoolbox.annotations;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.support.CacheLookup;
+
+/**
+ * Caches the elements of all fields declared by the annotated page, like annotating each field with @{@link CacheLookup}.
+ * <p>
+ * A cached element is located once per driver and reused by the next calls. When the browser reports a {@link StaleElementReferenceException}, the element is located again and the call is retried once.
+ * </p>
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/leocarmona">https://github.com/leocarmona</a></li>
+ *         <li><a href="mailto:lcdesenv@gmail.com">lcdesenv@gmail.com</a></li>
+ *         </ul>
+ *
+ * @see CacheLookup
+ *
+ * @since 1.0.2
+ *
+ */
+@Target(TYPE)
+@Retention(RUNTIME)
+@Documented
+public @interface CacheElements {
+
+}
@@ -0,0 +1,36 @@
+package com.github.qacore.seleniumtestingtoolbox.annotations;
+
+/**
+ * How often the locator of an @{@link AjaxElement} searches the element while it waits by {@link WaitStrategy#POLLING polling}.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/leocarmona">https://github.com/leocarmona</a></li>
+ *         <li><a href="mailto:lcdesenv@gmail.com">lcdesenv@gmail.com</a></li>
+ *         </ul>
+ *
+ * @see AjaxElement#polling()
+ * @see AjaxElement#pollingInterval()
+ *
+ * @since 1.0.2
+ *
+ */
+public enum PollingStrategy {
+
+    /**
+     * Waits the {@link AjaxElement#pollingInterval() polling interval} between searches.
+     */
+    FIXED,
+
+    /**
+     * Starts with a sixteenth of the {@link AjaxElement#pollingInterval() polling interval} and doubles the interval after each search, up to the polling interval. Each interval is randomly shortened by up to a half, so parallel sessions do not search in lockstep.
+     */
+    EXPONENTIAL,
+
+    /**
+     * Learns from the previous waits for the same field: polls at a quarter of the usual time the element takes to appear, but never more often than twice the usual duration of a search, so a slow driver or hub is not flooded, and never less often than the {@link AjaxElement#pollingInterval() polling interval}. Behaves like {@link #EXPONENTIAL} until the field was waited for once.
+     */
+    ADAPTIVE;
+
+}
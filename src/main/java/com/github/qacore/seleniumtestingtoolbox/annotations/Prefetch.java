@@ -0,0 +1,38 @@
+package com.github.qacore.seleniumtestingtoolbox.annotations;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import com.github.qacore.seleniumtestingtoolbox.WebPageFactory;
+import com.github.qacore.seleniumtestingtoolbox.pageobjects.AbstractPage;
+
+/**
+ * Locates the element fields of the annotated page in one script right after the page is {@link AbstractPage#load() loaded}, like calling {@link WebPageFactory#prefetch(Object)}.
+ * <p>
+ * A page with many fields then pays one round trip to the browser instead of one lookup per field.
+ * </p>
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/leocarmona">https://github.com/leocarmona</a></li>
+ *         <li><a href="mailto:lcdesenv@gmail.com">lcdesenv@gmail.com</a></li>
+ *         </ul>
+ *
+ * @see WebPageFactory#prefetch(Object)
+ *
+ * @since 1.0.2
+ *
+ */
+@Target(TYPE)
+@Retention(RUNTIME)
+@Documented
+@Inherited
+public @interface Prefetch {
+
+}
@@ -0,0 +1,33 @@
+package com.github.qacore.seleniumtestingtoolbox.annotations;
+
+/**
+ * How the locator of an @{@link AjaxElement} waits for the element to appear.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/leocarmona">https://github.com/leocarmona</a></li>
+ *         <li><a href="mailto:lcdesenv@gmail.com">lcdesenv@gmail.com</a></li>
+ *         </ul>
+ *
+ * @see AjaxElement#strategy()
+ *
+ * @since 1.0.2
+ *
+ */
+public enum WaitStrategy {
+
+    /**
+     * Searches the element again and again, at the intervals of the {@link AjaxElement#polling() polling strategy}, until it is found or the timeout expires.
+     */
+    POLLING,
+
+    /**
+     * Executes one asynchronous script that observes the changes of the page with a {@code MutationObserver} and returns as soon as the element appears or the timeout expires. Falls back to {@link #POLLING} for locators that cannot be translated to a script, like {@code ByChained}, and for drivers that cannot execute asynchronous scripts.
+     * <p>
+     * If the script timeout set through {@link com.github.qacore.seleniumtestingtoolbox.webdriver.AugmentedWebDriver.Timeouts#setScriptTimeout(long, java.util.concurrent.TimeUnit) AugmentedWebDriver.Timeouts} is shorter than the timeout of the element, the script observes the page until shortly before the script timeout and the rest of the wait falls back to {@link #POLLING}.
+     * </p>
+     */
+    MUTATION_OBSERVER;
+
+}
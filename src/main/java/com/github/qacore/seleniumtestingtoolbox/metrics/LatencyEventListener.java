@@ -0,0 +1,447 @@
+package com.github.qacore.seleniumtestingtoolbox.metrics;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import com.github.qacore.seleniumtestingtoolbox.webdriver.DefaultAugmentedWebElement;
+import com.github.qacore.seleniumtestingtoolbox.webdriver.events.AbstractAugmentedWebDriverEventListener;
+import com.github.qacore.seleniumtestingtoolbox.webdriver.events.BackpressurePolicy;
+import com.github.qacore.seleniumtestingtoolbox.webdriver.events.DetachedEventListener;
+import com.github.qacore.seleniumtestingtoolbox.webdriver.events.EventsRegistry;
+
+/**
+ * Event listener that measures the latency of the driver commands, between their before and after events.
+ * <p>
+ * The latencies are recorded into {@link LatencyHistogram histograms} per {@link Command}, per named element (e.g. a page field annotated with @{@link com.github.qacore.seleniumtestingtoolbox.annotations.Name Name}) clicked or changed, and per locator searched. The items of a list field, named like {@code "Item [3]"}, are recorded under the name of the field, and the names beyond the first {@value #MAX_ELEMENTS}, like the texts of many different options, under {@value #OTHER_ELEMENTS}. Nested events of the same command, like a click that a listener answers with another click, are timed separately. The listener is thread-safe: a single instance can be registered on the drivers of all test threads, and summarized at the end of the run with {@link #toText()}, {@link #toCsv()} or {@link #toJson()}.
+ * </p>
+ * <p>
+ * The commands are timed by the thread that runs them, so the listener is not a {@link DetachedEventListener}: it is called synchronously even by an {@link EventsRegistry#async(int, BackpressurePolicy) asynchronous} registry, which would otherwise make it measure the dispatch delay.
+ * </p>
+ *
+ * <pre>
+ * LatencyEventListener latency = new LatencyEventListener();
+ *
+ * WebDriverManager.getDriver().events().register(latency);
+ * ...
+ * System.out.println(latency.toText());
+ * </pre>
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/leocarmona">https://github.com/leocarmona</a></li>
+ *         <li><a href="mailto:lcdesenv@gmail.com">lcdesenv@gmail.com</a></li>
+ *         </ul>
+ *
+ * @since 1.0.2
+ *
+ */
+public class LatencyEventListener extends AbstractAugmentedWebDriverEventListener {
+
+    /**
+     * Maximum number of element names with their own histogram.
+     */
+    public static final int                               MAX_ELEMENTS   = 1024;
+
+    /**
+     * Name of the histogram of the elements beyond the first {@link #MAX_ELEMENTS}.
+     */
+    public static final String                            OTHER_ELEMENTS = "(other elements)";
+
+    private static final String[]                         COLUMNS        = { "type", "name", "count", "total_ms", "mean_ms", "p50_ms", "p90_ms", "p99_ms", "max_ms" };
+
+    private static final Pattern                          INDEX          = Pattern.compile(" \\[\\d+\\]$");
+
+    private final Map<Command, LatencyHistogram>          commands;
+    private final ConcurrentMap<String, LatencyHistogram> elements       = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LatencyHistogram> locators       = new ConcurrentHashMap<>();
+
+    private final ThreadLocal<Starts>                     starts         = ThreadLocal.withInitial(Starts::new);
+
+    public LatencyEventListener() {
+        Map<Command, LatencyHistogram> commands = new EnumMap<>(Command.class);
+
+        for (Command command : Command.values()) {
+            commands.put(command, new LatencyHistogram());
+        }
+
+        this.commands = Collections.unmodifiableMap(commands);
+    }
+
+    /**
+     * @return The latencies of each command.
+     */
+    public Map<Command, LatencyHistogram> getCommandLatencies() {
+        return commands;
+    }
+
+    /**
+     * @return The latencies of the clicks and value changes of each named element, by element name without the index of a list item.
+     */
+    public Map<String, LatencyHistogram> getElementLatencies() {
+        return Collections.unmodifiableMap(elements);
+    }
+
+    /**
+     * @return The latencies of the searches of each locator, by {@link By#toString() locator description}.
+     */
+    public Map<String, LatencyHistogram> getLocatorLatencies() {
+        return Collections.unmodifiableMap(locators);
+    }
+
+    /**
+     * Discards all recorded latencies.
+     */
+    public void reset() {
+        commands.values().forEach(LatencyHistogram::reset);
+        elements.clear();
+        locators.clear();
+    }
+
+    /**
+     * Summarizes the latencies as a table, with the commands, elements and locators that took the most time first.
+     *
+     * @return The summary.
+     */
+    public String toText() {
+        List<String[]> rows = this.rows();
+        int[] widths = new int[COLUMNS.length];
+
+        for (String[] row : rows) {
+            for (int i = 0; i < row.length; i++) {
+                widths[i] = Math.max(widths[i], row[i].length());
+            }
+        }
+
+        StringBuilder text = new StringBuilder();
+
+        for (String[] row : rows) {
+            for (int i = 0; i < row.length; i++) {
+                String format = i < 2 ? "%-" + widths[i] + "s" : "%" + widths[i] + "s";
+
+                text.append(i == 0 ? "" : "  ").append(String.format(format, row[i]));
+            }
+
+            text.append(System.lineSeparator());
+        }
+
+        return text.toString();
+    }
+
+    /**
+     * Summarizes the latencies as CSV, with a header line.
+     *
+     * @return The summary.
+     */
+    public String toCsv() {
+        StringBuilder csv = new StringBuilder();
+
+        for (String[] row : this.rows()) {
+            for (int i = 0; i < row.length; i++) {
+                String value = row[i];
+
+                if (value.contains(",") || value.contains("\"") || value.contains("\n")) {
+                    value = "\"" + value.replace("\"", "\"\"") + "\"";
+                }
+
+                csv.append(i == 0 ? "" : ",").append(value);
+            }
+
+            csv.append("\n");
+        }
+
+        return csv.toString();
+    }
+
+    /**
+     * Summarizes the latencies as a JSON array of objects.
+     *
+     * @return The summary.
+     */
+    public String toJson() {
+        List<String[]> rows = this.rows();
+        StringBuilder json = new StringBuilder("[");
+
+        for (int r = 1; r < rows.size(); r++) {
+            String[] row = rows.get(r);
+
+            json.append(r == 1 ? "\n  {" : ",\n  {");
+
+            for (int i = 0; i < row.length; i++) {
+                json.append(i == 0 ? "" : ", ").append('"').append(COLUMNS[i]).append("\": ");
+
+                if (i < 2) {
+                    json.append('"').append(escape(row[i])).append('"');
+                } else {
+                    json.append(row[i]);
+                }
+            }
+
+            json.append("}");
+        }
+
+        return json.append(rows.size() > 1 ? "\n]" : "]").toString();
+    }
+
+    @Override
+    public String toString() {
+        return "LatencyEventListener(commands=" + commands + ")";
+    }
+
+    @Override
+    public void beforeAlertAccept(WebDriver driver) {
+        this.start(Command.ALERT_ACCEPT);
+    }
+
+    @Override
+    public void afterAlertAccept(WebDriver driver) {
+        this.stop(Command.ALERT_ACCEPT, null, null);
+    }
+
+    @Override
+    public void beforeAlertDismiss(WebDriver driver) {
+        this.start(Command.ALERT_DISMISS);
+    }
+
+    @Override
+    public void afterAlertDismiss(WebDriver driver) {
+        this.stop(Command.ALERT_DISMISS, null, null);
+    }
+
+    @Override
+    public void beforeNavigateTo(String url, WebDriver driver) {
+        this.start(Command.NAVIGATE_TO);
+    }
+
+    @Override
+    public void afterNavigateTo(String url, WebDriver driver) {
+        this.stop(Command.NAVIGATE_TO, null, null);
+    }
+
+    @Override
+    public void beforeNavigateBack(WebDriver driver) {
+        this.start(Command.NAVIGATE_BACK);
+    }
+
+    @Override
+    public void afterNavigateBack(WebDriver driver) {
+        this.stop(Command.NAVIGATE_BACK, null, null);
+    }
+
+    @Override
+    public void beforeNavigateForward(WebDriver driver) {
+        this.start(Command.NAVIGATE_FORWARD);
+    }
+
+    @Override
+    public void afterNavigateForward(WebDriver driver) {
+        this.stop(Command.NAVIGATE_FORWARD, null, null);
+    }
+
+    @Override
+    public void beforeNavigateRefresh(WebDriver driver) {
+        this.start(Command.NAVIGATE_REFRESH);
+    }
+
+    @Override
+    public void afterNavigateRefresh(WebDriver driver) {
+        this.stop(Command.NAVIGATE_REFRESH, null, null);
+    }
+
+    @Override
+    public void beforeFindBy(By by, WebElement element, WebDriver driver) {
+        this.start(Command.FIND_BY);
+    }
+
+    @Override
+    public void afterFindBy(By by, WebElement element, WebDriver driver) {
+        this.stop(Command.FIND_BY, locators, by == null ? null : by.toString());
+    }
+
+    @Override
+    public void beforeClickOn(WebElement element, WebDriver driver) {
+        this.start(Command.CLICK_ON);
+    }
+
+    @Override
+    public void afterClickOn(WebElement element, WebDriver driver) {
+        this.stop(Command.CLICK_ON, elements, name(element));
+    }
+
+    @Override
+    public void beforeChangeValueOf(WebElement element, WebDriver driver, CharSequence[] keysToSend) {
+        this.start(Command.CHANGE_VALUE_OF);
+    }
+
+    @Override
+    public void afterChangeValueOf(WebElement element, WebDriver driver, CharSequence[] keysToSend) {
+        this.stop(Command.CHANGE_VALUE_OF, elements, name(element));
+    }
+
+    @Override
+    public void beforeScript(String script, WebDriver driver) {
+        this.start(Command.SCRIPT);
+    }
+
+    @Override
+    public void afterScript(String script, WebDriver driver) {
+        this.stop(Command.SCRIPT, null, null);
+    }
+
+    private void start(Command command) {
+        starts.get().push(command.ordinal(), System.nanoTime());
+    }
+
+    private void stop(Command command, ConcurrentMap<String, LatencyHistogram> histograms, String key) {
+        long start = starts.get().pop(command.ordinal());
+
+        if (start == Starts.NOT_STARTED) {
+            return;
+        }
+
+        long duration = System.nanoTime() - start;
+
+        commands.get(command).record(duration);
+
+        if (histograms != null && key != null) {
+            this.histogram(histograms, key).record(duration);
+        }
+    }
+
+    private LatencyHistogram histogram(ConcurrentMap<String, LatencyHistogram> histograms, String key) {
+        LatencyHistogram histogram = histograms.get(key);
+
+        if (histogram != null) {
+            return histogram;
+        }
+
+        if (histograms == elements && elements.size() >= MAX_ELEMENTS) {
+            key = OTHER_ELEMENTS;
+        }
+
+        return histograms.computeIfAbsent(key, k -> new LatencyHistogram());
+    }
+
+    private List<String[]> rows() {
+        List<String[]> rows = new ArrayList<>();
+
+        rows.add(COLUMNS);
+
+        List<Map.Entry<String, LatencyHistogram>> commands = new ArrayList<>();
+
+        for (Map.Entry<Command, LatencyHistogram> entry : this.commands.entrySet()) {
+            commands.add(new AbstractMap.SimpleImmutableEntry<>(entry.getKey().name().toLowerCase(Locale.ROOT), entry.getValue()));
+        }
+
+        rows(rows, "command", commands);
+        rows(rows, "element", new ArrayList<>(elements.entrySet()));
+        rows(rows, "locator", new ArrayList<>(locators.entrySet()));
+
+        return rows;
+    }
+
+    private static void rows(List<String[]> rows, String type, List<Map.Entry<String, LatencyHistogram>> histograms) {
+        histograms.removeIf(e -> e.getValue().getCount() == 0);
+        histograms.sort((a, b) -> Long.compare(b.getValue().getTotal(), a.getValue().getTotal()));
+
+        for (Map.Entry<String, LatencyHistogram> entry : histograms) {
+            LatencyHistogram histogram = entry.getValue();
+
+            rows.add(new String[] {
+                    type,
+                    entry.getKey(),
+                    String.valueOf(histogram.getCount()),
+                    millis(histogram.getTotal()),
+                    millis(histogram.getMean()),
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(90)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getMax())
+            });
+        }
+    }
+
+    private static String name(WebElement element) {
+        if (element instanceof DefaultAugmentedWebElement && ((DefaultAugmentedWebElement) element).isNamed()) {
+            return INDEX.matcher(((DefaultAugmentedWebElement) element).name()).replaceFirst("");
+        }
+
+        return null;
+    }
+
+    private static String millis(double nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1000000);
+    }
+
+    private static String escape(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+
+        for (char c : value.toCharArray()) {
+            if (c == '"' || c == '\\') {
+                escaped.append('\\').append(c);
+            } else if (c < 0x20) {
+                escaped.append(String.format("\\u%04x", (int) c));
+            } else {
+                escaped.append(c);
+            }
+        }
+
+        return escaped.toString();
+    }
+
+    /**
+     * Start times of the commands running on a thread, a stack per command.
+     */
+    private static final class Starts {
+
+        private static final long NOT_STARTED = Long.MIN_VALUE;
+
+        private final long[][]    stacks      = new long[Command.values().length][4];
+        private final int[]       depths      = new int[Command.values().length];
+
+        private void push(int command, long start) {
+            if (depths[command] == stacks[command].length) {
+                stacks[command] = Arrays.copyOf(stacks[command], depths[command] * 2);
+            }
+
+            stacks[command][depths[command]++] = start;
+        }
+
+        private long pop(int command) {
+            return depths[command] == 0 ? NOT_STARTED : stacks[command][--depths[command]];
+        }
+
+    }
+
+    /**
+     * Driver commands timed by {@link LatencyEventListener}.
+     */
+    public enum Command {
+
+        NAVIGATE_TO,
+        NAVIGATE_BACK,
+        NAVIGATE_FORWARD,
+        NAVIGATE_REFRESH,
+        FIND_BY,
+        CLICK_ON,
+        CHANGE_VALUE_OF,
+        SCRIPT,
+        ALERT_ACCEPT,
+        ALERT_DISMISS;
+
+    }
+
+}
@@ -0,0 +1,195 @@
+package com.github.qacore.seleniumtestingtoolbox.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe latency histogram with log-linear buckets, in the spirit of <a href="http://hdrhistogram.org">HdrHistogram</a>.
+ * <p>
+ * Every power of two is split in 32 linear sub-buckets, so any recorded value is reported with a relative error below 3.2%. Recording a value is lock-free and does not allocate.
+ * </p>
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/leocarmona">https://github.com/leocarmona</a></li>
+ *         <li><a href="mailto:lcdesenv@gmail.com">lcdesenv@gmail.com</a></li>
+ *         </ul>
+ *
+ * @since 1.0.2
+ *
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS     = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS         = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts;
+    private final LongAdder       count;
+    private final LongAdder       sum;
+    private final AtomicLong      min;
+    private final AtomicLong      max;
+
+    public LatencyHistogram() {
+        this.counts = new AtomicLongArray(BUCKETS);
+        this.count = new LongAdder();
+        this.sum = new LongAdder();
+        this.min = new AtomicLong(Long.MAX_VALUE);
+        this.max = new AtomicLong(Long.MIN_VALUE);
+    }
+
+    /**
+     * Records a latency.
+     *
+     * @param nanos
+     *            The latency in nanoseconds. Negative values are recorded as zero.
+     */
+    public void record(long nanos) {
+        long value = Math.max(0L, nanos);
+
+        counts.incrementAndGet(indexOf(value));
+        count.increment();
+        sum.add(value);
+
+        if (value < min.get()) {
+            min.accumulateAndGet(value, Math::min);
+        }
+
+        if (value > max.get()) {
+            max.accumulateAndGet(value, Math::max);
+        }
+    }
+
+    /**
+     * Records a latency.
+     *
+     * @param duration
+     *            The latency.
+     *
+     * @param unit
+     *            The unit of the latency.
+     */
+    public void record(long duration, TimeUnit unit) {
+        this.record(unit.toNanos(duration));
+    }
+
+    /**
+     * @return The number of recorded values.
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * @return The smallest recorded value in nanoseconds, or zero if nothing was recorded.
+     */
+    public long getMin() {
+        return this.getCount() == 0 ? 0L : min.get();
+    }
+
+    /**
+     * @return The largest recorded value in nanoseconds, or zero if nothing was recorded.
+     */
+    public long getMax() {
+        return this.getCount() == 0 ? 0L : max.get();
+    }
+
+    /**
+     * @return The mean of the recorded values in nanoseconds, or zero if nothing was recorded.
+     */
+    public double getMean() {
+        long count = this.getCount();
+
+        return count == 0 ? 0D : (double) sum.sum() / count;
+    }
+
+    /**
+     * @return The sum of the recorded values in nanoseconds.
+     */
+    public long getTotal() {
+        return sum.sum();
+    }
+
+    /**
+     * Retrieves the value at the given percentile.
+     *
+     * @param percentile
+     *            The percentile, between {@code 0} and {@code 100}.
+     *
+     * @return The highest value, in nanoseconds, that is equivalent to the recorded value at the given percentile, or zero if nothing was recorded.
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (percentile < 0D || percentile > 100D) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+
+        long total = 0L;
+        long[] snapshot = new long[BUCKETS];
+
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+
+        if (total == 0L) {
+            return 0L;
+        }
+
+        long target = Math.max(1L, (long) Math.ceil(percentile / 100D * total));
+        long cumulative = 0L;
+
+        for (int i = 0; i < BUCKETS; i++) {
+            cumulative += snapshot[i];
+
+            if (cumulative >= target) {
+                return Math.min(highestEquivalentValue(i), this.getMax());
+            }
+        }
+
+        return this.getMax();
+    }
+
+    /**
+     * Removes all the recorded values.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0L);
+        }
+
+        count.reset();
+        sum.reset();
+        min.set(Long.MAX_VALUE);
+        max.set(Long.MIN_VALUE);
+    }
+
+    @Override
+    public String toString() {
+        return "LatencyHistogram(count=" + this.getCount() + ", min=" + this.getMin() + ", p50=" + this.getValueAtPercentile(50D) + ", p90=" + this.getValueAtPercentile(90D) + ", p99=" + this.getValueAtPercentile(99D) + ", max=" + this.getMax() + ")";
+    }
+
+    private static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+
+        return (shift + 1) * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+    }
+
+    private static long highestEquivalentValue(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+
+        int shift = index / SUB_BUCKETS - 1;
+        long subBucket = index % SUB_BUCKETS + SUB_BUCKETS;
+
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+}
@@ -0,0 +1,4 @@
+/**
+ * Provides classes to measure the Selenium Testing Toolbox ecosystem.
+ */
+package com.github.qacore.seleniumtestingtoolbox.metrics;
@@ -5,6 +5,8 @@ import org.openqa.selenium.internal.WrapsDriver;
 
 import com.github.qacore.seleniumtestingtoolbox.WebDriverContext;
 import com.github.qacore.seleniumtestingtoolbox.WebPageFactory;
+import com.github.qacore.seleniumtestingtoolbox.annotations.Prefetch;
+import com.github.qacore.seleniumtestingtoolbox.pageobjects.factory.PageMetadata;
 
 /**
  * This abstract class indicates that the classes executes the basic actions of the <b>Page Object</b> pattern.
@@ -45,7 +47,7 @@ public abstract class AbstractPage<I extends AbstractPage<I>> extends WebDriverC
     }
 
     /**
-     * Load the page in the current browser window.
+     * Load the page in the current browser window. If the page is annotated with @{@link Prefetch}, its element fields are located right after.
      * 
      * @param path
      *            The URL path after {@link #getUrl()}
@@ -55,6 +57,10 @@ public abstract class AbstractPage<I extends AbstractPage<I>> extends WebDriverC
     public I load(String path) {
         this.getWrappedDriver().get(this.getUrl() + path);
 
+        if (PageMetadata.of(this.getClass()).isPrefetch()) {
+            WebPageFactory.prefetch(this);
+        }
+
         return itself();
     }
 
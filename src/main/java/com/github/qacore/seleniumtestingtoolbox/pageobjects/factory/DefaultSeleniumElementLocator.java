@@ -3,33 +3,50 @@ package com.github.qacore.seleniumtestingtoolbox.pageobjects.factory;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.function.Function;
+import java.util.concurrent.TimeUnit;
 
 import org.openqa.selenium.By;
 import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.internal.WrapsDriver;
+import org.openqa.selenium.support.CacheLookup;
 import org.openqa.selenium.support.FindAll;
 import org.openqa.selenium.support.FindBy;
 import org.openqa.selenium.support.FindBys;
 import org.openqa.selenium.support.PageFactory;
 import org.openqa.selenium.support.pagefactory.ElementLocator;
-import org.openqa.selenium.support.ui.FluentWait;
 
 import com.github.qacore.seleniumtestingtoolbox.WebDriverContext;
 import com.github.qacore.seleniumtestingtoolbox.WebPageFactory;
 import com.github.qacore.seleniumtestingtoolbox.annotations.AjaxElement;
+import com.github.qacore.seleniumtestingtoolbox.annotations.CacheElements;
+import com.github.qacore.seleniumtestingtoolbox.annotations.WaitStrategy;
+import com.github.qacore.seleniumtestingtoolbox.pageobjects.factory.internal.MutationObserverWait;
 import com.github.qacore.seleniumtestingtoolbox.webdriver.AugmentedWebDriver;
-import com.github.qacore.seleniumtestingtoolbox.webdriver.AugmentedWebElement;
+import com.github.qacore.seleniumtestingtoolbox.webdriver.AugmentedWebDriver.Timeouts.Duration;
 
+import lombok.AccessLevel;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
 
 /**
  * The default selenium element locator, which will lazily locate an element or an element list on a page. This class is designed for use with the {@link WebPageFactory} and {@link PageFactory}. This class understands the annotations {@link FindBy}, {@link FindBys} and {@link FindAll}.
+ * <p>
+ * Fields annotated with @{@link CacheLookup}, or declared by a page annotated with @{@link CacheElements}, are located once per driver and the located elements are reused. Empty element lists are not cached.
+ * </p>
+ * <p>
+ * Elements located by {@link WebPageFactory#prefetch(Object)} seed the locator: they are cached like any other lookup, or, if the lookups are not cached, they are returned by the next lookup only.
+ * </p>
+ * <p>
+ * Fields annotated with @{@link AjaxElement} are waited for with their {@link AjaxElement#strategy() wait strategy} and {@link AjaxElement#polling() polling strategy}.
+ * </p>
  * 
  * @author Leonardo Carmona da Silva
  *         <ul>
@@ -45,98 +62,291 @@ import lombok.EqualsAndHashCode;
  *
  */
 @Data
-@EqualsAndHashCode(callSuper = false)
+@EqualsAndHashCode(callSuper = false, exclude = { "lookupStatistics", "pollingStatistics", "cachedElement", "cachedElements", "seedServed" })
+@ToString(exclude = { "lookupStatistics", "pollingStatistics", "cachedElement", "cachedElements", "seedServed" })
 public class DefaultSeleniumElementLocator extends WebDriverContext implements ElementLocator {
 
-    private final Field       field;
-    private final By          locator;
-    private final String      name;
-    private final AjaxElement ajaxElement;
+    private static final LookupStatistics globalLookupStatistics = new LookupStatistics();
+
+    /**
+     * Time left to the script of a {@link WaitStrategy#MUTATION_OBSERVER} to return before the script timeout of the driver.
+     */
+    private static final long             SCRIPT_TIMEOUT_MARGIN_MILLIS = 100;
+
+    private final Field                   field;
+    private final By                      locator;
+    private final String                  name;
+    private final AjaxElement             ajaxElement;
+    private final boolean                 cacheLookup;
+    private final LookupStatistics        lookupStatistics;
+    private final PollingStatistics       pollingStatistics;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private volatile Cached<WebElement>       cachedElement;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private volatile Cached<List<WebElement>> cachedElements;
+
+    /**
+     * Whether the last lookup of a locator without cached lookups returned a seeded element, which may be stale.
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private volatile boolean                  seedServed;
 
     public DefaultSeleniumElementLocator(WrapsDriver driverContext, Field field) {
         super(driverContext);
 
-        AugmentedElementAnnotations annotations = new AugmentedElementAnnotations(field);
+        PageMetadata.Element element = PageMetadata.element(field);
 
         this.field = field;
-        this.locator = annotations.buildBy();
-        this.name = annotations.getName();
-        this.ajaxElement = annotations.getAjaxElement();
+        this.locator = element.getLocator();
+        this.name = element.getName();
+        this.ajaxElement = element.getAjaxElement();
+        this.cacheLookup = element.isCacheLookup();
+        this.lookupStatistics = new LookupStatistics();
+        this.pollingStatistics = element.getPollingStatistics();
     }
 
     public DefaultSeleniumElementLocator(WebDriver webDriver, Field field) {
         super(webDriver);
 
-        AugmentedElementAnnotations annotations = new AugmentedElementAnnotations(field);
+        PageMetadata.Element element = PageMetadata.element(field);
 
         this.field = field;
-        this.locator = annotations.buildBy();
-        this.name = annotations.getName();
-        this.ajaxElement = annotations.getAjaxElement();
+        this.locator = element.getLocator();
+        this.name = element.getName();
+        this.ajaxElement = element.getAjaxElement();
+        this.cacheLookup = element.isCacheLookup();
+        this.lookupStatistics = new LookupStatistics();
+        this.pollingStatistics = element.getPollingStatistics();
     }
 
     public DefaultSeleniumElementLocator(Field field) {
         super();
 
-        AugmentedElementAnnotations annotations = new AugmentedElementAnnotations(field);
+        PageMetadata.Element element = PageMetadata.element(field);
 
         this.field = field;
-        this.locator = annotations.buildBy();
-        this.name = annotations.getName();
-        this.ajaxElement = annotations.getAjaxElement();
+        this.locator = element.getLocator();
+        this.name = element.getName();
+        this.ajaxElement = element.getAjaxElement();
+        this.cacheLookup = element.isCacheLookup();
+        this.lookupStatistics = new LookupStatistics();
+        this.pollingStatistics = element.getPollingStatistics();
+    }
+
+    /**
+     * Retrieves the counters of the cached lookups of all locators.
+     *
+     * @return The global lookup statistics.
+     *
+     * @since 1.0.2
+     */
+    public static LookupStatistics getGlobalLookupStatistics() {
+        return globalLookupStatistics;
     }
 
     @Override
     public WebElement findElement() {
+        Cached<WebElement> cached = this.cachedElement;
+
+        if (!cacheLookup && cached == null) {
+            this.seedServed = false;
+
+            return this.locateElement();
+        }
+
+        WebDriver driver = this.getCacheKey();
+
+        if (cached != null && cached.driver == driver) {
+            this.hit();
+
+            if (!cacheLookup) {
+                this.cachedElement = null;
+                this.seedServed = true;
+            }
+
+            return cached.value;
+        }
+
+        if (!cacheLookup) {
+            this.cachedElement = null;
+            this.seedServed = false;
+
+            return this.locateElement();
+        }
+
+        this.miss();
+
+        WebElement element = this.locateElement();
+        this.cachedElement = new Cached<>(driver, element);
+
+        return element;
+    }
+
+    @Override
+    public List<WebElement> findElements() {
+        Cached<List<WebElement>> cached = this.cachedElements;
+
+        if (!cacheLookup && cached == null) {
+            this.seedServed = false;
+
+            return this.locateElements();
+        }
+
+        WebDriver driver = this.getCacheKey();
+
+        if (cached != null && cached.driver == driver) {
+            this.hit();
+
+            if (!cacheLookup) {
+                this.cachedElements = null;
+                this.seedServed = true;
+            }
+
+            return cached.value;
+        }
+
+        if (!cacheLookup) {
+            this.cachedElements = null;
+            this.seedServed = false;
+
+            return this.locateElements();
+        }
+
+        this.miss();
+
+        List<WebElement> elements = this.locateElements();
+
+        if (!elements.isEmpty()) {
+            this.cachedElements = new Cached<>(driver, elements);
+        }
+
+        return elements;
+    }
+
+    /**
+     * Forgets the cached elements, so the next lookup locates them again.
+     *
+     * @since 1.0.2
+     */
+    public void invalidate() {
+        this.cachedElement = null;
+        this.cachedElements = null;
+    }
+
+    /**
+     * Invalidates the cached elements after the browser reported a {@link StaleElementReferenceException} for them.
+     *
+     * @return {@code true} if the lookups of this locator are cached, or if the stale element was seeded by {@link WebPageFactory#prefetch(Object)}, so locating the elements again may recover from the stale reference. Otherwise, {@code false}.
+     *
+     * @since 1.0.2
+     */
+    public boolean recoverFromStale() {
+        if (!cacheLookup && !this.seedServed) {
+            return false;
+        }
+
+        this.invalidate();
+        this.seedServed = false;
+
+        lookupStatistics.staleRecovery();
+        globalLookupStatistics.staleRecovery();
+
+        return true;
+    }
+
+    /**
+     * Seeds the locator with an element located ahead of time, e.g. by {@link WebPageFactory#prefetch(Object)}.
+     *
+     * @param element
+     *            The located element.
+     *
+     * @since 1.0.2
+     */
+    void seedElement(WebElement element) {
+        this.cachedElement = new Cached<>(this.getCacheKey(), element);
+    }
+
+    /**
+     * Seeds the locator with elements located ahead of time, e.g. by {@link WebPageFactory#prefetch(Object)}.
+     *
+     * @param elements
+     *            The located elements. Empty lists are not seeded, like they are not cached.
+     *
+     * @since 1.0.2
+     */
+    void seedElements(List<WebElement> elements) {
+        if (!elements.isEmpty()) {
+            this.cachedElements = new Cached<>(this.getCacheKey(), elements);
+        }
+    }
+
+    /**
+     * Checks if the next lookup is already answered by a cached or seeded element.
+     *
+     * @return {@code true} if the elements of the current driver are cached.
+     */
+    boolean isSeeded() {
+        WebDriver driver = this.getCacheKey();
+        Cached<WebElement> element = this.cachedElement;
+        Cached<List<WebElement>> elements = this.cachedElements;
+
+        return (element != null && element.driver == driver) || (elements != null && elements.driver == driver);
+    }
+
+    protected WebElement locateElement() {
         AjaxElement ajaxElement = this.getAjaxElement();
 
         if (ajaxElement == null) {
             return this.getWrappedDriver().findElement(this.getLocator(), this.getName());
         }
 
-        return new FluentWait<AugmentedWebDriver>(this.getWrappedDriver())
-                .withTimeout(ajaxElement.value(), ajaxElement.unit())
-                .ignoring(NoSuchElementException.class)
-                .until(new Function<AugmentedWebDriver, WebElement>() {
+        long start = System.nanoTime();
+        long deadline = start + ajaxElement.unit().toNanos(ajaxElement.value());
+        WebElement element = null;
+
+        if (!Boolean.FALSE.equals(this.observe(ajaxElement))) {
+            element = PollingWait.until(() -> {
+                try {
+                    return this.getWrappedDriver().findElement(this.getLocator(), this.getName());
+                } catch (NoSuchElementException e) {
+                    return null;
+                }
+            }, ajaxElement, pollingStatistics, start, deadline);
+        }
 
-                    @Override
-                    public WebElement apply(AugmentedWebDriver t) {
-                        return getWrappedDriver().findElement(getLocator(), getName());
-                    }
+        if (element == null) {
+            throw new TimeoutException(this.timeoutMessage(ajaxElement));
+        }
 
-                });
+        return element;
     }
 
     @SuppressWarnings("unchecked")
-    @Override
-    public List<WebElement> findElements() {
+    protected List<WebElement> locateElements() {
         AjaxElement ajaxElement = this.getAjaxElement();
 
         if (ajaxElement == null) {
             return (List<WebElement>) (List<?>) this.getWrappedDriver().findElements(this.getLocator(), this.getName());
         }
 
-        try {
-            return (List<WebElement>) (List<?>) new FluentWait<AugmentedWebDriver>(this.getWrappedDriver())
-                    .withTimeout(ajaxElement.value(), ajaxElement.unit())
-                    .ignoring(NoSuchElementException.class)
-                    .until(new Function<AugmentedWebDriver, List<AugmentedWebElement>>() {
+        long start = System.nanoTime();
+        long deadline = start + ajaxElement.unit().toNanos(ajaxElement.value());
+        List<WebElement> elements = null;
 
-                        @Override
-                        public List<AugmentedWebElement> apply(AugmentedWebDriver t) {
-                            List<AugmentedWebElement> elements = getWrappedDriver().findElements(getLocator(), getName());
+        if (!Boolean.FALSE.equals(this.observe(ajaxElement))) {
+            elements = PollingWait.until(() -> {
+                List<WebElement> found = (List<WebElement>) (List<?>) this.getWrappedDriver().findElements(this.getLocator(), this.getName());
 
-                            if (elements.size() == 0) {
-                                throw new NoSuchElementException("Unable to locate the element");
-                            }
-
-                            return elements;
-                        }
-
-                    });
-        } catch (TimeoutException e) {
-            return new ArrayList<>();
+                return found.isEmpty() ? null : found;
+            }, ajaxElement, pollingStatistics, start, deadline);
         }
+
+        return elements == null ? new ArrayList<>() : elements;
     }
 
     @Override
@@ -150,4 +360,65 @@ public class DefaultSeleniumElementLocator extends WebDriverContext implements E
         return driver;
     }
 
+    /**
+     * Waits for the element with a {@link WaitStrategy#MUTATION_OBSERVER}, if the element uses it. The script observes the page for the script timeout of the driver at most, if it is shorter than the timeout of the element, and the rest of the wait polls for the element.
+     *
+     * @return {@link Boolean#TRUE} if the element appeared, {@link Boolean#FALSE} if the timeout expired, or {@code null} to poll for the element instead.
+     */
+    private Boolean observe(AjaxElement ajaxElement) {
+        if (ajaxElement.strategy() != WaitStrategy.MUTATION_OBSERVER) {
+            return null;
+        }
+
+        AugmentedWebDriver driver = this.getWrappedDriver();
+        long timeout = ajaxElement.unit().toMillis(ajaxElement.value());
+        Duration scriptTimeout = driver.manage().timeouts().getScriptTimeout();
+
+        if (scriptTimeout != null && scriptTimeout.in(TimeUnit.MILLISECONDS) - SCRIPT_TIMEOUT_MARGIN_MILLIS < timeout) {
+            Boolean observed = MutationObserverWait.await(driver.getWrappedDriver(), this.getLocator(), scriptTimeout.in(TimeUnit.MILLISECONDS) - SCRIPT_TIMEOUT_MARGIN_MILLIS, TimeUnit.MILLISECONDS);
+
+            return Boolean.TRUE.equals(observed) ? observed : null;
+        }
+
+        return MutationObserverWait.await(driver.getWrappedDriver(), this.getLocator(), timeout, TimeUnit.MILLISECONDS);
+    }
+
+    private String timeoutMessage(AjaxElement ajaxElement) {
+        String element = this.getName() == null ? String.valueOf(this.getLocator()) : this.getName() + " (" + this.getLocator() + ")";
+
+        return "Timed out after " + ajaxElement.value() + " " + ajaxElement.unit().name().toLowerCase() + " waiting for the element " + element;
+    }
+
+    private WebDriver getCacheKey() {
+        AugmentedWebDriver driver = this.getWrappedDriver();
+        WebDriver webDriver = driver.getWrappedDriver();
+
+        return webDriver == null ? driver : webDriver;
+    }
+
+    private void hit() {
+        lookupStatistics.hit();
+        globalLookupStatistics.hit();
+    }
+
+    private void miss() {
+        lookupStatistics.miss();
+        globalLookupStatistics.miss();
+    }
+
+    /**
+     * Elements located with a driver.
+     */
+    private static final class Cached<T> {
+
+        private final WebDriver driver;
+        private final T         value;
+
+        private Cached(WebDriver driver, T value) {
+            this.driver = driver;
+            this.value = value;
+        }
+
+    }
+
 }
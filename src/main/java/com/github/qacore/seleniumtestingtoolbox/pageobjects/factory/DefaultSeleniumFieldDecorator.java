@@ -24,11 +24,14 @@ import com.github.qacore.seleniumtestingtoolbox.WebPageFactory;
 import com.github.qacore.seleniumtestingtoolbox.annotations.Page;
 import com.github.qacore.seleniumtestingtoolbox.annotations.PageComponent;
 import com.github.qacore.seleniumtestingtoolbox.annotations.PageRepository;
+import com.github.qacore.seleniumtestingtoolbox.pageobjects.factory.internal.LocatingAugmentedWebElement;
+import com.github.qacore.seleniumtestingtoolbox.pageobjects.factory.internal.LocatingAugmentedWebElementList;
 import com.github.qacore.seleniumtestingtoolbox.pageobjects.factory.internal.SeleniumLocatingElementHandler;
 import com.github.qacore.seleniumtestingtoolbox.pageobjects.factory.internal.SeleniumLocatingElementListHandler;
 import com.github.qacore.seleniumtestingtoolbox.webdriver.AugmentedWebElement;
 
 import lombok.Data;
+import lombok.NonNull;
 
 /**
  * Default Selenium decorator for use with {@link WebPageFactory} or {@link PageFactory}. Will decorate:
@@ -53,24 +56,57 @@ import lombok.Data;
 @Data
 public class DefaultSeleniumFieldDecorator implements FieldDecorator {
 
-    private ElementLocatorFactory elementLocatorFactory;
-    private Map<Object, Object>   cache;
+    private static volatile ProxyEngine defaultProxyEngine = ProxyEngine.REFLECTION;
+
+    private ElementLocatorFactory       elementLocatorFactory;
+    private Map<Object, Object>         cache;
+    private ProxyEngine                 proxyEngine;
 
     public DefaultSeleniumFieldDecorator(ElementLocatorFactory elementLocatorFactory) {
+        this(elementLocatorFactory, defaultProxyEngine);
+    }
+
+    public DefaultSeleniumFieldDecorator(ElementLocatorFactory elementLocatorFactory, @NonNull ProxyEngine proxyEngine) {
         this.elementLocatorFactory = elementLocatorFactory;
         this.cache = new HashMap<>();
+        this.proxyEngine = proxyEngine;
+    }
+
+    /**
+     * Retrieves the {@link ProxyEngine} of new decorators.
+     *
+     * @return The default proxy engine.
+     *
+     * @since 1.0.2
+     */
+    public static ProxyEngine getDefaultProxyEngine() {
+        return defaultProxyEngine;
+    }
+
+    /**
+     * Sets the {@link ProxyEngine} of new decorators, including the ones created by {@link WebPageFactory}.
+     *
+     * @param proxyEngine
+     *            The default proxy engine.
+     *
+     * @since 1.0.2
+     */
+    public static void setDefaultProxyEngine(@NonNull ProxyEngine proxyEngine) {
+        defaultProxyEngine = proxyEngine;
     }
 
     @Override
     public Object decorate(ClassLoader loader, Field field) {
-        ElementLocator locator = elementLocatorFactory.createLocator(field);
+        Class<?> type = field.getType();
 
-        if (locator != null) {
-            if (WebElement.class.isAssignableFrom(field.getType())) {
-                return this.proxyForLocator(loader, locator);
-            }
+        if (WebElement.class.isAssignableFrom(type) || List.class.isAssignableFrom(type)) {
+            ElementLocator locator = elementLocatorFactory.createLocator(field);
+
+            if (locator != null) {
+                if (WebElement.class.isAssignableFrom(type)) {
+                    return this.proxyForLocator(loader, locator);
+                }
 
-            if (List.class.isAssignableFrom(field.getType())) {
                 return this.proxyForListLocator(loader, locator);
             }
         }
@@ -151,22 +187,29 @@ public class DefaultSeleniumFieldDecorator implements FieldDecorator {
     }
 
     protected AugmentedWebElement proxyForLocator(ClassLoader loader, ElementLocator locator) {
+        if (proxyEngine == ProxyEngine.DIRECT) {
+            return new LocatingAugmentedWebElement(locator);
+        }
+
         return (AugmentedWebElement) Proxy.newProxyInstance(loader, new Class[] { AugmentedWebElement.class }, new SeleniumLocatingElementHandler(locator));
     }
 
     @SuppressWarnings("unchecked")
     protected List<AugmentedWebElement> proxyForListLocator(ClassLoader loader, ElementLocator locator) {
+        if (proxyEngine == ProxyEngine.DIRECT) {
+            return new LocatingAugmentedWebElementList(locator);
+        }
+
         return (List<AugmentedWebElement>) Proxy.newProxyInstance(loader, new Class[] { List.class }, new SeleniumLocatingElementListHandler(locator));
     }
 
     protected void proxyFields(FieldDecorator decorator, Object page, Class<?> proxyIn) {
-        Field[] fields = proxyIn.getDeclaredFields();
+        ClassLoader loader = page.getClass().getClassLoader();
 
-        for (Field field : fields) {
-            Object value = decorator.decorate(page.getClass().getClassLoader(), field);
+        for (Field field : PageMetadata.of(proxyIn).getDeclaredFields()) {
+            Object value = decorator.decorate(loader, field);
             if (value != null) {
                 try {
-                    field.setAccessible(true);
                     field.set(page, value);
                 } catch (IllegalAccessException e) {
                     throw new RuntimeException(e);
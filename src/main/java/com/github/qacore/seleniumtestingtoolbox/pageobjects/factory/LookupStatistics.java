@@ -0,0 +1,76 @@
+package com.github.qacore.seleniumtestingtoolbox.pageobjects.factory;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.openqa.selenium.StaleElementReferenceException;
+
+/**
+ * Counters of the cached lookups of {@link DefaultSeleniumElementLocator}.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/leocarmona">https://github.com/leocarmona</a></li>
+ *         <li><a href="mailto:lcdesenv@gmail.com">lcdesenv@gmail.com</a></li>
+ *         </ul>
+ *
+ * @see DefaultSeleniumElementLocator#getLookupStatistics()
+ * @see DefaultSeleniumElementLocator#getGlobalLookupStatistics()
+ *
+ * @since 1.0.2
+ *
+ */
+public class LookupStatistics {
+
+    private final LongAdder hits            = new LongAdder();
+    private final LongAdder misses          = new LongAdder();
+    private final LongAdder staleRecoveries = new LongAdder();
+
+    /**
+     * @return How many lookups were answered by the cache.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return How many lookups located the elements in the browser.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return How many times a cached element was located again after a {@link StaleElementReferenceException}.
+     */
+    public long getStaleRecoveries() {
+        return staleRecoveries.sum();
+    }
+
+    /**
+     * Sets all counters to zero.
+     */
+    public void reset() {
+        hits.reset();
+        misses.reset();
+        staleRecoveries.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "LookupStatistics(hits=" + this.getHits() + ", misses=" + this.getMisses() + ", staleRecoveries=" + this.getStaleRecoveries() + ")";
+    }
+
+    void hit() {
+        hits.increment();
+    }
+
+    void miss() {
+        misses.increment();
+    }
+
+    void staleRecovery() {
+        staleRecoveries.increment();
+    }
+
+}
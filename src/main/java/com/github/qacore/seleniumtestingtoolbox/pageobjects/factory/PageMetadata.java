@@ -0,0 +1,171 @@
+package com.github.qacore.seleniumtestingtoolbox.pageobjects.factory;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.support.CacheLookup;
+
+import com.github.qacore.seleniumtestingtoolbox.WebPageFactory;
+import com.github.qacore.seleniumtestingtoolbox.annotations.AjaxElement;
+import com.github.qacore.seleniumtestingtoolbox.annotations.CacheElements;
+import com.github.qacore.seleniumtestingtoolbox.annotations.Name;
+import com.github.qacore.seleniumtestingtoolbox.annotations.Prefetch;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Reflection metadata of a page class, resolved once per class and shared by every instance of the page.
+ * <p>
+ * Pages are created many times per run and each creation used to walk the class hierarchy and parse the annotations of every field again. The fields of a page class and the {@link Element element metadata} of each field ({@link By}, @{@link Name}, @{@link AjaxElement}, @{@link CacheLookup} and @{@link CacheElements}), as well as the @{@link Prefetch} annotation of the page, are now resolved on first use and cached.
+ * </p>
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/leocarmona">https://github.com/leocarmona</a></li>
+ *         <li><a href="mailto:lcdesenv@gmail.com">lcdesenv@gmail.com</a></li>
+ *         </ul>
+ *
+ * @see WebPageFactory
+ * @see DefaultSeleniumElementLocator
+ *
+ * @since 1.0.2
+ *
+ */
+@Getter
+@ToString(of = { "pageClass" })
+public final class PageMetadata {
+
+    private static final Map<Class<?>, PageMetadata> pages    = new ConcurrentHashMap<>();
+    private static final Map<Field, Element>         elements = new ConcurrentHashMap<>();
+
+    /**
+     * The page class.
+     */
+    private final Class<?>                           pageClass;
+
+    /**
+     * The fields declared by the page class, accessible.
+     */
+    private final List<Field>                        declaredFields;
+
+    /**
+     * The fields declared by the page class and by its superclasses, up to {@link Object}, accessible.
+     */
+    private final List<Field>                        fields;
+
+    /**
+     * Whether the page class is annotated with @{@link Prefetch}.
+     */
+    private final boolean                            prefetch;
+
+    private PageMetadata(Class<?> pageClass) {
+        List<Field> declaredFields = Arrays.asList(pageClass.getDeclaredFields());
+        List<Field> fields = new ArrayList<>(declaredFields);
+
+        for (Field field : declaredFields) {
+            field.setAccessible(true);
+        }
+
+        Class<?> superclass = pageClass.getSuperclass();
+
+        if (superclass != null && superclass != Object.class) {
+            fields.addAll(of(superclass).getFields());
+        }
+
+        this.pageClass = pageClass;
+        this.declaredFields = Collections.unmodifiableList(declaredFields);
+        this.fields = Collections.unmodifiableList(fields);
+        this.prefetch = pageClass.isAnnotationPresent(Prefetch.class);
+    }
+
+    /**
+     * Retrieves the metadata of a page class.
+     *
+     * @param pageClass
+     *            The page class.
+     *
+     * @return The page metadata.
+     */
+    public static PageMetadata of(Class<?> pageClass) {
+        PageMetadata metadata = pages.get(pageClass);
+
+        if (metadata == null) {
+            // Built outside of computeIfAbsent, because the superclass metadata is resolved recursively.
+            metadata = new PageMetadata(pageClass);
+
+            PageMetadata previous = pages.putIfAbsent(pageClass, metadata);
+
+            if (previous != null) {
+                metadata = previous;
+            }
+        }
+
+        return metadata;
+    }
+
+    /**
+     * Retrieves the element metadata of a field.
+     *
+     * @param field
+     *            The field.
+     *
+     * @return The element metadata.
+     */
+    public static Element element(Field field) {
+        return elements.computeIfAbsent(field, Element::new);
+    }
+
+    /**
+     * Element metadata of a page field, parsed by {@link AugmentedElementAnnotations}.
+     *
+     * @author Leonardo Carmona da Silva
+     *         <ul>
+     *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+     *         <li><a href="https://github.com/leocarmona">https://github.com/leocarmona</a></li>
+     *         <li><a href="mailto:lcdesenv@gmail.com">lcdesenv@gmail.com</a></li>
+     *         </ul>
+     *
+     * @since 1.0.2
+     *
+     */
+    @Data
+    @EqualsAndHashCode(exclude = "pollingStatistics")
+    @ToString(exclude = "pollingStatistics")
+    public static final class Element {
+
+        private final Field             field;
+        private final By                locator;
+        private final String            name;
+        private final String            description;
+        private final AjaxElement       ajaxElement;
+        private final boolean           cacheLookup;
+
+        /**
+         * The statistics of the waits for the element, if it is an @{@link AjaxElement}.
+         */
+        private final PollingStatistics pollingStatistics = new PollingStatistics();
+
+        private Element(Field field) {
+            AugmentedElementAnnotations annotations = new AugmentedElementAnnotations(field);
+
+            this.field = field;
+            this.locator = annotations.buildBy();
+            this.name = annotations.getName();
+            this.description = annotations.getDescription();
+            this.ajaxElement = annotations.getAjaxElement();
+            this.cacheLookup = annotations.isLookupCached() || field.getDeclaringClass().isAnnotationPresent(CacheElements.class);
+        }
+
+    }
+
+}
@@ -0,0 +1,173 @@
+package com.github.qacore.seleniumtestingtoolbox.pageobjects.factory;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+
+import com.github.qacore.seleniumtestingtoolbox.WebPageFactory;
+import com.github.qacore.seleniumtestingtoolbox.annotations.Prefetch;
+import com.github.qacore.seleniumtestingtoolbox.pageobjects.factory.internal.LocatingAugmentedWebElement;
+import com.github.qacore.seleniumtestingtoolbox.pageobjects.factory.internal.LocatingAugmentedWebElementList;
+import com.github.qacore.seleniumtestingtoolbox.pageobjects.factory.internal.SeleniumLocatingElementHandler;
+import com.github.qacore.seleniumtestingtoolbox.pageobjects.factory.internal.SeleniumLocatingElementListHandler;
+import com.github.qacore.seleniumtestingtoolbox.webdriver.AugmentedWebDriver;
+import com.github.qacore.seleniumtestingtoolbox.webdriver.DefaultAugmentedWebElement;
+
+/**
+ * Locates the element fields of a page in one script and seeds their {@link DefaultSeleniumElementLocator locators} with the located elements.
+ * <p>
+ * Only fields decorated by {@link DefaultSeleniumFieldDecorator} whose locators can be translated by {@link ScriptLocator} are prefetched. The other fields, and the fields the script did not find, are located on their first use as usual.
+ * </p>
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/leocarmona">https://github.com/leocarmona</a></li>
+ *         <li><a href="mailto:lcdesenv@gmail.com">lcdesenv@gmail.com</a></li>
+ *         </ul>
+ *
+ * @see WebPageFactory#prefetch(Object)
+ * @see Prefetch
+ *
+ * @since 1.0.2
+ *
+ */
+public final class PagePrefetcher {
+
+    private static final String SCRIPT_HEAD = "var values = arguments, r = [], f = function (l, single) { try { l = l(); return l.length > 0 ? (single ? l[0] : Array.prototype.slice.call(l)) : null; } catch (e) { return null; } };";
+
+    private static final String SCRIPT_TAIL = "return r;";
+
+    private PagePrefetcher() {
+
+    }
+
+    /**
+     * Locates the element fields of a page in one script.
+     *
+     * @param page
+     *            The page, with its fields already initialized by {@link WebPageFactory}.
+     *
+     * @return The number of fields seeded with located elements.
+     */
+    public static int prefetch(Object page) {
+        List<DefaultSeleniumElementLocator> locators = new ArrayList<>();
+        List<Boolean> singles = new ArrayList<>();
+        List<String> arguments = new ArrayList<>();
+        StringBuilder script = new StringBuilder(SCRIPT_HEAD);
+        AugmentedWebDriver driver = null;
+
+        for (Field field : PageMetadata.of(page.getClass()).getFields()) {
+            boolean single = WebElement.class.isAssignableFrom(field.getType());
+
+            if (!single && !List.class.isAssignableFrom(field.getType())) {
+                continue;
+            }
+
+            DefaultSeleniumElementLocator locator = locator(page, field);
+
+            if (locator == null || locator.isSeeded()) {
+                continue;
+            }
+
+            String value = ScriptLocator.valueOf(locator.getLocator());
+
+            if (value == null) {
+                continue;
+            }
+
+            if (driver == null) {
+                driver = locator.getWrappedDriver();
+            } else if (driver != locator.getWrappedDriver()) {
+                continue;
+            }
+
+            script.append("r.push(f(function () { return ").append(ScriptLocator.of(locator.getLocator(), "values[" + arguments.size() + "]")).append("; }, ").append(single).append("));");
+            locators.add(locator);
+            singles.add(single);
+            arguments.add(value);
+        }
+
+        if (locators.isEmpty() || !(driver.getWrappedDriver() instanceof JavascriptExecutor)) {
+            return 0;
+        }
+
+        Object result;
+
+        try {
+            result = driver.executeScriptKeepingWindows(script.append(SCRIPT_TAIL).toString(), arguments.toArray());
+        } catch (WebDriverException e) {
+            // the fields are located on their first use instead
+            return 0;
+        }
+
+        if (!(result instanceof List) || ((List<?>) result).size() != locators.size()) {
+            return 0;
+        }
+
+        List<?> values = (List<?>) result;
+        int seeded = 0;
+
+        for (int i = 0; i < values.size(); i++) {
+            DefaultSeleniumElementLocator locator = locators.get(i);
+            Object value = values.get(i);
+
+            if (singles.get(i)) {
+                if (value instanceof WebElement) {
+                    locator.seedElement(DefaultAugmentedWebElement.of((WebElement) value, locator.getName(), driver));
+                    seeded++;
+                }
+            } else if (value instanceof List && !((List<?>) value).isEmpty()) {
+                List<?> found = (List<?>) value;
+                List<WebElement> elements = new ArrayList<>(found.size());
+
+                for (int j = 0; j < found.size(); j++) {
+                    if (found.get(j) instanceof WebElement) {
+                        elements.add(DefaultAugmentedWebElement.of((WebElement) found.get(j), locator.getName() == null ? null : locator.getName() + " [" + j + "]", driver));
+                    }
+                }
+
+                locator.seedElements(elements);
+                seeded++;
+            }
+        }
+
+        return seeded;
+    }
+
+    private static DefaultSeleniumElementLocator locator(Object page, Field field) {
+        Object value;
+
+        try {
+            value = field.get(page);
+        } catch (IllegalAccessException e) {
+            throw new WebDriverException(e);
+        }
+
+        ElementLocator locator = null;
+
+        if (value instanceof LocatingAugmentedWebElement) {
+            locator = ((LocatingAugmentedWebElement) value).getElementLocator();
+        } else if (value instanceof LocatingAugmentedWebElementList) {
+            locator = ((LocatingAugmentedWebElementList) value).getElementLocator();
+        } else if (value != null && Proxy.isProxyClass(value.getClass())) {
+            InvocationHandler handler = Proxy.getInvocationHandler(value);
+
+            if (handler instanceof SeleniumLocatingElementHandler) {
+                locator = ((SeleniumLocatingElementHandler) handler).getElementLocator();
+            } else if (handler instanceof SeleniumLocatingElementListHandler) {
+                locator = ((SeleniumLocatingElementListHandler) handler).getElementLocator();
+            }
+        }
+
+        return locator instanceof DefaultSeleniumElementLocator ? (DefaultSeleniumElementLocator) locator : null;
+    }
+
+}
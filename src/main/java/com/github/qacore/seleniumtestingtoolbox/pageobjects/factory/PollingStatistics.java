@@ -0,0 +1,83 @@
+package com.github.qacore.seleniumtestingtoolbox.pageobjects.factory;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.github.qacore.seleniumtestingtoolbox.annotations.AjaxElement;
+import com.github.qacore.seleniumtestingtoolbox.annotations.PollingStrategy;
+
+/**
+ * Exponentially weighted moving averages of the waits for an @{@link AjaxElement} field, shared by every locator of the field and used by the {@link PollingStrategy#ADAPTIVE adaptive} polling.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/leocarmona">https://github.com/leocarmona</a></li>
+ *         <li><a href="mailto:lcdesenv@gmail.com">lcdesenv@gmail.com</a></li>
+ *         </ul>
+ *
+ * @see PageMetadata.Element#getPollingStatistics()
+ *
+ * @since 1.0.2
+ *
+ */
+public class PollingStatistics {
+
+    /**
+     * Weight of the previous average: each sample moves the average by a fifth of its difference to the sample.
+     */
+    private static final int WEIGHT          = 5;
+
+    private final AtomicLong lookupNanos     = new AtomicLong(-1);
+    private final AtomicLong appearanceNanos = new AtomicLong(-1);
+
+    /**
+     * @param unit
+     *            The unit of the result.
+     *
+     * @return The average duration of a search of the element, or {@code -1} if the element was never searched by polling.
+     */
+    public long getLookupTime(TimeUnit unit) {
+        long nanos = lookupNanos.get();
+
+        return nanos < 0 ? -1 : unit.convert(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @param unit
+     *            The unit of the result.
+     *
+     * @return The average time the element took to appear, or {@code -1} if the element was never found by polling.
+     */
+    public long getAppearanceTime(TimeUnit unit) {
+        long nanos = appearanceNanos.get();
+
+        return nanos < 0 ? -1 : unit.convert(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Forgets the averages.
+     */
+    public void reset() {
+        lookupNanos.set(-1);
+        appearanceNanos.set(-1);
+    }
+
+    @Override
+    public String toString() {
+        return "PollingStatistics(lookupTime=" + this.getLookupTime(TimeUnit.MICROSECONDS) + "us, appearanceTime=" + this.getAppearanceTime(TimeUnit.MICROSECONDS) + "us)";
+    }
+
+    void lookup(long nanos) {
+        record(lookupNanos, nanos);
+    }
+
+    void appearance(long nanos) {
+        record(appearanceNanos, nanos);
+    }
+
+    private static void record(AtomicLong average, long sample) {
+        average.updateAndGet(previous -> previous < 0 ? sample : previous + (sample - previous) / WEIGHT);
+    }
+
+}
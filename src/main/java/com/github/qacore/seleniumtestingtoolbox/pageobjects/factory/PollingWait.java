@@ -0,0 +1,118 @@
+package com.github.qacore.seleniumtestingtoolbox.pageobjects.factory;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openqa.selenium.WebDriverException;
+
+import com.github.qacore.seleniumtestingtoolbox.annotations.AjaxElement;
+import com.github.qacore.seleniumtestingtoolbox.annotations.PollingStrategy;
+
+/**
+ * Searches an @{@link AjaxElement} again and again, with the intervals of its {@link PollingStrategy}, until it is found or the timeout expires.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/leocarmona">https://github.com/leocarmona</a></li>
+ *         <li><a href="mailto:lcdesenv@gmail.com">lcdesenv@gmail.com</a></li>
+ *         </ul>
+ *
+ * @since 1.0.2
+ *
+ */
+final class PollingWait {
+
+    /**
+     * Shortest interval of the {@link PollingStrategy#ADAPTIVE adaptive} polling.
+     */
+    private static final long MIN_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private PollingWait() {
+
+    }
+
+    /**
+     * Searches until the lookup finds something or the deadline passes. The last search happens at the deadline.
+     *
+     * @param lookup
+     *            Searches once. Returns {@code null} if nothing was found.
+     *
+     * @param ajaxElement
+     *            The polling configuration.
+     *
+     * @param statistics
+     *            The statistics of the field, which learn from this wait.
+     *
+     * @param start
+     *            When the wait started, in {@link System#nanoTime()}.
+     *
+     * @param deadline
+     *            When the wait times out, in {@link System#nanoTime()}.
+     *
+     * @return What the lookup found, or {@code null} if the wait timed out.
+     */
+    static <T> T until(Supplier<T> lookup, AjaxElement ajaxElement, PollingStatistics statistics, long start, long deadline) {
+        for (int attempt = 0;; attempt++) {
+            long before = System.nanoTime();
+            T result = lookup.get();
+            long after = System.nanoTime();
+
+            statistics.lookup(after - before);
+
+            if (result != null) {
+                statistics.appearance(after - start);
+
+                return result;
+            }
+
+            if (after - deadline >= 0) {
+                return null;
+            }
+
+            sleep(Math.min(interval(ajaxElement, statistics, attempt), deadline - after));
+        }
+    }
+
+    /**
+     * @return The interval before the next search, in nanoseconds.
+     */
+    static long interval(AjaxElement ajaxElement, PollingStatistics statistics, int attempt) {
+        long max = Math.max(1, TimeUnit.MILLISECONDS.toNanos(ajaxElement.pollingInterval()));
+
+        switch (ajaxElement.polling()) {
+            case EXPONENTIAL:
+                return jitter(Math.min(max, Math.max(1, max >> 4) << Math.min(attempt, 4)));
+
+            case ADAPTIVE:
+                long appearance = statistics.getAppearanceTime(TimeUnit.NANOSECONDS);
+
+                if (appearance < 0) {
+                    return jitter(Math.min(max, Math.max(1, max >> 4) << Math.min(attempt, 4)));
+                }
+
+                long min = Math.min(max, Math.max(MIN_INTERVAL_NANOS, 2 * statistics.getLookupTime(TimeUnit.NANOSECONDS)));
+
+                return jitter(Math.max(min, Math.min(max, appearance / 4)));
+
+            default:
+                return max;
+        }
+    }
+
+    private static long jitter(long interval) {
+        return interval - ThreadLocalRandom.current().nextLong(interval / 2 + 1);
+    }
+
+    private static void sleep(long nanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            throw new WebDriverException(e);
+        }
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.github.qacore.seleniumtestingtoolbox.pageobjects.factory;
+
+import java.lang.reflect.Proxy;
+
+import com.github.qacore.seleniumtestingtoolbox.pageobjects.factory.internal.LocatingAugmentedWebElement;
+import com.github.qacore.seleniumtestingtoolbox.pageobjects.factory.internal.LocatingAugmentedWebElementList;
+import com.github.qacore.seleniumtestingtoolbox.pageobjects.factory.internal.SeleniumLocatingElementHandler;
+import com.github.qacore.seleniumtestingtoolbox.pageobjects.factory.internal.SeleniumLocatingElementListHandler;
+
+/**
+ * How {@link DefaultSeleniumFieldDecorator} builds the element and element list fields of a page.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/leocarmona">https://github.com/leocarmona</a></li>
+ *         <li><a href="mailto:lcdesenv@gmail.com">lcdesenv@gmail.com</a></li>
+ *         </ul>
+ *
+ * @see DefaultSeleniumFieldDecorator#setProxyEngine(ProxyEngine)
+ *
+ * @since 1.0.2
+ *
+ */
+public enum ProxyEngine {
+
+    /**
+     * JDK {@link Proxy dynamic proxies} with {@link SeleniumLocatingElementHandler} and {@link SeleniumLocatingElementListHandler}. Every call is dispatched by reflection.
+     */
+    REFLECTION,
+
+    /**
+     * {@link LocatingAugmentedWebElement} and {@link LocatingAugmentedWebElementList}, which delegate every call directly to the located elements.
+     */
+    DIRECT;
+
+}
@@ -0,0 +1,111 @@
+package com.github.qacore.seleniumtestingtoolbox.pageobjects.factory;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.support.ByIdOrName;
+
+/**
+ * Translates a {@link By} into a JavaScript expression that locates its elements in the page, so locators can be evaluated inside a script of the browser.
+ * <p>
+ * The expression evaluates to an array-like list of the elements of {@code document} that match the locator. The value of the locator, like the id or the CSS selector, is not written into the expression: the script receives it as an argument, so any value is safe and the text of the script is the same for all the locators of a kind. {@link By#id(String) id}, {@link By#name(String) name}, {@link By#className(String) class name}, {@link By#tagName(String) tag name}, {@link By#cssSelector(String) CSS selector}, {@link By#xpath(String) XPath}, {@link By#linkText(String) link text}, {@link By#partialLinkText(String) partial link text} and {@link ByIdOrName} locators are supported.
+ * </p>
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/leocarmona">https://github.com/leocarmona</a></li>
+ *         <li><a href="mailto:lcdesenv@gmail.com">lcdesenv@gmail.com</a></li>
+ *         </ul>
+ *
+ * @since 1.0.2
+ *
+ */
+public final class ScriptLocator {
+
+    private static final Map<Class<?>, Translation> TRANSLATIONS = new HashMap<>();
+
+    static {
+        TRANSLATIONS.put(By.ById.class, new Translation("By.id: ", "", "(function (e) { return e ? [e] : []; })(document.getElementById(%s))"));
+        TRANSLATIONS.put(By.ByName.class, new Translation("By.name: ", "", "document.getElementsByName(%s)"));
+        TRANSLATIONS.put(By.ByClassName.class, new Translation("By.className: ", "", "document.getElementsByClassName(%s)"));
+        TRANSLATIONS.put(By.ByTagName.class, new Translation("By.tagName: ", "", "document.getElementsByTagName(%s)"));
+        TRANSLATIONS.put(By.ByCssSelector.class, new Translation("By.cssSelector: ", "", "document.querySelectorAll(%s)"));
+        TRANSLATIONS.put(By.ByXPath.class, new Translation("By.xpath: ", "", "(function (r) { var a = []; for (var i = 0; i < r.snapshotLength; i++) { a.push(r.snapshotItem(i)); } return a; })"
+                + "(document.evaluate(%s, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null))"));
+        TRANSLATIONS.put(By.ByLinkText.class, new Translation("By.linkText: ", "", "(function (v) { return Array.prototype.slice.call(document.getElementsByTagName('a')).filter(function (a) { return (a.innerText || a.textContent).trim() === v.trim(); }); })(%s)"));
+        TRANSLATIONS.put(By.ByPartialLinkText.class, new Translation("By.partialLinkText: ", "", "(function (v) { return Array.prototype.slice.call(document.getElementsByTagName('a')).filter(function (a) { return (a.innerText || a.textContent).indexOf(v) >= 0; }); })(%s)"));
+        TRANSLATIONS.put(ByIdOrName.class, new Translation("by id or name \"", "\"", "(function (v) { var e = document.getElementById(v); return (e ? [e] : []).concat(Array.prototype.slice.call(document.getElementsByName(v))); })(%s)"));
+    }
+
+    private ScriptLocator() {
+
+    }
+
+    /**
+     * Translates a locator into a JavaScript expression that reads the value of the locator from another expression, usually an argument of the script.
+     *
+     * @param by
+     *            The locator.
+     *
+     * @param value
+     *            The JavaScript expression that evaluates to the {@link #valueOf(By) value} of the locator, e.g. {@code arguments[0]}.
+     *
+     * @return The expression, or {@code null} if the locator is not supported, like {@code ByChained} and {@code ByAll}.
+     */
+    public static String of(By by, String value) {
+        Translation translation = translation(by);
+
+        return translation == null ? null : String.format(translation.expression, value);
+    }
+
+    /**
+     * Retrieves the value of a locator, like the id or the CSS selector, to pass it to the script of the {@link #of(By, String) expression} as an argument.
+     * <p>
+     * Selenium exposes the value only in the description of the locator, so only the locator classes of Selenium are supported, not their subclasses, and a description in an unexpected format is not supported either.
+     * </p>
+     *
+     * @param by
+     *            The locator.
+     *
+     * @return The value, or {@code null} if the locator is not supported.
+     */
+    public static String valueOf(By by) {
+        Translation translation = translation(by);
+
+        if (translation == null) {
+            return null;
+        }
+
+        String description = by.toString();
+
+        if (!description.startsWith(translation.prefix) || !description.endsWith(translation.suffix) || description.length() < translation.prefix.length() + translation.suffix.length()) {
+            return null;
+        }
+
+        return description.substring(translation.prefix.length(), description.length() - translation.suffix.length());
+    }
+
+    private static Translation translation(By by) {
+        return by == null ? null : TRANSLATIONS.get(by.getClass());
+    }
+
+    /**
+     * Description format and expression of a locator class.
+     */
+    private static final class Translation {
+
+        private final String prefix;
+        private final String suffix;
+        private final String expression;
+
+        private Translation(String prefix, String suffix, String expression) {
+            this.prefix = prefix;
+            this.suffix = suffix;
+            this.expression = expression;
+        }
+
+    }
+
+}
@@ -0,0 +1,426 @@
+package com.github.qacore.seleniumtestingtoolbox.pageobjects.factory.internal;
+
+import java.io.File;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.interactions.internal.Coordinates;
+import org.openqa.selenium.internal.WrapsElement;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+
+import com.github.qacore.seleniumtestingtoolbox.WebDriverFactory;
+import com.github.qacore.seleniumtestingtoolbox.pageobjects.factory.DefaultSeleniumElementLocator;
+import com.github.qacore.seleniumtestingtoolbox.webdriver.AugmentedWebElement;
+import com.github.qacore.seleniumtestingtoolbox.webdriver.screenshots.PageSnapshot;
+
+import lombok.Getter;
+
+/**
+ * Locating element that delegates every call directly to the element found by its {@link ElementLocator}.
+ * <p>
+ * Behaves like a {@link SeleniumLocatingElementHandler} proxy, but without reflective dispatch: no {@link java.lang.reflect.Method#invoke(Object, Object...) Method.invoke}, no argument arrays and no exception unwrapping on each call.
+ * </p>
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/leocarmona">https://github.com/leocarmona</a></li>
+ *         <li><a href="mailto:lcdesenv@gmail.com">lcdesenv@gmail.com</a></li>
+ *         </ul>
+ *
+ * @see SeleniumLocatingElementHandler
+ *
+ * @since 1.0.2
+ *
+ */
+public class LocatingAugmentedWebElement implements AugmentedWebElement {
+
+    @Getter
+    private final ElementLocator elementLocator;
+
+    public LocatingAugmentedWebElement(ElementLocator elementLocator) {
+        this.elementLocator = elementLocator;
+    }
+
+    /**
+     * Locates the element.
+     *
+     * @return The located element.
+     */
+    protected AugmentedWebElement locate() {
+        return WebDriverFactory.augment(elementLocator.findElement(), null, null);
+    }
+
+    /**
+     * Calls the located element. If the lookups of the {@link DefaultSeleniumElementLocator locator} are cached and the cached element is stale, it is located again and the call is retried once.
+     *
+     * @param action
+     *            The call.
+     *
+     * @return The result of the call.
+     */
+    protected <T> T call(Function<AugmentedWebElement, T> action) {
+        try {
+            return action.apply(this.locate());
+        } catch (StaleElementReferenceException e) {
+            if (!this.recoverFromStale()) {
+                throw e;
+            }
+
+            return action.apply(this.locate());
+        }
+    }
+
+    /**
+     * Calls the located element, like {@link #call(Function)}.
+     *
+     * @param action
+     *            The call.
+     */
+    protected void run(Consumer<AugmentedWebElement> action) {
+        try {
+            action.accept(this.locate());
+        } catch (StaleElementReferenceException e) {
+            if (!this.recoverFromStale()) {
+                throw e;
+            }
+
+            action.accept(this.locate());
+        }
+    }
+
+    private boolean recoverFromStale() {
+        return elementLocator instanceof DefaultSeleniumElementLocator && ((DefaultSeleniumElementLocator) elementLocator).recoverFromStale();
+    }
+
+    @Override
+    public WebElement getWrappedElement() {
+        WebElement element = elementLocator.findElement();
+
+        if (element instanceof WrapsElement) {
+            return ((WrapsElement) element).getWrappedElement();
+        }
+
+        return element;
+    }
+
+    @Override
+    public AugmentedWebElement findElement(By by, String name) {
+        return this.call(e -> e.findElement(by, name));
+    }
+
+    @Override
+    public List<AugmentedWebElement> findElements(By by, String name) {
+        return this.call(e -> e.findElements(by, name));
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        return this.call(e -> e.findElement(by));
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        return this.call(e -> e.findElements(by));
+    }
+
+    @Override
+    public boolean isLoaded() {
+        return this.call(e -> e.isLoaded());
+    }
+
+    @Override
+    public boolean isClicable() {
+        return this.call(e -> e.isClicable());
+    }
+
+    @Override
+    public State state() {
+        return this.call(e -> e.state());
+    }
+
+    @Override
+    public void openLinkInNewTab() {
+        this.run(e -> e.openLinkInNewTab());
+    }
+
+    @Override
+    public void openLink() {
+        this.run(e -> e.openLink());
+    }
+
+    @Override
+    public void check() {
+        this.run(e -> e.check());
+    }
+
+    @Override
+    public void uncheck() {
+        this.run(e -> e.uncheck());
+    }
+
+    @Override
+    public void indeterminate() {
+        this.run(e -> e.indeterminate());
+    }
+
+    @Override
+    public File downloadImage(String pathname, int connectionTimeout, int readTimeout) {
+        return this.call(e -> e.downloadImage(pathname, connectionTimeout, readTimeout));
+    }
+
+    @Override
+    public File downloadImage(String pathname) {
+        return this.call(e -> e.downloadImage(pathname));
+    }
+
+    @Override
+    public boolean isChecked() {
+        return this.call(e -> e.isChecked());
+    }
+
+    @Override
+    public boolean isIndeterminate() {
+        return this.call(e -> e.isIndeterminate());
+    }
+
+    @Override
+    public boolean isDefaultChecked() {
+        return this.call(e -> e.isDefaultChecked());
+    }
+
+    @Override
+    public void clickAndHold() {
+        this.run(e -> e.clickAndHold());
+    }
+
+    @Override
+    public void contextClick() {
+        this.run(e -> e.contextClick());
+    }
+
+    @Override
+    public void doubleClick() {
+        this.run(e -> e.doubleClick());
+    }
+
+    @Override
+    public void dragAndDrop(WebElement target) {
+        this.run(e -> e.dragAndDrop(target));
+    }
+
+    @Override
+    public void dragAndDropBy(int xOffset, int yOffset) {
+        this.run(e -> e.dragAndDropBy(xOffset, yOffset));
+    }
+
+    @Override
+    public void keyDown(CharSequence key) {
+        this.run(e -> e.keyDown(key));
+    }
+
+    @Override
+    public void keyUp(CharSequence key) {
+        this.run(e -> e.keyUp(key));
+    }
+
+    @Override
+    public void moveToElement() {
+        this.run(e -> e.moveToElement());
+    }
+
+    @Override
+    public void moveToElement(int xOffset, int yOffset) {
+        this.run(e -> e.moveToElement(xOffset, yOffset));
+    }
+
+    @Override
+    public void release() {
+        this.run(e -> e.release());
+    }
+
+    @Override
+    public Attributes attributes() {
+        return this.call(e -> e.attributes());
+    }
+
+    @Override
+    public Axes axes() {
+        return this.call(e -> e.axes());
+    }
+
+    @Override
+    public String name() {
+        return this.call(e -> e.name());
+    }
+
+    @Override
+    public boolean isMultiple() {
+        return this.call(e -> e.isMultiple());
+    }
+
+    @Override
+    public List<AugmentedWebElement> getOptions() {
+        return this.call(e -> e.getOptions());
+    }
+
+    @Override
+    public List<AugmentedWebElement> getAllSelectedOptions() {
+        return this.call(e -> e.getAllSelectedOptions());
+    }
+
+    @Override
+    public AugmentedWebElement getFirstSelectedOption() {
+        return this.call(e -> e.getFirstSelectedOption());
+    }
+
+    @Override
+    public void selectByVisibleText(String text) {
+        this.run(e -> e.selectByVisibleText(text));
+    }
+
+    @Override
+    public void selectByIndex(int index) {
+        this.run(e -> e.selectByIndex(index));
+    }
+
+    @Override
+    public void selectByValue(String value) {
+        this.run(e -> e.selectByValue(value));
+    }
+
+    @Override
+    public void deselectAll() {
+        this.run(e -> e.deselectAll());
+    }
+
+    @Override
+    public void deselectByValue(String value) {
+        this.run(e -> e.deselectByValue(value));
+    }
+
+    @Override
+    public void deselectByIndex(int index) {
+        this.run(e -> e.deselectByIndex(index));
+    }
+
+    @Override
+    public void deselectByVisibleText(String text) {
+        this.run(e -> e.deselectByVisibleText(text));
+    }
+
+    @Override
+    public void click() {
+        this.run(e -> e.click());
+    }
+
+    @Override
+    public void submit() {
+        this.run(e -> e.submit());
+    }
+
+    @Override
+    public void sendKeys(CharSequence... keysToSend) {
+        this.run(e -> e.sendKeys(keysToSend));
+    }
+
+    @Override
+    public void clear() {
+        this.run(e -> e.clear());
+    }
+
+    @Override
+    public String getTagName() {
+        return this.call(e -> e.getTagName());
+    }
+
+    @Override
+    public String getAttribute(String name) {
+        return this.call(e -> e.getAttribute(name));
+    }
+
+    @Override
+    public boolean isSelected() {
+        return this.call(e -> e.isSelected());
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return this.call(e -> e.isEnabled());
+    }
+
+    @Override
+    public String getText() {
+        return this.call(e -> e.getText());
+    }
+
+    @Override
+    public boolean isDisplayed() {
+        return this.call(e -> e.isDisplayed());
+    }
+
+    @Override
+    public Point getLocation() {
+        return this.call(e -> e.getLocation());
+    }
+
+    @Override
+    public Dimension getSize() {
+        return this.call(e -> e.getSize());
+    }
+
+    @Override
+    public Rectangle getRect() {
+        return this.call(e -> e.getRect());
+    }
+
+    @Override
+    public String getCssValue(String propertyName) {
+        return this.call(e -> e.getCssValue(propertyName));
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target) throws WebDriverException {
+        return this.call(e -> e.getScreenshotAs(target));
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target, PageSnapshot snapshot) throws WebDriverException {
+        return this.call(e -> e.getScreenshotAs(target, snapshot));
+    }
+
+    @Override
+    public Coordinates getCoordinates() {
+        return this.call(e -> e.getCoordinates());
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return this.call(e -> e.equals(obj));
+    }
+
+    @Override
+    public int hashCode() {
+        return this.call(e -> e.hashCode());
+    }
+
+    @Override
+    public String toString() {
+        try {
+            return this.locate().toString();
+        } catch (NoSuchElementException e) {
+            return "Proxy element for: " + elementLocator.toString();
+        }
+    }
+
+}
@@ -0,0 +1,267 @@
+package com.github.qacore.seleniumtestingtoolbox.pageobjects.factory.internal;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+
+import com.github.qacore.seleniumtestingtoolbox.pageobjects.factory.DefaultSeleniumElementLocator;
+import com.github.qacore.seleniumtestingtoolbox.webdriver.AugmentedWebElement;
+
+import lombok.Getter;
+
+/**
+ * Locating element list that delegates every call directly to the list found by its {@link ElementLocator}.
+ * <p>
+ * Behaves like a {@link SeleniumLocatingElementListHandler} proxy, but without reflective dispatch. Like the proxy, every call locates the elements again.
+ * </p>
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/leocarmona">https://github.com/leocarmona</a></li>
+ *         <li><a href="mailto:lcdesenv@gmail.com">lcdesenv@gmail.com</a></li>
+ *         </ul>
+ *
+ * @see SeleniumLocatingElementListHandler
+ *
+ * @since 1.0.2
+ *
+ */
+public class LocatingAugmentedWebElementList implements List<AugmentedWebElement> {
+
+    @Getter
+    private final ElementLocator elementLocator;
+
+    public LocatingAugmentedWebElementList(ElementLocator elementLocator) {
+        this.elementLocator = elementLocator;
+    }
+
+    /**
+     * Locates the elements.
+     *
+     * @return The located elements.
+     */
+    @SuppressWarnings("unchecked")
+    protected List<AugmentedWebElement> locate() {
+        return (List<AugmentedWebElement>) (List<?>) elementLocator.findElements();
+    }
+
+    /**
+     * Calls the located elements. If the lookups of the {@link DefaultSeleniumElementLocator locator} are cached and the cached elements are stale, they are located again and the call is retried once.
+     *
+     * @param action
+     *            The call.
+     *
+     * @return The result of the call.
+     */
+    protected <T> T call(Function<List<AugmentedWebElement>, T> action) {
+        try {
+            return action.apply(this.locate());
+        } catch (StaleElementReferenceException e) {
+            if (!this.recoverFromStale()) {
+                throw e;
+            }
+
+            return action.apply(this.locate());
+        }
+    }
+
+    /**
+     * Calls the located elements, like {@link #call(Function)}.
+     *
+     * @param action
+     *            The call.
+     */
+    protected void run(Consumer<List<AugmentedWebElement>> action) {
+        try {
+            action.accept(this.locate());
+        } catch (StaleElementReferenceException e) {
+            if (!this.recoverFromStale()) {
+                throw e;
+            }
+
+            action.accept(this.locate());
+        }
+    }
+
+    private boolean recoverFromStale() {
+        return elementLocator instanceof DefaultSeleniumElementLocator && ((DefaultSeleniumElementLocator) elementLocator).recoverFromStale();
+    }
+
+    @Override
+    public int size() {
+        return this.call(l -> l.size());
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.call(l -> l.isEmpty());
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return this.call(l -> l.contains(o));
+    }
+
+    @Override
+    public Iterator<AugmentedWebElement> iterator() {
+        return this.call(l -> l.iterator());
+    }
+
+    @Override
+    public Object[] toArray() {
+        return this.call(l -> l.toArray());
+    }
+
+    @Override
+    public <T> T[] toArray(T[] a) {
+        return this.call(l -> l.toArray(a));
+    }
+
+    @Override
+    public boolean add(AugmentedWebElement e) {
+        return this.call(l -> l.add(e));
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        return this.call(l -> l.remove(o));
+    }
+
+    @Override
+    public boolean containsAll(Collection<?> c) {
+        return this.call(l -> l.containsAll(c));
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends AugmentedWebElement> c) {
+        return this.call(l -> l.addAll(c));
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends AugmentedWebElement> c) {
+        return this.call(l -> l.addAll(index, c));
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        return this.call(l -> l.removeAll(c));
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        return this.call(l -> l.retainAll(c));
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super AugmentedWebElement> filter) {
+        return this.call(l -> l.removeIf(filter));
+    }
+
+    @Override
+    public void replaceAll(UnaryOperator<AugmentedWebElement> operator) {
+        this.run(l -> l.replaceAll(operator));
+    }
+
+    @Override
+    public void sort(Comparator<? super AugmentedWebElement> c) {
+        this.run(l -> l.sort(c));
+    }
+
+    @Override
+    public void clear() {
+        this.run(l -> l.clear());
+    }
+
+    @Override
+    public AugmentedWebElement get(int index) {
+        return this.call(l -> l.get(index));
+    }
+
+    @Override
+    public AugmentedWebElement set(int index, AugmentedWebElement element) {
+        return this.call(l -> l.set(index, element));
+    }
+
+    @Override
+    public void add(int index, AugmentedWebElement element) {
+        this.run(l -> l.add(index, element));
+    }
+
+    @Override
+    public AugmentedWebElement remove(int index) {
+        return this.call(l -> l.remove(index));
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        return this.call(l -> l.indexOf(o));
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        return this.call(l -> l.lastIndexOf(o));
+    }
+
+    @Override
+    public ListIterator<AugmentedWebElement> listIterator() {
+        return this.call(l -> l.listIterator());
+    }
+
+    @Override
+    public ListIterator<AugmentedWebElement> listIterator(int index) {
+        return this.call(l -> l.listIterator(index));
+    }
+
+    @Override
+    public List<AugmentedWebElement> subList(int fromIndex, int toIndex) {
+        return this.call(l -> l.subList(fromIndex, toIndex));
+    }
+
+    @Override
+    public Spliterator<AugmentedWebElement> spliterator() {
+        return this.call(l -> l.spliterator());
+    }
+
+    @Override
+    public Stream<AugmentedWebElement> stream() {
+        return this.call(l -> l.stream());
+    }
+
+    @Override
+    public Stream<AugmentedWebElement> parallelStream() {
+        return this.call(l -> l.parallelStream());
+    }
+
+    @Override
+    public void forEach(Consumer<? super AugmentedWebElement> action) {
+        this.run(l -> l.forEach(action));
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return this.call(l -> l.equals(obj));
+    }
+
+    @Override
+    public int hashCode() {
+        return this.call(l -> l.hashCode());
+    }
+
+    @Override
+    public String toString() {
+        return this.locate().toString();
+    }
+
+}
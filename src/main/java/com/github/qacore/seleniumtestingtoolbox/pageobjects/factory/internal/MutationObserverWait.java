@@ -0,0 +1,86 @@
+package com.github.qacore.seleniumtestingtoolbox.pageobjects.factory.internal;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import com.github.qacore.seleniumtestingtoolbox.annotations.WaitStrategy;
+import com.github.qacore.seleniumtestingtoolbox.pageobjects.factory.ScriptLocator;
+
+/**
+ * Waits for the elements of a locator with one asynchronous script, which observes the changes of the page with a {@code MutationObserver} instead of polling the browser.
+ * <p>
+ * The value of the locator is an argument of the script, translated by {@link ScriptLocator#of(By, String)}, so the script is the same for all the locators of a kind.
+ * </p>
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/leocarmona">https://github.com/leocarmona</a></li>
+ *         <li><a href="mailto:lcdesenv@gmail.com">lcdesenv@gmail.com</a></li>
+ *         </ul>
+ *
+ * @see WaitStrategy#MUTATION_OBSERVER
+ *
+ * @since 1.0.2
+ *
+ */
+public final class MutationObserverWait {
+
+    private static final String SCRIPT_HEAD = "var timeout = arguments[0], value = arguments[1], callback = arguments[arguments.length - 1], done = false, observer, timer;"
+            + "var found = function () { try { var r = ";
+
+    private static final String SCRIPT_TAIL = "; return r.length > 0; } catch (e) { return false; } };"
+            + "var finish = function (result) { if (done) { return; } done = true; if (observer) { observer.disconnect(); } clearTimeout(timer); callback(result); };"
+            + "if (found()) { finish(true); } else {"
+            + "  observer = new MutationObserver(function () { if (found()) { finish(true); } });"
+            + "  observer.observe(document, { childList: true, subtree: true, attributes: true, characterData: true });"
+            + "  timer = setTimeout(function () { finish(found()); }, timeout);"
+            + "}";
+
+    private MutationObserverWait() {
+
+    }
+
+    /**
+     * Waits until the locator finds at least one element, or until the timeout expires.
+     *
+     * @param driver
+     *            The raw driver, which executes the script without dispatching events.
+     *
+     * @param locator
+     *            The locator.
+     *
+     * @param timeout
+     *            The timeout.
+     *
+     * @param unit
+     *            The unit of the timeout.
+     *
+     * @return {@link Boolean#TRUE} if the locator found elements, {@link Boolean#FALSE} if the timeout expired first, or {@code null} if the wait is not possible with this driver or locator, and the caller must poll instead.
+     */
+    public static Boolean await(WebDriver driver, By locator, long timeout, TimeUnit unit) {
+        if (!(driver instanceof JavascriptExecutor)) {
+            return null;
+        }
+
+        String value = ScriptLocator.valueOf(locator);
+
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            Object result = ((JavascriptExecutor) driver).executeAsyncScript(SCRIPT_HEAD + ScriptLocator.of(locator, "value") + SCRIPT_TAIL, Math.max(0, unit.toMillis(timeout)), value);
+
+            return result instanceof Boolean ? (Boolean) result : null;
+        } catch (WebDriverException e) {
+            // script timeouts, unsupported commands and script errors fall back to polling
+            return null;
+        }
+    }
+
+}
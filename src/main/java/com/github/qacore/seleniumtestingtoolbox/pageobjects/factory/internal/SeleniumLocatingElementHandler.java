@@ -5,14 +5,20 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 
 import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.internal.WrapsElement;
 import org.openqa.selenium.support.pagefactory.ElementLocator;
 
+import com.github.qacore.seleniumtestingtoolbox.pageobjects.factory.DefaultSeleniumElementLocator;
+
 import lombok.Data;
 
 /**
  * Parallel locating element handler.
+ * <p>
+ * If the lookups of the {@link DefaultSeleniumElementLocator locator} are cached and the cached element is stale, the element is located again and the call is retried once.
+ * </p>
  * 
  * @author Leonardo Carmona da Silva
  *         <ul>
@@ -37,6 +43,18 @@ public class SeleniumLocatingElementHandler implements InvocationHandler {
 
     @Override
     public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        try {
+            return this.invoke(method, args);
+        } catch (StaleElementReferenceException e) {
+            if (!(elementLocator instanceof DefaultSeleniumElementLocator) || !((DefaultSeleniumElementLocator) elementLocator).recoverFromStale()) {
+                throw e;
+            }
+
+            return this.invoke(method, args);
+        }
+    }
+
+    protected Object invoke(Method method, Object[] args) throws Throwable {
         WebElement element;
 
         try {
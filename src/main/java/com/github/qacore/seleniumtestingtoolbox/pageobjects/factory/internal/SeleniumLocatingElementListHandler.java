@@ -4,12 +4,18 @@ import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 
+import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.support.pagefactory.ElementLocator;
 
+import com.github.qacore.seleniumtestingtoolbox.pageobjects.factory.DefaultSeleniumElementLocator;
+
 import lombok.Data;
 
 /**
  * Parallel locating element list handler.
+ * <p>
+ * If the lookups of the {@link DefaultSeleniumElementLocator locator} are cached and a call on the list fails with a stale element, the list is located again and the call is retried once. Elements taken from the list are not recovered.
+ * </p>
  * 
  * @author Leonardo Carmona da Silva
  *         <ul>
@@ -34,6 +40,18 @@ public class SeleniumLocatingElementListHandler implements InvocationHandler {
 
     @Override
     public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        try {
+            return this.invoke(method, args);
+        } catch (StaleElementReferenceException e) {
+            if (!(elementLocator instanceof DefaultSeleniumElementLocator) || !((DefaultSeleniumElementLocator) elementLocator).recoverFromStale()) {
+                throw e;
+            }
+
+            return this.invoke(method, args);
+        }
+    }
+
+    protected Object invoke(Method method, Object[] args) throws Throwable {
         try {
             return method.invoke(elementLocator.findElements(), args);
         } catch (InvocationTargetException e) {
@@ -0,0 +1,252 @@
+package com.github.qacore.seleniumtestingtoolbox.webdriver;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Base {@link AugmentedWebElement.Attributes attributes}, which parse the raw values returned by {@link #attribute(String)}.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/leocarmona">https://github.com/leocarmona</a></li>
+ *         <li><a href="mailto:lcdesenv@gmail.com">lcdesenv@gmail.com</a></li>
+ *         </ul>
+ *
+ * @see DefaultAugmentedWebElement.DefaultAttributes DefaultAttributes
+ * @see AttributesSnapshot
+ *
+ * @since 1.0.2
+ *
+ */
+public abstract class AbstractAttributes implements AugmentedWebElement.Attributes {
+
+    /**
+     * Retrieves the raw value of an attribute or property, like {@link WebElement#getAttribute(String)}.
+     *
+     * @param name
+     *            The attribute or property name.
+     *
+     * @return The value, or {@code null} if it is not set.
+     */
+    protected abstract String attribute(String name);
+
+    @Override
+    public String id() {
+        return this.attribute("id");
+    }
+
+    @Override
+    public String name() {
+        return this.attribute("name");
+    }
+
+    @Override
+    public List<String> styleClass() {
+        String styleClass = this.attribute("class");
+
+        if (styleClass == null) {
+            return new ArrayList<>();
+        }
+
+        List<String> styleClasses = new ArrayList<>();
+
+        for (String s : styleClass.trim().split(" ")) {
+            if (!"".equals(s)) {
+                styleClasses.add(s);
+            }
+        }
+
+        return styleClasses;
+    }
+
+    @Override
+    public String title() {
+        return this.attribute("title");
+    }
+
+    @Override
+    public boolean autoFocus() {
+        return "true".equals(this.attribute("autofocus"));
+    }
+
+    @Override
+    public String form() {
+        return this.attribute("form");
+    }
+
+    @Override
+    public URL formAction() {
+        String formAction = this.attribute("formaction");
+
+        if (formAction == null) {
+            return null;
+        }
+
+        try {
+            return new URL(formAction);
+        } catch (MalformedURLException e) {
+            throw new WebDriverException(e);
+        }
+    }
+
+    @Override
+    public AugmentedWebElement.FormEncType formEncType() {
+        String formEncType = this.attribute("formenctype");
+
+        if (formEncType == null) {
+            return null;
+        }
+
+        switch (formEncType.trim().toLowerCase()) {
+            case "application/x-www-form-urlencoded":
+                return AugmentedWebElement.FormEncType.APPLICATION_X_WWW_FORM_ENCODED;
+
+            case "multipart/form-data":
+                return AugmentedWebElement.FormEncType.MULTIPART_FORM_DATA;
+
+            case "text/plain":
+                return AugmentedWebElement.FormEncType.TEXT_PLAIN;
+
+            default:
+                throw new IllegalArgumentException(formEncType);
+        }
+    }
+
+    @Override
+    public String formMethod() {
+        return this.attribute("formmethod");
+    }
+
+    @Override
+    public boolean formNoValidate() {
+        return "true".equals(this.attribute("formnovalidate"));
+    }
+
+    @Override
+    public String formTarget() {
+        return this.attribute("formtarget");
+    }
+
+    @Override
+    public AugmentedWebElement.ButtonType type() {
+        String type = this.attribute("type");
+
+        if (type == null) {
+            return null;
+        }
+
+        switch (type.trim().toLowerCase()) {
+            case "button":
+                return AugmentedWebElement.ButtonType.BUTTON;
+
+            case "reset":
+                return AugmentedWebElement.ButtonType.RESET;
+
+            case "submit":
+                return AugmentedWebElement.ButtonType.SUBMIT;
+
+            default:
+                throw new IllegalArgumentException(type);
+        }
+    }
+
+    @Override
+    public String value() {
+        return this.attribute("value");
+    }
+
+    @Override
+    public String defaultValue() {
+        return this.attribute("defaultValue");
+    }
+
+    @Override
+    public boolean checked() {
+        return "true".equals(this.attribute("checked"));
+    }
+
+    @Override
+    public boolean indeterminate() {
+        return "true".equals(this.attribute("indeterminate"));
+    }
+
+    @Override
+    public boolean defaultChecked() {
+        return "true".equals(this.attribute("defaultChecked"));
+    }
+
+    @Override
+    public String href() {
+        return this.attribute("href");
+    }
+
+    @Override
+    public String target() {
+        return this.attribute("target");
+    }
+
+    @Override
+    public String alt() {
+        return this.attribute("alt");
+    }
+
+    @Override
+    public String src() {
+        return this.attribute("src");
+    }
+
+    @Override
+    public String getFor() {
+        return this.attribute("for");
+    }
+
+    @Override
+    public boolean autoComplete() {
+        String autoComplete = this.attribute("autocomplete");
+
+        return "on".equals(autoComplete) || "".equals(autoComplete);
+    }
+
+    @Override
+    public Integer maxLength() {
+        String maxLength = this.attribute("maxlength");
+
+        if (maxLength == null) {
+            return null;
+        }
+
+        return Integer.parseInt(maxLength);
+    }
+
+    @Override
+    public String pattern() {
+        return this.attribute("pattern");
+    }
+
+    @Override
+    public String placeholder() {
+        return this.attribute("placeholder");
+    }
+
+    @Override
+    public boolean readOnly() {
+        return "true".equals(this.attribute("readonly"));
+    }
+
+    @Override
+    public boolean required() {
+        return "true".equals(this.attribute("required"));
+    }
+
+    @Override
+    public int size() {
+        return Integer.parseInt(this.attribute("size"));
+    }
+
+}
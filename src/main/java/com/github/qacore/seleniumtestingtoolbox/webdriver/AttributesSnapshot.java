@@ -0,0 +1,225 @@
+package com.github.qacore.seleniumtestingtoolbox.webdriver;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Immutable view of the attributes of an element, fetched from the browser at once.
+ * <p>
+ * The snapshot holds the value of every attribute present in the element markup and of the standard attributes and properties of {@link AugmentedWebElement.Attributes}, resolved like {@link WebElement#getAttribute(String)}. Querying it does not call the browser, so it does not see later changes of the element.
+ * </p>
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/leocarmona">https://github.com/leocarmona</a></li>
+ *         <li><a href="mailto:lcdesenv@gmail.com">lcdesenv@gmail.com</a></li>
+ *         </ul>
+ *
+ * @see AugmentedWebElement.Attributes#snapshot()
+ *
+ * @since 1.0.2
+ *
+ */
+public final class AttributesSnapshot extends AbstractAttributes {
+
+    static final List<String>         STANDARD_ATTRIBUTES = Arrays.asList("id", "name", "class", "title", "autofocus", "form", "formaction", "formenctype", "formmethod", "formnovalidate", "formtarget", "type", "value", "defaultValue", "checked", "indeterminate", "defaultChecked", "selected", "disabled", "multiple", "hidden", "href", "target", "alt", "src", "for", "autocomplete", "maxlength", "pattern", "placeholder", "readonly", "required", "size");
+
+    static final List<String>         BOOLEAN_ATTRIBUTES = Arrays.asList("autofocus", "formnovalidate", "checked", "indeterminate", "defaultchecked", "selected", "disabled", "multiple", "hidden", "readonly", "required");
+
+    private static final String       SNAPSHOT_SCRIPT = "var e = arguments[0], names = arguments[1], booleans = arguments[2], r = {};"
+            + "for (var i = 0; i < e.attributes.length; i++) { r[e.attributes[i].name] = e.attributes[i].value; }"
+            + "for (var i = 0; i < names.length; i++) {"
+            + "  var n = names[i], l = n.toLowerCase(), v = e[l === 'class' ? 'className' : l === 'readonly' ? 'readOnly' : n];"
+            + "  if (booleans.indexOf(l) >= 0) { r[n] = (v === undefined ? e.hasAttribute(n) : !!v) ? 'true' : null; }"
+            + "  else if (v === undefined || v === null || typeof v === 'object') { r[n] = e.getAttribute(n); }"
+            + "  else { r[n] = String(v); }"
+            + "}"
+            + "return r;";
+
+    private final Map<String, String> values;
+
+    private AttributesSnapshot(Map<String, String> values) {
+        this.values = Collections.unmodifiableMap(values);
+    }
+
+    /**
+     * Fetches the attributes of the element with one script, or one by one if the driver does not return them.
+     *
+     * @param executor
+     *            The driver of the element.
+     *
+     * @param element
+     *            The element.
+     *
+     * @return The snapshot.
+     */
+    static AttributesSnapshot of(JavascriptExecutor executor, WebElement element) {
+        Object result = executor.executeScript(SNAPSHOT_SCRIPT, element, STANDARD_ATTRIBUTES, BOOLEAN_ATTRIBUTES);
+
+        if (!(result instanceof Map)) {
+            return of(element);
+        }
+
+        Map<String, String> values = new HashMap<>();
+
+        for (Map.Entry<?, ?> entry : ((Map<?, ?>) result).entrySet()) {
+            values.put(String.valueOf(entry.getKey()), entry.getValue() == null ? null : String.valueOf(entry.getValue()));
+        }
+
+        return new AttributesSnapshot(values);
+    }
+
+    /**
+     * Fetches the standard attributes of the element one by one, for drivers that cannot execute scripts.
+     *
+     * @param element
+     *            The element.
+     *
+     * @return The snapshot.
+     */
+    static AttributesSnapshot of(WebElement element) {
+        Map<String, String> values = new HashMap<>();
+
+        for (String name : STANDARD_ATTRIBUTES) {
+            values.put(name, element.getAttribute(name));
+        }
+
+        return new AttributesSnapshot(values);
+    }
+
+    /**
+     * Reads the attributes that have a method in {@link AugmentedWebElement.Attributes} one by one, for implementations that cannot take a snapshot. The attributes whose method fails, like {@link AugmentedWebElement.Attributes#type() type()} of a text input, are left out.
+     *
+     * @param attributes
+     *            The attributes of the element.
+     *
+     * @return The snapshot.
+     */
+    static AttributesSnapshot of(AugmentedWebElement.Attributes attributes) {
+        Map<String, String> values = new HashMap<>();
+
+        put(values, "id", attributes::id);
+        put(values, "name", attributes::name);
+        put(values, "class", () -> String.join(" ", attributes.styleClass()));
+        put(values, "title", attributes::title);
+        put(values, "autofocus", () -> flag(attributes.autoFocus()));
+        put(values, "form", attributes::form);
+        put(values, "formaction", attributes::formAction);
+        put(values, "formenctype", () -> encoding(attributes.formEncType()));
+        put(values, "formmethod", attributes::formMethod);
+        put(values, "formnovalidate", () -> flag(attributes.formNoValidate()));
+        put(values, "formtarget", attributes::formTarget);
+        put(values, "type", () -> attributes.type() == null ? null : attributes.type().name().toLowerCase(Locale.ROOT));
+        put(values, "value", attributes::value);
+        put(values, "defaultValue", attributes::defaultValue);
+        put(values, "checked", () -> flag(attributes.checked()));
+        put(values, "indeterminate", () -> flag(attributes.indeterminate()));
+        put(values, "defaultChecked", () -> flag(attributes.defaultChecked()));
+        put(values, "href", attributes::href);
+        put(values, "target", attributes::target);
+        put(values, "alt", attributes::alt);
+        put(values, "src", attributes::src);
+        put(values, "for", attributes::getFor);
+        put(values, "autocomplete", () -> attributes.autoComplete() ? "on" : "off");
+        put(values, "maxlength", attributes::maxLength);
+        put(values, "pattern", attributes::pattern);
+        put(values, "placeholder", attributes::placeholder);
+        put(values, "readonly", () -> flag(attributes.readOnly()));
+        put(values, "required", () -> flag(attributes.required()));
+        put(values, "size", attributes::size);
+
+        return new AttributesSnapshot(values);
+    }
+
+    /**
+     * Retrieves the value of an attribute.
+     *
+     * @param name
+     *            The attribute name. Besides the standard attributes, only attributes present in the element markup are known.
+     *
+     * @return The value, or {@code null} if it is not set or unknown.
+     */
+    public String get(String name) {
+        String value = values.get(name);
+
+        if (value == null && !values.containsKey(name)) {
+            value = values.get(name.toLowerCase());
+        }
+
+        return value;
+    }
+
+    /**
+     * @return All known attributes. Attributes that are not set are mapped to {@code null}.
+     */
+    public Map<String, String> asMap() {
+        return values;
+    }
+
+    /**
+     * @return This snapshot.
+     */
+    @Override
+    public AttributesSnapshot snapshot() {
+        return this;
+    }
+
+    /**
+     * Does nothing, a snapshot never changes.
+     */
+    @Override
+    public void invalidate() {
+
+    }
+
+    @Override
+    public String toString() {
+        return "AttributesSnapshot(" + values + ")";
+    }
+
+    private static void put(Map<String, String> values, String name, Supplier<?> method) {
+        try {
+            Object value = method.get();
+
+            values.put(name, value == null ? null : String.valueOf(value));
+        } catch (RuntimeException e) {
+            // unknown, like an attribute missing from the snapshot
+        }
+    }
+
+    private static String flag(boolean value) {
+        return value ? "true" : null;
+    }
+
+    private static String encoding(AugmentedWebElement.FormEncType formEncType) {
+        if (formEncType == null) {
+            return null;
+        }
+
+        switch (formEncType) {
+            case MULTIPART_FORM_DATA:
+                return "multipart/form-data";
+
+            case TEXT_PLAIN:
+                return "text/plain";
+
+            default:
+                return "application/x-www-form-urlencoded";
+        }
+    }
+
+    @Override
+    protected String attribute(String name) {
+        return this.get(name);
+    }
+
+}
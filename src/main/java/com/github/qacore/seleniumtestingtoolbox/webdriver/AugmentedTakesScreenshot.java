@@ -1,10 +1,18 @@
 package com.github.qacore.seleniumtestingtoolbox.webdriver;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.Future;
 
+import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriverException;
 
+import com.github.qacore.seleniumtestingtoolbox.webdriver.screenshots.ScreenshotPipeline;
+import com.github.qacore.seleniumtestingtoolbox.webdriver.screenshots.ScreenshotStore;
+
 /**
  * Augmented {@link TakesScreenshot}.
  * 
@@ -33,4 +41,42 @@ public interface AugmentedTakesScreenshot extends TakesScreenshot {
      */
     File takeScreenShot(String fileName) throws WebDriverException;
 
+    /**
+     * Take a snapshot of the browser and write it into a file given by the fileName param in background, with the {@link ScreenshotPipeline#getDefault() default screenshot pipeline}. Only the capture happens on the calling thread.
+     *
+     * @param fileName
+     *            file name for screenshot
+     * 
+     * @return The future of the written file.
+     * 
+     * @throws WebDriverException
+     *             On screenshot failure.
+     *
+     * @since 1.0.2
+     */
+    default Future<Path> takeScreenShotAsync(String fileName) throws WebDriverException {
+        return ScreenshotPipeline.getDefault().capture(this, Paths.get(fileName));
+    }
+
+    /**
+     * Take a snapshot of the browser into a {@link ScreenshotStore}. A snapshot identical to a stored one is not stored again.
+     *
+     * @param store
+     *            The screenshot store.
+     * 
+     * @return The id of the screenshot in the store.
+     * 
+     * @throws WebDriverException
+     *             On screenshot or store failure.
+     *
+     * @since 1.0.2
+     */
+    default String takeScreenShot(ScreenshotStore store) throws WebDriverException {
+        try {
+            return store.store(this.getScreenshotAs(OutputType.BYTES));
+        } catch (IOException e) {
+            throw new WebDriverException(e);
+        }
+    }
+
 }
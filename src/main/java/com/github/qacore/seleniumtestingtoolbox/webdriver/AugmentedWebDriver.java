@@ -1,8 +1,11 @@
 package com.github.qacore.seleniumtestingtoolbox.webdriver;
 
+import java.nio.file.Paths;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import org.openqa.selenium.Alert;
+import org.openqa.selenium.By;
 import org.openqa.selenium.HasCapabilities;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.NoSuchElementException;
@@ -16,7 +19,11 @@ import org.openqa.selenium.interactions.Interactive;
 import org.openqa.selenium.internal.WrapsDriver;
 import org.openqa.selenium.mobile.NetworkConnection;
 
+import com.github.qacore.seleniumtestingtoolbox.webdriver.downloads.DownloadResult;
+import com.github.qacore.seleniumtestingtoolbox.webdriver.downloads.ImageDownloader;
 import com.github.qacore.seleniumtestingtoolbox.webdriver.events.EventsControl;
+import com.github.qacore.seleniumtestingtoolbox.webdriver.html5.JSLocalStorage;
+import com.github.qacore.seleniumtestingtoolbox.webdriver.html5.JSSessionStorage;
 
 import lombok.Data;
 import lombok.NonNull;
@@ -54,6 +61,87 @@ public interface AugmentedWebDriver extends WebDriver, AugmentedSearchContext<Au
      * Open new tab.
      */
     void openNewTab();
+
+    /**
+     * Executes a script that does not open, close or switch windows, like the scripts of this library that read the page or its storage. Unlike {@link #executeScript(String, Object...)}, the window handles known by the driver are kept, so the next switch between windows does not ask the browser for them.
+     * 
+     * @param script
+     *            The JavaScript to execute.
+     * 
+     * @param args
+     *            The arguments to the script.
+     * 
+     * @return The result of the script, like {@link #executeScript(String, Object...)}.
+     * 
+     * @since 1.0.2
+     */
+    default Object executeScriptKeepingWindows(String script, Object... args) {
+        return this.executeScript(script, args);
+    }
+
+    /**
+     * Download the images found by a locator into a directory, concurrently and with the cookies of the browser session.
+     * 
+     * @param locator
+     *            The locator of the images.
+     * 
+     * @param directory
+     *            A directory pathname string.
+     * 
+     * @return The result of each image.
+     * 
+     * @see ImageDownloader
+     * 
+     * @since 1.0.2
+     */
+    default List<DownloadResult> downloadImages(By locator, String directory) {
+        try (ImageDownloader downloader = new ImageDownloader(this)) {
+            return downloader.download(locator, Paths.get(directory));
+        }
+    }
+
+    /**
+     * Download images into a directory, concurrently and with the cookies of the browser session.
+     * 
+     * @param images
+     *            The images.
+     * 
+     * @param directory
+     *            A directory pathname string.
+     * 
+     * @return The result of each image.
+     * 
+     * @see ImageDownloader
+     * 
+     * @since 1.0.2
+     */
+    default List<DownloadResult> downloadImages(List<? extends WebElement> images, String directory) {
+        try (ImageDownloader downloader = new ImageDownloader(this)) {
+            return downloader.download(images, Paths.get(directory));
+        }
+    }
+
+    /**
+     * Retrieves the local storage of the current site, accessed with scripts even if the wrapped driver has a native {@link WebStorage}, so all its items can be read with {@link JSLocalStorage#snapshot()} and replaced with {@link JSLocalStorage#restore(java.util.Map)} in one script each.
+     * 
+     * @return The local storage.
+     * 
+     * @since 1.0.2
+     */
+    default JSLocalStorage getJSLocalStorage() {
+        return new JSLocalStorage((WrapsDriver) this);
+    }
+
+    /**
+     * Retrieves the session storage of the current site, accessed with scripts even if the wrapped driver has a native {@link WebStorage}, so all its items can be read with {@link JSSessionStorage#snapshot()} and replaced with {@link JSSessionStorage#restore(java.util.Map)} in one script each.
+     * 
+     * @return The session storage.
+     * 
+     * @since 1.0.2
+     */
+    default JSSessionStorage getJSSessionStorage() {
+        return new JSSessionStorage((WrapsDriver) this);
+    }
     
     @Override
     AugmentedWebDriver.TargetLocator switchTo();
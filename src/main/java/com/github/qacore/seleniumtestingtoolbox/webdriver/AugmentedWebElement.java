@@ -6,11 +6,18 @@ import java.util.List;
 
 import org.openqa.selenium.By;
 import org.openqa.selenium.Keys;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Rectangle;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.internal.Locatable;
 import org.openqa.selenium.internal.WrapsElement;
 
+import com.github.qacore.seleniumtestingtoolbox.webdriver.screenshots.PageSnapshot;
+
+import lombok.Data;
+
 /**
  * Augmented {@link WebElement}.
  * 
@@ -40,6 +47,37 @@ public interface AugmentedWebElement extends WebElement, AugmentedSearchContext<
      */
     boolean isClicable();
 
+    /**
+     * Retrieves the current state of this element with one remote call, instead of one call per {@link #isDisplayed()}, {@link #isEnabled()}, {@link #isSelected()}, {@link #isChecked()}, {@link #isIndeterminate()} and {@link #getRect()}. The default implementation makes one call per value, for implementations that cannot do better.
+     * 
+     * @return The element state.
+     * 
+     * @since 1.0.2
+     */
+    default State state() {
+        return new State(this.isDisplayed(), this.isEnabled(), this.isSelected(), this.isChecked(), this.isIndeterminate(), this.getRect());
+    }
+
+    /**
+     * Crops the screenshot of this element from a snapshot of the page, instead of taking a screenshot of the element. Cropping many elements from one snapshot costs one screenshot.
+     * 
+     * @param target
+     *            The output type.
+     * 
+     * @param snapshot
+     *            The snapshot of the page, taken after the last change of the page.
+     * 
+     * @return The screenshot of this element.
+     * 
+     * @throws WebDriverException
+     *             If the element is outside of the snapshot.
+     * 
+     * @since 1.0.2
+     */
+    default <X> X getScreenshotAs(OutputType<X> target, PageSnapshot snapshot) throws WebDriverException {
+        return snapshot.crop(this, target);
+    }
+
     /**
      * Open the link in new tab.
      */
@@ -419,6 +457,29 @@ public interface AugmentedWebElement extends WebElement, AugmentedSearchContext<
          */
         int size();
 
+        /**
+         * Retrieves all the attributes of this element with one remote call. The snapshot is kept and returned by the next calls until {@link #invalidate()}.
+         * <p>
+         * The default implementation reads the attributes that have a method in this interface one by one, every time, and leaves out the attributes whose method fails.
+         * </p>
+         * 
+         * @return An immutable snapshot of the attributes of this element.
+         * 
+         * @since 1.0.2
+         */
+        default AttributesSnapshot snapshot() {
+            return AttributesSnapshot.of(this);
+        }
+
+        /**
+         * Discards the kept {@link #snapshot() snapshot}, so the next call fetches the attributes again. The default implementation keeps no snapshot and does nothing.
+         * 
+         * @since 1.0.2
+         */
+        default void invalidate() {
+
+        }
+
     }
 
     /**
@@ -512,6 +573,38 @@ public interface AugmentedWebElement extends WebElement, AugmentedSearchContext<
 
     }
 
+    /**
+     * Immutable state of an {@link AugmentedWebElement}, retrieved by {@link AugmentedWebElement#state()}.
+     * 
+     * @author Leonardo Carmona da Silva
+     *         <ul>
+     *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+     *         <li><a href="https://github.com/leocarmona">https://github.com/leocarmona</a></li>
+     *         <li><a href="mailto:lcdesenv@gmail.com">lcdesenv@gmail.com</a></li>
+     *         </ul>
+     *
+     * @since 1.0.2
+     *
+     */
+    @Data
+    public class State {
+
+        private final boolean   displayed;
+        private final boolean   enabled;
+        private final boolean   selected;
+        private final boolean   checked;
+        private final boolean   indeterminate;
+        private final Rectangle rect;
+
+        /**
+         * @return True if the element is displayed and enabled, false otherwise.
+         */
+        public boolean isClicable() {
+            return displayed && enabled;
+        }
+
+    }
+
     /**
      * The formenctype attribute specifies how form-data should be encoded before sending it to a server. This attribute overrides the form's enctype attribute.
      * 
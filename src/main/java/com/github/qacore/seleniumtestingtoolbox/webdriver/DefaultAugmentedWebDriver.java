@@ -5,13 +5,12 @@ import static lombok.AccessLevel.PROTECTED;
 import java.io.File;
 import java.io.IOException;
 import java.net.URL;
-import java.util.ArrayList;
+import java.nio.file.Paths;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
-import org.apache.commons.io.FileUtils;
 import org.openqa.selenium.By;
 import org.openqa.selenium.Capabilities;
 import org.openqa.selenium.Cookie;
@@ -42,8 +41,7 @@ import org.openqa.selenium.mobile.NetworkConnection;
 import org.openqa.selenium.security.Credentials;
 
 import com.github.qacore.seleniumtestingtoolbox.webdriver.events.EventsRegistry;
-import com.github.qacore.seleniumtestingtoolbox.webdriver.html5.JSLocalStorage;
-import com.github.qacore.seleniumtestingtoolbox.webdriver.html5.JSSessionStorage;
+import com.github.qacore.seleniumtestingtoolbox.webdriver.screenshots.ScreenshotPipeline;
 
 import lombok.Getter;
 import lombok.Setter;
@@ -62,15 +60,16 @@ import lombok.ToString;
  * @since 1.0.0
  *
  */
-@ToString(exclude = { "eventsRegistry" })
+@ToString(exclude = { "eventsRegistry", "windows" })
 public class DefaultAugmentedWebDriver implements AugmentedWebDriver {
 
     private final EventsRegistry eventsRegistry = new EventsRegistry();
 
     @Getter
-    @Setter(PROTECTED)
     private WebDriver            wrappedDriver;
 
+    private WindowRegistry       windows;
+
     @Getter(PROTECTED)
     @Setter(PROTECTED)
     private TargetLocator        targetLocator;
@@ -84,7 +83,10 @@ public class DefaultAugmentedWebDriver implements AugmentedWebDriver {
     private Options              options;
 
     public DefaultAugmentedWebDriver(WebDriver webDriver) {
-        this.wrappedDriver = webDriver;
+        this.setWrappedDriver(webDriver);
+        this.targetLocator = new DefaultTargetLocator();
+        this.navigation = new DefaultNavigation();
+        this.options = new DefaultOptions();
     }
 
     @Override
@@ -99,26 +101,20 @@ public class DefaultAugmentedWebDriver implements AugmentedWebDriver {
 
     @Override
     public void openNewTab() {
-        synchronized (this.getClass()) {
-            WebDriver driver = this.getWrappedDriver();
-            Set<String> initialTabs = driver.getWindowHandles();
-
-            this.executeScript("window.open('', '_blank');");
-
-            Set<String> tabs = driver.getWindowHandles();
-
-            tabs.removeAll(initialTabs);
-            driver.switchTo().window(tabs.iterator().next());
-        }
+        this.windows().openAndSwitch(this.getWrappedDriver(), () -> this.executeScript("window.open('', '_blank');"));
     }
 
     @Override
     public void get(String url) {
-        this.events().dispatch(e -> e.beforeNavigateTo(url, this));
+        if (!this.events().isEmpty()) {
+            this.events().dispatch(e -> e.beforeNavigateTo(url, this));
+        }
 
         this.getWrappedDriver().get(url);
 
-        this.events().dispatch(e -> e.afterNavigateTo(url, this));
+        if (!this.events().isEmpty()) {
+            this.events().dispatch(e -> e.afterNavigateTo(url, this));
+        }
     }
 
     @Override
@@ -133,22 +129,30 @@ public class DefaultAugmentedWebDriver implements AugmentedWebDriver {
 
     @Override
     public List<AugmentedWebElement> findElements(By by, String name) {
-        this.events().dispatch(e -> e.beforeFindBy(by, null, this.getWrappedDriver()));
+        if (!this.events().isEmpty()) {
+            this.events().dispatch(e -> e.beforeFindBy(by, null, this.getWrappedDriver()));
+        }
 
-        List<AugmentedWebElement> elements = SearchContextHolder.findElements(this.getWrappedDriver(), by, name, this.events());
+        List<AugmentedWebElement> elements = SearchContextHolder.findElements(this.getWrappedDriver(), by, name, this.events(), this.windows());
 
-        this.events().dispatch(e -> e.afterFindBy(by, null, this.getWrappedDriver()));
+        if (!this.events().isEmpty()) {
+            this.events().dispatch(e -> e.afterFindBy(by, null, this.getWrappedDriver()));
+        }
 
         return elements;
     }
 
     @Override
     public AugmentedWebElement findElement(By by, String name) {
-        this.events().dispatch(e -> e.beforeFindBy(by, null, this.getWrappedDriver()));
+        if (!this.events().isEmpty()) {
+            this.events().dispatch(e -> e.beforeFindBy(by, null, this.getWrappedDriver()));
+        }
 
-        DefaultAugmentedWebElement element = new DefaultAugmentedWebElement(this.getWrappedDriver().findElement(by), name, this.events());
+        DefaultAugmentedWebElement element = new DefaultAugmentedWebElement(this.getWrappedDriver().findElement(by), name, this.events(), this.windows());
 
-        this.events().dispatch(e -> e.afterFindBy(by, null, this.getWrappedDriver()));
+        if (!this.events().isEmpty()) {
+            this.events().dispatch(e -> e.afterFindBy(by, null, this.getWrappedDriver()));
+        }
 
         return element;
     }
@@ -171,22 +175,28 @@ public class DefaultAugmentedWebDriver implements AugmentedWebDriver {
 
     @Override
     public void close() {
-        this.getWrappedDriver().close();
+        this.windows().close(this.getWrappedDriver());
     }
 
     @Override
     public void quit() {
+        this.events().sync();
+        this.windows().clear();
         this.getWrappedDriver().quit();
     }
 
     @Override
     public Set<String> getWindowHandles() {
-        return this.getWrappedDriver().getWindowHandles();
+        Set<String> windowHandles = this.getWrappedDriver().getWindowHandles();
+
+        this.windows().refresh(windowHandles);
+
+        return windowHandles;
     }
 
     @Override
     public String getWindowHandle() {
-        return this.getWindowHandle();
+        return this.windows().current(this.getWrappedDriver());
     }
 
     @Override
@@ -206,14 +216,29 @@ public class DefaultAugmentedWebDriver implements AugmentedWebDriver {
 
     @Override
     public Object executeScript(String script, Object... args) {
+        return this.executeScript(script, args, false);
+    }
+
+    @Override
+    public Object executeScriptKeepingWindows(String script, Object... args) {
+        return this.executeScript(script, args, true);
+    }
+
+    @Override
+    public Object executeAsyncScript(String script, Object... args) {
         WebDriver driver = this.getWrappedDriver();
 
         if (driver instanceof JavascriptExecutor) {
-            this.events().dispatch(e -> e.beforeScript(script, driver));
+            if (!this.events().isEmpty()) {
+                this.events().dispatch(e -> e.beforeScript(script, driver));
+            }
 
-            Object result = ((JavascriptExecutor) driver).executeScript(script, args);
+            Object result = ((JavascriptExecutor) driver).executeAsyncScript(script, args);
+            this.windows().invalidate();
 
-            this.events().dispatch(e -> e.afterScript(script, driver));
+            if (!this.events().isEmpty()) {
+                this.events().dispatch(e -> e.afterScript(script, driver));
+            }
 
             return result;
         }
@@ -221,16 +246,26 @@ public class DefaultAugmentedWebDriver implements AugmentedWebDriver {
         throw new UnsupportedOperationException("Wrapped driver instance does not support executing javascript");
     }
 
-    @Override
-    public Object executeAsyncScript(String script, Object... args) {
+    /**
+     * Executes a script, dispatching its events. Scripts of the user may open or close windows, so they invalidate the window registry unless told otherwise.
+     */
+    private Object executeScript(String script, Object[] args, boolean keepWindows) {
         WebDriver driver = this.getWrappedDriver();
 
         if (driver instanceof JavascriptExecutor) {
-            this.events().dispatch(e -> e.beforeScript(script, driver));
+            if (!this.events().isEmpty()) {
+                this.events().dispatch(e -> e.beforeScript(script, driver));
+            }
 
-            Object result = ((JavascriptExecutor) driver).executeAsyncScript(script, args);
+            Object result = ((JavascriptExecutor) driver).executeScript(script, args);
 
-            this.events().dispatch(e -> e.afterScript(script, driver));
+            if (!keepWindows) {
+                this.windows().invalidate();
+            }
+
+            if (!this.events().isEmpty()) {
+                this.events().dispatch(e -> e.afterScript(script, driver));
+            }
 
             return result;
         }
@@ -240,18 +275,13 @@ public class DefaultAugmentedWebDriver implements AugmentedWebDriver {
 
     @Override
     public File takeScreenShot(String fileName) throws WebDriverException {
-        File scrFile = this.getScreenshotAs(OutputType.FILE);
-        File destFile = new File(fileName);
+        byte[] screenshot = this.getScreenshotAs(OutputType.BYTES);
 
         try {
-            FileUtils.copyDirectory(scrFile, destFile);
+            return ScreenshotPipeline.write(screenshot, Paths.get(fileName), false).toFile();
         } catch (IOException e) {
             throw new WebDriverException(e);
-        } finally {
-            FileUtils.deleteQuietly(scrFile);
         }
-
-        return destFile;
     }
 
     @Override
@@ -346,7 +376,7 @@ public class DefaultAugmentedWebDriver implements AugmentedWebDriver {
             return ((WebStorage) driver).getLocalStorage();
         }
 
-        return new JSLocalStorage((WrapsDriver) this);
+        return this.getJSLocalStorage();
     }
 
     @Override
@@ -357,7 +387,7 @@ public class DefaultAugmentedWebDriver implements AugmentedWebDriver {
             return ((WebStorage) driver).getSessionStorage();
         }
 
-        return new JSSessionStorage((WrapsDriver) this);
+        return this.getJSSessionStorage();
     }
 
     @Override
@@ -404,6 +434,24 @@ public class DefaultAugmentedWebDriver implements AugmentedWebDriver {
         }
     }
 
+    /**
+     * @return The registry of window handles of this session.
+     */
+    protected WindowRegistry windows() {
+        return windows;
+    }
+
+    /**
+     * Sets the wrapped driver and looks up the registry of window handles of its session.
+     *
+     * @param wrappedDriver
+     *            The wrapped driver.
+     */
+    protected void setWrappedDriver(WebDriver wrappedDriver) {
+        this.wrappedDriver = wrappedDriver;
+        this.windows = wrappedDriver == null ? null : WindowRegistry.of(wrappedDriver);
+    }
+
     /**
      * Default {@link AugmentedWebDriver.TargetLocator}.
      * 
@@ -464,31 +512,25 @@ public class DefaultAugmentedWebDriver implements AugmentedWebDriver {
 
         @Override
         public AugmentedWebDriver window(String nameOrHandle) {
-            getWrappedDriver().switchTo().window(nameOrHandle);
+            windows().switchTo(getWrappedDriver(), nameOrHandle);
 
             return DefaultAugmentedWebDriver.this;
         }
 
         @Override
         public AugmentedWebDriver window(int index) {
-            WebDriver webDriver = getWrappedDriver();
-            Set<String> windowHandles = webDriver.getWindowHandles();
-
-            if (windowHandles.size() > index) {
-                throw new WebDriverException("Invalid tab index '" + index + "'. Current tab count '" + windowHandles.size() + "'.");
-            }
-
-            webDriver.switchTo().window(new ArrayList<>(windowHandles).get(index));
+            windows().switchTo(getWrappedDriver(), index);
 
             return DefaultAugmentedWebDriver.this;
         }
 
         @Override
         public String openNewAndSwitch() {
-            String windowHandle = getWrappedDriver().getWindowHandle();
-            
-            executeScript("window.open('', '_blank')");
-            last();
+            WebDriver webDriver = getWrappedDriver();
+            WindowRegistry windows = windows();
+            String windowHandle = windows.current(webDriver);
+
+            windows.openAndSwitch(webDriver, () -> executeScript("window.open('', '_blank')"));
 
             return windowHandle;
         }
@@ -496,9 +538,10 @@ public class DefaultAugmentedWebDriver implements AugmentedWebDriver {
         @Override
         public String first() {
             WebDriver webDriver = getWrappedDriver();
-            String windowHandle = webDriver.getWindowHandle();
+            WindowRegistry windows = windows();
+            String windowHandle = windows.current(webDriver);
 
-            webDriver.switchTo().window(new ArrayList<>(webDriver.getWindowHandles()).get(0));
+            windows.switchTo(webDriver, 0);
 
             return windowHandle;
         }
@@ -506,10 +549,10 @@ public class DefaultAugmentedWebDriver implements AugmentedWebDriver {
         @Override
         public String last() {
             WebDriver webDriver = getWrappedDriver();
-            String windowHandle = webDriver.getWindowHandle();
-            List<String> listWindows = new ArrayList<>(webDriver.getWindowHandles());
+            WindowRegistry windows = windows();
+            String windowHandle = windows.current(webDriver);
 
-            webDriver.switchTo().window(listWindows.get(listWindows.size() - 1));
+            windows.switchTo(webDriver, -1);
 
             return windowHandle;
         }
@@ -541,29 +584,41 @@ public class DefaultAugmentedWebDriver implements AugmentedWebDriver {
 
         @Override
         public void back() {
-            events().dispatch(e -> e.beforeNavigateBack(DefaultAugmentedWebDriver.this));
+            if (!events().isEmpty()) {
+                events().dispatch(e -> e.beforeNavigateBack(DefaultAugmentedWebDriver.this));
+            }
 
             getWrappedDriver().navigate().back();
 
-            events().dispatch(e -> e.afterNavigateBack(DefaultAugmentedWebDriver.this));
+            if (!events().isEmpty()) {
+                events().dispatch(e -> e.afterNavigateBack(DefaultAugmentedWebDriver.this));
+            }
         }
 
         @Override
         public void forward() {
-            events().dispatch(e -> e.beforeNavigateForward(DefaultAugmentedWebDriver.this));
+            if (!events().isEmpty()) {
+                events().dispatch(e -> e.beforeNavigateForward(DefaultAugmentedWebDriver.this));
+            }
 
             getWrappedDriver().navigate().forward();
 
-            events().dispatch(e -> e.afterNavigateForward(DefaultAugmentedWebDriver.this));
+            if (!events().isEmpty()) {
+                events().dispatch(e -> e.afterNavigateForward(DefaultAugmentedWebDriver.this));
+            }
         }
 
         @Override
         public void to(String url) {
-            events().dispatch(e -> e.beforeNavigateTo(url, DefaultAugmentedWebDriver.this));
+            if (!events().isEmpty()) {
+                events().dispatch(e -> e.beforeNavigateTo(url, DefaultAugmentedWebDriver.this));
+            }
 
             getWrappedDriver().navigate().to(url);
 
-            events().dispatch(e -> e.afterNavigateTo(url, DefaultAugmentedWebDriver.this));
+            if (!events().isEmpty()) {
+                events().dispatch(e -> e.afterNavigateTo(url, DefaultAugmentedWebDriver.this));
+            }
         }
 
         @Override
@@ -573,11 +628,15 @@ public class DefaultAugmentedWebDriver implements AugmentedWebDriver {
 
         @Override
         public void refresh() {
-            events().dispatch(e -> e.beforeNavigateRefresh(DefaultAugmentedWebDriver.this));
+            if (!events().isEmpty()) {
+                events().dispatch(e -> e.beforeNavigateRefresh(DefaultAugmentedWebDriver.this));
+            }
 
             getWrappedDriver().navigate().refresh();
 
-            events().dispatch(e -> e.afterNavigateRefresh(DefaultAugmentedWebDriver.this));
+            if (!events().isEmpty()) {
+                events().dispatch(e -> e.afterNavigateRefresh(DefaultAugmentedWebDriver.this));
+            }
         }
 
     }
@@ -840,20 +899,29 @@ public class DefaultAugmentedWebDriver implements AugmentedWebDriver {
 
         @Override
         public void dismiss() {
-            events().dispatch(e -> e.beforeAlertDismiss(DefaultAugmentedWebDriver.this));
+            if (!events().isEmpty()) {
+                events().dispatch(e -> e.beforeAlertDismiss(DefaultAugmentedWebDriver.this));
+            }
 
             getWrappedDriver().switchTo().alert().dismiss();
 
-            events().dispatch(e -> e.afterAlertDismiss(DefaultAugmentedWebDriver.this));
+            if (!events().isEmpty()) {
+                events().dispatch(e -> e.afterAlertDismiss(DefaultAugmentedWebDriver.this));
+            }
         }
 
         @Override
         public void accept() {
-            events().dispatch(e -> e.beforeAlertAccept(DefaultAugmentedWebDriver.this));
+            if (!events().isEmpty()) {
+                events().dispatch(e -> e.beforeAlertAccept(DefaultAugmentedWebDriver.this));
+            }
 
             getWrappedDriver().switchTo().alert().accept();
+            windows().invalidate();
 
-            events().dispatch(e -> e.afterAlertAccept(DefaultAugmentedWebDriver.this));
+            if (!events().isEmpty()) {
+                events().dispatch(e -> e.afterAlertAccept(DefaultAugmentedWebDriver.this));
+            }
         }
 
         @Override
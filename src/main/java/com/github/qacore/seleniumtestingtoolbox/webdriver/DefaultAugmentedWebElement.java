@@ -2,12 +2,8 @@ package com.github.qacore.seleniumtestingtoolbox.webdriver;
 
 import java.io.File;
 import java.io.IOException;
-import java.net.MalformedURLException;
 import java.net.URL;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 import org.apache.commons.io.FileUtils;
 import org.openqa.selenium.By;
@@ -26,7 +22,6 @@ import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.interactions.internal.Coordinates;
 import org.openqa.selenium.internal.Locatable;
 import org.openqa.selenium.internal.WrapsDriver;
-import org.openqa.selenium.support.ui.Select;
 
 import com.github.qacore.seleniumtestingtoolbox.webdriver.events.EventsControl;
 import com.github.qacore.seleniumtestingtoolbox.webdriver.events.EventsRegistry;
@@ -48,37 +43,76 @@ import lombok.ToString;
  */
 public class DefaultAugmentedWebElement implements AugmentedWebElement, WrapsDriver, EventsControl {
 
-    private WebElement     wrappedElement;
-    private String         name;
-    private EventsRegistry events;
-    private Actions        actions;
-    private WebDriver      wrappedDriver;
+    private static final String STATE_SCRIPT = "var e = arguments[0], s = window.getComputedStyle(e), r = e.getBoundingClientRect(),"
+            + " d = e.getClientRects().length > 0 && s.visibility !== 'hidden' && s.visibility !== 'collapse';"
+            + "for (var p = e; d && p && p.nodeType === 1; p = p.parentElement) { d = window.getComputedStyle(p).opacity !== '0'; }"
+            + "return [d && s.display !== 'none', !(e.matches && e.matches(':disabled')), !!(e.selected || e.checked), !!e.checked, !!e.indeterminate,"
+            + " r.left + window.pageXOffset, r.top + window.pageYOffset, r.width, r.height];";
 
-    private Attributes     attributes;
-    private Axes           axes;
+    private WebElement              wrappedElement;
+    private String                  name;
+    private volatile EventsRegistry events;
+    private volatile EventsRegistry ownEvents;
+    private Actions                 actions;
+    private WebDriver               wrappedDriver;
+    private WindowRegistry          windows;
 
-    public DefaultAugmentedWebElement(WebElement wrappedElement, String name, EventsRegistry events) {
-        this.wrappedElement = wrappedElement;
+    private Attributes              attributes;
+    private Axes                    axes;
+    private JSSelect                select;
 
-        if (name == null) {
-            this.name = wrappedElement.toString();
-        } else {
-            this.name = name;
-        }
+    public DefaultAugmentedWebElement(WebElement wrappedElement, String name, EventsRegistry events) {
+        this(wrappedElement, name, events, null);
+    }
 
-        if (events == null) {
-            this.events = new EventsRegistry();
-        } else {
-            this.events = events;
-        }
+    /**
+     * Creates an element that shares the window registry of the driver or of the element that found it.
+     *
+     * @param wrappedElement
+     *            The element.
+     *
+     * @param name
+     *            The name of the element.
+     *
+     * @param events
+     *            The {@link EventsRegistry}.
+     *
+     * @param windows
+     *            The window registry of the session, or {@code null} to look it up on first use.
+     *
+     * @since 1.0.2
+     */
+    DefaultAugmentedWebElement(WebElement wrappedElement, String name, EventsRegistry events, WindowRegistry windows) {
+        this.wrappedElement = wrappedElement;
+        this.name = name;
+        this.events = events == null ? EventsRegistry.empty() : events;
+        this.windows = windows;
 
         if (wrappedElement instanceof WrapsDriver) {
             wrappedDriver = ((WrapsDriver) wrappedElement).getWrappedDriver();
-            actions = new Actions(wrappedDriver);
         }
+    }
+
+    /**
+     * Creates an element found by a driver outside of its search methods, e.g. by a script, sharing the {@link EventsRegistry} and the window registry of the driver.
+     *
+     * @param wrappedElement
+     *            The element.
+     *
+     * @param name
+     *            The name of the element.
+     *
+     * @param driver
+     *            The driver that found the element.
+     *
+     * @return The augmented element.
+     *
+     * @since 1.0.2
+     */
+    public static DefaultAugmentedWebElement of(WebElement wrappedElement, String name, AugmentedWebDriver driver) {
+        WindowRegistry windows = driver instanceof DefaultAugmentedWebDriver ? ((DefaultAugmentedWebDriver) driver).windows() : null;
 
-        this.attributes = new DefaultAttributes();
-        this.axes = new DefaultAxes();
+        return new DefaultAugmentedWebElement(wrappedElement, name, driver.events(), windows);
     }
 
     @Override
@@ -94,90 +128,97 @@ public class DefaultAugmentedWebElement implements AugmentedWebElement, WrapsDri
 
     @Override
     public boolean isClicable() {
-        return this.isDisplayed() && this.isEnabled();
+        return this.state().isClicable();
     }
 
     @Override
-    public void openLinkInNewTab() {
-        synchronized (this.getClass()) {
-            WebDriver driver = this.getWrappedDriver();
-            Set<String> initialTabs = driver.getWindowHandles();
-
-            this.openLink();
+    public State state() {
+        WebDriver driver = this.getWrappedDriver();
 
-            Set<String> tabs = driver.getWindowHandles();
-            tabs.removeAll(initialTabs);
+        Object result = driver instanceof JavascriptExecutor ? ((JavascriptExecutor) driver).executeScript(STATE_SCRIPT, this.getWrappedElement()) : null;
 
-            driver.switchTo().window(tabs.iterator().next());
+        if (!(result instanceof List) || ((List<?>) result).size() < 9) {
+            return AugmentedWebElement.super.state();
         }
+
+        List<?> state = (List<?>) result;
+        Rectangle rect = new Rectangle(toInt(state.get(5)), toInt(state.get(6)), toInt(state.get(8)), toInt(state.get(7)));
+
+        return new State(Boolean.TRUE.equals(state.get(0)), Boolean.TRUE.equals(state.get(1)), Boolean.TRUE.equals(state.get(2)), Boolean.TRUE.equals(state.get(3)), Boolean.TRUE.equals(state.get(4)), rect);
+    }
+
+    @Override
+    public void openLinkInNewTab() {
+        this.windows().openAndSwitch(this.getWrappedDriver(), this::openLink);
     }
 
     @Override
     public void openLink() {
         this.getWrappedElement().click();
+        this.invalidateWindows();
     }
 
     @Override
     public boolean isMultiple() {
-        return new Select(this).isMultiple();
+        return this.select().isMultiple();
     }
 
     @Override
     public List<AugmentedWebElement> getOptions() {
-        return new Select(this).getOptions().stream().map(w -> new DefaultAugmentedWebElement(w, w.getText(), this.events())).collect(Collectors.toList());
+        return this.select().getOptions();
     }
 
     @Override
     public List<AugmentedWebElement> getAllSelectedOptions() {
-        return new Select(this).getAllSelectedOptions().stream().map(w -> new DefaultAugmentedWebElement(w, w.getText(), this.events())).collect(Collectors.toList());
+        return this.select().getAllSelectedOptions();
     }
 
     @Override
     public AugmentedWebElement getFirstSelectedOption() {
-        WebElement element = new Select(this).getFirstSelectedOption();
-
-        return new DefaultAugmentedWebElement(element, element.getText(), this.events());
+        return this.select().getFirstSelectedOption();
     }
 
     @Override
     public void selectByVisibleText(String text) {
-        new Select(this).selectByVisibleText(text);
+        this.select().selectByVisibleText(text);
     }
 
     @Override
     public void selectByIndex(int index) {
-        new Select(this).selectByIndex(index);
+        this.select().selectByIndex(index);
     }
 
     @Override
     public void selectByValue(String value) {
-        new Select(this).selectByValue(value);
+        this.select().selectByValue(value);
     }
 
     @Override
     public void deselectAll() {
-        new Select(this).deselectAll();
+        this.select().deselectAll();
     }
 
     @Override
     public void deselectByValue(String value) {
-        new Select(this).deselectByValue(value);
+        this.select().deselectByValue(value);
     }
 
     @Override
     public void deselectByIndex(int index) {
-        new Select(this).deselectByIndex(index);
+        this.select().deselectByIndex(index);
     }
 
     @Override
     public void deselectByVisibleText(String text) {
-        new Select(this).deselectByVisibleText(text);
+        this.select().deselectByVisibleText(text);
     }
 
     @Override
     public void check() {
-        if (!this.isChecked()) {
-            if (this.isClicable()) {
+        State state = this.state();
+
+        if (!state.isChecked()) {
+            if (state.isClicable()) {
                 this.click();
             } else {
                 throw new ElementNotInteractableException("Element is not clicable");
@@ -187,8 +228,10 @@ public class DefaultAugmentedWebElement implements AugmentedWebElement, WrapsDri
 
     @Override
     public void uncheck() {
-        if (this.isChecked()) {
-            if (this.isClicable()) {
+        State state = this.state();
+
+        if (state.isChecked()) {
+            if (state.isClicable()) {
                 this.click();
             } else {
                 throw new ElementNotInteractableException("Element is not clicable");
@@ -198,8 +241,10 @@ public class DefaultAugmentedWebElement implements AugmentedWebElement, WrapsDri
 
     @Override
     public void indeterminate() {
-        if (!this.isIndeterminate()) {
-            if (this.isClicable()) {
+        State state = this.state();
+
+        if (!state.isIndeterminate()) {
+            if (state.isClicable()) {
                 ((JavascriptExecutor) this.getWrappedDriver()).executeScript("arguments[0].indeterminate = true", this.getWrappedElement());
             } else {
                 throw new ElementNotInteractableException("Element is not clicable");
@@ -252,34 +297,49 @@ public class DefaultAugmentedWebElement implements AugmentedWebElement, WrapsDri
 
     @Override
     public void click() {
-        this.events().dispatch(e -> e.beforeClickOn(this, this.getWrappedDriver()));
+        if (!this.registry().isEmpty()) {
+            this.registry().dispatch(e -> e.beforeClickOn(this, this.getWrappedDriver()));
+        }
 
         this.getWrappedElement().click();
+        this.invalidateWindows();
 
-        this.events().dispatch(e -> e.afterClickOn(this, this.getWrappedDriver()));
+        if (!this.registry().isEmpty()) {
+            this.registry().dispatch(e -> e.afterClickOn(this, this.getWrappedDriver()));
+        }
     }
 
     @Override
     public void submit() {
         this.getWrappedElement().click();
+        this.invalidateWindows();
     }
 
     @Override
     public void sendKeys(CharSequence... keysToSend) {
-        this.events().dispatch(e -> e.beforeChangeValueOf(this, this.getWrappedDriver(), keysToSend));
+        if (!this.registry().isEmpty()) {
+            this.registry().dispatch(e -> e.beforeChangeValueOf(this, this.getWrappedDriver(), keysToSend));
+        }
 
         this.getWrappedElement().sendKeys(keysToSend);
+        this.invalidateWindows();
 
-        this.events().dispatch(e -> e.afterChangeValueOf(this, this.getWrappedDriver(), keysToSend));
+        if (!this.registry().isEmpty()) {
+            this.registry().dispatch(e -> e.afterChangeValueOf(this, this.getWrappedDriver(), keysToSend));
+        }
     }
 
     @Override
     public void clear() {
-        this.events().dispatch(e -> e.beforeChangeValueOf(this, this.getWrappedDriver(), null));
+        if (!this.registry().isEmpty()) {
+            this.registry().dispatch(e -> e.beforeChangeValueOf(this, this.getWrappedDriver(), null));
+        }
 
         this.getWrappedElement().clear();
 
-        this.events().dispatch(e -> e.afterChangeValueOf(this, this.getWrappedDriver(), null));
+        if (!this.registry().isEmpty()) {
+            this.registry().dispatch(e -> e.afterChangeValueOf(this, this.getWrappedDriver(), null));
+        }
     }
 
     @Override
@@ -309,22 +369,30 @@ public class DefaultAugmentedWebElement implements AugmentedWebElement, WrapsDri
 
     @Override
     public List<AugmentedWebElement> findElements(By by, String name) {
-        this.events().dispatch(e -> e.beforeFindBy(by, this, this.getWrappedDriver()));
+        if (!this.registry().isEmpty()) {
+            this.registry().dispatch(e -> e.beforeFindBy(by, this, this.getWrappedDriver()));
+        }
 
-        List<AugmentedWebElement> elements = SearchContextHolder.findElements(this.getWrappedElement(), by, name, this.events());
+        List<AugmentedWebElement> elements = SearchContextHolder.findElements(this.getWrappedElement(), by, name, this.registry(), this.windows());
 
-        this.events().dispatch(e -> e.afterFindBy(by, this, this.getWrappedDriver()));
+        if (!this.registry().isEmpty()) {
+            this.registry().dispatch(e -> e.afterFindBy(by, this, this.getWrappedDriver()));
+        }
 
         return elements;
     }
 
     @Override
     public AugmentedWebElement findElement(By by, String name) {
-        this.events().dispatch(e -> e.beforeFindBy(by, this, this.getWrappedDriver()));
+        if (!this.registry().isEmpty()) {
+            this.registry().dispatch(e -> e.beforeFindBy(by, this, this.getWrappedDriver()));
+        }
 
-        DefaultAugmentedWebElement element = new DefaultAugmentedWebElement(this.getWrappedElement().findElement(by), name, this.events());
+        DefaultAugmentedWebElement element = new DefaultAugmentedWebElement(this.getWrappedElement().findElement(by), name, this.registry(), this.windows());
 
-        this.events().dispatch(e -> e.afterFindBy(by, this, this.getWrappedDriver()));
+        if (!this.registry().isEmpty()) {
+            this.registry().dispatch(e -> e.afterFindBy(by, this, this.getWrappedDriver()));
+        }
 
         return element;
     }
@@ -373,16 +441,19 @@ public class DefaultAugmentedWebElement implements AugmentedWebElement, WrapsDri
     @Override
     public void clickAndHold() {
         this.actions().clickAndHold(this.getWrappedElement()).perform();
+        this.invalidateWindows();
     }
 
     @Override
     public void contextClick() {
         this.actions().contextClick(this.getWrappedElement()).perform();
+        this.invalidateWindows();
     }
 
     @Override
     public void doubleClick() {
         this.actions().doubleClick(this.getWrappedElement()).perform();
+        this.invalidateWindows();
     }
 
     @Override
@@ -418,10 +489,40 @@ public class DefaultAugmentedWebElement implements AugmentedWebElement, WrapsDri
     @Override
     public void release() {
         this.actions().release(this.getWrappedElement()).perform();
+        this.invalidateWindows();
     }
 
+    /**
+     * Retrieves the registry of the listeners of this element. It is created on the first call, chained to the registry the element was created with, usually the registry of its driver, so the listeners registered on the driver keep seeing the events of this element.
+     * 
+     * @return The event registry of this element.
+     */
     @Override
     public EventsRegistry events() {
+        EventsRegistry ownEvents = this.ownEvents;
+
+        if (ownEvents == null) {
+            synchronized (this) {
+                ownEvents = this.ownEvents;
+
+                if (ownEvents == null) {
+                    ownEvents = new EventsRegistry(events);
+
+                    this.events = ownEvents;
+                    this.ownEvents = ownEvents;
+                }
+            }
+        }
+
+        return ownEvents;
+    }
+
+    /**
+     * Retrieves the registry the events of this element are dispatched to: the registry the element was created with, shared with its driver or the {@link EventsRegistry#empty() empty registry}, until {@link #events()} is called.
+     * 
+     * @return The current event registry.
+     */
+    EventsRegistry registry() {
         return events;
     }
 
@@ -437,19 +538,42 @@ public class DefaultAugmentedWebElement implements AugmentedWebElement, WrapsDri
 
     @Override
     public Attributes attributes() {
+        if (attributes == null) {
+            attributes = new DefaultAttributes();
+        }
+
         return attributes;
     }
 
     @Override
     public Axes axes() {
+        if (axes == null) {
+            axes = new DefaultAxes();
+        }
+
         return axes;
     }
 
     @Override
     public String name() {
+        if (name == null) {
+            return this.getWrappedElement().toString();
+        }
+
         return name;
     }
 
+    /**
+     * Checks if the element was given a name, like the @{@link com.github.qacore.seleniumtestingtoolbox.annotations.Name Name} of a page field, instead of being named after the wrapped element.
+     * 
+     * @return {@code true} if the element has a name. Otherwise, {@code false}.
+     * 
+     * @since 1.0.2
+     */
+    public boolean isNamed() {
+        return name != null;
+    }
+
     @Override
     public Coordinates getCoordinates() {
         WebElement element = this.getWrappedElement();
@@ -461,10 +585,48 @@ public class DefaultAugmentedWebElement implements AugmentedWebElement, WrapsDri
         return null;
     }
 
+    private static int toInt(Object number) {
+        return (int) Math.round(((Number) number).doubleValue());
+    }
+
     protected Actions actions() {
+        if (actions == null && wrappedDriver != null) {
+            actions = new Actions(wrappedDriver);
+        }
+
         return actions;
     }
 
+    private JSSelect select() {
+        if (select == null) {
+            select = new JSSelect(this);
+        }
+
+        return select;
+    }
+
+    /**
+     * Marks the window handles of the session as possibly stale, after an action that may open or close windows.
+     */
+    protected void invalidateWindows() {
+        WindowRegistry windows = this.windows();
+
+        if (windows != null) {
+            windows.invalidate();
+        }
+    }
+
+    /**
+     * @return The registry of window handles of the session, or {@code null} if the element does not know its driver.
+     */
+    WindowRegistry windows() {
+        if (windows == null && wrappedDriver != null) {
+            windows = WindowRegistry.of(wrappedDriver);
+        }
+
+        return windows;
+    }
+
     @Override
     public String toString() {
         return this.name();
@@ -483,219 +645,37 @@ public class DefaultAugmentedWebElement implements AugmentedWebElement, WrapsDri
      * @since 1.0.1
      *
      */
-    protected class DefaultAttributes implements AugmentedWebElement.Attributes {
-
-        @Override
-        public String id() {
-            return getAttribute("id");
-        }
+    protected class DefaultAttributes extends AbstractAttributes {
 
-        @Override
-        public String name() {
-            return getAttribute("name");
-        }
+        private volatile AttributesSnapshot snapshot;
 
         @Override
-        public List<String> styleClass() {
-            String styleClass = getAttribute("class");
+        public AttributesSnapshot snapshot() {
+            AttributesSnapshot snapshot = this.snapshot;
 
-            if (styleClass == null) {
-                return new ArrayList<>();
-            }
+            if (snapshot == null) {
+                WebDriver driver = getWrappedDriver();
 
-            List<String> styleClasses = new ArrayList<>();
-
-            for (String s : styleClass.trim().split(" ")) {
-                if (!"".equals(s)) {
-                    styleClasses.add(s);
+                if (driver instanceof JavascriptExecutor) {
+                    snapshot = AttributesSnapshot.of((JavascriptExecutor) driver, getWrappedElement());
+                } else {
+                    snapshot = AttributesSnapshot.of(getWrappedElement());
                 }
-            }
-
-            return styleClasses;
-        }
-
-        @Override
-        public String title() {
-            return getAttribute("title");
-        }
-
-        @Override
-        public boolean autoFocus() {
-            return "true".equals(getAttribute("autofocus"));
-        }
-
-        @Override
-        public String form() {
-            return getAttribute("form");
-        }
-
-        @Override
-        public URL formAction() {
-            String formAction = getAttribute("formaction");
-
-            if (formAction == null) {
-                return null;
-            }
-
-            try {
-                return new URL(formAction);
-            } catch (MalformedURLException e) {
-                throw new WebDriverException(e);
-            }
-        }
-
-        @Override
-        public FormEncType formEncType() {
-            String formEncType = getAttribute("formenctype");
-
-            if (formEncType == null) {
-                return null;
-            }
-
-            switch (formEncType.trim().toLowerCase()) {
-                case "application/x-www-form-urlencoded":
-                    return FormEncType.APPLICATION_X_WWW_FORM_ENCODED;
-
-                case "multipart/form-data":
-                    return FormEncType.MULTIPART_FORM_DATA;
-
-                case "text/plain":
-                    return FormEncType.TEXT_PLAIN;
-
-                default:
-                    throw new IllegalArgumentException(formEncType);
-            }
-        }
-
-        @Override
-        public String formMethod() {
-            return getAttribute("formmethod");
-        }
-
-        @Override
-        public boolean formNoValidate() {
-            return "true".equals(getAttribute("formnovalidate"));
-        }
-
-        @Override
-        public String formTarget() {
-            return getAttribute("formtarget");
-        }
-
-        @Override
-        public ButtonType type() {
-            String type = getAttribute("type");
-
-            if (type == null) {
-                return null;
-            }
-
-            switch (type.trim().toLowerCase()) {
-                case "button":
-                    return ButtonType.BUTTON;
-
-                case "reset":
-                    return ButtonType.RESET;
 
-                case "submit":
-                    return ButtonType.SUBMIT;
-
-                default:
-                    throw new IllegalArgumentException(type);
+                this.snapshot = snapshot;
             }
-        }
 
-        @Override
-        public String value() {
-            return getAttribute("value");
-        }
-
-        @Override
-        public String defaultValue() {
-            return getAttribute("defaultValue");
-        }
-
-        @Override
-        public boolean checked() {
-            return isChecked();
-        }
-
-        @Override
-        public boolean indeterminate() {
-            return isIndeterminate();
-        }
-
-        @Override
-        public boolean defaultChecked() {
-            return isDefaultChecked();
-        }
-
-        @Override
-        public String href() {
-            return getAttribute("href");
-        }
-
-        @Override
-        public String target() {
-            return getAttribute("target");
-        }
-
-        @Override
-        public String alt() {
-            return getAttribute("alt");
-        }
-
-        @Override
-        public String src() {
-            return getAttribute("src");
-        }
-
-        @Override
-        public String getFor() {
-            return getAttribute("for");
-        }
-
-        @Override
-        public boolean autoComplete() {
-            String autoComplete = getAttribute("autocomplete");
-
-            return "on".equals(autoComplete) || "".equals(autoComplete);
-        }
-
-        @Override
-        public Integer maxLength() {
-            String maxLength = getAttribute("maxlength");
-
-            if (maxLength == null) {
-                return null;
-            }
-
-            return Integer.parseInt(maxLength);
-        }
-
-        @Override
-        public String pattern() {
-            return getAttribute("pattern");
-        }
-
-        @Override
-        public String placeholder() {
-            return getAttribute("placeholder");
-        }
-
-        @Override
-        public boolean readOnly() {
-            return "true".equals(getAttribute("readonly"));
+            return snapshot;
         }
 
         @Override
-        public boolean required() {
-            return "true".equals(getAttribute("required"));
+        public void invalidate() {
+            this.snapshot = null;
         }
 
         @Override
-        public int size() {
-            return Integer.parseInt(getAttribute("size"));
+        protected String attribute(String name) {
+            return getAttribute(name);
         }
 
         @Override
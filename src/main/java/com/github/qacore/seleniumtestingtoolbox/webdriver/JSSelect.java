@@ -0,0 +1,295 @@
+package com.github.qacore.seleniumtestingtoolbox.webdriver;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.Select;
+
+import com.github.qacore.seleniumtestingtoolbox.webdriver.events.EventsRegistry;
+
+/**
+ * {@link AugmentedSelect} of a standard HTML select, implemented with one script per operation.
+ * <p>
+ * The options are returned with their text, so no {@link WebElement#getText()} is needed to name them, and the selections are made by changing the options in the page, instead of clicking each option: each changed option receives the {@code mousedown}, {@code mouseup} and {@code click} events of a click, and the select receives the {@code input} and {@code change} events. Like a click, the selection never changes a disabled option or a disabled select: selecting them throws an {@link UnsupportedOperationException} and deselecting skips the disabled options. Elements that are not a {@code <select>}, or drivers that cannot execute scripts, fall back to the Selenium {@link Select}.
+ * </p>
+ * <p>
+ * The listeners of the element see each changed option as clicked, like with the Selenium {@link Select}. When there are listeners, the options to change are resolved by a first script, so the {@code beforeClickOn} events are dispatched before the page changes.
+ * </p>
+ * <p>
+ * Nothing is cached: the page may change the {@code multiple} attribute or the options at any time, so each operation reads them again in its own script.
+ * </p>
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/leocarmona">https://github.com/leocarmona</a></li>
+ *         <li><a href="mailto:lcdesenv@gmail.com">lcdesenv@gmail.com</a></li>
+ *         </ul>
+ *
+ * @since 1.0.2
+ *
+ */
+class JSSelect implements AugmentedSelect<AugmentedWebElement> {
+
+    static final String                      MULTIPLE_SCRIPT = "var s = arguments[0]; return s.tagName === 'SELECT' ? !!s.multiple : null;";
+
+    static final String                      OPTIONS_SCRIPT = "var s = arguments[0], filter = arguments[1], r = [];"
+            + "if (s.tagName !== 'SELECT') return null;"
+            + "for (var i = 0; i < s.options.length; i++) {"
+            + "  var o = s.options[i];"
+            + "  if (filter === 'all' || o.selected) { r.push([o, o.text, o.value, o.index, o.selected]); if (filter === 'first') break; }"
+            + "}"
+            + "return [!!s.multiple, r];";
+
+    static final String                      SELECT_SCRIPT = "var s = arguments[0], by = arguments[1], key = arguments[2], select = arguments[3], apply = arguments[4], found = false, changed = [];"
+            + "var disabled = function (e) { return e.matches ? e.matches(':disabled') : e.disabled; };"
+            + "var mouse = function (o, type) { o.dispatchEvent(new MouseEvent(type, { bubbles: true, cancelable: true, view: window })); };"
+            + "var fire = function () { if (apply && changed.length > 0) { s.dispatchEvent(new Event('input', { bubbles: true })); s.dispatchEvent(new Event('change', { bubbles: true })); } };"
+            + "if (s.tagName !== 'SELECT') return null;"
+            + "if (!select && !s.multiple) return [false, -1, changed];"
+            + "if (disabled(s)) return [!!s.multiple, -2, changed];"
+            + "for (var i = 0; i < s.options.length; i++) {"
+            + "  var o = s.options[i];"
+            + "  if (by === 'all' || (by === 'text' ? o.text === key : by === 'value' ? o.value === key : o.index == key)) {"
+            + "    if (disabled(o)) { if (select) { fire(); return [!!s.multiple, -3, changed]; } found = true; continue; }"
+            + "    found = true;"
+            + "    if (o.selected !== select) {"
+            + "      if (apply) { mouse(o, 'mousedown'); o.selected = select; mouse(o, 'mouseup'); mouse(o, 'click'); }"
+            + "      changed.push([o, o.text]);"
+            + "    }"
+            + "    if (select && !s.multiple) break;"
+            + "  }"
+            + "}"
+            + "fire();"
+            + "return [!!s.multiple, found || by === 'all' ? 1 : 0, changed];";
+
+    private final DefaultAugmentedWebElement element;
+
+    JSSelect(DefaultAugmentedWebElement element) {
+        this.element = element;
+    }
+
+    @Override
+    public boolean isMultiple() {
+        Object result = this.execute(MULTIPLE_SCRIPT);
+
+        return result == null ? new Select(element).isMultiple() : (Boolean) result;
+    }
+
+    @Override
+    public List<AugmentedWebElement> getOptions() {
+        List<AugmentedWebElement> options = this.options("all");
+
+        if (options == null) {
+            return this.wrap(new Select(element).getOptions());
+        }
+
+        return options;
+    }
+
+    @Override
+    public List<AugmentedWebElement> getAllSelectedOptions() {
+        List<AugmentedWebElement> options = this.options("selected");
+
+        if (options == null) {
+            return this.wrap(new Select(element).getAllSelectedOptions());
+        }
+
+        return options;
+    }
+
+    @Override
+    public AugmentedWebElement getFirstSelectedOption() {
+        List<AugmentedWebElement> options = this.options("first");
+
+        if (options == null) {
+            WebElement option = new Select(element).getFirstSelectedOption();
+
+            return new DefaultAugmentedWebElement(option, option.getText(), element.registry(), element.windows());
+        }
+
+        if (options.isEmpty()) {
+            throw new NoSuchElementException("No options are selected");
+        }
+
+        return options.get(0);
+    }
+
+    @Override
+    public void selectByVisibleText(String text) {
+        if (!this.select("text", text, true, "Cannot locate option with text: " + text)) {
+            new Select(element).selectByVisibleText(text);
+        }
+    }
+
+    @Override
+    public void selectByIndex(int index) {
+        if (!this.select("index", index, true, "Cannot locate option with index: " + index)) {
+            new Select(element).selectByIndex(index);
+        }
+    }
+
+    @Override
+    public void selectByValue(String value) {
+        if (!this.select("value", value, true, "Cannot locate option with value: " + value)) {
+            new Select(element).selectByValue(value);
+        }
+    }
+
+    @Override
+    public void deselectAll() {
+        if (!this.select("all", null, false, null)) {
+            new Select(element).deselectAll();
+        }
+    }
+
+    @Override
+    public void deselectByValue(String value) {
+        if (!this.select("value", value, false, "Cannot locate option with value: " + value)) {
+            new Select(element).deselectByValue(value);
+        }
+    }
+
+    @Override
+    public void deselectByIndex(int index) {
+        if (!this.select("index", index, false, "Cannot locate option with index: " + index)) {
+            new Select(element).deselectByIndex(index);
+        }
+    }
+
+    @Override
+    public void deselectByVisibleText(String text) {
+        if (!this.select("text", text, false, "Cannot locate option with text: " + text)) {
+            new Select(element).deselectByVisibleText(text);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "JSSelect(" + element + ")";
+    }
+
+    private List<AugmentedWebElement> options(String filter) {
+        List<?> result = (List<?>) this.execute(OPTIONS_SCRIPT, filter);
+
+        if (result == null) {
+            return null;
+        }
+
+        return this.augment((List<?>) result.get(1));
+    }
+
+    /**
+     * Selects or deselects the matching options, dispatching a click event for each changed option.
+     *
+     * @return {@code false} if the script cannot be used and the operation must fall back to {@link Select}.
+     */
+    private boolean select(String by, Object key, boolean select, String notFound) {
+        EventsRegistry events = element.registry();
+        WebDriver driver = element.getWrappedDriver();
+        List<AugmentedWebElement> clicked = null;
+
+        if (!events.isEmpty()) {
+            List<?> planned = (List<?>) this.execute(SELECT_SCRIPT, by, key, select, false);
+
+            if (planned == null) {
+                return false;
+            }
+
+            this.check(planned, by, select, notFound);
+
+            clicked = this.augment((List<?>) planned.get(2));
+
+            for (AugmentedWebElement option : clicked) {
+                events.dispatch(e -> e.beforeClickOn(option, driver));
+            }
+        }
+
+        List<?> result = (List<?>) this.execute(SELECT_SCRIPT, by, key, select, true);
+
+        if (result == null) {
+            return false;
+        }
+
+        this.check(result, by, select, notFound);
+
+        element.invalidateWindows();
+
+        if (clicked != null) {
+            for (AugmentedWebElement option : clicked) {
+                events.dispatch(e -> e.afterClickOn(option, driver));
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Throws the exception of a failed selection, like the Selenium {@link Select} does.
+     */
+    private void check(List<?> result, String by, boolean select, String notFound) {
+        int status = ((Number) result.get(1)).intValue();
+
+        if (status == -1) {
+            throw new UnsupportedOperationException("all".equals(by) ? "You may only deselect all options of a multi-select" : "You may only deselect options of a multi-select");
+        }
+
+        if (status == -2) {
+            throw new UnsupportedOperationException(select ? "You may not select an option in a disabled select" : "You may not deselect an option in a disabled select");
+        }
+
+        if (status == -3) {
+            element.invalidateWindows();
+
+            throw new UnsupportedOperationException("You may not select a disabled option");
+        }
+
+        if (status == 0) {
+            throw new NoSuchElementException(notFound);
+        }
+    }
+
+    private Object execute(String script, Object... args) {
+        WebDriver driver = element.getWrappedDriver();
+
+        if (!(driver instanceof JavascriptExecutor)) {
+            return null;
+        }
+
+        Object[] arguments = new Object[args.length + 1];
+        arguments[0] = element.getWrappedElement();
+        System.arraycopy(args, 0, arguments, 1, args.length);
+
+        return ((JavascriptExecutor) driver).executeScript(script, arguments);
+    }
+
+    /**
+     * Wraps the options returned by a script with their text.
+     */
+    private List<AugmentedWebElement> augment(List<?> rows) {
+        List<AugmentedWebElement> options = new ArrayList<>(rows.size());
+
+        for (Object row : rows) {
+            List<?> option = (List<?>) row;
+
+            options.add(new DefaultAugmentedWebElement((WebElement) option.get(0), (String) option.get(1), element.registry(), element.windows()));
+        }
+
+        return options;
+    }
+
+    private List<AugmentedWebElement> wrap(List<WebElement> elements) {
+        List<AugmentedWebElement> options = new ArrayList<>(elements.size());
+
+        for (WebElement option : elements) {
+            options.add(new DefaultAugmentedWebElement(option, option.getText(), element.registry(), element.windows()));
+        }
+
+        return options;
+    }
+
+}
@@ -1,7 +1,8 @@
 package com.github.qacore.seleniumtestingtoolbox.webdriver;
 
-import java.util.Arrays;
+import java.util.AbstractList;
 import java.util.List;
+import java.util.RandomAccess;
 
 import org.openqa.selenium.By;
 import org.openqa.selenium.SearchContext;
@@ -39,26 +40,62 @@ class SearchContextHolder {
      * @param events
      *            The {@link EventsRegistry}.
      * 
-     * @return A list of {@link AugmentedWebElement}.
+     * @param windows
+     *            The window registry of the session.
+     * 
+     * @return A list of {@link AugmentedWebElement}. The elements are augmented when they are accessed.
      */
-    public static List<AugmentedWebElement> findElements(SearchContext searchContext, By by, String name, EventsRegistry events) {
-        List<WebElement> elements = searchContext.findElements(by);
-        AugmentedWebElement[] augmentedElements = new AugmentedWebElement[elements.size()];
+    public static List<AugmentedWebElement> findElements(SearchContext searchContext, By by, String name, EventsRegistry events, WindowRegistry windows) {
+        return new LazyAugmentedWebElementList(searchContext.findElements(by), name, events, windows);
+    }
 
-        if (name == null) {
-            for (int i = 0; i < augmentedElements.length; i++) {
-                augmentedElements[i] = new DefaultAugmentedWebElement(elements.get(i), null, events);
-            }
-        } else {
-            for (int i = 0; i < augmentedElements.length; i++) {
-                augmentedElements[i] = new DefaultAugmentedWebElement(elements.get(i), name + " [" + i + "]", events);
+    private SearchContextHolder() {
+
+    }
+
+    /**
+     * Fixed-size list view that augments each element on its first access, so large result lists that are only counted or partially read do not pay for augmenting every element.
+     */
+    private static class LazyAugmentedWebElementList extends AbstractList<AugmentedWebElement> implements RandomAccess {
+
+        private final List<WebElement>      elements;
+        private final String                name;
+        private final EventsRegistry        events;
+        private final WindowRegistry        windows;
+        private final AugmentedWebElement[] augmentedElements;
+
+        private LazyAugmentedWebElementList(List<WebElement> elements, String name, EventsRegistry events, WindowRegistry windows) {
+            this.elements = elements;
+            this.name = name;
+            this.events = events;
+            this.windows = windows;
+            this.augmentedElements = new AugmentedWebElement[elements.size()];
+        }
+
+        @Override
+        public AugmentedWebElement get(int index) {
+            AugmentedWebElement element = augmentedElements[index];
+
+            if (element == null) {
+                element = new DefaultAugmentedWebElement(elements.get(index), name == null ? null : name + " [" + index + "]", events, windows);
+                augmentedElements[index] = element;
             }
+
+            return element;
         }
 
-        return Arrays.asList(augmentedElements);
-    }
+        @Override
+        public AugmentedWebElement set(int index, AugmentedWebElement element) {
+            AugmentedWebElement previous = this.get(index);
+            augmentedElements[index] = element;
 
-    private SearchContextHolder() {
+            return previous;
+        }
+
+        @Override
+        public int size() {
+            return augmentedElements.length;
+        }
 
     }
 
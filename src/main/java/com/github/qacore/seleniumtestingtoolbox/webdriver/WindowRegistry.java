@@ -0,0 +1,245 @@
+package com.github.qacore.seleniumtestingtoolbox.webdriver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import org.openqa.selenium.NoSuchWindowException;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Ordered registry of the window handles of one {@link WebDriver} session.
+ * <p>
+ * The registry is updated by the window operations of this library (open, close and switch), so switching to the first, last or n-th window does not need a {@link WebDriver#getWindowHandles()} round trip. Operations that may open windows behind the registry's back, like clicks and the scripts of the user, {@link #invalidate() invalidate} it and the next lookup refreshes the handles from the browser.
+ * </p>
+ * <p>
+ * There is one registry per session and its operations only lock that registry, so sessions of other threads are never blocked. The registry does not hold a reference to the driver, the driver is given to each operation.
+ * </p>
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/leocarmona">https://github.com/leocarmona</a></li>
+ *         <li><a href="mailto:lcdesenv@gmail.com">lcdesenv@gmail.com</a></li>
+ *         </ul>
+ *
+ * @since 1.0.2
+ *
+ */
+class WindowRegistry {
+
+    private static final Map<WebDriver, WindowRegistry> registries = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private List<String>                                handles;
+    private boolean                                     stale;
+    private String                                      current;
+
+    /**
+     * Retrieves the registry of the session. The lookup locks a map shared by all sessions, so callers look the registry up once and keep it, like {@link DefaultAugmentedWebDriver} and the elements it finds.
+     *
+     * @param driver
+     *            The driver of the session.
+     *
+     * @return The window registry.
+     */
+    public static WindowRegistry of(WebDriver driver) {
+        return registries.computeIfAbsent(driver, d -> new WindowRegistry());
+    }
+
+    /**
+     * Retrieves the known window handles, in the order they were opened. The handles are refreshed from the browser if they are unknown or may be stale.
+     *
+     * @param driver
+     *            The driver of the session.
+     *
+     * @return An unmodifiable list of window handles.
+     */
+    public synchronized List<String> handles(WebDriver driver) {
+        if (handles == null || stale) {
+            this.refresh(driver.getWindowHandles());
+        }
+
+        return handles;
+    }
+
+    /**
+     * Retrieves the handle of the current window, asking the browser only if it is unknown.
+     *
+     * @param driver
+     *            The driver of the session.
+     *
+     * @return The handle of the current window.
+     */
+    public synchronized String current(WebDriver driver) {
+        if (current == null) {
+            current = driver.getWindowHandle();
+        }
+
+        return current;
+    }
+
+    /**
+     * Updates the registry with a full list of window handles returned by the browser.
+     *
+     * @param windowHandles
+     *            The window handles.
+     */
+    public synchronized void refresh(Set<String> windowHandles) {
+        Set<String> updated = new LinkedHashSet<>(windowHandles.size());
+
+        if (handles != null) {
+            for (String handle : handles) {
+                if (windowHandles.contains(handle)) {
+                    updated.add(handle);
+                }
+            }
+        }
+
+        updated.addAll(windowHandles);
+
+        if (current != null && !updated.contains(current)) {
+            current = null;
+        }
+
+        handles = Collections.unmodifiableList(new ArrayList<>(updated));
+        stale = false;
+    }
+
+    /**
+     * Switches to a window and registers it as the current one.
+     *
+     * @param driver
+     *            The driver of the session.
+     *
+     * @param nameOrHandle
+     *            The name or the handle of the window.
+     */
+    public synchronized void switchTo(WebDriver driver, String nameOrHandle) {
+        driver.switchTo().window(nameOrHandle);
+
+        current = handles != null && handles.contains(nameOrHandle) ? nameOrHandle : null;
+    }
+
+    /**
+     * Switches to the window at the given index. If the window was closed without the registry knowing, the handles are refreshed and the switch is retried once.
+     *
+     * @param driver
+     *            The driver of the session.
+     *
+     * @param index
+     *            The window index. Negative indexes count from the last window.
+     *
+     * @return The handle of the window.
+     *
+     * @throws NoSuchWindowException
+     *             If there is no window at the given index.
+     */
+    public synchronized String switchTo(WebDriver driver, int index) {
+        try {
+            return this.switchToIndex(driver, index);
+        } catch (NoSuchWindowException e) {
+            stale = true;
+
+            return this.switchToIndex(driver, index);
+        }
+    }
+
+    /**
+     * Opens a new window and switches to it.
+     *
+     * @param driver
+     *            The driver of the session.
+     *
+     * @param opener
+     *            The action that opens the new window.
+     *
+     * @return The handle of the new window.
+     *
+     * @throws NoSuchWindowException
+     *             If the action did not open a window.
+     */
+    public synchronized String openAndSwitch(WebDriver driver, Runnable opener) {
+        Set<String> known = new LinkedHashSet<>(this.handles(driver));
+
+        opener.run();
+        this.refresh(driver.getWindowHandles());
+
+        String opened = null;
+
+        for (String handle : handles) {
+            if (!known.contains(handle)) {
+                opened = handle;
+            }
+        }
+
+        if (opened == null) {
+            throw new NoSuchWindowException("No new window was opened");
+        }
+
+        driver.switchTo().window(opened);
+        current = opened;
+
+        return opened;
+    }
+
+    /**
+     * Closes the current window and removes it from the registry.
+     *
+     * @param driver
+     *            The driver of the session.
+     */
+    public synchronized void close(WebDriver driver) {
+        String closed = current;
+
+        driver.close();
+
+        if (closed != null && handles != null) {
+            List<String> updated = new ArrayList<>(handles);
+            updated.remove(closed);
+
+            handles = Collections.unmodifiableList(updated);
+        } else {
+            stale = true;
+        }
+
+        current = null;
+    }
+
+    /**
+     * Marks the known handles and the current window as possibly stale, so they are refreshed from the browser on the next lookup. Must be called after actions that may open or close windows, like clicks.
+     */
+    public synchronized void invalidate() {
+        stale = true;
+        current = null;
+    }
+
+    /**
+     * Forgets everything about the session.
+     */
+    public synchronized void clear() {
+        handles = null;
+        stale = false;
+        current = null;
+    }
+
+    private String switchToIndex(WebDriver driver, int index) {
+        List<String> windowHandles = this.handles(driver);
+        int position = index < 0 ? windowHandles.size() + index : index;
+
+        if (position < 0 || position >= windowHandles.size()) {
+            throw new NoSuchWindowException("Invalid tab index '" + index + "'. Current tab count '" + windowHandles.size() + "'.");
+        }
+
+        String handle = windowHandles.get(position);
+
+        driver.switchTo().window(handle);
+        current = handle;
+
+        return handle;
+    }
+
+}
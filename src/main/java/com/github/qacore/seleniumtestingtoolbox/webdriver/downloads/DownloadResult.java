@@ -0,0 +1,62 @@
+package com.github.qacore.seleniumtestingtoolbox.webdriver.downloads;
+
+import java.nio.file.Path;
+
+import lombok.Data;
+
+/**
+ * Result of the download of one file by an {@link ImageDownloader}.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/leocarmona">https://github.com/leocarmona</a></li>
+ *         <li><a href="mailto:lcdesenv@gmail.com">lcdesenv@gmail.com</a></li>
+ *         </ul>
+ *
+ * @since 1.0.2
+ *
+ */
+@Data
+public class DownloadResult {
+
+    /**
+     * The downloaded URL, or {@code null} if the element has no source.
+     */
+    private final String    url;
+
+    /**
+     * The written file, or {@code null} if the download failed.
+     */
+    private final Path      file;
+
+    /**
+     * The HTTP status code, or {@code -1} if there was no HTTP response.
+     */
+    private final int       status;
+
+    /**
+     * The number of bytes written.
+     */
+    private final long      bytes;
+
+    /**
+     * The time the download took, in milliseconds.
+     */
+    private final long      millis;
+
+    /**
+     * The error of a failed download, or {@code null}.
+     */
+    private final Exception error;
+
+    /**
+     * Checks if the file was downloaded.
+     *
+     * @return {@code true} if the file was written. Otherwise, {@code false}.
+     */
+    public boolean isSuccess() {
+        return file != null;
+    }
+
+}
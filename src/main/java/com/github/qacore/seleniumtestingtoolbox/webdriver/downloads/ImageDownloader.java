@@ -0,0 +1,451 @@
+package com.github.qacore.seleniumtestingtoolbox.webdriver.downloads;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLDecoder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import com.github.qacore.seleniumtestingtoolbox.webdriver.AugmentedWebDriver;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Downloads the sources of many images concurrently, with the cookies of the browser session.
+ * <p>
+ * The sources of the images, the user agent and the URL of the page are read in one script. Each image is then downloaded by a pool of threads with {@link HttpURLConnection}, whose connections are kept alive and reused by the next downloads from the same host, and streamed to its file without buffering the whole image in memory.
+ * </p>
+ * <p>
+ * A download that fails does not fail the others: each image has its own {@link DownloadResult}.
+ * </p>
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/leocarmona">https://github.com/leocarmona</a></li>
+ *         <li><a href="mailto:lcdesenv@gmail.com">lcdesenv@gmail.com</a></li>
+ *         </ul>
+ *
+ * @see com.github.qacore.seleniumtestingtoolbox.webdriver.AugmentedWebDriver#downloadImages(By, String)
+ *
+ * @since 1.0.2
+ *
+ */
+@ToString(of = { "threads", "connectionTimeout", "readTimeout" })
+public class ImageDownloader implements AutoCloseable {
+
+    private static final String        SCRIPT        = "var r = [navigator.userAgent, location.href];"
+            + " for (var i = 0; i < arguments.length; i++) { var e = arguments[i]; r.push(e.currentSrc || e.src || e.getAttribute('src')); }"
+            + " return r;";
+
+    private static final int           MAX_REDIRECTS = 5;
+
+    private static final AtomicInteger THREADS       = new AtomicInteger();
+
+    @Getter
+    private final WebDriver            driver;
+
+    @Getter
+    private final int                  threads;
+
+    @Getter
+    private final int                  connectionTimeout;
+
+    @Getter
+    private final int                  readTimeout;
+
+    private final ExecutorService      executor;
+
+    /**
+     * Creates a downloader with 8 threads, a connection timeout of 10 seconds and a read timeout of 30 seconds.
+     *
+     * @param driver
+     *            The driver of the page of the images.
+     */
+    public ImageDownloader(WebDriver driver) {
+        this(driver, 8, 10000, 30000);
+    }
+
+    /**
+     * @param driver
+     *            The driver of the page of the images.
+     *
+     * @param threads
+     *            The number of concurrent downloads.
+     *
+     * @param connectionTimeout
+     *            The number of milliseconds until a download times out if no connection could be established.
+     *
+     * @param readTimeout
+     *            The number of milliseconds until a download times out if no data could be read.
+     */
+    public ImageDownloader(WebDriver driver, int threads, int connectionTimeout, int readTimeout) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Threads must be positive: " + threads);
+        }
+
+        this.driver = driver;
+        this.threads = threads;
+        this.connectionTimeout = connectionTimeout;
+        this.readTimeout = readTimeout;
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "image-downloader-" + THREADS.incrementAndGet());
+            thread.setDaemon(true);
+
+            return thread;
+        });
+    }
+
+    /**
+     * Downloads the images found by a locator.
+     *
+     * @param locator
+     *            The locator of the images.
+     *
+     * @param directory
+     *            The directory of the files. It is created if it does not exist.
+     *
+     * @return The results, in the order of the images.
+     */
+    public List<DownloadResult> download(By locator, Path directory) {
+        return this.download(driver.findElements(locator), directory);
+    }
+
+    /**
+     * Downloads images. Each file is named after the last segment of the path of its URL, made unique within the call.
+     *
+     * @param images
+     *            The images.
+     *
+     * @param directory
+     *            The directory of the files. It is created if it does not exist.
+     *
+     * @return The results, in the order of the images.
+     */
+    public List<DownloadResult> download(List<? extends WebElement> images, Path directory) {
+        if (images.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new WebDriverException("An error ocurred while creating the directory '" + directory + "'", e);
+        }
+
+        List<String> page = this.sources(images);
+        String userAgent = page.get(0);
+        String referer = page.get(1);
+        Set<Cookie> cookies = driver.manage().getCookies();
+        Set<String> names = new HashSet<>();
+        List<Future<DownloadResult>> futures = new ArrayList<>(images.size());
+
+        for (String url : page.subList(2, page.size())) {
+            Path file = directory.resolve(unique(names, fileName(url)));
+
+            futures.add(executor.submit(() -> this.fetch(url, file, userAgent, referer, cookies)));
+        }
+
+        List<DownloadResult> results = new ArrayList<>(futures.size());
+
+        for (Future<DownloadResult> future : futures) {
+            try {
+                results.add(future.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+
+                throw new WebDriverException("Interrupted while downloading images", e);
+            } catch (ExecutionException e) {
+                throw new WebDriverException(e.getCause());
+            }
+        }
+
+        return results;
+    }
+
+    /**
+     * Stops the download threads. Downloads in progress are finished.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    /**
+     * Reads the user agent, the URL of the page and the sources of the images, in one script if possible.
+     */
+    private List<String> sources(List<? extends WebElement> images) {
+        if (driver instanceof JavascriptExecutor) {
+            try {
+                Object result = driver instanceof AugmentedWebDriver ? ((AugmentedWebDriver) driver).executeScriptKeepingWindows(SCRIPT, images.toArray()) : ((JavascriptExecutor) driver).executeScript(SCRIPT, images.toArray());
+
+                if (result instanceof List && ((List<?>) result).size() == images.size() + 2) {
+                    List<String> sources = new ArrayList<>(images.size() + 2);
+
+                    for (Object value : (List<?>) result) {
+                        sources.add(value == null ? null : String.valueOf(value));
+                    }
+
+                    return sources;
+                }
+            } catch (WebDriverException e) {
+                // reads the sources one by one instead
+            }
+        }
+
+        List<String> sources = new ArrayList<>(images.size() + 2);
+        sources.add(null);
+        sources.add(driver.getCurrentUrl());
+
+        for (WebElement image : images) {
+            sources.add(image.getAttribute("src"));
+        }
+
+        return sources;
+    }
+
+    private DownloadResult fetch(String url, Path file, String userAgent, String referer, Set<Cookie> cookies) {
+        long start = System.currentTimeMillis();
+        int status = -1;
+
+        if (url == null || url.isEmpty()) {
+            return new DownloadResult(url, null, status, 0, 0, new IOException("The image has no source"));
+        }
+
+        Path temporary = null;
+
+        try {
+            // Files.createTempFile would make the image readable by its owner only, so the file is created with the default permissions
+            temporary = file.resolveSibling("." + file.getFileName() + "." + Long.toHexString(ThreadLocalRandom.current().nextLong()) + ".tmp");
+            long bytes;
+
+            if (url.startsWith("data:")) {
+                bytes = data(url, temporary);
+            } else {
+                HttpURLConnection connection = this.connect(new URL(url), userAgent, referer, cookies, 0);
+                status = connection.getResponseCode();
+
+                if (status >= 400) {
+                    drain(connection.getErrorStream());
+
+                    return new DownloadResult(url, null, status, 0, System.currentTimeMillis() - start, new IOException("Server returned HTTP response code " + status + " for URL " + url));
+                }
+
+                try (InputStream input = connection.getInputStream()) {
+                    bytes = Files.copy(input, temporary);
+                }
+            }
+
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+
+            return new DownloadResult(url, file, status, bytes, System.currentTimeMillis() - start, null);
+        } catch (IOException | RuntimeException e) {
+            return new DownloadResult(url, null, status, 0, System.currentTimeMillis() - start, e);
+        } finally {
+            if (temporary != null) {
+                try {
+                    Files.deleteIfExists(temporary);
+                } catch (IOException e) {
+                    // the temporary file is hidden and harmless
+                }
+            }
+        }
+    }
+
+    /**
+     * Opens a connection, following redirects by hand so the cookies sent to each host are the cookies of that host.
+     */
+    private HttpURLConnection connect(URL url, String userAgent, String referer, Set<Cookie> cookies, int redirects) throws IOException {
+        String protocol = url.getProtocol().toLowerCase(Locale.ROOT);
+
+        if (!"http".equals(protocol) && !"https".equals(protocol)) {
+            throw new IOException("Unsupported protocol: " + url);
+        }
+
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setConnectTimeout(connectionTimeout);
+        connection.setReadTimeout(readTimeout);
+        connection.setInstanceFollowRedirects(false);
+
+        String cookie = cookieHeader(cookies, url, referer);
+
+        if (!cookie.isEmpty()) {
+            connection.setRequestProperty("Cookie", cookie);
+        }
+
+        if (userAgent != null) {
+            connection.setRequestProperty("User-Agent", userAgent);
+        }
+
+        if (referer != null) {
+            connection.setRequestProperty("Referer", referer);
+        }
+
+        int status = connection.getResponseCode();
+        String location = connection.getHeaderField("Location");
+
+        if (status >= 300 && status < 400 && location != null) {
+            drain(connection.getErrorStream());
+            drain(status == 304 ? null : connection.getInputStream());
+
+            if (redirects >= MAX_REDIRECTS) {
+                throw new IOException("Too many redirects: " + url);
+            }
+
+            return this.connect(new URL(url, location), userAgent, referer, cookies, redirects + 1);
+        }
+
+        return connection;
+    }
+
+    /**
+     * Builds the {@code Cookie} header of a request, with the session cookies that match its URL.
+     */
+    static String cookieHeader(Set<Cookie> cookies, URL url, String page) {
+        String host = url.getHost().toLowerCase(Locale.ROOT);
+        String path = url.getPath().isEmpty() ? "/" : url.getPath();
+        boolean secure = "https".equalsIgnoreCase(url.getProtocol());
+        Date now = new Date();
+        StringBuilder header = new StringBuilder();
+
+        for (Cookie cookie : cookies) {
+            if ((cookie.isSecure() && !secure) || (cookie.getExpiry() != null && cookie.getExpiry().before(now))) {
+                continue;
+            }
+
+            String domain = cookie.getDomain();
+
+            if (domain == null) {
+                // host-only cookie of the page
+                domain = pageHost(page);
+            }
+
+            // only domain cookies, set with a leading dot, are sent to the subdomains
+            boolean subdomains = domain.startsWith(".");
+
+            domain = subdomains ? domain.substring(1).toLowerCase(Locale.ROOT) : domain.toLowerCase(Locale.ROOT);
+
+            if (!host.equals(domain) && !(subdomains && host.endsWith("." + domain))) {
+                continue;
+            }
+
+            String cookiePath = cookie.getPath() == null || cookie.getPath().isEmpty() ? "/" : cookie.getPath();
+
+            if (!path.equals(cookiePath) && !path.startsWith(cookiePath.endsWith("/") ? cookiePath : cookiePath + "/")) {
+                continue;
+            }
+
+            if (header.length() > 0) {
+                header.append("; ");
+            }
+
+            header.append(cookie.getName()).append('=').append(cookie.getValue());
+        }
+
+        return header.toString();
+    }
+
+    private static String pageHost(String page) {
+        try {
+            return page == null ? "" : new URL(page).getHost();
+        } catch (IOException e) {
+            return "";
+        }
+    }
+
+    private static long data(String url, Path file) throws IOException {
+        int comma = url.indexOf(',');
+
+        if (comma < 0 || !url.substring(0, comma).endsWith(";base64")) {
+            throw new IOException("Unsupported data URL: only base64 data URLs are supported");
+        }
+
+        byte[] bytes = Base64.getDecoder().decode(url.substring(comma + 1).trim());
+        Files.write(file, bytes, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+
+        return bytes.length;
+    }
+
+    /**
+     * Reads the rest of a response, so its connection can be reused.
+     */
+    private static void drain(InputStream input) {
+        if (input == null) {
+            return;
+        }
+
+        try (InputStream stream = input) {
+            byte[] buffer = new byte[8192];
+
+            while (stream.read(buffer) >= 0) {
+                // discards the response
+            }
+        } catch (IOException e) {
+            // the connection is closed instead of reused
+        }
+    }
+
+    private static String fileName(String url) {
+        String name = "";
+
+        if (url != null && url.startsWith("data:")) {
+            int slash = url.indexOf('/');
+            int end = url.indexOf(';');
+
+            name = slash > 0 && end > slash ? "image." + url.substring(slash + 1, end) : "";
+        } else if (url != null) {
+            String path = url.replaceFirst("[?#].*$", "");
+
+            name = path.substring(path.lastIndexOf('/') + 1);
+
+            try {
+                name = URLDecoder.decode(name, "UTF-8");
+            } catch (UnsupportedEncodingException | IllegalArgumentException e) {
+                // keeps the encoded name
+            }
+        }
+
+        name = name.replaceAll("[^A-Za-z0-9._-]", "_");
+
+        return name.isEmpty() || name.startsWith(".") ? "image" + name : name;
+    }
+
+    private static String unique(Set<String> names, String name) {
+        String candidate = name;
+        int dot = name.lastIndexOf('.');
+
+        for (int i = 2; !names.add(candidate.toLowerCase(Locale.ROOT)); i++) {
+            candidate = dot > 0 ? name.substring(0, dot) + "-" + i + name.substring(dot) : name + "-" + i;
+        }
+
+        return candidate;
+    }
+
+}
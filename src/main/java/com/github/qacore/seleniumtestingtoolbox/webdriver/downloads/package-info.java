@@ -0,0 +1,4 @@
+/**
+ * Provides the download support classes.
+ */
+package com.github.qacore.seleniumtestingtoolbox.webdriver.downloads;
@@ -0,0 +1,232 @@
+package com.github.qacore.seleniumtestingtoolbox.webdriver.events;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.openqa.selenium.WebDriverException;
+
+/**
+ * Background dispatcher of an {@link EventsRegistry}.
+ * <p>
+ * Each event is recorded with the {@link DetachedEventListener detached listeners} registered when it happened into a bounded buffer, and a single daemon {@link Thread} dispatches the recorded events in order.
+ * </p>
+ * <p>
+ * Once the dispatcher is {@link #shutdown() shut down}, its thread ends, and the events submitted later, by commands that were already running, are dispatched by the thread that submits them, so no event is lost and no caller waits for a buffer that nobody empties.
+ * </p>
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/leocarmona">https://github.com/leocarmona</a></li>
+ *         <li><a href="mailto:lcdesenv@gmail.com">lcdesenv@gmail.com</a></li>
+ *         </ul>
+ *
+ * @since 1.0.2
+ *
+ */
+class AsyncEventsDispatcher {
+
+    private static final AtomicInteger THREADS  = new AtomicInteger();
+
+    private static final Event         STOP     = new Event(new AugmentedWebDriverEventListener[0], e -> {});
+
+    private final BlockingQueue<Event> buffer;
+    private final BackpressurePolicy   policy;
+    private final int                  sampleRate;
+    private final Thread               thread;
+
+    private final AtomicLong           accepted = new AtomicLong();
+    private final AtomicLong           dropped  = new AtomicLong();
+    private final AtomicLong           sampled  = new AtomicLong();
+    private final AtomicLong           failed   = new AtomicLong();
+
+    private final Object               lock     = new Object();
+    private long                       dispatched;
+    private volatile boolean           stopped;
+
+    AsyncEventsDispatcher(int capacity, BackpressurePolicy policy, int sampleRate) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The capacity must be positive: " + capacity);
+        }
+
+        if (sampleRate < 1) {
+            throw new IllegalArgumentException("The sample rate must be positive: " + sampleRate);
+        }
+
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.policy = policy;
+        this.sampleRate = sampleRate;
+
+        this.thread = new Thread(this::dispatchLoop, "events-dispatcher-" + THREADS.incrementAndGet());
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Records an event, or drops it according to the {@link BackpressurePolicy}.
+     */
+    void submit(AugmentedWebDriverEventListener[] listeners, Consumer<? super AugmentedWebDriverEventListener> action) {
+        Event event = new Event(listeners, action);
+
+        if (stopped) {
+            this.dispatch(event);
+
+            return;
+        }
+
+        if (policy == BackpressurePolicy.BLOCK) {
+            try {
+                while (!buffer.offer(event, 100, TimeUnit.MILLISECONDS)) {
+                    if (stopped) {
+                        this.dispatch(event);
+
+                        return;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+
+                throw new WebDriverException("Interrupted while waiting to dispatch an event", e);
+            }
+        } else if (policy == BackpressurePolicy.SAMPLE && buffer.remainingCapacity() <= buffer.size() && sampled.getAndIncrement() % sampleRate != 0) {
+            dropped.incrementAndGet();
+
+            return;
+        } else if (!buffer.offer(event)) {
+            dropped.incrementAndGet();
+
+            return;
+        }
+
+        accepted.incrementAndGet();
+
+        // The thread may have stopped before the event was recorded: if it is still in the buffer, nobody else will dispatch it
+        if (stopped && buffer.remove(event)) {
+            this.dispatch(event);
+        }
+    }
+
+    /**
+     * Waits until every event recorded before this call is dispatched. Does not wait if called by a listener.
+     */
+    void flush() {
+        if (Thread.currentThread() == thread) {
+            return;
+        }
+
+        long target = accepted.get();
+
+        synchronized (lock) {
+            while (dispatched < target && thread.isAlive()) {
+                try {
+                    lock.wait(100);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+
+                    throw new WebDriverException("Interrupted while flushing the events", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Dispatches the pending events and stops the thread. The events submitted afterwards are dispatched by the threads that submit them.
+     */
+    void shutdown() {
+        this.flush();
+
+        stopped = true;
+
+        if (Thread.currentThread() != thread) {
+            try {
+                buffer.put(STOP);
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            Event event;
+
+            while ((event = buffer.poll()) != null) {
+                if (event != STOP) {
+                    this.dispatch(event);
+                }
+            }
+        } else {
+            buffer.offer(STOP);
+        }
+    }
+
+    long getDroppedEvents() {
+        return dropped.get();
+    }
+
+    long getFailedEvents() {
+        return failed.get();
+    }
+
+    int getPendingEvents() {
+        return buffer.size();
+    }
+
+    @Override
+    public String toString() {
+        return "AsyncEventsDispatcher(thread=" + thread.getName() + ", policy=" + policy + ", pending=" + buffer.size() + ", dropped=" + dropped.get() + ")";
+    }
+
+    private void dispatchLoop() {
+        while (true) {
+            Event event;
+
+            try {
+                event = buffer.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+
+            if (event == STOP) {
+                return;
+            }
+
+            this.dispatch(event);
+
+            synchronized (lock) {
+                dispatched++;
+                lock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Calls the listeners of an event. A listener that fails does not stop the others: the failure is only counted, because there is no command to report it to.
+     */
+    private void dispatch(Event event) {
+        for (AugmentedWebDriverEventListener listener : event.listeners) {
+            try {
+                event.action.accept(listener);
+            } catch (Throwable e) {
+                failed.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Immutable record of a dispatched event: the call to make on each listener and the listeners registered when it happened.
+     */
+    private static final class Event {
+
+        private final AugmentedWebDriverEventListener[]                 listeners;
+        private final Consumer<? super AugmentedWebDriverEventListener> action;
+
+        private Event(AugmentedWebDriverEventListener[] listeners, Consumer<? super AugmentedWebDriverEventListener> action) {
+            this.listeners = listeners;
+            this.action = action;
+        }
+
+    }
+
+}
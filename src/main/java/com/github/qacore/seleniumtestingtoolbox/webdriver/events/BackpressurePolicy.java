@@ -0,0 +1,35 @@
+package com.github.qacore.seleniumtestingtoolbox.webdriver.events;
+
+/**
+ * What an {@link EventsRegistry#async(int, BackpressurePolicy) asynchronous} registry does with an event when its listeners cannot keep up with the driver.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/leocarmona">https://github.com/leocarmona</a></li>
+ *         <li><a href="mailto:lcdesenv@gmail.com">lcdesenv@gmail.com</a></li>
+ *         </ul>
+ *
+ * @see EventsRegistry#async(int, BackpressurePolicy, int)
+ *
+ * @since 1.0.2
+ *
+ */
+public enum BackpressurePolicy {
+
+    /**
+     * Waits until the buffer has room for the event. No event is lost, but a slow listener slows down the driver again.
+     */
+    BLOCK,
+
+    /**
+     * Drops the event if the buffer is full.
+     */
+    DROP,
+
+    /**
+     * Keeps only one of every {@code sampleRate} events once the buffer is half full, and drops the event if the buffer is full.
+     */
+    SAMPLE;
+
+}
@@ -0,0 +1,21 @@
+package com.github.qacore.seleniumtestingtoolbox.webdriver.events;
+
+/**
+ * Marker of the {@link AugmentedWebDriverEventListener listeners} that can be called from the background thread of an {@link EventsRegistry#async(int, BackpressurePolicy) asynchronous} registry.
+ * <p>
+ * A detached listener only reads the event arguments that do not change, like the {@link org.openqa.selenium.By locators}, the URLs, the scripts and the element names, and never calls the driver or the elements, because the commands of the test thread may be running at the same time. Listeners that query the driver or the elements, like screenshot takers, do not implement this interface, and are called synchronously even when the registry is asynchronous.
+ * </p>
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/leocarmona">https://github.com/leocarmona</a></li>
+ *         <li><a href="mailto:lcdesenv@gmail.com">lcdesenv@gmail.com</a></li>
+ *         </ul>
+ *
+ * @since 1.0.2
+ *
+ */
+public interface DetachedEventListener extends AugmentedWebDriverEventListener {
+
+}
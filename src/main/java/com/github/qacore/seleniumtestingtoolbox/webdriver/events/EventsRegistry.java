@@ -1,7 +1,7 @@
 package com.github.qacore.seleniumtestingtoolbox.webdriver.events;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
+import java.util.Objects;
 import java.util.function.Consumer;
 
 import org.openqa.selenium.support.events.AbstractWebDriverEventListener;
@@ -10,6 +10,21 @@ import lombok.ToString;
 
 /**
  * Registry of event listeners.
+ * <p>
+ * Listeners are kept in a copy-on-write array: registering and unregistering copy the array, while {@link #dispatch(Consumer) dispatching} only reads it, without locks or allocations. Callers should check {@link #isEmpty()} before building the dispatched action, so that commands without listeners, the common case, allocate nothing:
+ * </p>
+ * 
+ * <pre>
+ * if (!events.isEmpty()) {
+ *     events.dispatch(e -&gt; e.beforeClickOn(element, driver));
+ * }
+ * </pre>
+ * <p>
+ * By default the listeners are called synchronously, by the thread that runs the command. A registry switched to {@link #async(int, BackpressurePolicy) asynchronous mode} records each event, with the {@link DetachedEventListener detached listeners} registered when it happened, into a bounded buffer, and a background thread of the registry calls them in order, so that slow listeners, like loggers, do not delay the commands. The recorded events keep references to the driver and elements, which are still used by the test thread, so only detached listeners, which never call them, are called in background. The other listeners are still called synchronously, before the event is recorded. Call {@link #flush()} to wait for the pending events, and {@link #sync()} or {@link #close()} to stop the background thread, like {@code AugmentedWebDriver.quit()} and {@code WebDriverManager.quit()} do.
+ * </p>
+ * <p>
+ * Registries can be chained: a registry created with a {@link #EventsRegistry(EventsRegistry) parent} dispatches each event to its own listeners and then to the listeners of its parent, as they are when the event happens, so that e.g. listeners registered on the driver see the events of elements that have their own listeners. Elements without listeners share the immutable {@link #empty()} registry.
+ * </p>
  * 
  * @author Leonardo Carmona da Silva
  *         <ul>
@@ -24,13 +39,76 @@ import lombok.ToString;
  * @since 1.0.0
  *
  */
-@ToString
+@ToString(exclude = { "attached", "detached" })
 public class EventsRegistry {
 
-    private List<AugmentedWebDriverEventListener> events;
+    private static final AugmentedWebDriverEventListener[] NO_LISTENERS        = new AugmentedWebDriverEventListener[0];
+
+    private static final int                               DEFAULT_SAMPLE_RATE = 10;
+
+    private static final EventsRegistry                    EMPTY               = new EventsRegistry(null, true);
+
+    private final EventsRegistry                           parent;
+    private final boolean                                  immutable;
+
+    private volatile AugmentedWebDriverEventListener[]     events;
+    private volatile AugmentedWebDriverEventListener[]     attached;
+    private volatile AugmentedWebDriverEventListener[]     detached;
+    private volatile AsyncEventsDispatcher                 dispatcher;
 
     public EventsRegistry() {
-        events = new ArrayList<>();
+        this(null, false);
+    }
+
+    /**
+     * Creates a registry that also dispatches its events to the listeners of another registry.
+     * 
+     * @param parent
+     *            The registry to chain to. Can be null.
+     * 
+     * @since 1.0.2
+     */
+    public EventsRegistry(EventsRegistry parent) {
+        this(parent, false);
+    }
+
+    private EventsRegistry(EventsRegistry parent, boolean immutable) {
+        this.parent = parent == EMPTY ? null : parent;
+        this.immutable = immutable;
+        this.setEvents(NO_LISTENERS);
+    }
+
+    /**
+     * Retrieves the shared registry without listeners. It cannot be changed.
+     * 
+     * @return The empty registry.
+     * 
+     * @since 1.0.2
+     */
+    public static EventsRegistry empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Retrieves the registry this registry is chained to.
+     * 
+     * @return The parent registry, or {@code null} if there is none.
+     * 
+     * @since 1.0.2
+     */
+    public EventsRegistry getParent() {
+        return parent;
+    }
+
+    /**
+     * Checks if the registry can be changed. Only the {@link #empty()} registry cannot.
+     * 
+     * @return {@code true} if listeners cannot be registered. Otherwise, {@code false}.
+     * 
+     * @since 1.0.2
+     */
+    public boolean isImmutable() {
+        return immutable;
     }
 
     /**
@@ -43,8 +121,13 @@ public class EventsRegistry {
      * 
      * @see AbstractAugmentedWebDriverEventListener
      */
-    public EventsRegistry register(AugmentedWebDriverEventListener eventListener) {
-        events.add(eventListener);
+    public synchronized EventsRegistry register(AugmentedWebDriverEventListener eventListener) {
+        this.checkMutable();
+
+        AugmentedWebDriverEventListener[] events = Arrays.copyOf(this.events, this.events.length + 1);
+        events[events.length - 1] = eventListener;
+
+        this.setEvents(events);
 
         return this;
     }
@@ -59,12 +142,36 @@ public class EventsRegistry {
      *
      * @see AbstractAugmentedWebDriverEventListener
      */
-    public EventsRegistry unregister(AugmentedWebDriverEventListener eventListener) {
-        events.remove(eventListener);
+    public synchronized EventsRegistry unregister(AugmentedWebDriverEventListener eventListener) {
+        AugmentedWebDriverEventListener[] events = this.events;
+
+        for (int i = 0; i < events.length; i++) {
+            if (Objects.equals(events[i], eventListener)) {
+                AugmentedWebDriverEventListener[] remaining = new AugmentedWebDriverEventListener[events.length - 1];
+
+                System.arraycopy(events, 0, remaining, 0, i);
+                System.arraycopy(events, i + 1, remaining, i, events.length - i - 1);
+
+                this.setEvents(remaining.length == 0 ? NO_LISTENERS : remaining);
+
+                break;
+            }
+        }
 
         return this;
     }
 
+    /**
+     * Checks if there are no registered event listeners, in this registry or in the registries it is chained to.
+     * 
+     * @return {@code true} if there are no event listeners. Otherwise, {@code false}.
+     * 
+     * @since 1.0.2
+     */
+    public boolean isEmpty() {
+        return events.length == 0 && (parent == null || parent.isEmpty());
+    }
+
     /**
      * Dispatch all the events. Example:
      * <ul>
@@ -75,14 +182,185 @@ public class EventsRegistry {
      *            A non-interfering action to perform on the elements.
      */
     public void dispatch(Consumer<? super AugmentedWebDriverEventListener> action) {
-        events.stream().forEach(action);
+        AsyncEventsDispatcher dispatcher = this.dispatcher;
+
+        if (dispatcher != null) {
+            AugmentedWebDriverEventListener[] detached = this.detached;
+
+            for (AugmentedWebDriverEventListener eventListener : this.attached) {
+                action.accept(eventListener);
+            }
+
+            if (detached.length > 0) {
+                dispatcher.submit(detached, action);
+            }
+        } else {
+            AugmentedWebDriverEventListener[] events = this.events;
+
+            for (AugmentedWebDriverEventListener eventListener : events) {
+                action.accept(eventListener);
+            }
+        }
+
+        if (parent != null) {
+            parent.dispatch(action);
+        }
     }
 
     /**
-     * Unregister all event listeners.
+     * Dispatch the events to the {@link DetachedEventListener detached listeners} in a background thread, sampling one of every 10 events under {@link BackpressurePolicy#SAMPLE}.
+     * 
+     * @param capacity
+     *            How many events can wait to be dispatched.
+     * 
+     * @param policy
+     *            What to do with the events when the buffer is full.
+     * 
+     * @return {@code this} to chain method calls.
+     * 
+     * @see #async(int, BackpressurePolicy, int)
+     * 
+     * @since 1.0.2
      */
-    public void close() {
-        events.clear();
+    public EventsRegistry async(int capacity, BackpressurePolicy policy) {
+        return this.async(capacity, policy, DEFAULT_SAMPLE_RATE);
+    }
+
+    /**
+     * Dispatch the events to the {@link DetachedEventListener detached listeners} in a background thread. The other listeners are still called synchronously. If the registry is already asynchronous, its pending events are dispatched before switching.
+     * 
+     * @param capacity
+     *            How many events can wait to be dispatched.
+     * 
+     * @param policy
+     *            What to do with the events when the buffer is full.
+     * 
+     * @param sampleRate
+     *            Under {@link BackpressurePolicy#SAMPLE}, one of every {@code sampleRate} events is kept once the buffer is half full.
+     * 
+     * @return {@code this} to chain method calls.
+     * 
+     * @since 1.0.2
+     */
+    public synchronized EventsRegistry async(int capacity, BackpressurePolicy policy, int sampleRate) {
+        this.checkMutable();
+
+        AsyncEventsDispatcher dispatcher = new AsyncEventsDispatcher(capacity, policy, sampleRate);
+
+        if (this.dispatcher != null) {
+            this.dispatcher.shutdown();
+        }
+
+        this.dispatcher = dispatcher;
+
+        return this;
+    }
+
+    /**
+     * Dispatch the events synchronously again, after dispatching the pending events and stopping the background thread.
+     * 
+     * @return {@code this} to chain method calls.
+     * 
+     * @since 1.0.2
+     */
+    public synchronized EventsRegistry sync() {
+        AsyncEventsDispatcher dispatcher = this.dispatcher;
+
+        if (dispatcher != null) {
+            this.dispatcher = null;
+
+            dispatcher.shutdown();
+        }
+
+        return this;
+    }
+
+    /**
+     * Checks if the events are dispatched in a background thread.
+     * 
+     * @return {@code true} if the registry is asynchronous. Otherwise, {@code false}.
+     * 
+     * @since 1.0.2
+     */
+    public boolean isAsync() {
+        return dispatcher != null;
+    }
+
+    /**
+     * Waits until all the events dispatched so far reach the listeners, of this registry and of the registries it is chained to. Does nothing for synchronous registries, or if called by a listener.
+     * 
+     * @since 1.0.2
+     */
+    public void flush() {
+        AsyncEventsDispatcher dispatcher = this.dispatcher;
+
+        if (dispatcher != null) {
+            dispatcher.flush();
+        }
+
+        if (parent != null) {
+            parent.flush();
+        }
+    }
+
+    /**
+     * Retrieves how many events were dropped by the {@link BackpressurePolicy} of the asynchronous mode.
+     * 
+     * @return The dropped events since the registry became asynchronous, or {@code 0} if it is synchronous.
+     * 
+     * @since 1.0.2
+     */
+    public long getDroppedEvents() {
+        AsyncEventsDispatcher dispatcher = this.dispatcher;
+
+        return dispatcher == null ? 0 : dispatcher.getDroppedEvents();
+    }
+
+    /**
+     * Retrieves how many calls to the {@link DetachedEventListener detached listeners} failed in the background thread of the asynchronous mode. Those failures cannot be thrown to the command that caused the event.
+     * 
+     * @return The failed calls since the registry became asynchronous, or {@code 0} if it is synchronous.
+     * 
+     * @since 1.0.2
+     */
+    public long getFailedEvents() {
+        AsyncEventsDispatcher dispatcher = this.dispatcher;
+
+        return dispatcher == null ? 0 : dispatcher.getFailedEvents();
+    }
+
+    /**
+     * Unregister all event listeners. The pending events of the asynchronous mode are dispatched and the registry becomes synchronous. The registries it is chained to are not changed.
+     */
+    public synchronized void close() {
+        this.sync();
+        this.setEvents(NO_LISTENERS);
+    }
+
+    /**
+     * Replaces the listeners, splitting the {@link DetachedEventListener detached} ones that the asynchronous mode calls in background.
+     */
+    private void setEvents(AugmentedWebDriverEventListener[] events) {
+        AugmentedWebDriverEventListener[] detached = Arrays.stream(events).filter(e -> e instanceof DetachedEventListener).toArray(AugmentedWebDriverEventListener[]::new);
+
+        if (detached.length == events.length) {
+            this.attached = NO_LISTENERS;
+            this.detached = events;
+        } else if (detached.length == 0) {
+            this.attached = events;
+            this.detached = NO_LISTENERS;
+        } else {
+            this.attached = Arrays.stream(events).filter(e -> !(e instanceof DetachedEventListener)).toArray(AugmentedWebDriverEventListener[]::new);
+            this.detached = detached;
+        }
+
+        this.events = events;
+    }
+
+    private void checkMutable() {
+        if (immutable) {
+            throw new UnsupportedOperationException("The empty events registry cannot be changed");
+        }
     }
 
 }
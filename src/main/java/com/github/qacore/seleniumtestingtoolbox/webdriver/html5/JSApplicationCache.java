@@ -1,6 +1,5 @@
 package com.github.qacore.seleniumtestingtoolbox.webdriver.html5;
 
-import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.html5.AppCacheStatus;
 import org.openqa.selenium.html5.ApplicationCache;
@@ -42,7 +41,7 @@ public class JSApplicationCache extends WebDriverContext implements ApplicationC
 
     @Override
     public AppCacheStatus getStatus() {
-        return AppCacheStatus.getEnum((int) (long) ((JavascriptExecutor) this.getWrappedDriver()).executeScript("return applicationCache.status"));
+        return AppCacheStatus.getEnum((int) (long) this.getWrappedDriver().executeScriptKeepingWindows("return applicationCache.status"));
     }
 
 }
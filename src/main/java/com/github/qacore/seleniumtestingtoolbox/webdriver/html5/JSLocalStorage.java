@@ -2,10 +2,11 @@ package com.github.qacore.seleniumtestingtoolbox.webdriver.html5;
 
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
-import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.html5.LocalStorage;
 import org.openqa.selenium.internal.WrapsDriver;
@@ -46,39 +47,65 @@ public class JSLocalStorage extends WebDriverContext implements LocalStorage {
 
     @Override
     public String getItem(String key) {
-        return (String) ((JavascriptExecutor) this.getWrappedDriver()).executeScript("return localStorage.getItem('" + key.replace("'", "\\'") + "')");
+        return (String) this.getWrappedDriver().executeScriptKeepingWindows("return localStorage.getItem(arguments[0]);", key);
     }
 
     @Override
     public Set<String> keySet() {
         @SuppressWarnings("unchecked")
-        List<String> keySet = (ArrayList<String>) ((JavascriptExecutor) this.getWrappedDriver()).executeScript("return Object.keys(localStorage)");
+        List<String> keySet = (ArrayList<String>) this.getWrappedDriver().executeScriptKeepingWindows("return Object.keys(localStorage)");
 
         return new HashSet<>(keySet);
     }
 
     @Override
     public void setItem(String key, String value) {
-        ((JavascriptExecutor) this.getWrappedDriver()).executeScript("localStorage.setItem('" + key.replace("'", "\\'") + "','" + value.replace("'", "\\'") + "');");
+        this.getWrappedDriver().executeScriptKeepingWindows("localStorage.setItem(arguments[0], arguments[1]);", key, value);
     }
 
     @Override
     public String removeItem(String key) {
-        String item = this.getItem(key);
-
-        ((JavascriptExecutor) this.getWrappedDriver()).executeScript("localStorage.removeItem('" + key.replace("'", "\\'") + "')");
-
-        return item;
+        return (String) this.getWrappedDriver().executeScriptKeepingWindows("var item = localStorage.getItem(arguments[0]); localStorage.removeItem(arguments[0]); return item;", key);
     }
 
     @Override
     public void clear() {
-        ((JavascriptExecutor) this.getWrappedDriver()).executeScript("localStorage.clear()");
+        this.getWrappedDriver().executeScriptKeepingWindows("localStorage.clear()");
     }
 
     @Override
     public int size() {
-        return (int) (long) ((JavascriptExecutor) this.getWrappedDriver()).executeScript("return localStorage.length");
+        return (int) (long) this.getWrappedDriver().executeScriptKeepingWindows("return localStorage.length");
+    }
+
+    /**
+     * Reads all the items of the storage with one script.
+     * 
+     * @return The items, by key.
+     * 
+     * @since 1.0.2
+     */
+    public Map<String, String> snapshot() {
+        Object items = this.getWrappedDriver().executeScriptKeepingWindows("var items = {}; for (var i = 0; i < localStorage.length; i++) { var key = localStorage.key(i); items[key] = localStorage.getItem(key); } return items;");
+        Map<String, String> snapshot = new LinkedHashMap<>();
+
+        if (items instanceof Map) {
+            ((Map<?, ?>) items).forEach((key, value) -> snapshot.put(String.valueOf(key), value == null ? null : String.valueOf(value)));
+        }
+
+        return snapshot;
+    }
+
+    /**
+     * Replaces all the items of the storage with one script, e.g. to restore a {@link #snapshot()} taken after a login instead of logging in again.
+     * 
+     * @param items
+     *            The items, by key.
+     * 
+     * @since 1.0.2
+     */
+    public void restore(Map<String, String> items) {
+        this.getWrappedDriver().executeScriptKeepingWindows("var items = arguments[0]; localStorage.clear(); for (var key in items) { if (Object.prototype.hasOwnProperty.call(items, key)) { localStorage.setItem(key, items[key]); } }", items);
     }
 
 }
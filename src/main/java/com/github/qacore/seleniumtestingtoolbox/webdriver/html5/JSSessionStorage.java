@@ -2,10 +2,11 @@ package com.github.qacore.seleniumtestingtoolbox.webdriver.html5;
 
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
-import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.html5.SessionStorage;
 import org.openqa.selenium.internal.WrapsDriver;
@@ -46,39 +47,65 @@ public class JSSessionStorage extends WebDriverContext implements SessionStorage
 
     @Override
     public String getItem(String key) {
-        return (String) ((JavascriptExecutor) this.getWrappedDriver()).executeScript("return sessionStorage.getItem('" + key.replace("'", "\\'") + "')");
+        return (String) this.getWrappedDriver().executeScriptKeepingWindows("return sessionStorage.getItem(arguments[0]);", key);
     }
 
     @Override
     public Set<String> keySet() {
         @SuppressWarnings("unchecked")
-        List<String> keySet = (ArrayList<String>) ((JavascriptExecutor) this.getWrappedDriver()).executeScript("return Object.keys(sessionStorage)");
+        List<String> keySet = (ArrayList<String>) this.getWrappedDriver().executeScriptKeepingWindows("return Object.keys(sessionStorage)");
 
         return new HashSet<>(keySet);
     }
 
     @Override
     public void setItem(String key, String value) {
-        ((JavascriptExecutor) this.getWrappedDriver()).executeScript("sessionStorage.setItem('" + key.replace("'", "\\'") + "','" + value.replace("'", "\\'") + "');");
+        this.getWrappedDriver().executeScriptKeepingWindows("sessionStorage.setItem(arguments[0], arguments[1]);", key, value);
     }
 
     @Override
     public String removeItem(String key) {
-        String item = this.getItem(key);
-
-        ((JavascriptExecutor) this.getWrappedDriver()).executeScript("sessionStorage.removeItem('" + key.replace("'", "\\'") + "')");
-
-        return item;
+        return (String) this.getWrappedDriver().executeScriptKeepingWindows("var item = sessionStorage.getItem(arguments[0]); sessionStorage.removeItem(arguments[0]); return item;", key);
     }
 
     @Override
     public void clear() {
-        ((JavascriptExecutor) this.getWrappedDriver()).executeScript("sessionStorage.clear()");
+        this.getWrappedDriver().executeScriptKeepingWindows("sessionStorage.clear()");
     }
 
     @Override
     public int size() {
-        return (int) (long) ((JavascriptExecutor) this.getWrappedDriver()).executeScript("return sessionStorage.length");
+        return (int) (long) this.getWrappedDriver().executeScriptKeepingWindows("return sessionStorage.length");
+    }
+
+    /**
+     * Reads all the items of the storage with one script.
+     * 
+     * @return The items, by key.
+     * 
+     * @since 1.0.2
+     */
+    public Map<String, String> snapshot() {
+        Object items = this.getWrappedDriver().executeScriptKeepingWindows("var items = {}; for (var i = 0; i < sessionStorage.length; i++) { var key = sessionStorage.key(i); items[key] = sessionStorage.getItem(key); } return items;");
+        Map<String, String> snapshot = new LinkedHashMap<>();
+
+        if (items instanceof Map) {
+            ((Map<?, ?>) items).forEach((key, value) -> snapshot.put(String.valueOf(key), value == null ? null : String.valueOf(value)));
+        }
+
+        return snapshot;
+    }
+
+    /**
+     * Replaces all the items of the storage with one script, e.g. to restore a {@link #snapshot()} taken after a login instead of logging in again.
+     * 
+     * @param items
+     *            The items, by key.
+     * 
+     * @since 1.0.2
+     */
+    public void restore(Map<String, String> items) {
+        this.getWrappedDriver().executeScriptKeepingWindows("var items = arguments[0]; sessionStorage.clear(); for (var key in items) { if (Object.prototype.hasOwnProperty.call(items, key)) { sessionStorage.setItem(key, items[key]); } }", items);
     }
 
 }
@@ -0,0 +1,308 @@
+package com.github.qacore.seleniumtestingtoolbox.webdriver.screenshots;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.imageio.ImageIO;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import com.github.qacore.seleniumtestingtoolbox.webdriver.AugmentedWebDriver;
+import com.github.qacore.seleniumtestingtoolbox.webdriver.AugmentedWebElement;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Screenshot of the page taken once and cropped in memory into element screenshots.
+ * <p>
+ * Element screenshots cost one remote call each, and some drivers take a screenshot of the whole page and crop it anyway. A snapshot takes one screenshot, reads the device pixel ratio and the scroll offsets of the page in one script, and crops the elements from the decoded image by their {@link WebElement#getRect() rectangles}. The rectangles of a {@link #crop(Map) batch} of elements are read in one script too.
+ * </p>
+ * <p>
+ * The crops show the page at the time of the snapshot: take a new snapshot after the page changes or scrolls.
+ * </p>
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/leocarmona">https://github.com/leocarmona</a></li>
+ *         <li><a href="mailto:lcdesenv@gmail.com">lcdesenv@gmail.com</a></li>
+ *         </ul>
+ *
+ * @see AugmentedWebElement#getScreenshotAs(OutputType, PageSnapshot)
+ *
+ * @since 1.0.2
+ *
+ */
+@Getter
+@ToString(exclude = { "driver", "image" })
+public class PageSnapshot {
+
+    private static final String VIEWPORT_SCRIPT = "return [window.devicePixelRatio || 1, window.pageXOffset || 0, window.pageYOffset || 0, window.innerWidth, window.innerHeight];";
+
+    private static final String RECTS_SCRIPT    = "var r = []; for (var i = 0; i < arguments.length; i++) {"
+            + " var b = arguments[i].getBoundingClientRect(); r.push([b.left + window.pageXOffset, b.top + window.pageYOffset, b.width, b.height]);"
+            + " } return r;";
+
+    private final WebDriver     driver;
+    private final BufferedImage image;
+
+    /**
+     * The number of image pixels per CSS pixel.
+     */
+    private final double        devicePixelRatio;
+
+    /**
+     * The horizontal scroll offset of the page, in CSS pixels, or {@code 0} if the image shows the whole page.
+     */
+    private final double        scrollX;
+
+    /**
+     * The vertical scroll offset of the page, in CSS pixels, or {@code 0} if the image shows the whole page.
+     */
+    private final double        scrollY;
+
+    private PageSnapshot(WebDriver driver, BufferedImage image, double devicePixelRatio, double scrollX, double scrollY) {
+        this.driver = driver;
+        this.image = image;
+        this.devicePixelRatio = devicePixelRatio;
+        this.scrollX = scrollX;
+        this.scrollY = scrollY;
+    }
+
+    /**
+     * Takes a snapshot of the page.
+     *
+     * @param driver
+     *            The driver.
+     *
+     * @return The snapshot.
+     *
+     * @throws WebDriverException
+     *             On screenshot failure.
+     */
+    public static PageSnapshot capture(WebDriver driver) throws WebDriverException {
+        if (!(driver instanceof TakesScreenshot)) {
+            throw new UnsupportedOperationException("Driver instance does not support taking screenshots");
+        }
+
+        BufferedImage image = decode(((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES));
+        double devicePixelRatio = 1;
+        double scrollX = 0;
+        double scrollY = 0;
+
+        Object viewport = script(driver, VIEWPORT_SCRIPT);
+
+        if (viewport instanceof List && ((List<?>) viewport).size() == 5) {
+            List<?> values = (List<?>) viewport;
+
+            devicePixelRatio = number(values.get(0), 1);
+
+            // drivers that capture the whole page instead of the viewport return images larger than the viewport, which are not scrolled
+            if (image.getWidth() <= Math.ceil(number(values.get(3), Double.MAX_VALUE) * devicePixelRatio) + 1) {
+                scrollX = number(values.get(1), 0);
+            }
+
+            if (image.getHeight() <= Math.ceil(number(values.get(4), Double.MAX_VALUE) * devicePixelRatio) + 1) {
+                scrollY = number(values.get(2), 0);
+            }
+        }
+
+        return new PageSnapshot(driver, image, devicePixelRatio, scrollX, scrollY);
+    }
+
+    /**
+     * Crops a rectangle of the page.
+     *
+     * @param rect
+     *            The rectangle, in CSS pixels relative to the page, like {@link WebElement#getRect()}.
+     *
+     * @return The cropped image, or {@code null} if the rectangle is outside of the snapshot. A rectangle partially outside of the snapshot is clipped.
+     */
+    public BufferedImage crop(Rectangle rect) {
+        return this.crop(rect.getX(), rect.getY(), rect.getWidth(), rect.getHeight());
+    }
+
+    /**
+     * Crops an element.
+     *
+     * @param element
+     *            The element.
+     *
+     * @param target
+     *            The output type.
+     *
+     * @return The screenshot of the element.
+     *
+     * @throws WebDriverException
+     *             If the element is outside of the snapshot.
+     */
+    public <X> X crop(WebElement element, OutputType<X> target) throws WebDriverException {
+        BufferedImage crop = this.crop(element.getRect());
+
+        if (crop == null) {
+            throw new WebDriverException("The element is outside of the snapshot: " + element);
+        }
+
+        return target.convertFromPngBytes(encode(crop));
+    }
+
+    /**
+     * Crops a batch of named elements, reading their rectangles in one script.
+     *
+     * @param elements
+     *            The elements by name.
+     *
+     * @return The PNG screenshots by name, in the order of the given map. Elements outside of the snapshot are left out.
+     */
+    public Map<String, byte[]> crop(Map<String, ? extends WebElement> elements) {
+        List<String> names = new ArrayList<>(elements.keySet());
+        List<double[]> rects = this.rects(elements.values());
+        Map<String, byte[]> crops = new LinkedHashMap<>();
+
+        for (int i = 0; i < names.size(); i++) {
+            double[] rect = rects.get(i);
+            BufferedImage crop = this.crop(rect[0], rect[1], rect[2], rect[3]);
+
+            if (crop != null) {
+                crops.put(names.get(i), encode(crop));
+            }
+        }
+
+        return crops;
+    }
+
+    /**
+     * Crops a batch of elements named by their {@link AugmentedWebElement#name() names}, like {@link #crop(Map)}.
+     *
+     * @param elements
+     *            The elements.
+     *
+     * @return The PNG screenshots by name. Elements without a name are named by their position in the collection, and repeated names get a {@code -2}, {@code -3}, ... suffix.
+     */
+    public Map<String, byte[]> crop(Collection<? extends AugmentedWebElement> elements) {
+        Map<String, AugmentedWebElement> named = new LinkedHashMap<>();
+        int index = 0;
+
+        for (AugmentedWebElement element : elements) {
+            String name = element.name() == null ? String.valueOf(index) : element.name();
+            String unique = name;
+
+            for (int i = 2; named.containsKey(unique); i++) {
+                unique = name + "-" + i;
+            }
+
+            named.put(unique, element);
+            index++;
+        }
+
+        return this.crop(named);
+    }
+
+    private BufferedImage crop(double x, double y, double width, double height) {
+        int left = (int) Math.max(0, Math.floor((x - scrollX) * devicePixelRatio));
+        int top = (int) Math.max(0, Math.floor((y - scrollY) * devicePixelRatio));
+        int right = (int) Math.min(image.getWidth(), Math.ceil((x - scrollX + width) * devicePixelRatio));
+        int bottom = (int) Math.min(image.getHeight(), Math.ceil((y - scrollY + height) * devicePixelRatio));
+
+        if (right <= left || bottom <= top) {
+            return null;
+        }
+
+        return image.getSubimage(left, top, right - left, bottom - top);
+    }
+
+    /**
+     * Reads the rectangles of the elements in one script, or one by one if the script is not supported.
+     */
+    private List<double[]> rects(Collection<? extends WebElement> elements) {
+        List<double[]> rects = new ArrayList<>(elements.size());
+        Object result = elements.isEmpty() ? null : script(driver, RECTS_SCRIPT, elements.toArray());
+
+        if (result instanceof List && ((List<?>) result).size() == elements.size()) {
+            for (Object rect : (List<?>) result) {
+                List<?> values = rect instanceof List ? (List<?>) rect : null;
+
+                if (values == null || values.size() != 4) {
+                    rects.clear();
+                    break;
+                }
+
+                rects.add(new double[] { number(values.get(0), 0), number(values.get(1), 0), number(values.get(2), 0), number(values.get(3), 0) });
+            }
+        }
+
+        if (rects.size() != elements.size()) {
+            rects.clear();
+
+            for (WebElement element : elements) {
+                Rectangle rect = element.getRect();
+
+                rects.add(new double[] { rect.getX(), rect.getY(), rect.getWidth(), rect.getHeight() });
+            }
+        }
+
+        return rects;
+    }
+
+    private static Object script(WebDriver driver, String script, Object... args) {
+        if (!(driver instanceof JavascriptExecutor)) {
+            return null;
+        }
+
+        try {
+            if (driver instanceof AugmentedWebDriver) {
+                return ((AugmentedWebDriver) driver).executeScriptKeepingWindows(script, args);
+            }
+
+            return ((JavascriptExecutor) driver).executeScript(script, args);
+        } catch (WebDriverException e) {
+            // falls back to the defaults and to WebElement.getRect()
+            return null;
+        }
+    }
+
+    private static double number(Object value, double defaultValue) {
+        return value instanceof Number ? ((Number) value).doubleValue() : defaultValue;
+    }
+
+    private static BufferedImage decode(byte[] png) {
+        try {
+            BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+
+            if (image == null) {
+                throw new WebDriverException("The screenshot is not an image");
+            }
+
+            return image;
+        } catch (IOException e) {
+            throw new WebDriverException(e);
+        }
+    }
+
+    private static byte[] encode(BufferedImage image) {
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+
+        try {
+            ImageIO.write(image, "png", png);
+        } catch (IOException e) {
+            throw new WebDriverException(e);
+        }
+
+        return png.toByteArray();
+    }
+
+}
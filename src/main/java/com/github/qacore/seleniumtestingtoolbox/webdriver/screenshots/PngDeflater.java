@@ -0,0 +1,172 @@
+package com.github.qacore.seleniumtestingtoolbox.webdriver.screenshots;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Lossless PNG recompression: the image data ({@code IDAT} chunks) is inflated and deflated again with the best compression level, keeping the pixels, the scanline filters and every other chunk as they are.
+ * <p>
+ * Browsers encode screenshots for speed, not for size, so the recompressed files are usually smaller, at the cost of CPU time on the writer threads.
+ * </p>
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/leocarmona">https://github.com/leocarmona</a></li>
+ *         <li><a href="mailto:lcdesenv@gmail.com">lcdesenv@gmail.com</a></li>
+ *         </ul>
+ *
+ * @since 1.0.2
+ *
+ */
+final class PngDeflater {
+
+    private static final byte[] SIGNATURE = { (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n' };
+
+    private static final int    IDAT      = 0x49444154;
+
+    private PngDeflater() {
+
+    }
+
+    /**
+     * Recompresses a PNG image.
+     *
+     * @param png
+     *            The PNG image.
+     *
+     * @return The recompressed image, or the given image if it is not a valid PNG image or if the recompressed image is not smaller.
+     */
+    static byte[] recompress(byte[] png) {
+        if (!isPng(png)) {
+            return png;
+        }
+
+        try {
+            ByteBuffer input = ByteBuffer.wrap(png, SIGNATURE.length, png.length - SIGNATURE.length);
+            ByteArrayOutputStream data = new ByteArrayOutputStream(png.length);
+            int firstData = -1;
+            int afterData = -1;
+
+            while (input.remaining() >= 12) {
+                int start = input.position();
+                int length = input.getInt();
+                int type = input.getInt();
+
+                if (length < 0 || length + 4 > input.remaining()) {
+                    return png;
+                }
+
+                if (type == IDAT) {
+                    if (afterData >= 0) {
+                        // IDAT chunks must be consecutive
+                        return png;
+                    }
+
+                    if (firstData < 0) {
+                        firstData = start;
+                    }
+
+                    data.write(png, input.position(), length);
+                } else if (firstData >= 0 && afterData < 0) {
+                    afterData = start;
+                }
+
+                input.position(input.position() + length + 4);
+            }
+
+            if (firstData < 0 || afterData < 0) {
+                return png;
+            }
+
+            byte[] compressed = deflate(inflate(data.toByteArray()));
+            int size = firstData + 12 + compressed.length + png.length - afterData;
+
+            if (size >= png.length) {
+                return png;
+            }
+
+            ByteBuffer output = ByteBuffer.allocate(size);
+            output.put(png, 0, firstData);
+            output.putInt(compressed.length);
+            output.putInt(IDAT);
+            output.put(compressed);
+
+            CRC32 crc = new CRC32();
+            crc.update("IDAT".getBytes(StandardCharsets.US_ASCII));
+            crc.update(compressed);
+
+            output.putInt((int) crc.getValue());
+            output.put(png, afterData, png.length - afterData);
+
+            return output.array();
+        } catch (DataFormatException | RuntimeException e) {
+            return png;
+        }
+    }
+
+    private static boolean isPng(byte[] bytes) {
+        if (bytes.length < SIGNATURE.length) {
+            return false;
+        }
+
+        for (int i = 0; i < SIGNATURE.length; i++) {
+            if (bytes[i] != SIGNATURE[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static byte[] inflate(byte[] bytes) throws DataFormatException {
+        Inflater inflater = new Inflater();
+
+        try {
+            inflater.setInput(bytes);
+
+            ByteArrayOutputStream output = new ByteArrayOutputStream(bytes.length * 4);
+            byte[] buffer = new byte[64 * 1024];
+
+            while (!inflater.finished()) {
+                int count = inflater.inflate(buffer);
+
+                if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataFormatException("Truncated image data");
+                }
+
+                output.write(buffer, 0, count);
+            }
+
+            return output.toByteArray();
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static byte[] deflate(byte[] bytes) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+
+        try {
+            deflater.setInput(bytes);
+            deflater.finish();
+
+            ByteArrayOutputStream output = new ByteArrayOutputStream(bytes.length / 4 + 64);
+            byte[] buffer = new byte[64 * 1024];
+
+            while (!deflater.finished()) {
+                output.write(buffer, 0, deflater.deflate(buffer));
+            }
+
+            return output.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+}
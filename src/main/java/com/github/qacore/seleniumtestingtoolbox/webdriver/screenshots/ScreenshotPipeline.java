@@ -0,0 +1,234 @@
+package com.github.qacore.seleniumtestingtoolbox.webdriver.screenshots;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriverException;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Captures screenshots on the calling thread and writes them to disk on a bounded pool of background threads.
+ * <p>
+ * Only the capture, which needs the browser, happens on the test thread: the PNG bytes are handed to a writer thread, which optionally recompresses them and writes them with a {@link FileChannel}. Each file is written next to its target and moved over it when complete, so readers never see a partial screenshot.
+ * </p>
+ * <p>
+ * The pool holds at most {@code capacity} pending screenshots. When it is full, the calling thread writes the screenshot itself, which bounds the memory held by pending screenshots and slows down a test that takes screenshots faster than the disk can write them, instead of losing screenshots.
+ * </p>
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/leocarmona">https://github.com/leocarmona</a></li>
+ *         <li><a href="mailto:lcdesenv@gmail.com">lcdesenv@gmail.com</a></li>
+ *         </ul>
+ *
+ * @see com.github.qacore.seleniumtestingtoolbox.webdriver.AugmentedTakesScreenshot#takeScreenShotAsync(String)
+ *
+ * @since 1.0.2
+ *
+ */
+@ToString(of = { "threads", "capacity", "recompress" })
+public class ScreenshotPipeline implements AutoCloseable {
+
+    private static final AtomicInteger THREADS = new AtomicInteger();
+
+    @Getter
+    private final int                  threads;
+
+    @Getter
+    private final int                  capacity;
+
+    @Getter
+    private final boolean              recompress;
+
+    private final ThreadPoolExecutor   executor;
+
+    /**
+     * Creates a pipeline with 2 writer threads, 32 pending screenshots and no recompression.
+     */
+    public ScreenshotPipeline() {
+        this(2, 32, false);
+    }
+
+    /**
+     * @param threads
+     *            The number of writer threads.
+     *
+     * @param capacity
+     *            The maximum number of screenshots waiting for a writer thread.
+     *
+     * @param recompress
+     *            {@code true} to recompress the PNG images with the best compression level before writing them.
+     */
+    public ScreenshotPipeline(int threads, int capacity, boolean recompress) {
+        if (threads < 1 || capacity < 1) {
+            throw new IllegalArgumentException("Threads and capacity must be positive: " + threads + ", " + capacity);
+        }
+
+        this.threads = threads;
+        this.capacity = capacity;
+        this.recompress = recompress;
+        this.executor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS, new ArrayBlockingQueue<>(capacity), runnable -> {
+            Thread thread = new Thread(runnable, "screenshot-writer-" + THREADS.incrementAndGet());
+            thread.setDaemon(true);
+
+            return thread;
+        }, (task, pool) -> {
+            if (pool.isShutdown()) {
+                throw new RejectedExecutionException("The screenshot pipeline is closed");
+            }
+
+            task.run();
+        });
+
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Retrieves the pipeline used by {@link com.github.qacore.seleniumtestingtoolbox.webdriver.AugmentedTakesScreenshot#takeScreenShotAsync(String)}. Its pending screenshots are written before the JVM exits.
+     *
+     * @return The default pipeline.
+     */
+    public static ScreenshotPipeline getDefault() {
+        return DefaultHolder.PIPELINE;
+    }
+
+    /**
+     * Captures a screenshot on the calling thread and writes it in background.
+     *
+     * @param source
+     *            The driver or element to capture.
+     *
+     * @param target
+     *            The file to write. Missing parent directories are created.
+     *
+     * @return The future of the written file. It fails with an {@link IOException} if the file cannot be written.
+     *
+     * @throws WebDriverException
+     *             On screenshot failure.
+     */
+    public Future<Path> capture(TakesScreenshot source, Path target) throws WebDriverException {
+        return this.submit(source.getScreenshotAs(OutputType.BYTES), target);
+    }
+
+    /**
+     * Writes a screenshot in background.
+     *
+     * @param png
+     *            The PNG image. It must not be modified after this call.
+     *
+     * @param target
+     *            The file to write. Missing parent directories are created.
+     *
+     * @return The future of the written file. It fails with an {@link IOException} if the file cannot be written.
+     *
+     * @throws RejectedExecutionException
+     *             If the pipeline is closed.
+     */
+    public Future<Path> submit(byte[] png, Path target) {
+        return executor.submit(() -> write(png, target, recompress));
+    }
+
+    /**
+     * Writes a screenshot on the calling thread.
+     *
+     * @param png
+     *            The PNG image.
+     *
+     * @param target
+     *            The file to write. Missing parent directories are created.
+     *
+     * @param recompress
+     *            {@code true} to recompress the PNG image with the best compression level before writing it.
+     *
+     * @return The written file.
+     *
+     * @throws IOException
+     *             If the file cannot be written.
+     */
+    public static Path write(byte[] png, Path target, boolean recompress) throws IOException {
+        byte[] bytes = recompress ? PngDeflater.recompress(png) : png;
+        Path parent = target.toAbsolutePath().getParent();
+
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+
+        // Files.createTempFile would make the screenshot readable by its owner only, so the file is created with the default permissions
+        Path temporary = target.toAbsolutePath().resolveSibling("." + target.getFileName() + "." + Long.toHexString(ThreadLocalRandom.current().nextLong()) + ".tmp");
+
+        try {
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.wrap(bytes);
+
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+
+            try {
+                Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+
+        return target;
+    }
+
+    /**
+     * Retrieves the number of screenshots submitted but not written yet.
+     *
+     * @return The number of pending screenshots.
+     */
+    public int getPending() {
+        return executor.getQueue().size() + executor.getActiveCount();
+    }
+
+    /**
+     * Stops accepting screenshots and waits until the pending ones are written.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+
+        try {
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Lazily created default pipeline.
+     */
+    private static final class DefaultHolder {
+
+        private static final ScreenshotPipeline PIPELINE = new ScreenshotPipeline();
+
+        static {
+            Runtime.getRuntime().addShutdownHook(new Thread(PIPELINE::close, "screenshot-writer-shutdown"));
+        }
+
+    }
+
+}
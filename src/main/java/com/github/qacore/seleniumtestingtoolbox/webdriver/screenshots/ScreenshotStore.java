@@ -0,0 +1,481 @@
+package com.github.qacore.seleniumtestingtoolbox.webdriver.screenshots;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import javax.imageio.ImageIO;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Content-addressed store of screenshots in a directory, e.g. one directory per test run.
+ * <p>
+ * Each screenshot is identified by the SHA-256 hash of its bytes, so a screenshot identical to a stored one is not written again. With deltas enabled, a screenshot that differs from the last key frame in less than half of its tiles of {@value #TILE_SIZE}x{@value #TILE_SIZE} pixels is stored as the changed tiles only, and rebuilt from the key frame by {@link #load(String)}.
+ * </p>
+ * <p>
+ * When the stored files exceed the maximum size, the least recently stored or loaded screenshots are deleted. Deleting a key frame deletes the deltas that depend on it too.
+ * </p>
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/leocarmona">https://github.com/leocarmona</a></li>
+ *         <li><a href="mailto:lcdesenv@gmail.com">lcdesenv@gmail.com</a></li>
+ *         </ul>
+ *
+ * @see com.github.qacore.seleniumtestingtoolbox.webdriver.AugmentedTakesScreenshot#takeScreenShot(ScreenshotStore)
+ *
+ * @since 1.0.2
+ *
+ */
+@ToString(of = { "directory", "maxBytes", "deltas", "size" })
+public class ScreenshotStore {
+
+    /**
+     * Width and height of the tiles compared by deltas, in pixels.
+     */
+    public static final int           TILE_SIZE = 64;
+
+    private static final String       PNG       = ".png";
+    private static final String       DELTA     = ".delta";
+    private static final int          MAGIC     = 0x53544431;
+
+    @Getter
+    private final Path                directory;
+
+    @Getter
+    private final long                maxBytes;
+
+    @Getter
+    private final boolean             deltas;
+
+    /**
+     * The stored screenshots, from the least to the most recently used.
+     */
+    private final Map<String, Stored> stored    = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long                      size;
+    private long                      duplicates;
+
+    private String                    keyFrameId;
+    private BufferedImage             keyFrame;
+
+    /**
+     * Creates a store without deltas.
+     *
+     * @param directory
+     *            The directory of the screenshots. It is created if it does not exist, and the screenshots already stored in it are kept.
+     *
+     * @param maxBytes
+     *            The maximum size of the stored files.
+     *
+     * @throws IOException
+     *             If the directory cannot be read.
+     */
+    public ScreenshotStore(Path directory, long maxBytes) throws IOException {
+        this(directory, maxBytes, false);
+    }
+
+    /**
+     * @param directory
+     *            The directory of the screenshots. It is created if it does not exist, and the screenshots already stored in it are kept.
+     *
+     * @param maxBytes
+     *            The maximum size of the stored files.
+     *
+     * @param deltas
+     *            {@code true} to store the screenshots similar to the last key frame as deltas.
+     *
+     * @throws IOException
+     *             If the directory cannot be read.
+     */
+    public ScreenshotStore(Path directory, long maxBytes, boolean deltas) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.maxBytes = maxBytes;
+        this.deltas = deltas;
+
+        this.index();
+    }
+
+    /**
+     * Stores a screenshot, unless an identical one is already stored.
+     *
+     * @param png
+     *            The PNG image.
+     *
+     * @return The id of the screenshot, the hexadecimal SHA-256 hash of its bytes.
+     *
+     * @throws IOException
+     *             If the screenshot cannot be written.
+     */
+    public synchronized String store(byte[] png) throws IOException {
+        String id = hash(png);
+
+        if (stored.get(id) != null) {
+            duplicates++;
+
+            return id;
+        }
+
+        BufferedImage image = deltas ? ImageIO.read(new ByteArrayInputStream(png)) : null;
+        byte[] delta = image == null || keyFrame == null ? null : this.delta(image);
+
+        if (delta != null) {
+            // access-ordered map: touching the key frame marks it as recently used, so it is not evicted before this delta
+            stored.get(keyFrameId);
+
+            this.write(id, DELTA, delta, keyFrameId);
+        } else {
+            this.write(id, PNG, png, null);
+
+            if (image != null) {
+                keyFrameId = id;
+                keyFrame = image;
+            }
+        }
+
+        this.evict(id);
+
+        return id;
+    }
+
+    /**
+     * Loads a screenshot.
+     *
+     * @param id
+     *            The id of the screenshot.
+     *
+     * @return The PNG image. Screenshots stored as deltas are encoded again, so their pixels are the stored ones but their bytes may differ.
+     *
+     * @throws NoSuchFileException
+     *             If the screenshot is not stored, or was evicted.
+     *
+     * @throws IOException
+     *             If the screenshot cannot be read.
+     */
+    public synchronized byte[] load(String id) throws IOException {
+        Stored screenshot = stored.get(id);
+
+        if (screenshot == null) {
+            throw new NoSuchFileException(directory.resolve(id + PNG).toString());
+        }
+
+        byte[] bytes = Files.readAllBytes(screenshot.path);
+
+        if (screenshot.keyFrame == null) {
+            return bytes;
+        }
+
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(this.load(screenshot.keyFrame)));
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+
+        apply(bytes, image);
+        ImageIO.write(image, "png", png);
+
+        return png.toByteArray();
+    }
+
+    /**
+     * Checks if a screenshot is stored.
+     *
+     * @param id
+     *            The id of the screenshot.
+     *
+     * @return {@code true} if the screenshot is stored. Otherwise, {@code false}.
+     */
+    public synchronized boolean contains(String id) {
+        return stored.containsKey(id);
+    }
+
+    /**
+     * Retrieves the number of stored screenshots.
+     *
+     * @return The number of stored screenshots.
+     */
+    public synchronized int getCount() {
+        return stored.size();
+    }
+
+    /**
+     * Retrieves the size of the stored files.
+     *
+     * @return The size, in bytes.
+     */
+    public synchronized long getSize() {
+        return size;
+    }
+
+    /**
+     * Retrieves the number of screenshots that were not stored again, because an identical screenshot was already stored.
+     *
+     * @return The number of duplicates.
+     */
+    public synchronized long getDuplicates() {
+        return duplicates;
+    }
+
+    /**
+     * Hashes bytes with SHA-256.
+     *
+     * @param bytes
+     *            The bytes.
+     *
+     * @return The hexadecimal hash.
+     */
+    public static String hash(byte[] bytes) {
+        byte[] digest;
+
+        try {
+            digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        StringBuilder hex = new StringBuilder(digest.length * 2);
+
+        for (byte b : digest) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+
+        return hex.toString();
+    }
+
+    /**
+     * Encodes the tiles of an image that differ from the key frame.
+     *
+     * @return The delta, or {@code null} if the image must be stored as a new key frame.
+     */
+    private byte[] delta(BufferedImage image) throws IOException {
+        int width = image.getWidth();
+        int height = image.getHeight();
+
+        if (width != keyFrame.getWidth() || height != keyFrame.getHeight()) {
+            return null;
+        }
+
+        int[] pixels = image.getRGB(0, 0, width, height, null, 0, width);
+        int[] keyPixels = keyFrame.getRGB(0, 0, width, height, null, 0, width);
+        List<int[]> changed = new ArrayList<>();
+        int tiles = 0;
+
+        for (int y = 0; y < height; y += TILE_SIZE) {
+            for (int x = 0; x < width; x += TILE_SIZE) {
+                tiles++;
+
+                if (!sameTile(pixels, keyPixels, width, x, y, Math.min(TILE_SIZE, width - x), Math.min(TILE_SIZE, height - y))) {
+                    changed.add(new int[] { x, y });
+                }
+            }
+        }
+
+        if (changed.size() * 2 > tiles) {
+            return null;
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream header = new DataOutputStream(bytes);
+        header.writeInt(MAGIC);
+        header.writeUTF(keyFrameId);
+        header.flush();
+
+        try (DataOutputStream output = new DataOutputStream(new DeflaterOutputStream(bytes))) {
+            output.writeInt(changed.size());
+
+            for (int[] tile : changed) {
+                int tileWidth = Math.min(TILE_SIZE, width - tile[0]);
+                int tileHeight = Math.min(TILE_SIZE, height - tile[1]);
+
+                output.writeInt(tile[0]);
+                output.writeInt(tile[1]);
+                output.writeInt(tileWidth);
+                output.writeInt(tileHeight);
+
+                for (int row = tile[1]; row < tile[1] + tileHeight; row++) {
+                    for (int column = tile[0]; column < tile[0] + tileWidth; column++) {
+                        output.writeInt(pixels[row * width + column]);
+                    }
+                }
+            }
+        }
+
+        return bytes.toByteArray();
+    }
+
+    private static boolean sameTile(int[] pixels, int[] keyPixels, int width, int x, int y, int tileWidth, int tileHeight) {
+        for (int row = y; row < y + tileHeight; row++) {
+            int offset = row * width + x;
+
+            for (int i = offset; i < offset + tileWidth; i++) {
+                if (pixels[i] != keyPixels[i]) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Copies the tiles of a delta into its key frame image.
+     */
+    private static void apply(byte[] delta, BufferedImage image) throws IOException {
+        InputStream bytes = new ByteArrayInputStream(delta);
+        DataInputStream header = new DataInputStream(bytes);
+
+        if (header.readInt() != MAGIC) {
+            throw new IOException("Not a screenshot delta");
+        }
+
+        header.readUTF();
+
+        try (DataInputStream input = new DataInputStream(new InflaterInputStream(bytes))) {
+            int count = input.readInt();
+
+            for (int i = 0; i < count; i++) {
+                int x = input.readInt();
+                int y = input.readInt();
+                int tileWidth = input.readInt();
+                int tileHeight = input.readInt();
+                int[] pixels = new int[tileWidth * tileHeight];
+
+                for (int p = 0; p < pixels.length; p++) {
+                    pixels[p] = input.readInt();
+                }
+
+                image.setRGB(x, y, tileWidth, tileHeight, pixels, 0, tileWidth);
+            }
+        }
+    }
+
+    private void write(String id, String extension, byte[] bytes, String keyFrame) throws IOException {
+        Path path = ScreenshotPipeline.write(bytes, directory.resolve(id + extension), false);
+
+        stored.put(id, new Stored(path, bytes.length, keyFrame));
+        size += bytes.length;
+    }
+
+    /**
+     * Deletes the least recently used screenshots until the store fits in its maximum size, keeping the screenshot just stored and its key frame.
+     */
+    private void evict(String id) throws IOException {
+        String keep = stored.get(id).keyFrame;
+
+        while (size > maxBytes && !stored.isEmpty()) {
+            String eldest = stored.keySet().iterator().next();
+
+            if (eldest.equals(id) || eldest.equals(keep)) {
+                break;
+            }
+
+            this.delete(eldest);
+        }
+    }
+
+    private void delete(String id) throws IOException {
+        Stored screenshot = stored.remove(id);
+
+        Files.deleteIfExists(screenshot.path);
+        size -= screenshot.size;
+
+        if (id.equals(keyFrameId)) {
+            keyFrameId = null;
+            keyFrame = null;
+        }
+
+        if (screenshot.keyFrame == null) {
+            List<String> dependents = new ArrayList<>();
+
+            stored.forEach((dependent, other) -> {
+                if (id.equals(other.keyFrame)) {
+                    dependents.add(dependent);
+                }
+            });
+
+            for (String dependent : dependents) {
+                this.delete(dependent);
+            }
+        }
+    }
+
+    /**
+     * Indexes the screenshots already stored in the directory, from the oldest to the newest.
+     */
+    private void index() throws IOException {
+        List<Path> paths = new ArrayList<>();
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*.{png,delta}")) {
+            stream.forEach(paths::add);
+        }
+
+        // key frames first, so the deltas written before them are indexed too
+        paths.sort(Comparator.comparing((Path path) -> path.getFileName().toString().endsWith(DELTA)).thenComparing(path -> path.toFile().lastModified()));
+
+        for (Path path : paths) {
+            String name = path.getFileName().toString();
+            String id = name.substring(0, name.lastIndexOf('.'));
+            String keyFrame = null;
+
+            if (name.endsWith(DELTA)) {
+                try (DataInputStream input = new DataInputStream(Files.newInputStream(path))) {
+                    if (input.readInt() != MAGIC) {
+                        continue;
+                    }
+
+                    keyFrame = input.readUTF();
+                }
+
+                if (!Files.exists(directory.resolve(keyFrame + PNG))) {
+                    // the key frame was deleted
+                    Files.delete(path);
+                    continue;
+                }
+            }
+
+            long length = Files.size(path);
+
+            stored.put(id, new Stored(path, length, keyFrame));
+            size += length;
+        }
+    }
+
+    /**
+     * A stored screenshot.
+     */
+    private static final class Stored {
+
+        private final Path   path;
+        private final long   size;
+
+        /**
+         * The id of the key frame of a delta, or {@code null} for a full screenshot.
+         */
+        private final String keyFrame;
+
+        private Stored(Path path, long size, String keyFrame) {
+            this.path = path;
+            this.size = size;
+            this.keyFrame = keyFrame;
+        }
+
+    }
+
+}
@@ -0,0 +1,4 @@
+/**
+ * Provides the screenshot capture and write support classes.
+ */
+package com.github.qacore.seleniumtestingtoolbox.webdriver.screenshots;
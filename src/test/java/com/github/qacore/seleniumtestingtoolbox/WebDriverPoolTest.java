@@ -0,0 +1,153 @@
+package com.github.qacore.seleniumtestingtoolbox;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.DriverCommand;
+
+import com.github.qacore.seleniumtestingtoolbox.stub.FailureDistribution;
+import com.github.qacore.seleniumtestingtoolbox.stub.StubWebDriver;
+import com.github.qacore.seleniumtestingtoolbox.webdriver.AugmentedWebDriver;
+
+/**
+ * Tests of {@link WebDriverPool}, with {@link StubWebDriver} sessions.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/leocarmona">https://github.com/leocarmona</a></li>
+ *         <li><a href="mailto:lcdesenv@gmail.com">lcdesenv@gmail.com</a></li>
+ *         </ul>
+ *
+ * @since 1.0.2
+ *
+ */
+public class WebDriverPoolTest {
+
+    private final List<StubWebDriver> stubs = new CopyOnWriteArrayList<>();
+
+    private WebDriverPool             pool;
+
+    @Before
+    public void setUp() {
+        pool = new WebDriverPool(() -> {
+            StubWebDriver stub = new StubWebDriver(stubs.size());
+            stubs.add(stub);
+
+            return stub;
+        }, 2);
+    }
+
+    @Test
+    public void warmUpCreatesSessionsUntilThePoolIsFull() {
+        pool.warmUp();
+
+        assertEquals(2, stubs.size());
+        assertEquals(2, pool.metrics().getIdleSessions());
+
+        AugmentedWebDriver first = pool.lease();
+        AugmentedWebDriver second = pool.lease();
+
+        assertTrue(pool.isLeased(first));
+        assertNotSame(first, second);
+        assertEquals(2, stubs.size());
+        assertEquals(0, pool.metrics().getIdleSessions());
+        assertEquals(2, pool.metrics().getLeasedSessions());
+    }
+
+    @Test
+    public void releasedSessionsAreResetAndLeasedAgain() {
+        AugmentedWebDriver driver = pool.lease();
+
+        driver.get("http://localhost/");
+        driver.openNewTab();
+        driver.getLocalStorage().setItem("token", "secret");
+
+        pool.release(driver);
+
+        assertFalse(pool.isLeased(driver));
+        assertEquals(1, driver.getWindowHandles().size());
+        assertEquals(StubWebDriver.BLANK, driver.getCurrentUrl());
+        assertEquals(0, stubs.get(0).getLocalStorage().size());
+
+        assertSame(driver, pool.lease());
+        assertEquals(1, stubs.size());
+        assertEquals(2, pool.metrics().getLeases());
+    }
+
+    @Test
+    public void sessionsAreQuitAfterTheMaximumNumberOfUses() {
+        pool.setMaxUsesPerSession(2);
+
+        pool.release(pool.lease());
+        pool.release(pool.lease());
+
+        assertEquals(1, this.quits(stubs.get(0)));
+        assertEquals(1, pool.metrics().getRecycledSessions());
+        assertEquals(0, pool.metrics().getSessions());
+
+        pool.lease();
+
+        assertEquals(2, stubs.size());
+    }
+
+    @Test
+    public void sessionsAreQuitWhenTheResetHookFails() {
+        pool.setResetHook(driver -> {
+            throw new WebDriverException("reset failed");
+        });
+
+        AugmentedWebDriver driver = pool.lease();
+
+        pool.release(driver);
+
+        assertEquals(1, this.quits(stubs.get(0)));
+        assertEquals(1, pool.metrics().getFailedResets());
+        assertEquals(0, pool.metrics().getSessions());
+        assertNotSame(driver, pool.lease());
+    }
+
+    @Test
+    public void failuresToQuitAreCountedAndReportedOnClose() {
+        pool.warmUp();
+        stubs.forEach(stub -> stub.failures(DriverCommand.QUIT, FailureDistribution.rate(1)));
+
+        AugmentedWebDriver driver = pool.lease();
+
+        try {
+            pool.close();
+
+            fail("Expected a WebDriverException");
+        } catch (WebDriverException e) {
+            assertEquals(1, e.getSuppressed().length);
+        }
+
+        pool.release(driver);
+
+        assertEquals(2, pool.metrics().getFailedQuits());
+        assertEquals(0, pool.metrics().getSessions());
+    }
+
+    @Test(expected = WebDriverException.class)
+    public void leasesTimeOutWhenThePoolIsFull() {
+        pool.lease();
+        pool.lease();
+        pool.lease(10, TimeUnit.MILLISECONDS);
+    }
+
+    private long quits(StubWebDriver stub) {
+        return stub.getCommandCounts().getOrDefault(DriverCommand.QUIT, 0L);
+    }
+
+}
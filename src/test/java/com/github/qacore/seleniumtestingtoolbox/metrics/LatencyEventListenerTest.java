@@ -0,0 +1,85 @@
+package com.github.qacore.seleniumtestingtoolbox.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.junit.Test;
+
+import com.github.qacore.seleniumtestingtoolbox.metrics.LatencyEventListener.Command;
+import com.github.qacore.seleniumtestingtoolbox.webdriver.DefaultAugmentedWebElement;
+
+/**
+ * Tests of {@link LatencyEventListener}.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/leocarmona">https://github.com/leocarmona</a></li>
+ *         <li><a href="mailto:lcdesenv@gmail.com">lcdesenv@gmail.com</a></li>
+ *         </ul>
+ *
+ * @since 1.0.2
+ *
+ */
+public class LatencyEventListenerTest {
+
+    private final LatencyEventListener latency = new LatencyEventListener();
+
+    @Test
+    public void nestedEventsOfTheSameCommandAreTimedSeparately() throws InterruptedException {
+        DefaultAugmentedWebElement outer = element("Outer");
+        DefaultAugmentedWebElement inner = element("Inner");
+
+        latency.beforeClickOn(outer, null);
+        Thread.sleep(20);
+        latency.beforeClickOn(inner, null);
+        latency.afterClickOn(inner, null);
+        latency.afterClickOn(outer, null);
+
+        assertEquals(2, latency.getCommandLatencies().get(Command.CLICK_ON).getCount());
+        assertTrue(latency.getElementLatencies().get("Inner").getMax() < latency.getElementLatencies().get("Outer").getMax());
+        assertTrue(latency.getElementLatencies().get("Outer").getMax() >= 20000000);
+    }
+
+    @Test
+    public void afterEventsWithoutBeforeEventsAreIgnored() {
+        latency.afterClickOn(element("Button"), null);
+
+        assertEquals(0, latency.getCommandLatencies().get(Command.CLICK_ON).getCount());
+        assertTrue(latency.getElementLatencies().isEmpty());
+    }
+
+    @Test
+    public void listItemsAreRecordedUnderTheNameOfTheList() {
+        for (int i = 0; i < 3; i++) {
+            DefaultAugmentedWebElement item = element("Item [" + i + "]");
+
+            latency.beforeClickOn(item, null);
+            latency.afterClickOn(item, null);
+        }
+
+        assertEquals(new HashSet<>(Arrays.asList("Item")), latency.getElementLatencies().keySet());
+        assertEquals(3, latency.getElementLatencies().get("Item").getCount());
+    }
+
+    @Test
+    public void elementNamesAreBounded() {
+        for (int i = 0; i < LatencyEventListener.MAX_ELEMENTS + 10; i++) {
+            DefaultAugmentedWebElement option = element("Option " + i);
+
+            latency.beforeClickOn(option, null);
+            latency.afterClickOn(option, null);
+        }
+
+        assertEquals(LatencyEventListener.MAX_ELEMENTS + 1, latency.getElementLatencies().size());
+        assertEquals(10, latency.getElementLatencies().get(LatencyEventListener.OTHER_ELEMENTS).getCount());
+    }
+
+    private static DefaultAugmentedWebElement element(String name) {
+        return new DefaultAugmentedWebElement(null, name, null);
+    }
+
+}
@@ -0,0 +1,106 @@
+package com.github.qacore.seleniumtestingtoolbox.pageobjects.factory;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.DriverCommand;
+import org.openqa.selenium.support.CacheLookup;
+import org.openqa.selenium.support.FindBy;
+
+import com.github.qacore.seleniumtestingtoolbox.WebPageFactory;
+import com.github.qacore.seleniumtestingtoolbox.annotations.Name;
+import com.github.qacore.seleniumtestingtoolbox.stub.StubElement;
+import com.github.qacore.seleniumtestingtoolbox.stub.StubWebDriver;
+import com.github.qacore.seleniumtestingtoolbox.webdriver.AugmentedWebDriver;
+import com.github.qacore.seleniumtestingtoolbox.webdriver.AugmentedWebElement;
+import com.github.qacore.seleniumtestingtoolbox.webdriver.DefaultAugmentedWebDriver;
+import com.github.qacore.seleniumtestingtoolbox.webdriver.internal.AugmentedWrapsDriver;
+
+/**
+ * Tests of {@link PagePrefetcher}, with the prefetch script simulated on the {@link StubWebDriver} DOM.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/leocarmona">https://github.com/leocarmona</a></li>
+ *         <li><a href="mailto:lcdesenv@gmail.com">lcdesenv@gmail.com</a></li>
+ *         </ul>
+ *
+ * @since 1.0.2
+ *
+ */
+public class PagePrefetcherTest {
+
+    private final StubElement   title = new StubElement("h1").id("title").text("Products");
+    private final StubElement[] items = { new StubElement("li").text("Keyboard"), new StubElement("li").text("Mouse"), new StubElement("li").text("Screen") };
+
+    private StubWebDriver       stub;
+    private ProductsPage        page;
+
+    @Before
+    public void setUp() {
+        stub = new StubWebDriver(42).page("http://localhost/", () -> new StubElement("html").child(new StubElement("body").child(title, new StubElement("ul").child(items))));
+        stub.script(script -> script.startsWith("var values = arguments"), (stub, args) -> Arrays.asList("title".equals(args[0]) ? title : null, "ul > li".equals(args[1]) ? Arrays.asList(items) : null));
+        stub.get("http://localhost/");
+
+        page = new ProductsPage(new DefaultAugmentedWebDriver(stub));
+
+        WebPageFactory.initElements(page);
+    }
+
+    @Test
+    public void cachedLookupsOfPrefetchedFieldsDoNotFindElements() {
+        assertEquals(2, WebPageFactory.prefetch(page));
+
+        assertEquals("Products", page.title.getText());
+        assertEquals(Arrays.asList("Keyboard", "Mouse", "Screen"), page.items.stream().map(WebElement::getText).collect(Collectors.toList()));
+        assertEquals("Products", page.title.getText());
+        assertEquals(3, page.items.size());
+
+        assertEquals(1L, this.count(DriverCommand.EXECUTE_SCRIPT));
+        assertEquals(0L, this.count(DriverCommand.FIND_ELEMENT));
+        assertEquals(0L, this.count(DriverCommand.FIND_ELEMENTS));
+    }
+
+    @Test
+    public void prefetchedListItemsAreNamedByTheirIndex() {
+        WebPageFactory.prefetch(page);
+
+        assertEquals(Arrays.asList("Item [0]", "Item [1]", "Item [2]"), page.items.stream().map(AugmentedWebElement::name).collect(Collectors.toList()));
+    }
+
+    private long count(String command) {
+        return stub.getCommandCounts().getOrDefault(command, 0L);
+    }
+
+    public static class ProductsPage implements AugmentedWrapsDriver {
+
+        private final AugmentedWebDriver driver;
+
+        @FindBy(id = "title")
+        @CacheLookup
+        private AugmentedWebElement       title;
+
+        @Name("Item")
+        @FindBy(css = "ul > li")
+        @CacheLookup
+        private List<AugmentedWebElement> items;
+
+        public ProductsPage(AugmentedWebDriver driver) {
+            this.driver = driver;
+        }
+
+        @Override
+        public AugmentedWebDriver getWrappedDriver() {
+            return driver;
+        }
+
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.github.qacore.seleniumtestingtoolbox.stub;
+
+import java.util.Random;
+import java.util.function.Function;
+
+import org.openqa.selenium.WebDriverException;
+
+/**
+ * Distribution of the simulated failures of the commands of a {@link StubWebDriver}.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/leocarmona">https://github.com/leocarmona</a></li>
+ *         <li><a href="mailto:lcdesenv@gmail.com">lcdesenv@gmail.com</a></li>
+ *         </ul>
+ *
+ * @see StubWebDriver#failures(FailureDistribution)
+ *
+ * @since 1.0.2
+ *
+ */
+@FunctionalInterface
+public interface FailureDistribution {
+
+    /**
+     * @param command
+     *            The name of the command, one of {@link org.openqa.selenium.remote.DriverCommand}.
+     *
+     * @param random
+     *            The random number generator of the driver, so a seeded driver is reproducible.
+     *
+     * @return The exception the command throws, or {@code null} if the command succeeds.
+     */
+    WebDriverException nextFailure(String command, Random random);
+
+    /**
+     * @return A distribution without failures.
+     */
+    static FailureDistribution none() {
+        return (command, random) -> null;
+    }
+
+    /**
+     * @param probability
+     *            The probability of a command to fail, between {@code 0} and {@code 1}.
+     *
+     * @return A distribution where commands fail with a {@link WebDriverException} at a rate.
+     */
+    static FailureDistribution rate(double probability) {
+        return rate(probability, command -> new WebDriverException("Simulated failure of " + command));
+    }
+
+    /**
+     * @param probability
+     *            The probability of a command to fail, between {@code 0} and {@code 1}.
+     *
+     * @param failure
+     *            Creates the exception of a failed command, given the name of the command. E.g. {@code TimeoutException::new}.
+     *
+     * @return A distribution where commands fail at a rate.
+     */
+    static FailureDistribution rate(double probability, Function<String, ? extends WebDriverException> failure) {
+        if (probability < 0 || probability > 1) {
+            throw new IllegalArgumentException("The probability must be between 0 and 1: " + probability);
+        }
+
+        return (command, random) -> random.nextDouble() < probability ? failure.apply(command) : null;
+    }
+
+}
@@ -0,0 +1,116 @@
+package com.github.qacore.seleniumtestingtoolbox.stub;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Distribution of the simulated latency of the commands of a {@link StubWebDriver}.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/leocarmona">https://github.com/leocarmona</a></li>
+ *         <li><a href="mailto:lcdesenv@gmail.com">lcdesenv@gmail.com</a></li>
+ *         </ul>
+ *
+ * @see StubWebDriver#latency(LatencyDistribution)
+ *
+ * @since 1.0.2
+ *
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+
+    /**
+     * @param random
+     *            The random number generator of the driver, so a seeded driver is reproducible.
+     *
+     * @return The latency of the next command, in nanoseconds. Negative values are treated as zero.
+     */
+    long nextNanos(Random random);
+
+    /**
+     * @return A distribution without latency.
+     */
+    static LatencyDistribution none() {
+        return random -> 0;
+    }
+
+    /**
+     * @param latency
+     *            The latency.
+     *
+     * @param unit
+     *            The unit of the latency.
+     *
+     * @return A distribution with a constant latency.
+     */
+    static LatencyDistribution fixed(long latency, TimeUnit unit) {
+        long nanos = unit.toNanos(latency);
+
+        return random -> nanos;
+    }
+
+    /**
+     * @param min
+     *            The minimum latency, inclusive.
+     *
+     * @param max
+     *            The maximum latency, exclusive.
+     *
+     * @param unit
+     *            The unit of the latencies.
+     *
+     * @return A distribution with latencies uniformly distributed between {@code min} and {@code max}.
+     */
+    static LatencyDistribution uniform(long min, long max, TimeUnit unit) {
+        long minNanos = unit.toNanos(min);
+        long range = unit.toNanos(max) - minNanos;
+
+        if (range <= 0) {
+            throw new IllegalArgumentException("The maximum latency must be greater than the minimum latency");
+        }
+
+        return random -> minNanos + (long) (random.nextDouble() * range);
+    }
+
+    /**
+     * @param mean
+     *            The mean latency.
+     *
+     * @param standardDeviation
+     *            The standard deviation of the latency.
+     *
+     * @param unit
+     *            The unit of the latencies.
+     *
+     * @return A normal distribution of latencies, truncated at zero.
+     */
+    static LatencyDistribution normal(long mean, long standardDeviation, TimeUnit unit) {
+        long meanNanos = unit.toNanos(mean);
+        long deviationNanos = unit.toNanos(standardDeviation);
+
+        return random -> Math.max(0, meanNanos + (long) (random.nextGaussian() * deviationNanos));
+    }
+
+    /**
+     * Log-normal distribution, the usual shape of network and browser latencies: most commands are close to the median, with a long tail of slow ones.
+     *
+     * @param median
+     *            The median latency.
+     *
+     * @param sigma
+     *            The standard deviation of the logarithm of the latency. {@code 0.5} gives a p99 about three times the median.
+     *
+     * @param unit
+     *            The unit of the median.
+     *
+     * @return A log-normal distribution of latencies.
+     */
+    static LatencyDistribution logNormal(long median, double sigma, TimeUnit unit) {
+        double mu = Math.log(unit.toNanos(median));
+
+        return random -> (long) Math.exp(mu + sigma * random.nextGaussian());
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.github.qacore.seleniumtestingtoolbox.stub;
+
+/**
+ * Simulates a script executed by a {@link StubWebDriver}.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/leocarmona">https://github.com/leocarmona</a></li>
+ *         <li><a href="mailto:lcdesenv@gmail.com">lcdesenv@gmail.com</a></li>
+ *         </ul>
+ *
+ * @see StubWebDriver#script(java.util.function.Predicate, ScriptHandler)
+ *
+ * @since 1.0.2
+ *
+ */
+@FunctionalInterface
+public interface ScriptHandler {
+
+    /**
+     * @param driver
+     *            The driver that executes the script.
+     *
+     * @param args
+     *            The arguments of the script. Elements are {@link StubWebElement}s.
+     *
+     * @return The result of the script, converted like {@link org.openqa.selenium.JavascriptExecutor#executeScript(String, Object...)} does: elements, lists, maps, strings, booleans, longs, doubles or {@code null}.
+     */
+    Object execute(StubWebDriver driver, Object... args);
+
+}
@@ -0,0 +1,323 @@
+package com.github.qacore.seleniumtestingtoolbox.stub;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.openqa.selenium.Rectangle;
+
+/**
+ * Node of the in-memory DOM of a {@link StubWebDriver}.
+ * <p>
+ * Nodes are built with a fluent API, e.g.:
+ * </p>
+ *
+ * <pre>
+ * new StubElement("form").id("login").child(
+ *         new StubElement("input").attribute("name", "username"),
+ *         new StubElement("button").attribute("type", "submit").text("Sign in"));
+ * </pre>
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/leocarmona">https://github.com/leocarmona</a></li>
+ *         <li><a href="mailto:lcdesenv@gmail.com">lcdesenv@gmail.com</a></li>
+ *         </ul>
+ *
+ * @see StubWebDriver#page(String, java.util.function.Supplier)
+ *
+ * @since 1.0.2
+ *
+ */
+public class StubElement {
+
+    static final List<String>         BOOLEAN_ATTRIBUTES = Arrays.asList("checked", "selected", "disabled", "readonly", "required", "multiple", "hidden", "autofocus");
+
+    private static final List<String> BLOCK_ELEMENTS     = Arrays.asList("address", "article", "aside", "blockquote", "br", "dd", "div", "dl", "dt", "fieldset", "footer", "form", "h1", "h2", "h3", "h4", "h5", "h6", "header", "hr", "li", "main", "nav", "ol", "option", "p", "pre", "section", "table", "tr", "ul");
+
+    private final String              tagName;
+    private final Map<String, String> attributes         = new LinkedHashMap<>();
+    private final List<StubElement>   children           = new ArrayList<>();
+
+    private StubElement               parent;
+    private String                    text               = "";
+    private boolean                   displayed          = true;
+    private Rectangle                 rect               = new Rectangle(0, 0, 20, 100);
+
+    /**
+     * @param tagName
+     *            The tag name, in any case.
+     */
+    public StubElement(String tagName) {
+        this.tagName = tagName.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Sets the {@code id} attribute.
+     *
+     * @param id
+     *            The id.
+     *
+     * @return {@code this} to chain method calls.
+     */
+    public StubElement id(String id) {
+        return this.attribute("id", id);
+    }
+
+    /**
+     * Sets an attribute.
+     *
+     * @param name
+     *            The attribute name.
+     *
+     * @param value
+     *            The attribute value, or {@code null} to remove the attribute. Boolean attributes, like {@code checked}, are set by any value.
+     *
+     * @return {@code this} to chain method calls.
+     */
+    public StubElement attribute(String name, String value) {
+        if (value == null) {
+            attributes.remove(name.toLowerCase(Locale.ROOT));
+        } else {
+            attributes.put(name.toLowerCase(Locale.ROOT), value);
+        }
+
+        return this;
+    }
+
+    /**
+     * Sets the text of the element, not counting its children.
+     *
+     * @param text
+     *            The text.
+     *
+     * @return {@code this} to chain method calls.
+     */
+    public StubElement text(String text) {
+        this.text = text == null ? "" : text;
+
+        return this;
+    }
+
+    /**
+     * Sets if the element is displayed. An element is only visible if its ancestors are displayed too.
+     *
+     * @param displayed
+     *            {@code true} if the element is displayed.
+     *
+     * @return {@code this} to chain method calls.
+     */
+    public StubElement displayed(boolean displayed) {
+        this.displayed = displayed;
+
+        return this;
+    }
+
+    /**
+     * Sets the location and size of the element.
+     *
+     * @param rect
+     *            The rectangle.
+     *
+     * @return {@code this} to chain method calls.
+     */
+    public StubElement rect(Rectangle rect) {
+        this.rect = rect;
+
+        return this;
+    }
+
+    /**
+     * Appends children to the element. Children of another element are moved.
+     *
+     * @param children
+     *            The children.
+     *
+     * @return {@code this} to chain method calls.
+     */
+    public StubElement child(StubElement... children) {
+        for (StubElement child : children) {
+            child.remove();
+            child.parent = this;
+
+            this.children.add(child);
+        }
+
+        return this;
+    }
+
+    /**
+     * Removes the element from its parent. Elements found in a removed element become stale.
+     *
+     * @return {@code this} to chain method calls.
+     */
+    public StubElement remove() {
+        if (parent != null) {
+            parent.children.remove(this);
+            parent = null;
+        }
+
+        return this;
+    }
+
+    public String getTagName() {
+        return tagName;
+    }
+
+    /**
+     * @param name
+     *            The attribute name.
+     *
+     * @return The attribute value, or {@code null} if it is not set.
+     */
+    public String getAttribute(String name) {
+        return attributes.get(name.toLowerCase(Locale.ROOT));
+    }
+
+    public boolean hasAttribute(String name) {
+        return attributes.containsKey(name.toLowerCase(Locale.ROOT));
+    }
+
+    public Map<String, String> getAttributes() {
+        return Collections.unmodifiableMap(attributes);
+    }
+
+    /**
+     * @return The text of the element, not counting its children.
+     */
+    public String getOwnText() {
+        return text;
+    }
+
+    /**
+     * @return The visible text of the element and of its displayed descendants, like {@link org.openqa.selenium.WebElement#getText()}.
+     */
+    public String getText() {
+        if (!displayed) {
+            return "";
+        }
+
+        StringBuilder builder = new StringBuilder();
+
+        this.appendText(builder);
+
+        return builder.toString().replaceAll("[ \\t]+", " ").replaceAll(" ?\n ?", "\n").replaceAll("\n+", "\n").trim();
+    }
+
+    public List<StubElement> getChildren() {
+        return Collections.unmodifiableList(children);
+    }
+
+    public StubElement getParent() {
+        return parent;
+    }
+
+    /**
+     * @return {@code true} if the element and all its ancestors are displayed.
+     */
+    public boolean isDisplayed() {
+        for (StubElement element = this; element != null; element = element.parent) {
+            if (!element.displayed || element.hasAttribute("hidden")) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    public Rectangle getRect() {
+        return rect;
+    }
+
+    /**
+     * @return The root of the tree of the element.
+     */
+    public StubElement getRoot() {
+        StubElement root = this;
+
+        while (root.parent != null) {
+            root = root.parent;
+        }
+
+        return root;
+    }
+
+    /**
+     * @return The descendants of the element, in document order.
+     */
+    public List<StubElement> getDescendants() {
+        List<StubElement> descendants = new ArrayList<>();
+
+        this.collectDescendants(descendants);
+
+        return descendants;
+    }
+
+    /**
+     * @return The element and its descendants as HTML.
+     */
+    public String toHtml() {
+        StringBuilder html = new StringBuilder();
+
+        this.appendHtml(html);
+
+        return html.toString();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder description = new StringBuilder("<").append(tagName);
+
+        attributes.forEach((name, value) -> description.append(' ').append(name).append("=\"").append(escape(value)).append('"'));
+
+        return description.append('>').toString();
+    }
+
+    private void appendText(StringBuilder builder) {
+        boolean block = BLOCK_ELEMENTS.contains(tagName);
+
+        if (block) {
+            builder.append('\n');
+        }
+
+        builder.append(text);
+
+        for (StubElement child : children) {
+            if (child.displayed && !child.hasAttribute("hidden") && !"script".equals(child.tagName) && !"style".equals(child.tagName) && !"head".equals(child.tagName)) {
+                builder.append(' ');
+                child.appendText(builder);
+            }
+        }
+
+        if (block) {
+            builder.append('\n');
+        }
+    }
+
+    private void collectDescendants(List<StubElement> descendants) {
+        for (StubElement child : children) {
+            descendants.add(child);
+            child.collectDescendants(descendants);
+        }
+    }
+
+    private void appendHtml(StringBuilder html) {
+        html.append(this.toString()).append(escape(text));
+
+        for (StubElement child : children) {
+            child.appendHtml(html);
+        }
+
+        html.append("</").append(tagName).append('>');
+    }
+
+    private static String escape(String value) {
+        return value.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+
+}
@@ -0,0 +1,163 @@
+package com.github.qacore.seleniumtestingtoolbox.stub;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.internal.FindsByClassName;
+import org.openqa.selenium.internal.FindsByCssSelector;
+import org.openqa.selenium.internal.FindsById;
+import org.openqa.selenium.internal.FindsByLinkText;
+import org.openqa.selenium.internal.FindsByName;
+import org.openqa.selenium.internal.FindsByTagName;
+import org.openqa.selenium.internal.FindsByXPath;
+
+/**
+ * Searches the descendants of a node of the DOM of a {@link StubWebDriver}, without simulating any latency or failure.
+ * <p>
+ * Every {@link By} of Selenium can search it, since it implements all the {@code FindsBy} interfaces.
+ * </p>
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/leocarmona">https://github.com/leocarmona</a></li>
+ *         <li><a href="mailto:lcdesenv@gmail.com">lcdesenv@gmail.com</a></li>
+ *         </ul>
+ *
+ * @since 1.0.2
+ *
+ */
+class StubSearchContext implements SearchContext, FindsById, FindsByName, FindsByClassName, FindsByTagName, FindsByCssSelector, FindsByXPath, FindsByLinkText {
+
+    private final StubWebDriver driver;
+    private final StubElement   context;
+
+    StubSearchContext(StubWebDriver driver, StubElement context) {
+        this.driver = driver;
+        this.context = context;
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        return by.findElements(this);
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        List<WebElement> elements = by.findElements(this);
+
+        if (elements.isEmpty()) {
+            throw new NoSuchElementException("Cannot locate an element using " + by);
+        }
+
+        return elements.get(0);
+    }
+
+    @Override
+    public WebElement findElementById(String using) {
+        return this.first(this.findElementsById(using), "id", using);
+    }
+
+    @Override
+    public List<WebElement> findElementsById(String using) {
+        return this.filter(e -> using.equals(e.getAttribute("id")));
+    }
+
+    @Override
+    public WebElement findElementByName(String using) {
+        return this.first(this.findElementsByName(using), "name", using);
+    }
+
+    @Override
+    public List<WebElement> findElementsByName(String using) {
+        return this.filter(e -> using.equals(e.getAttribute("name")));
+    }
+
+    @Override
+    public WebElement findElementByClassName(String using) {
+        return this.first(this.findElementsByClassName(using), "class name", using);
+    }
+
+    @Override
+    public List<WebElement> findElementsByClassName(String using) {
+        return this.filter(e -> StubSelectors.hasClass(e, using));
+    }
+
+    @Override
+    public WebElement findElementByTagName(String using) {
+        return this.first(this.findElementsByTagName(using), "tag name", using);
+    }
+
+    @Override
+    public List<WebElement> findElementsByTagName(String using) {
+        return this.filter(e -> e.getTagName().equalsIgnoreCase(using));
+    }
+
+    @Override
+    public WebElement findElementByCssSelector(String using) {
+        return this.first(this.findElementsByCssSelector(using), "css selector", using);
+    }
+
+    @Override
+    public List<WebElement> findElementsByCssSelector(String using) {
+        return this.wrap(StubSelectors.css(context, using));
+    }
+
+    @Override
+    public WebElement findElementByXPath(String using) {
+        return this.first(this.findElementsByXPath(using), "xpath", using);
+    }
+
+    @Override
+    public List<WebElement> findElementsByXPath(String using) {
+        return this.wrap(StubSelectors.xpath(context, using));
+    }
+
+    @Override
+    public WebElement findElementByLinkText(String using) {
+        return this.first(this.findElementsByLinkText(using), "link text", using);
+    }
+
+    @Override
+    public List<WebElement> findElementsByLinkText(String using) {
+        return this.filter(e -> "a".equals(e.getTagName()) && e.isDisplayed() && e.getText().equals(using.trim()));
+    }
+
+    @Override
+    public WebElement findElementByPartialLinkText(String using) {
+        return this.first(this.findElementsByPartialLinkText(using), "partial link text", using);
+    }
+
+    @Override
+    public List<WebElement> findElementsByPartialLinkText(String using) {
+        return this.filter(e -> "a".equals(e.getTagName()) && e.isDisplayed() && e.getText().contains(using));
+    }
+
+    private List<WebElement> filter(Predicate<StubElement> condition) {
+        return this.wrap(StubSelectors.filter(context, condition));
+    }
+
+    private List<WebElement> wrap(List<StubElement> nodes) {
+        List<WebElement> elements = new ArrayList<>(nodes.size());
+
+        for (StubElement node : nodes) {
+            elements.add(new StubWebElement(driver, node));
+        }
+
+        return elements;
+    }
+
+    private WebElement first(List<WebElement> elements, String mechanism, String using) {
+        if (elements.isEmpty()) {
+            throw new NoSuchElementException("Cannot locate an element using " + mechanism + "=" + using);
+        }
+
+        return elements.get(0);
+    }
+
+}
@@ -0,0 +1,1125 @@
+package com.github.qacore.seleniumtestingtoolbox.stub;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.openqa.selenium.InvalidSelectorException;
+
+/**
+ * Evaluates locators over the DOM of a {@link StubWebDriver}.
+ * <p>
+ * Supports the subsets of CSS and XPath used by page objects: CSS type, universal, id, class, attribute ({@code = ~= |= ^= $= *=}) and {@code :first-child}, {@code :last-child}, {@code :nth-child(n)}, {@code :checked}, {@code :disabled}, {@code :enabled} and {@code :not(...)} selectors with all combinators; XPath location paths with all element axes, name tests and predicates with positions, {@code and}, {@code or}, comparisons, attributes, relative paths and the {@code text}, {@code contains}, {@code starts-with}, {@code normalize-space}, {@code not}, {@code position}, {@code last}, {@code string-length} and {@code name} functions. Other locators are rejected with an {@link InvalidSelectorException}.
+ * </p>
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/leocarmona">https://github.com/leocarmona</a></li>
+ *         <li><a href="mailto:lcdesenv@gmail.com">lcdesenv@gmail.com</a></li>
+ *         </ul>
+ *
+ * @since 1.0.2
+ *
+ */
+final class StubSelectors {
+
+    private StubSelectors() {
+
+    }
+
+    /**
+     * Finds the descendants of the context that match a condition, in document order.
+     */
+    static List<StubElement> filter(StubElement context, Predicate<StubElement> condition) {
+        List<StubElement> found = new ArrayList<>();
+
+        for (StubElement element : context.getDescendants()) {
+            if (condition.test(element)) {
+                found.add(element);
+            }
+        }
+
+        return found;
+    }
+
+    static boolean hasClass(StubElement element, String className) {
+        String classes = element.getAttribute("class");
+
+        return classes != null && Arrays.asList(classes.trim().split("\\s+")).contains(className);
+    }
+
+    /**
+     * Finds the descendants of the context that match a CSS selector, in document order.
+     */
+    static List<StubElement> css(StubElement context, String selector) {
+        List<Css> selectors = new ArrayList<>();
+
+        for (String part : split(selector, ',')) {
+            selectors.add(new Css(part.trim(), selector));
+        }
+
+        return filter(context, element -> selectors.stream().anyMatch(css -> css.matches(element)));
+    }
+
+    /**
+     * Finds the elements selected by an XPath expression from the context, in document order.
+     */
+    static List<StubElement> xpath(StubElement context, String expression) {
+        XPath xpath = new XPath(expression);
+        List<StubElement> found = xpath.select(context);
+
+        return sort(context.getRoot(), found);
+    }
+
+    private static List<StubElement> sort(StubElement root, List<StubElement> elements) {
+        if (elements.size() < 2) {
+            return elements;
+        }
+
+        Map<StubElement, Integer> order = new IdentityHashMap<>();
+
+        order.put(root, 0);
+
+        for (StubElement element : root.getDescendants()) {
+            order.put(element, order.size());
+        }
+
+        List<StubElement> sorted = new ArrayList<>(elements);
+
+        sorted.sort((a, b) -> Integer.compare(order.getOrDefault(a, -1), order.getOrDefault(b, -1)));
+
+        return sorted;
+    }
+
+    static List<String> split(String value, char separator) {
+        List<String> parts = new ArrayList<>();
+        int depth = 0;
+        char quote = 0;
+        int start = 0;
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+
+            if (quote != 0) {
+                if (c == '\\') {
+                    i++;
+                } else if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '\'' || c == '"') {
+                quote = c;
+            } else if (c == '[' || c == '(') {
+                depth++;
+            } else if (c == ']' || c == ')') {
+                depth--;
+            } else if (c == separator && depth == 0) {
+                parts.add(value.substring(start, i));
+                start = i + 1;
+            }
+        }
+
+        parts.add(value.substring(start));
+
+        return parts;
+    }
+
+    private static boolean isElement(StubElement element) {
+        return !element.getTagName().startsWith("#");
+    }
+
+    private static boolean isNameChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '-' || c == '_';
+    }
+
+    private static String textContent(StubElement element) {
+        StringBuilder text = new StringBuilder(element.getOwnText());
+
+        for (StubElement child : element.getChildren()) {
+            text.append(textContent(child));
+        }
+
+        return text.toString();
+    }
+
+    /**
+     * Complex CSS selector: compound selectors joined by combinators, matched from right to left.
+     */
+    private static final class Css {
+
+        private final String                          selector;
+        private final List<Predicate<StubElement>>    compounds   = new ArrayList<>();
+        private final List<Character>                 combinators = new ArrayList<>();
+
+        private int                                   position;
+
+        private Css(String selector, String whole) {
+            this.selector = selector;
+
+            if (selector.isEmpty()) {
+                throw new InvalidSelectorException("Invalid CSS selector: " + whole);
+            }
+
+            compounds.add(this.compound());
+
+            while (position < selector.length()) {
+                boolean whitespace = this.skipWhitespace();
+
+                if (position >= selector.length()) {
+                    break;
+                }
+
+                char c = selector.charAt(position);
+
+                if (c == '>' || c == '+' || c == '~') {
+                    position++;
+                    this.skipWhitespace();
+                    combinators.add(c);
+                } else if (whitespace) {
+                    combinators.add(' ');
+                } else {
+                    throw new InvalidSelectorException("Unsupported CSS selector: " + whole);
+                }
+
+                compounds.add(this.compound());
+            }
+        }
+
+        private boolean matches(StubElement element) {
+            return this.matches(compounds.size() - 1, element);
+        }
+
+        private boolean matches(int index, StubElement element) {
+            if (element == null || !isElement(element) || !compounds.get(index).test(element)) {
+                return false;
+            }
+
+            if (index == 0) {
+                return true;
+            }
+
+            switch (combinators.get(index - 1)) {
+                case '>':
+                    return this.matches(index - 1, element.getParent());
+
+                case '+':
+                    return this.matches(index - 1, previousSibling(element));
+
+                case '~':
+                    for (StubElement sibling = previousSibling(element); sibling != null; sibling = previousSibling(sibling)) {
+                        if (this.matches(index - 1, sibling)) {
+                            return true;
+                        }
+                    }
+
+                    return false;
+
+                default:
+                    for (StubElement ancestor = element.getParent(); ancestor != null; ancestor = ancestor.getParent()) {
+                        if (this.matches(index - 1, ancestor)) {
+                            return true;
+                        }
+                    }
+
+                    return false;
+            }
+        }
+
+        private Predicate<StubElement> compound() {
+            List<Predicate<StubElement>> conditions = new ArrayList<>();
+            int start = position;
+
+            if (position < selector.length() && selector.charAt(position) == '*') {
+                position++;
+            } else {
+                String tag = this.name();
+
+                if (!tag.isEmpty()) {
+                    String tagName = tag.toLowerCase(Locale.ROOT);
+
+                    conditions.add(e -> e.getTagName().equals(tagName));
+                }
+            }
+
+            while (position < selector.length()) {
+                char c = selector.charAt(position);
+
+                if (c == '#') {
+                    position++;
+                    String id = this.name();
+
+                    conditions.add(e -> id.equals(e.getAttribute("id")));
+                } else if (c == '.') {
+                    position++;
+                    String className = this.name();
+
+                    conditions.add(e -> hasClass(e, className));
+                } else if (c == '[') {
+                    position++;
+                    conditions.add(this.attribute());
+                } else if (c == ':') {
+                    position++;
+                    conditions.add(this.pseudoClass());
+                } else {
+                    break;
+                }
+            }
+
+            if (position == start) {
+                throw new InvalidSelectorException("Invalid CSS selector: " + selector);
+            }
+
+            return e -> conditions.stream().allMatch(condition -> condition.test(e));
+        }
+
+        private Predicate<StubElement> attribute() {
+            this.skipWhitespace();
+
+            String name = this.name();
+
+            this.skipWhitespace();
+
+            if (this.consume("]")) {
+                return e -> e.hasAttribute(name);
+            }
+
+            String operator = this.consume("=") ? "=" : selector.substring(position, Math.min(position + 2, selector.length()));
+
+            if (!"=".equals(operator)) {
+                if (!Arrays.asList("~=", "|=", "^=", "$=", "*=").contains(operator)) {
+                    throw new InvalidSelectorException("Invalid CSS attribute selector: " + selector);
+                }
+
+                position += 2;
+            }
+
+            this.skipWhitespace();
+
+            String value = this.value();
+
+            this.skipWhitespace();
+
+            if (!this.consume("]")) {
+                throw new InvalidSelectorException("Invalid CSS attribute selector: " + selector);
+            }
+
+            return e -> {
+                String actual = e.getAttribute(name);
+
+                if (actual == null) {
+                    return false;
+                }
+
+                switch (operator) {
+                    case "~=":
+                        return Arrays.asList(actual.trim().split("\\s+")).contains(value);
+
+                    case "|=":
+                        return actual.equals(value) || actual.startsWith(value + "-");
+
+                    case "^=":
+                        return !value.isEmpty() && actual.startsWith(value);
+
+                    case "$=":
+                        return !value.isEmpty() && actual.endsWith(value);
+
+                    case "*=":
+                        return !value.isEmpty() && actual.contains(value);
+
+                    default:
+                        return actual.equals(value);
+                }
+            };
+        }
+
+        private Predicate<StubElement> pseudoClass() {
+            String name = this.name();
+            String argument = null;
+
+            if (this.consume("(")) {
+                int depth = 1;
+                int start = position;
+
+                while (position < selector.length() && depth > 0) {
+                    char c = selector.charAt(position++);
+
+                    depth += c == '(' ? 1 : c == ')' ? -1 : 0;
+                }
+
+                argument = selector.substring(start, position - 1).trim();
+            }
+
+            switch (name) {
+                case "first-child":
+                    return e -> previousSibling(e) == null;
+
+                case "last-child":
+                    return e -> nextSibling(e) == null;
+
+                case "nth-child":
+                    try {
+                        int n = Integer.parseInt(argument);
+
+                        return e -> e.getParent() != null && e.getParent().getChildren().indexOf(e) + 1 == n;
+                    } catch (NumberFormatException | NullPointerException e) {
+                        throw new InvalidSelectorException("Unsupported CSS selector: " + selector);
+                    }
+
+                case "checked":
+                    return e -> e.hasAttribute("checked") || e.hasAttribute("selected");
+
+                case "disabled":
+                    return e -> e.hasAttribute("disabled");
+
+                case "enabled":
+                    return e -> !e.hasAttribute("disabled");
+
+                case "not":
+                    if (argument == null) {
+                        throw new InvalidSelectorException("Invalid CSS selector: " + selector);
+                    }
+
+                    Css negated = new Css(argument, selector);
+
+                    return e -> !negated.matches(e);
+
+                default:
+                    throw new InvalidSelectorException("Unsupported CSS pseudo-class :" + name + " in " + selector);
+            }
+        }
+
+        private String name() {
+            int start = position;
+
+            while (position < selector.length() && isNameChar(selector.charAt(position))) {
+                position++;
+            }
+
+            return selector.substring(start, position);
+        }
+
+        private String value() {
+            if (position < selector.length() && (selector.charAt(position) == '\'' || selector.charAt(position) == '"')) {
+                char quote = selector.charAt(position);
+                int end = selector.indexOf(quote, position + 1);
+
+                if (end < 0) {
+                    throw new InvalidSelectorException("Invalid CSS selector: " + selector);
+                }
+
+                String value = selector.substring(position + 1, end);
+
+                position = end + 1;
+
+                return value;
+            }
+
+            return this.name();
+        }
+
+        private boolean consume(String token) {
+            if (selector.startsWith(token, position)) {
+                position += token.length();
+
+                return true;
+            }
+
+            return false;
+        }
+
+        private boolean skipWhitespace() {
+            int start = position;
+
+            while (position < selector.length() && Character.isWhitespace(selector.charAt(position))) {
+                position++;
+            }
+
+            return position > start;
+        }
+
+    }
+
+    private static StubElement previousSibling(StubElement element) {
+        StubElement parent = element.getParent();
+
+        if (parent == null) {
+            return null;
+        }
+
+        List<StubElement> siblings = parent.getChildren();
+        int index = siblings.indexOf(element);
+
+        return index > 0 ? siblings.get(index - 1) : null;
+    }
+
+    private static StubElement nextSibling(StubElement element) {
+        StubElement parent = element.getParent();
+
+        if (parent == null) {
+            return null;
+        }
+
+        List<StubElement> siblings = parent.getChildren();
+        int index = siblings.indexOf(element);
+
+        return index + 1 < siblings.size() ? siblings.get(index + 1) : null;
+    }
+
+    /**
+     * XPath expression, parsed by recursive descent into steps and predicate functions.
+     */
+    private static final class XPath {
+
+        private final String     expression;
+        private int              position;
+
+        private final List<Path> paths = new ArrayList<>();
+
+        private XPath(String expression) {
+            this.expression = expression;
+
+            paths.add(this.path());
+
+            while (this.consume("|")) {
+                paths.add(this.path());
+            }
+
+            this.skipWhitespace();
+
+            if (position < expression.length()) {
+                throw this.invalid();
+            }
+        }
+
+        private List<StubElement> select(StubElement context) {
+            Set<StubElement> selected = new LinkedHashSet<>();
+
+            for (Path path : paths) {
+                selected.addAll(path.select(context));
+            }
+
+            return new ArrayList<>(selected);
+        }
+
+        private Path path() {
+            this.skipWhitespace();
+
+            Path path = new Path();
+
+            if (this.consume("//")) {
+                path.absolute = true;
+                path.steps.add(new Step("descendant-or-self", "node()"));
+            } else if (this.consume("/")) {
+                path.absolute = true;
+
+                this.skipWhitespace();
+
+                if (position >= expression.length() || expression.charAt(position) == '|') {
+                    return path;
+                }
+            }
+
+            path.steps.add(this.step());
+
+            while (true) {
+                if (this.consume("//")) {
+                    path.steps.add(new Step("descendant-or-self", "node()"));
+                } else if (!this.consume("/")) {
+                    break;
+                }
+
+                path.steps.add(this.step());
+            }
+
+            return path;
+        }
+
+        private Step step() {
+            this.skipWhitespace();
+
+            Step step;
+
+            if (this.consume("..")) {
+                step = new Step("parent", "node()");
+            } else if (this.consume(".")) {
+                step = new Step("self", "node()");
+            } else {
+                String name = this.name();
+
+                if (name.isEmpty() && this.consume("*")) {
+                    name = "*";
+                }
+
+                if (this.consume("::")) {
+                    String test = this.consume("*") ? "*" : this.name();
+
+                    if (test.isEmpty()) {
+                        throw this.invalid();
+                    }
+
+                    step = new Step(name, this.nodeTest(test));
+                } else if (name.isEmpty()) {
+                    throw this.invalid();
+                } else {
+                    step = new Step("child", this.nodeTest(name));
+                }
+
+                if (!Arrays.asList("child", "descendant", "descendant-or-self", "self", "parent", "ancestor", "ancestor-or-self", "following", "following-sibling", "preceding", "preceding-sibling").contains(step.axis)) {
+                    throw new InvalidSelectorException("Unsupported XPath axis " + step.axis + " in " + expression);
+                }
+            }
+
+            this.skipWhitespace();
+
+            while (this.consume("[")) {
+                step.predicates.add(this.or());
+
+                if (!this.consume("]")) {
+                    throw this.invalid();
+                }
+
+                this.skipWhitespace();
+            }
+
+            return step;
+        }
+
+        private String nodeTest(String name) {
+            if (this.consume("()")) {
+                if (!"node".equals(name)) {
+                    throw new InvalidSelectorException("Only elements can be located, not " + name + "() in " + expression);
+                }
+
+                return "node()";
+            }
+
+            return name;
+        }
+
+        private Expression or() {
+            Expression left = this.and();
+
+            while (this.consumeWord("or")) {
+                Expression a = left;
+                Expression b = this.and();
+
+                left = (e, p, s) -> bool(a.evaluate(e, p, s)) || bool(b.evaluate(e, p, s));
+            }
+
+            return left;
+        }
+
+        private Expression and() {
+            Expression left = this.comparison();
+
+            while (this.consumeWord("and")) {
+                Expression a = left;
+                Expression b = this.comparison();
+
+                left = (e, p, s) -> bool(a.evaluate(e, p, s)) && bool(b.evaluate(e, p, s));
+            }
+
+            return left;
+        }
+
+        private Expression comparison() {
+            Expression left = this.primary();
+
+            while (true) {
+                this.skipWhitespace();
+
+                String operator = null;
+
+                for (String candidate : new String[] { "!=", "<=", ">=", "=", "<", ">" }) {
+                    if (this.consume(candidate)) {
+                        operator = candidate;
+                        break;
+                    }
+                }
+
+                if (operator == null) {
+                    return left;
+                }
+
+                Expression a = left;
+                Expression b = this.primary();
+                String op = operator;
+
+                left = (e, p, s) -> compare(a.evaluate(e, p, s), b.evaluate(e, p, s), op);
+            }
+        }
+
+        private Expression primary() {
+            this.skipWhitespace();
+
+            if (position >= expression.length()) {
+                throw this.invalid();
+            }
+
+            char c = expression.charAt(position);
+
+            if (c == '\'' || c == '"') {
+                int end = expression.indexOf(c, position + 1);
+
+                if (end < 0) {
+                    throw this.invalid();
+                }
+
+                String literal = expression.substring(position + 1, end);
+
+                position = end + 1;
+
+                return (e, p, s) -> literal;
+            }
+
+            if (Character.isDigit(c)) {
+                int start = position;
+
+                while (position < expression.length() && (Character.isDigit(expression.charAt(position)) || expression.charAt(position) == '.')) {
+                    position++;
+                }
+
+                Double number = Double.valueOf(expression.substring(start, position));
+
+                return (e, p, s) -> number;
+            }
+
+            if (c == '(') {
+                position++;
+
+                Expression inner = this.or();
+
+                if (!this.consume(")")) {
+                    throw this.invalid();
+                }
+
+                return inner;
+            }
+
+            if (c == '@') {
+                position++;
+
+                String name = this.name();
+
+                return (e, p, s) -> e.getAttribute(name);
+            }
+
+            int start = position;
+            String name = this.name();
+
+            this.skipWhitespace();
+
+            if (!name.isEmpty() && position < expression.length() && expression.charAt(position) == '(') {
+                if ("text".equals(name) && this.consume("()")) {
+                    return (e, p, s) -> e.getOwnText();
+                }
+
+                return this.function(name);
+            }
+
+            position = start;
+
+            Path path = this.path();
+
+            return (e, p, s) -> path.select(e);
+        }
+
+        private Expression function(String name) {
+            if (!this.consume("(")) {
+                throw this.invalid();
+            }
+
+            List<Expression> arguments = new ArrayList<>();
+
+            this.skipWhitespace();
+
+            if (!this.consume(")")) {
+                do {
+                    arguments.add(this.or());
+                } while (this.consume(","));
+
+                if (!this.consume(")")) {
+                    throw this.invalid();
+                }
+            }
+
+            switch (name) {
+                case "contains":
+                    this.arity(name, arguments, 2);
+
+                    return (e, p, s) -> string(arguments.get(0).evaluate(e, p, s)).contains(string(arguments.get(1).evaluate(e, p, s)));
+
+                case "starts-with":
+                    this.arity(name, arguments, 2);
+
+                    return (e, p, s) -> string(arguments.get(0).evaluate(e, p, s)).startsWith(string(arguments.get(1).evaluate(e, p, s)));
+
+                case "normalize-space":
+                    return (e, p, s) -> string(arguments.isEmpty() ? textContent(e) : arguments.get(0).evaluate(e, p, s)).trim().replaceAll("\\s+", " ");
+
+                case "string-length":
+                    return (e, p, s) -> (double) string(arguments.isEmpty() ? textContent(e) : arguments.get(0).evaluate(e, p, s)).length();
+
+                case "not":
+                    this.arity(name, arguments, 1);
+
+                    return (e, p, s) -> !bool(arguments.get(0).evaluate(e, p, s));
+
+                case "position":
+                    return (e, p, s) -> (double) p;
+
+                case "last":
+                    return (e, p, s) -> (double) s;
+
+                case "name":
+                case "local-name":
+                    return (e, p, s) -> e.getTagName();
+
+                case "string":
+                    return (e, p, s) -> arguments.isEmpty() ? textContent(e) : string(arguments.get(0).evaluate(e, p, s));
+
+                case "true":
+                    return (e, p, s) -> true;
+
+                case "false":
+                    return (e, p, s) -> false;
+
+                default:
+                    throw new InvalidSelectorException("Unsupported XPath function " + name + "() in " + expression);
+            }
+        }
+
+        private void arity(String name, List<Expression> arguments, int arity) {
+            if (arguments.size() != arity) {
+                throw new InvalidSelectorException("XPath function " + name + "() expects " + arity + " arguments in " + expression);
+            }
+        }
+
+        private String name() {
+            int start = position;
+
+            while (position < expression.length() && (isNameChar(expression.charAt(position)) || expression.charAt(position) == '.' && position > start)) {
+                position++;
+            }
+
+            return expression.substring(start, position);
+        }
+
+        private boolean consume(String token) {
+            this.skipWhitespace();
+
+            if (expression.startsWith(token, position)) {
+                position += token.length();
+
+                return true;
+            }
+
+            return false;
+        }
+
+        private boolean consumeWord(String word) {
+            this.skipWhitespace();
+
+            int end = position + word.length();
+
+            if (expression.startsWith(word, position) && (end >= expression.length() || !isNameChar(expression.charAt(end)))) {
+                position = end;
+
+                return true;
+            }
+
+            return false;
+        }
+
+        private void skipWhitespace() {
+            while (position < expression.length() && Character.isWhitespace(expression.charAt(position))) {
+                position++;
+            }
+        }
+
+        private InvalidSelectorException invalid() {
+            return new InvalidSelectorException("Invalid or unsupported XPath expression at position " + position + ": " + expression);
+        }
+
+        private static boolean bool(Object value) {
+            if (value instanceof Boolean) {
+                return (Boolean) value;
+            }
+
+            if (value instanceof Double) {
+                double number = (Double) value;
+
+                return number != 0 && !Double.isNaN(number);
+            }
+
+            if (value instanceof List) {
+                return !((List<?>) value).isEmpty();
+            }
+
+            return value != null && !value.toString().isEmpty();
+        }
+
+        private static String string(Object value) {
+            if (value instanceof List) {
+                List<?> elements = (List<?>) value;
+
+                return elements.isEmpty() ? "" : textContent((StubElement) elements.get(0));
+            }
+
+            if (value instanceof Double) {
+                double number = (Double) value;
+
+                return number == Math.rint(number) ? String.valueOf((long) number) : String.valueOf(number);
+            }
+
+            return value == null ? "" : value.toString();
+        }
+
+        private static boolean compare(Object left, Object right, String operator) {
+            if (left instanceof List || right instanceof List) {
+                List<?> elements = (List<?>) (left instanceof List ? left : right);
+                Object other = left instanceof List ? right : left;
+
+                for (Object element : elements) {
+                    String value = textContent((StubElement) element);
+
+                    if (left instanceof List ? compare(value, other, operator) : compare(other, value, operator)) {
+                        return true;
+                    }
+                }
+
+                return false;
+            }
+
+            if (left == null || right == null) {
+                return false;
+            }
+
+            if (operator.equals("=") || operator.equals("!=")) {
+                boolean equal;
+
+                if (left instanceof Boolean || right instanceof Boolean) {
+                    equal = bool(left) == bool(right);
+                } else if (left instanceof Double || right instanceof Double) {
+                    equal = number(left) == number(right);
+                } else {
+                    equal = string(left).equals(string(right));
+                }
+
+                return operator.equals("=") == equal;
+            }
+
+            double a = number(left);
+            double b = number(right);
+
+            switch (operator) {
+                case "<":
+                    return a < b;
+
+                case "<=":
+                    return a <= b;
+
+                case ">":
+                    return a > b;
+
+                default:
+                    return a >= b;
+            }
+        }
+
+        private static double number(Object value) {
+            if (value instanceof Double) {
+                return (Double) value;
+            }
+
+            if (value instanceof Boolean) {
+                return (Boolean) value ? 1 : 0;
+            }
+
+            try {
+                return Double.parseDouble(string(value).trim());
+            } catch (NumberFormatException e) {
+                return Double.NaN;
+            }
+        }
+
+    }
+
+    /**
+     * Location path of an {@link XPath}.
+     */
+    private static final class Path {
+
+        private boolean          absolute;
+        private final List<Step> steps = new ArrayList<>();
+
+        private List<StubElement> select(StubElement context) {
+            List<StubElement> current = Collections.singletonList(absolute ? context.getRoot() : context);
+
+            for (Step step : steps) {
+                Set<StubElement> next = new LinkedHashSet<>();
+
+                for (StubElement node : current) {
+                    next.addAll(step.select(node));
+                }
+
+                current = new ArrayList<>(next);
+            }
+
+            return current;
+        }
+
+    }
+
+    /**
+     * Location step of an {@link XPath}: an axis, a node test and predicates.
+     */
+    private static final class Step {
+
+        private final String           axis;
+        private final String           nodeTest;
+        private final List<Expression> predicates = new ArrayList<>();
+
+        private Step(String axis, String nodeTest) {
+            this.axis = axis;
+            this.nodeTest = nodeTest.toLowerCase(Locale.ROOT);
+        }
+
+        private List<StubElement> select(StubElement node) {
+            List<StubElement> selected = new ArrayList<>();
+
+            for (StubElement candidate : this.axis(node)) {
+                if ("node()".equals(nodeTest) || isElement(candidate) && ("*".equals(nodeTest) || nodeTest.equals(candidate.getTagName()))) {
+                    selected.add(candidate);
+                }
+            }
+
+            for (Expression predicate : predicates) {
+                List<StubElement> filtered = new ArrayList<>();
+
+                for (int i = 0; i < selected.size(); i++) {
+                    Object value = predicate.evaluate(selected.get(i), i + 1, selected.size());
+
+                    if (value instanceof Double ? (Double) value == i + 1 : XPath.bool(value)) {
+                        filtered.add(selected.get(i));
+                    }
+                }
+
+                selected = filtered;
+            }
+
+            return selected;
+        }
+
+        private List<StubElement> axis(StubElement node) {
+            List<StubElement> nodes = new ArrayList<>();
+            StubElement parent = node.getParent();
+
+            switch (axis) {
+                case "child":
+                    return node.getChildren();
+
+                case "descendant":
+                    return node.getDescendants();
+
+                case "descendant-or-self":
+                    nodes.add(node);
+                    nodes.addAll(node.getDescendants());
+
+                    return nodes;
+
+                case "self":
+                    return Collections.singletonList(node);
+
+                case "parent":
+                    return parent == null ? Collections.emptyList() : Collections.singletonList(parent);
+
+                case "ancestor-or-self":
+                    nodes.add(node);
+
+                case "ancestor":
+                    for (StubElement ancestor = parent; ancestor != null; ancestor = ancestor.getParent()) {
+                        nodes.add(ancestor);
+                    }
+
+                    return nodes;
+
+                case "following-sibling":
+                    if (parent != null) {
+                        List<StubElement> siblings = parent.getChildren();
+
+                        nodes.addAll(siblings.subList(siblings.indexOf(node) + 1, siblings.size()));
+                    }
+
+                    return nodes;
+
+                case "preceding-sibling":
+                    if (parent != null) {
+                        List<StubElement> siblings = parent.getChildren();
+
+                        nodes.addAll(siblings.subList(0, siblings.indexOf(node)));
+                        Collections.reverse(nodes);
+                    }
+
+                    return nodes;
+
+                case "following":
+                    for (StubElement ancestor = node; ancestor.getParent() != null; ancestor = ancestor.getParent()) {
+                        List<StubElement> siblings = ancestor.getParent().getChildren();
+                        List<StubElement> following = new ArrayList<>();
+
+                        for (StubElement sibling : siblings.subList(siblings.indexOf(ancestor) + 1, siblings.size())) {
+                            following.add(sibling);
+                            following.addAll(sibling.getDescendants());
+                        }
+
+                        nodes.addAll(following);
+                    }
+
+                    return sort(node.getRoot(), nodes);
+
+                default:
+                    Set<StubElement> ancestors = Collections.newSetFromMap(new IdentityHashMap<>());
+
+                    for (StubElement ancestor = parent; ancestor != null; ancestor = ancestor.getParent()) {
+                        ancestors.add(ancestor);
+                    }
+
+                    StubElement root = node.getRoot();
+
+                    for (StubElement candidate : root.getDescendants()) {
+                        if (candidate == node) {
+                            break;
+                        }
+
+                        if (!ancestors.contains(candidate)) {
+                            nodes.add(candidate);
+                        }
+                    }
+
+                    Collections.reverse(nodes);
+
+                    return nodes;
+            }
+        }
+
+    }
+
+    /**
+     * Predicate expression of an {@link XPath}, evaluated for a node at a position of a node list of a size.
+     */
+    @FunctionalInterface
+    private interface Expression {
+
+        Object evaluate(StubElement node, int position, int size);
+
+    }
+
+}
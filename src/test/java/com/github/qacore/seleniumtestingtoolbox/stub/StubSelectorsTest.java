@@ -0,0 +1,156 @@
+package com.github.qacore.seleniumtestingtoolbox.stub;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.openqa.selenium.InvalidSelectorException;
+
+/**
+ * Tests of the CSS and XPath subsets evaluated by {@link StubSelectors}.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/leocarmona">https://github.com/leocarmona</a></li>
+ *         <li><a href="mailto:lcdesenv@gmail.com">lcdesenv@gmail.com</a></li>
+ *         </ul>
+ *
+ * @since 1.0.2
+ *
+ */
+public class StubSelectorsTest {
+
+    private StubElement document;
+    private StubElement list;
+
+    @Before
+    public void setUp() {
+        list = new StubElement("ul").id("items").child(
+                new StubElement("li").id("one").attribute("class", "item first").attribute("data-value", "en-US").text("One"),
+                new StubElement("li").id("two").attribute("class", "item selected").attribute("data-value", "pt-BR").text("Two"),
+                new StubElement("li").id("three").attribute("class", "other").text("  Three  "));
+
+        document = new StubElement("#document").child(
+                new StubElement("html").child(
+                        new StubElement("body").child(
+                                new StubElement("div").id("main").attribute("class", "content wide").child(
+                                        list,
+                                        new StubElement("input").id("agree").attribute("type", "checkbox").attribute("checked", "checked"),
+                                        new StubElement("input").id("name").attribute("type", "text").attribute("disabled", "disabled"),
+                                        new StubElement("a").id("login").attribute("href", "/login").text("Sign in")))));
+    }
+
+    @Test
+    public void cssMatchesTypeIdClassAndUniversalSelectors() {
+        assertEquals(ids("one", "two", "three"), ids(StubSelectors.css(document, "li")));
+        assertEquals(ids("two"), ids(StubSelectors.css(document, "#two")));
+        assertEquals(ids("one", "two"), ids(StubSelectors.css(document, "li.item")));
+        assertEquals(ids("two"), ids(StubSelectors.css(document, ".item.selected")));
+        assertEquals(ids("one", "two", "three"), ids(StubSelectors.css(list, "*")));
+    }
+
+    @Test
+    public void cssMatchesAttributeOperators() {
+        assertEquals(ids("login"), ids(StubSelectors.css(document, "[href]")));
+        assertEquals(ids("agree"), ids(StubSelectors.css(document, "input[type='checkbox']")));
+        assertEquals(ids("one", "two"), ids(StubSelectors.css(document, "[class~=item]")));
+        assertEquals(ids("one"), ids(StubSelectors.css(document, "[data-value|=en]")));
+        assertEquals(ids("login"), ids(StubSelectors.css(document, "a[href^='/log']")));
+        assertEquals(ids("two"), ids(StubSelectors.css(document, "[data-value$=BR]")));
+        assertEquals(ids("main"), ids(StubSelectors.css(document, "div[class*=\"ent w\"]")));
+    }
+
+    @Test
+    public void cssMatchesPseudoClasses() {
+        assertEquals(ids("one"), ids(StubSelectors.css(document, "li:first-child")));
+        assertEquals(ids("three"), ids(StubSelectors.css(document, "li:last-child")));
+        assertEquals(ids("two"), ids(StubSelectors.css(document, "li:nth-child(2)")));
+        assertEquals(ids("agree"), ids(StubSelectors.css(document, "input:checked")));
+        assertEquals(ids("name"), ids(StubSelectors.css(document, "input:disabled")));
+        assertEquals(ids("agree"), ids(StubSelectors.css(document, "input:enabled")));
+        assertEquals(ids("three"), ids(StubSelectors.css(document, "li:not(.item)")));
+    }
+
+    @Test
+    public void cssMatchesCombinatorsAndGroups() {
+        assertEquals(ids("one", "two", "three"), ids(StubSelectors.css(document, "div li")));
+        assertEquals(ids("items", "agree", "name", "login"), ids(StubSelectors.css(document, "#main > *")));
+        assertEquals(ids("two"), ids(StubSelectors.css(document, "#one + li")));
+        assertEquals(ids("two", "three"), ids(StubSelectors.css(document, "#one ~ li")));
+        assertEquals(ids("one", "login"), ids(StubSelectors.css(document, "a, #one")));
+    }
+
+    @Test
+    public void cssSearchesOnlyTheDescendantsOfTheContext() {
+        assertEquals(ids("one", "two", "three"), ids(StubSelectors.css(list, "li")));
+        assertTrue(StubSelectors.css(list, "ul").isEmpty());
+    }
+
+    @Test(expected = InvalidSelectorException.class)
+    public void cssRejectsUnsupportedSelectors() {
+        StubSelectors.css(document, "li::before");
+    }
+
+    @Test
+    public void xpathSelectsPathsWithPositions() {
+        assertEquals(ids("one", "two", "three"), ids(StubSelectors.xpath(document, "//li")));
+        assertEquals(ids("two"), ids(StubSelectors.xpath(document, "//li[2]")));
+        assertEquals(ids("three"), ids(StubSelectors.xpath(document, "//li[last()]")));
+        assertEquals(ids("two", "three"), ids(StubSelectors.xpath(document, "/html/body/div/ul/li[position() > 1]")));
+        assertEquals(ids("items"), ids(StubSelectors.xpath(document, "//li/..")));
+    }
+
+    @Test
+    public void xpathSelectsWithFunctionsAndBooleans() {
+        assertEquals(ids("two"), ids(StubSelectors.xpath(document, "//li[contains(@class, 'selected')]")));
+        assertEquals(ids("two"), ids(StubSelectors.xpath(document, "//li[text() = 'Two']")));
+        assertEquals(ids("three"), ids(StubSelectors.xpath(document, "//li[normalize-space() = 'Three']")));
+        assertEquals(ids("login"), ids(StubSelectors.xpath(document, "//a[starts-with(@href, '/')]")));
+        assertEquals(ids("three"), ids(StubSelectors.xpath(document, "//li[not(@data-value)]")));
+        assertEquals(ids("one", "three"), ids(StubSelectors.xpath(document, "//li[@id = 'one' or string-length(@class) = 5]")));
+        assertEquals(ids("two"), ids(StubSelectors.xpath(document, "//li[@class and @data-value = 'pt-BR']")));
+        assertEquals(ids("name"), ids(StubSelectors.xpath(document, "//*[name() = 'input' and @type = 'text']")));
+    }
+
+    @Test
+    public void xpathFollowsAxes() {
+        assertEquals(ids("two", "three"), ids(StubSelectors.xpath(document, "//li[@id = 'one']/following-sibling::li")));
+        assertEquals(ids("one"), ids(StubSelectors.xpath(document, "//li[@id = 'two']/preceding-sibling::li")));
+        assertEquals(ids("main"), ids(StubSelectors.xpath(document, "//li[1]/ancestor::div")));
+        assertEquals(ids("items"), ids(StubSelectors.xpath(document, "//li[1]/parent::*")));
+    }
+
+    @Test
+    public void xpathEvaluatesRelativePathsFromTheContext() {
+        assertEquals(ids("one", "two", "three"), ids(StubSelectors.xpath(list, "./li")));
+        assertEquals(ids("two"), ids(StubSelectors.xpath(list, "li[@id = 'two']")));
+        assertEquals(ids("one", "two", "three"), ids(StubSelectors.xpath(list, ".//li")));
+    }
+
+    @Test(expected = InvalidSelectorException.class)
+    public void xpathRejectsUnsupportedExpressions() {
+        StubSelectors.xpath(document, "//li[");
+    }
+
+    @Test
+    public void splitIgnoresSeparatorsInsideQuotesAndBrackets() {
+        assertEquals(Arrays.asList("a[x=','] b", " c:not(d, e)", " 'f,g'"), StubSelectors.split("a[x=','] b, c:not(d, e), 'f,g'", ','));
+        assertEquals(Arrays.asList("var a = f('x;y')", " return a", ""), StubSelectors.split("var a = f('x;y'); return a;", ';'));
+        assertEquals(Arrays.asList("'it\\'s, ok'"), StubSelectors.split("'it\\'s, ok'", ','));
+    }
+
+    private static List<String> ids(String... ids) {
+        return Arrays.asList(ids);
+    }
+
+    private static List<String> ids(List<StubElement> elements) {
+        return elements.stream().map(element -> element.getAttribute("id")).collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,1299 @@
+package com.github.qacore.seleniumtestingtoolbox.stub;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.imageio.ImageIO;
+
+import org.openqa.selenium.Alert;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoAlertPresentException;
+import org.openqa.selenium.NoSuchFrameException;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.NoSuchWindowException;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Platform;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.html5.LocalStorage;
+import org.openqa.selenium.html5.SessionStorage;
+import org.openqa.selenium.html5.WebStorage;
+import org.openqa.selenium.internal.FindsByClassName;
+import org.openqa.selenium.internal.FindsByCssSelector;
+import org.openqa.selenium.internal.FindsById;
+import org.openqa.selenium.internal.FindsByLinkText;
+import org.openqa.selenium.internal.FindsByName;
+import org.openqa.selenium.internal.FindsByTagName;
+import org.openqa.selenium.internal.FindsByXPath;
+import org.openqa.selenium.internal.WrapsElement;
+import org.openqa.selenium.logging.Logs;
+import org.openqa.selenium.remote.CapabilityType;
+import org.openqa.selenium.remote.DesiredCapabilities;
+import org.openqa.selenium.remote.DriverCommand;
+import org.openqa.selenium.security.Credentials;
+
+/**
+ * In-memory {@link WebDriver} to load-test the Selenium Testing Toolbox ecosystem without a browser.
+ * <p>
+ * Pages are {@link StubElement} trees registered by URL. Every command, named after {@link DriverCommand}, sleeps for a latency drawn from a {@link LatencyDistribution} and may throw an exception drawn from a {@link FailureDistribution}, both configurable for all commands or per command. The latency is simulated outside of the lock of the driver, so concurrent commands of different threads overlap like they would in a remote browser, while the DOM itself is only read and changed under the lock.
+ * </p>
+ * <p>
+ * Scripts are simulated by {@link ScriptHandler}s. The driver understands {@code window.open} and the {@code localStorage} and {@code sessionStorage} calls of the toolbox, including the scripts that read or replace a whole storage, which are recognized by the storage calls they make rather than by their exact text, and throws a {@link JavascriptException} for any other script, so a test never passes on the {@code null} of a script the driver did not run.
+ * </p>
+ *
+ * <pre>
+ * StubWebDriver driver = new StubWebDriver(42)
+ *         .page("http://localhost/login", () -&gt; new StubElement("html").child(
+ *                 new StubElement("body").child(
+ *                         new StubElement("input").id("username"))))
+ *         .latency(LatencyDistribution.logNormal(2, 0.5, TimeUnit.MILLISECONDS))
+ *         .failures(DriverCommand.CLICK_ELEMENT, FailureDistribution.rate(0.01));
+ * </pre>
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/leocarmona">https://github.com/leocarmona</a></li>
+ *         <li><a href="mailto:lcdesenv@gmail.com">lcdesenv@gmail.com</a></li>
+ *         </ul>
+ *
+ * @since 1.0.2
+ *
+ */
+public class StubWebDriver implements WebDriver, JavascriptExecutor, TakesScreenshot, WebStorage, HasCapabilities, FindsById, FindsByName, FindsByClassName, FindsByTagName, FindsByCssSelector, FindsByXPath, FindsByLinkText {
+
+    /**
+     * URL of the page of a new window, and of every URL without a registered page.
+     */
+    public static final String                       BLANK          = "about:blank";
+
+    /**
+     * Latencies shorter than this are spun instead of parked, since parking is not precise enough for latencies of microseconds.
+     */
+    private static final long                        SPIN_NANOS     = TimeUnit.MICROSECONDS.toNanos(100);
+
+    private static final Pattern                     WINDOW_OPEN    = Pattern.compile("window\\.open\\(\\s*(?:(['\"])(.*?)\\1)?");
+
+    private static final Pattern                     STORAGE        = Pattern.compile("(return\\s+)?(?:var\\s+(\\w+)\\s*=\\s*)?(?:(local|session)Storage\\.(getItem|setItem|removeItem|clear|length)(?:\\((.*)\\))?|Object\\.keys\\((local|session)Storage\\))");
+
+    private static final Pattern                     RETURN         = Pattern.compile("return\\s+(\\w+)");
+
+    private static final Pattern                     STORAGE_CALL   = Pattern.compile("\\b(local|session)Storage\\s*\\.\\s*(\\w+)");
+
+    private static final Set<String>                 SNAPSHOT_CALLS = new HashSet<>(Arrays.asList("length", "key", "getItem"));
+
+    private static final Set<String>                 RESTORE_CALLS  = new HashSet<>(Arrays.asList("clear", "setItem"));
+
+    private static final Pattern                     ARGUMENT       = Pattern.compile("arguments\\[(\\d+)\\]");
+
+    private static final Object                      NOT_HANDLED    = new Object();
+
+    private static final AtomicInteger               SESSIONS       = new AtomicInteger();
+
+    private final Object                             lock           = new Object();
+    private final String                             sessionId      = "stub-" + SESSIONS.incrementAndGet();
+    private final Random                             random;
+    private final Capabilities                       capabilities;
+
+    private final Map<String, Supplier<StubElement>> pages          = new ConcurrentHashMap<>();
+    private final Map<String, LatencyDistribution>   latencies      = new ConcurrentHashMap<>();
+    private final Map<String, FailureDistribution>   failures       = new ConcurrentHashMap<>();
+    private final List<Script>                       scripts        = new CopyOnWriteArrayList<>();
+    private final Map<String, LongAdder>             commandCounts  = new ConcurrentHashMap<>();
+    private final Map<Dimension, byte[]>             screenshots    = new ConcurrentHashMap<>();
+
+    private final Map<String, BrowserWindow>         windows        = new LinkedHashMap<>();
+    private final Map<String, Cookie>                cookies        = new LinkedHashMap<>();
+    private final Map<String, String>                localStorage   = new LinkedHashMap<>();
+    private final Map<String, String>                sessionStorage = new LinkedHashMap<>();
+
+    private volatile LatencyDistribution             latency        = LatencyDistribution.none();
+    private volatile FailureDistribution             failure        = FailureDistribution.none();
+
+    private BrowserWindow                            window;
+    private String                                   alert;
+    private boolean                                  quit;
+    private int                                      windowCount;
+
+    /**
+     * Creates a driver without latency nor failures, with one blank window.
+     */
+    public StubWebDriver() {
+        this(new Random());
+    }
+
+    /**
+     * Creates a driver without latency nor failures, with one blank window.
+     *
+     * @param seed
+     *            The seed of the random number generator of the latencies and failures, to reproduce a run.
+     */
+    public StubWebDriver(long seed) {
+        this(new Random(seed));
+    }
+
+    private StubWebDriver(Random random) {
+        DesiredCapabilities capabilities = new DesiredCapabilities("stub", "1.0.2", Platform.ANY);
+
+        capabilities.setJavascriptEnabled(true);
+        capabilities.setCapability(CapabilityType.TAKES_SCREENSHOT, true);
+        capabilities.setCapability(CapabilityType.SUPPORTS_WEB_STORAGE, true);
+
+        this.random = random;
+        this.capabilities = capabilities;
+        this.window = this.createWindow(BLANK);
+    }
+
+    /**
+     * Registers a page.
+     *
+     * @param url
+     *            The URL of the page.
+     *
+     * @param page
+     *            Creates the root element of the page, usually {@code html}. Called on every navigation to the URL, so it must create a new tree each time.
+     *
+     * @return {@code this} to chain method calls.
+     */
+    public StubWebDriver page(String url, Supplier<StubElement> page) {
+        pages.put(url, page);
+
+        return this;
+    }
+
+    /**
+     * Sets the latency of all commands without a latency of their own.
+     *
+     * @param latency
+     *            The latency distribution.
+     *
+     * @return {@code this} to chain method calls.
+     */
+    public StubWebDriver latency(LatencyDistribution latency) {
+        this.latency = latency;
+
+        return this;
+    }
+
+    /**
+     * Sets the latency of a command.
+     *
+     * @param command
+     *            The command, one of {@link DriverCommand}.
+     *
+     * @param latency
+     *            The latency distribution.
+     *
+     * @return {@code this} to chain method calls.
+     */
+    public StubWebDriver latency(String command, LatencyDistribution latency) {
+        latencies.put(command, latency);
+
+        return this;
+    }
+
+    /**
+     * Sets the failures of all commands without failures of their own.
+     *
+     * @param failures
+     *            The failure distribution.
+     *
+     * @return {@code this} to chain method calls.
+     */
+    public StubWebDriver failures(FailureDistribution failures) {
+        this.failure = failures;
+
+        return this;
+    }
+
+    /**
+     * Sets the failures of a command.
+     *
+     * @param command
+     *            The command, one of {@link DriverCommand}.
+     *
+     * @param failures
+     *            The failure distribution.
+     *
+     * @return {@code this} to chain method calls.
+     */
+    public StubWebDriver failures(String command, FailureDistribution failures) {
+        this.failures.put(command, failures);
+
+        return this;
+    }
+
+    /**
+     * Simulates scripts. Handlers are tried in the order they are registered, before the scripts the driver understands.
+     *
+     * @param matcher
+     *            Tests if the handler executes a script.
+     *
+     * @param handler
+     *            The handler.
+     *
+     * @return {@code this} to chain method calls.
+     */
+    public StubWebDriver script(Predicate<String> matcher, ScriptHandler handler) {
+        scripts.add(new Script(matcher, handler));
+
+        return this;
+    }
+
+    /**
+     * Opens an alert in the current window, as if the page opened it.
+     *
+     * @param text
+     *            The text of the alert.
+     *
+     * @return {@code this} to chain method calls.
+     */
+    public StubWebDriver openAlert(String text) {
+        synchronized (lock) {
+            this.alert = text;
+        }
+
+        return this;
+    }
+
+    /**
+     * Changes the page of the current window under the lock of the driver, e.g. to simulate the rendering of an AJAX response from another thread. No latency is simulated.
+     *
+     * @param mutation
+     *            Changes the root element of the page.
+     */
+    public void mutate(Consumer<StubElement> mutation) {
+        synchronized (lock) {
+            StubElement document = this.current().document;
+
+            mutation.accept(document.getChildren().isEmpty() ? document : document.getChildren().get(0));
+        }
+    }
+
+    /**
+     * @return How many times each command was executed, by the name of the command. Failed commands are counted too.
+     */
+    public Map<String, Long> getCommandCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+
+        commandCounts.forEach((command, count) -> counts.put(command, count.sum()));
+
+        return counts;
+    }
+
+    @Override
+    public void get(String url) {
+        this.execute(DriverCommand.GET, () -> this.navigate(url));
+    }
+
+    @Override
+    public String getCurrentUrl() {
+        return this.execute(DriverCommand.GET_CURRENT_URL, () -> this.current().url());
+    }
+
+    @Override
+    public String getTitle() {
+        return this.execute(DriverCommand.GET_TITLE, () -> {
+            for (StubElement element : this.current().document.getDescendants()) {
+                if ("title".equals(element.getTagName())) {
+                    return element.getOwnText().trim();
+                }
+            }
+
+            return "";
+        });
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        return this.execute(DriverCommand.FIND_ELEMENTS, () -> new StubSearchContext(this, this.current().document).findElements(by));
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        return this.execute(DriverCommand.FIND_ELEMENT, () -> new StubSearchContext(this, this.current().document).findElement(by));
+    }
+
+    @Override
+    public WebElement findElementById(String using) {
+        return this.findElement(By.id(using));
+    }
+
+    @Override
+    public List<WebElement> findElementsById(String using) {
+        return this.findElements(By.id(using));
+    }
+
+    @Override
+    public WebElement findElementByName(String using) {
+        return this.findElement(By.name(using));
+    }
+
+    @Override
+    public List<WebElement> findElementsByName(String using) {
+        return this.findElements(By.name(using));
+    }
+
+    @Override
+    public WebElement findElementByClassName(String using) {
+        return this.findElement(By.className(using));
+    }
+
+    @Override
+    public List<WebElement> findElementsByClassName(String using) {
+        return this.findElements(By.className(using));
+    }
+
+    @Override
+    public WebElement findElementByTagName(String using) {
+        return this.findElement(By.tagName(using));
+    }
+
+    @Override
+    public List<WebElement> findElementsByTagName(String using) {
+        return this.findElements(By.tagName(using));
+    }
+
+    @Override
+    public WebElement findElementByCssSelector(String using) {
+        return this.findElement(By.cssSelector(using));
+    }
+
+    @Override
+    public List<WebElement> findElementsByCssSelector(String using) {
+        return this.findElements(By.cssSelector(using));
+    }
+
+    @Override
+    public WebElement findElementByXPath(String using) {
+        return this.findElement(By.xpath(using));
+    }
+
+    @Override
+    public List<WebElement> findElementsByXPath(String using) {
+        return this.findElements(By.xpath(using));
+    }
+
+    @Override
+    public WebElement findElementByLinkText(String using) {
+        return this.findElement(By.linkText(using));
+    }
+
+    @Override
+    public List<WebElement> findElementsByLinkText(String using) {
+        return this.findElements(By.linkText(using));
+    }
+
+    @Override
+    public WebElement findElementByPartialLinkText(String using) {
+        return this.findElement(By.partialLinkText(using));
+    }
+
+    @Override
+    public List<WebElement> findElementsByPartialLinkText(String using) {
+        return this.findElements(By.partialLinkText(using));
+    }
+
+    @Override
+    public String getPageSource() {
+        return this.execute(DriverCommand.GET_PAGE_SOURCE, () -> {
+            StringBuilder source = new StringBuilder();
+
+            for (StubElement element : this.current().document.getChildren()) {
+                source.append(element.toHtml());
+            }
+
+            return source.toString();
+        });
+    }
+
+    @Override
+    public void close() {
+        this.execute(DriverCommand.CLOSE, () -> {
+            windows.remove(this.current().handle);
+            window = null;
+
+            if (windows.isEmpty()) {
+                quit = true;
+            }
+        });
+    }
+
+    @Override
+    public void quit() {
+        this.execute(DriverCommand.QUIT, () -> {
+            windows.clear();
+            window = null;
+            quit = true;
+        });
+    }
+
+    @Override
+    public Set<String> getWindowHandles() {
+        return this.execute(DriverCommand.GET_WINDOW_HANDLES, () -> new LinkedHashSet<>(windows.keySet()));
+    }
+
+    @Override
+    public String getWindowHandle() {
+        return this.execute(DriverCommand.GET_CURRENT_WINDOW_HANDLE, () -> this.current().handle);
+    }
+
+    @Override
+    public TargetLocator switchTo() {
+        return new StubTargetLocator();
+    }
+
+    @Override
+    public Navigation navigate() {
+        return new StubNavigation();
+    }
+
+    @Override
+    public Options manage() {
+        return new StubOptions();
+    }
+
+    @Override
+    public Object executeScript(String script, Object... args) {
+        return this.execute(DriverCommand.EXECUTE_SCRIPT, () -> this.script(script, args));
+    }
+
+    @Override
+    public Object executeAsyncScript(String script, Object... args) {
+        return this.execute(DriverCommand.EXECUTE_ASYNC_SCRIPT, () -> this.script(script, args));
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target) throws WebDriverException {
+        byte[] png = this.execute(DriverCommand.SCREENSHOT, () -> this.screenshot(this.current().size.getWidth(), this.current().size.getHeight()));
+
+        return target.convertFromPngBytes(png);
+    }
+
+    @Override
+    public LocalStorage getLocalStorage() {
+        return new StubStorage(localStorage, DriverCommand.GET_LOCAL_STORAGE_ITEM, DriverCommand.GET_LOCAL_STORAGE_KEYS, DriverCommand.SET_LOCAL_STORAGE_ITEM, DriverCommand.REMOVE_LOCAL_STORAGE_ITEM, DriverCommand.CLEAR_LOCAL_STORAGE, DriverCommand.GET_LOCAL_STORAGE_SIZE);
+    }
+
+    @Override
+    public SessionStorage getSessionStorage() {
+        return new StubStorage(sessionStorage, DriverCommand.GET_SESSION_STORAGE_ITEM, DriverCommand.GET_SESSION_STORAGE_KEYS, DriverCommand.SET_SESSION_STORAGE_ITEM, DriverCommand.REMOVE_SESSION_STORAGE_ITEM, DriverCommand.CLEAR_SESSION_STORAGE, DriverCommand.GET_SESSION_STORAGE_SIZE);
+    }
+
+    @Override
+    public Capabilities getCapabilities() {
+        return capabilities;
+    }
+
+    @Override
+    public String toString() {
+        return "StubWebDriver: stub on ANY (" + sessionId + ")";
+    }
+
+    /**
+     * Executes a command: simulates its latency and failure, then runs it under the lock of the driver.
+     */
+    <T> T execute(String command, Supplier<T> action) {
+        commandCounts.computeIfAbsent(command, key -> new LongAdder()).increment();
+
+        long nanos;
+        WebDriverException exception;
+
+        synchronized (random) {
+            nanos = latencies.getOrDefault(command, latency).nextNanos(random);
+            exception = failures.getOrDefault(command, failure).nextFailure(command, random);
+        }
+
+        pause(nanos);
+
+        if (exception != null) {
+            throw exception;
+        }
+
+        synchronized (lock) {
+            if (quit && !DriverCommand.QUIT.equals(command)) {
+                throw new NoSuchSessionException("Session " + sessionId + " was terminated");
+            }
+
+            return action.get();
+        }
+    }
+
+    void execute(String command, Runnable action) {
+        this.execute(command, () -> {
+            action.run();
+
+            return null;
+        });
+    }
+
+    /**
+     * @return {@code true} if the node is in the page of the current window. Called under the lock.
+     */
+    boolean isAttached(StubElement node) {
+        return window != null && node.getRoot() == window.document;
+    }
+
+    /**
+     * Navigates the current window. Called under the lock.
+     */
+    void navigate(String url) {
+        BrowserWindow current = this.current();
+
+        while (current.history.size() > current.index + 1) {
+            current.history.remove(current.history.size() - 1);
+        }
+
+        current.history.add(url);
+        current.index++;
+
+        this.load(current);
+    }
+
+    /**
+     * Opens a window without switching to it. Called under the lock.
+     */
+    String openWindow(String url) {
+        return this.createWindow(url == null || url.isEmpty() ? BLANK : url).handle;
+    }
+
+    /**
+     * @return A blank PNG image.
+     */
+    byte[] screenshot(int width, int height) {
+        return screenshots.computeIfAbsent(new Dimension(Math.max(1, width), Math.max(1, height)), size -> {
+            BufferedImage image = new BufferedImage(size.getWidth(), size.getHeight(), BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = image.createGraphics();
+
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, size.getWidth(), size.getHeight());
+            graphics.dispose();
+
+            try (ByteArrayOutputStream png = new ByteArrayOutputStream()) {
+                ImageIO.write(image, "png", png);
+
+                return png.toByteArray();
+            } catch (IOException e) {
+                throw new WebDriverException("Cannot create the screenshot", e);
+            }
+        });
+    }
+
+    private static void pause(long nanos) {
+        if (nanos <= 0) {
+            return;
+        }
+
+        long deadline = System.nanoTime() + nanos;
+
+        if (nanos < SPIN_NANOS) {
+            while (System.nanoTime() < deadline) {
+                // spins
+            }
+
+            return;
+        }
+
+        for (long remaining = nanos; remaining > 0; remaining = deadline - System.nanoTime()) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    private BrowserWindow current() {
+        if (window == null) {
+            throw new NoSuchWindowException("The current window was closed");
+        }
+
+        return window;
+    }
+
+    private BrowserWindow createWindow(String url) {
+        BrowserWindow created = new BrowserWindow("stub-window-" + (++windowCount));
+
+        created.history.add(url);
+        created.index = 0;
+
+        this.load(created);
+
+        windows.put(created.handle, created);
+
+        return created;
+    }
+
+    private void load(BrowserWindow target) {
+        Supplier<StubElement> page = pages.get(target.url());
+        StubElement root = page == null ? new StubElement("html").child(new StubElement("head"), new StubElement("body")) : page.get();
+
+        target.document = new StubElement("#document").child(root);
+    }
+
+    private Object script(String script, Object[] args) {
+        Object[] arguments = new Object[args == null ? 0 : args.length];
+
+        for (int i = 0; i < arguments.length; i++) {
+            arguments[i] = unwrap(args[i]);
+        }
+
+        for (Script handler : scripts) {
+            if (handler.matcher.test(script)) {
+                return this.convert(handler.handler.execute(this, arguments));
+            }
+        }
+
+        Matcher open = WINDOW_OPEN.matcher(script);
+
+        if (open.find()) {
+            this.openWindow(open.group(2));
+
+            return null;
+        }
+
+        Object result = this.storageItems(script, arguments);
+
+        if (result == NOT_HANDLED) {
+            result = this.storage(script, arguments);
+        }
+
+        if (result == NOT_HANDLED) {
+            throw new JavascriptException("The stub driver has no handler for the script: " + script);
+        }
+
+        return this.convert(result);
+    }
+
+    /**
+     * Simulates the scripts that read or replace all the items of a storage at once, like {@code JSLocalStorage.snapshot()} and {@code JSLocalStorage.restore(Map)}, recognized by the storage calls they make: a script of one storage that only reads its {@code length}, {@code key} and {@code getItem} returns all the items, and a script that only calls {@code clear} and {@code setItem} with a map argument replaces all the items with the map.
+     */
+    private Object storageItems(String script, Object[] arguments) {
+        Matcher call = STORAGE_CALL.matcher(script);
+        Set<String> kinds = new HashSet<>();
+        Set<String> calls = new HashSet<>();
+
+        while (call.find()) {
+            kinds.add(call.group(1));
+            calls.add(call.group(2));
+        }
+
+        if (kinds.size() != 1) {
+            return NOT_HANDLED;
+        }
+
+        Map<String, String> storage = kinds.contains("local") ? localStorage : sessionStorage;
+
+        if (calls.equals(SNAPSHOT_CALLS)) {
+            return new LinkedHashMap<>(storage);
+        }
+
+        if (calls.equals(RESTORE_CALLS) && arguments.length > 0 && arguments[0] instanceof Map) {
+            storage.clear();
+            // like browsers, the storage keeps strings only
+            ((Map<?, ?>) arguments[0]).forEach((key, value) -> storage.put(String.valueOf(key), String.valueOf(value)));
+
+            return null;
+        }
+
+        return NOT_HANDLED;
+    }
+
+    /**
+     * Simulates scripts made only of storage calls, like {@code return localStorage.getItem('key')}, with literal or {@code arguments[n]} parameters. The result of a call can be kept in a variable and returned by a later statement.
+     */
+    private Object storage(String script, Object[] arguments) {
+        String body = script.trim().replaceFirst("^try\\s*\\{(.*)\\}\\s*catch\\s*\\(\\s*\\w+\\s*\\)\\s*\\{\\s*\\}$", "$1");
+        List<Matcher> statements = new ArrayList<>();
+
+        for (String statement : StubSelectors.split(body, ';')) {
+            if (!statement.trim().isEmpty()) {
+                Matcher matcher = STORAGE.matcher(statement.trim());
+
+                if (!matcher.matches()) {
+                    matcher = RETURN.matcher(statement.trim());
+
+                    if (!matcher.matches()) {
+                        return NOT_HANDLED;
+                    }
+                }
+
+                statements.add(matcher);
+            }
+        }
+
+        if (statements.isEmpty()) {
+            return NOT_HANDLED;
+        }
+
+        Object result = null;
+        Map<String, Object> variables = new HashMap<>();
+
+        for (Matcher statement : statements) {
+            if (statement.pattern() == RETURN) {
+                result = variables.get(statement.group(1));
+                continue;
+            }
+
+            Map<String, String> storage = "local".equals(statement.group(3)) || "local".equals(statement.group(6)) ? localStorage : sessionStorage;
+            List<String> parameters = new ArrayList<>();
+
+            if (statement.group(5) != null && !statement.group(5).trim().isEmpty()) {
+                for (String parameter : StubSelectors.split(statement.group(5), ',')) {
+                    parameters.add(parameter(parameter.trim(), arguments));
+                }
+            }
+
+            Object value;
+
+            if (statement.group(6) != null) {
+                value = new ArrayList<>(storage.keySet());
+            } else {
+                switch (statement.group(4)) {
+                    case "getItem":
+                        value = storage.get(parameters.get(0));
+                        break;
+
+                    case "setItem":
+                        // like browsers, the storage keeps strings only
+                        storage.put(String.valueOf(parameters.get(0)), String.valueOf(parameters.get(1)));
+                        value = null;
+                        break;
+
+                    case "removeItem":
+                        storage.remove(parameters.get(0));
+                        value = null;
+                        break;
+
+                    case "clear":
+                        storage.clear();
+                        value = null;
+                        break;
+
+                    default:
+                        value = (long) storage.size();
+                }
+            }
+
+            if (statement.group(2) != null) {
+                variables.put(statement.group(2), value);
+            } else if (statement.group(1) != null) {
+                result = value;
+            }
+        }
+
+        return result;
+    }
+
+    private static String parameter(String parameter, Object[] arguments) {
+        Matcher argument = ARGUMENT.matcher(parameter);
+
+        if (argument.matches()) {
+            Object value = arguments[Integer.parseInt(argument.group(1))];
+
+            return value == null ? null : String.valueOf(value);
+        }
+
+        if (parameter.length() >= 2 && (parameter.charAt(0) == '\'' || parameter.charAt(0) == '"')) {
+            return parameter.substring(1, parameter.length() - 1).replaceAll("\\\\(.)", "$1");
+        }
+
+        return parameter;
+    }
+
+    private static Object unwrap(Object argument) {
+        while (argument instanceof WrapsElement && !(argument instanceof StubWebElement)) {
+            argument = ((WrapsElement) argument).getWrappedElement();
+        }
+
+        if (argument instanceof Collection) {
+            List<Object> list = new ArrayList<>();
+
+            for (Object item : (Collection<?>) argument) {
+                list.add(unwrap(item));
+            }
+
+            return list;
+        }
+
+        if (argument instanceof Object[]) {
+            return unwrap(Arrays.asList((Object[]) argument));
+        }
+
+        return argument;
+    }
+
+    /**
+     * Converts the result of a script like a remote driver does.
+     */
+    private Object convert(Object result) {
+        if (result instanceof StubElement) {
+            return new StubWebElement(this, (StubElement) result);
+        }
+
+        if (result instanceof Integer || result instanceof Short || result instanceof Byte) {
+            return ((Number) result).longValue();
+        }
+
+        if (result instanceof Float) {
+            return ((Float) result).doubleValue();
+        }
+
+        if (result instanceof Collection) {
+            List<Object> list = new ArrayList<>();
+
+            for (Object item : (Collection<?>) result) {
+                list.add(this.convert(item));
+            }
+
+            return list;
+        }
+
+        if (result instanceof Map) {
+            Map<String, Object> map = new LinkedHashMap<>();
+
+            ((Map<?, ?>) result).forEach((key, value) -> map.put(String.valueOf(key), this.convert(value)));
+
+            return map;
+        }
+
+        return result;
+    }
+
+    private Alert alert() {
+        if (alert == null) {
+            throw new NoAlertPresentException();
+        }
+
+        return new StubAlert();
+    }
+
+    /**
+     * Browser window: its history and the document of its current page.
+     */
+    private static final class BrowserWindow {
+
+        private final String       handle;
+        private final List<String> history  = new ArrayList<>();
+
+        private int                index    = -1;
+        private StubElement        document;
+        private Dimension          size     = new Dimension(1280, 800);
+        private Point              position = new Point(0, 0);
+
+        private BrowserWindow(String handle) {
+            this.handle = handle;
+        }
+
+        private String url() {
+            return history.get(index);
+        }
+
+    }
+
+    /**
+     * Registered {@link ScriptHandler}.
+     */
+    private static final class Script {
+
+        private final Predicate<String> matcher;
+        private final ScriptHandler     handler;
+
+        private Script(Predicate<String> matcher, ScriptHandler handler) {
+            this.matcher = matcher;
+            this.handler = handler;
+        }
+
+    }
+
+    private final class StubNavigation implements Navigation {
+
+        @Override
+        public void back() {
+            StubWebDriver.this.execute(DriverCommand.GO_BACK, () -> {
+                BrowserWindow current = StubWebDriver.this.current();
+
+                if (current.index > 0) {
+                    current.index--;
+                    StubWebDriver.this.load(current);
+                }
+            });
+        }
+
+        @Override
+        public void forward() {
+            StubWebDriver.this.execute(DriverCommand.GO_FORWARD, () -> {
+                BrowserWindow current = StubWebDriver.this.current();
+
+                if (current.index + 1 < current.history.size()) {
+                    current.index++;
+                    StubWebDriver.this.load(current);
+                }
+            });
+        }
+
+        @Override
+        public void to(String url) {
+            StubWebDriver.this.get(url);
+        }
+
+        @Override
+        public void to(URL url) {
+            StubWebDriver.this.get(String.valueOf(url));
+        }
+
+        @Override
+        public void refresh() {
+            StubWebDriver.this.execute(DriverCommand.REFRESH, () -> StubWebDriver.this.load(StubWebDriver.this.current()));
+        }
+
+    }
+
+    private final class StubTargetLocator implements TargetLocator {
+
+        @Override
+        public WebDriver frame(int index) {
+            throw new NoSuchFrameException("The stub driver has no frames: " + index);
+        }
+
+        @Override
+        public WebDriver frame(String nameOrId) {
+            throw new NoSuchFrameException("The stub driver has no frames: " + nameOrId);
+        }
+
+        @Override
+        public WebDriver frame(WebElement frameElement) {
+            throw new NoSuchFrameException("The stub driver has no frames: " + frameElement);
+        }
+
+        @Override
+        public WebDriver parentFrame() {
+            StubWebDriver.this.execute(DriverCommand.SWITCH_TO_PARENT_FRAME, () -> {
+                // the page is always the top level browsing context
+            });
+
+            return StubWebDriver.this;
+        }
+
+        @Override
+        public WebDriver window(String nameOrHandle) {
+            StubWebDriver.this.execute(DriverCommand.SWITCH_TO_WINDOW, () -> {
+                BrowserWindow target = windows.get(nameOrHandle);
+
+                if (target == null) {
+                    throw new NoSuchWindowException("No window found with handle " + nameOrHandle);
+                }
+
+                window = target;
+            });
+
+            return StubWebDriver.this;
+        }
+
+        @Override
+        public WebDriver defaultContent() {
+            StubWebDriver.this.execute(DriverCommand.SWITCH_TO_FRAME, () -> {
+                // the page is always the top level browsing context
+            });
+
+            return StubWebDriver.this;
+        }
+
+        @Override
+        public WebElement activeElement() {
+            return StubWebDriver.this.execute(DriverCommand.GET_ACTIVE_ELEMENT, () -> {
+                StubElement document = StubWebDriver.this.current().document;
+                List<StubElement> focused = StubSelectors.filter(document, e -> e.hasAttribute("autofocus"));
+
+                if (focused.isEmpty()) {
+                    focused = StubSelectors.filter(document, e -> "body".equals(e.getTagName()));
+                }
+
+                return new StubWebElement(StubWebDriver.this, focused.isEmpty() ? document.getChildren().get(0) : focused.get(0));
+            });
+        }
+
+        @Override
+        public Alert alert() {
+            return StubWebDriver.this.execute(DriverCommand.GET_ALERT_TEXT, StubWebDriver.this::alert);
+        }
+
+    }
+
+    private final class StubAlert implements Alert {
+
+        @Override
+        public void dismiss() {
+            StubWebDriver.this.execute(DriverCommand.DISMISS_ALERT, () -> {
+                StubWebDriver.this.alert();
+                alert = null;
+            });
+        }
+
+        @Override
+        public void accept() {
+            StubWebDriver.this.execute(DriverCommand.ACCEPT_ALERT, () -> {
+                StubWebDriver.this.alert();
+                alert = null;
+            });
+        }
+
+        @Override
+        public String getText() {
+            return StubWebDriver.this.execute(DriverCommand.GET_ALERT_TEXT, () -> {
+                StubWebDriver.this.alert();
+
+                return alert;
+            });
+        }
+
+        @Override
+        public void sendKeys(String keysToSend) {
+            StubWebDriver.this.execute(DriverCommand.SET_ALERT_VALUE, () -> {
+                StubWebDriver.this.alert();
+            });
+        }
+
+        @Override
+        public void setCredentials(Credentials credentials) {
+            StubWebDriver.this.execute(DriverCommand.SET_ALERT_CREDENTIALS, () -> {
+                StubWebDriver.this.alert();
+            });
+        }
+
+        @Override
+        public void authenticateUsing(Credentials credentials) {
+            this.setCredentials(credentials);
+            this.accept();
+        }
+
+    }
+
+    private final class StubOptions implements Options {
+
+        @Override
+        public void addCookie(Cookie cookie) {
+            StubWebDriver.this.execute(DriverCommand.ADD_COOKIE, () -> {
+                cookies.put(cookie.getName(), cookie);
+            });
+        }
+
+        @Override
+        public void deleteCookieNamed(String name) {
+            StubWebDriver.this.execute(DriverCommand.DELETE_COOKIE, () -> {
+                cookies.remove(name);
+            });
+        }
+
+        @Override
+        public void deleteCookie(Cookie cookie) {
+            this.deleteCookieNamed(cookie.getName());
+        }
+
+        @Override
+        public void deleteAllCookies() {
+            StubWebDriver.this.execute(DriverCommand.DELETE_ALL_COOKIES, () -> {
+                cookies.clear();
+            });
+        }
+
+        @Override
+        public Set<Cookie> getCookies() {
+            return StubWebDriver.this.execute(DriverCommand.GET_ALL_COOKIES, () -> new LinkedHashSet<>(cookies.values()));
+        }
+
+        @Override
+        public Cookie getCookieNamed(String name) {
+            return StubWebDriver.this.execute(DriverCommand.GET_COOKIE, () -> cookies.get(name));
+        }
+
+        @Override
+        public Timeouts timeouts() {
+            return new StubTimeouts();
+        }
+
+        @Override
+        public ImeHandler ime() {
+            throw new UnsupportedOperationException("The stub driver has no input method editor");
+        }
+
+        @Override
+        public WebDriver.Window window() {
+            return new StubWindow();
+        }
+
+        @Override
+        public Logs logs() {
+            throw new UnsupportedOperationException("The stub driver has no logs");
+        }
+
+    }
+
+    private final class StubTimeouts implements Timeouts {
+
+        @Override
+        public Timeouts implicitlyWait(long time, TimeUnit unit) {
+            StubWebDriver.this.execute(DriverCommand.SET_TIMEOUT, () -> {
+                // the DOM is always ready
+            });
+
+            return this;
+        }
+
+        @Override
+        public Timeouts setScriptTimeout(long time, TimeUnit unit) {
+            StubWebDriver.this.execute(DriverCommand.SET_TIMEOUT, () -> {
+                // scripts run synchronously
+            });
+
+            return this;
+        }
+
+        @Override
+        public Timeouts pageLoadTimeout(long time, TimeUnit unit) {
+            StubWebDriver.this.execute(DriverCommand.SET_TIMEOUT, () -> {
+                // pages load synchronously
+            });
+
+            return this;
+        }
+
+    }
+
+    private final class StubWindow implements WebDriver.Window {
+
+        @Override
+        public void setSize(Dimension targetSize) {
+            StubWebDriver.this.execute(DriverCommand.SET_CURRENT_WINDOW_SIZE, () -> {
+                StubWebDriver.this.current().size = targetSize;
+            });
+        }
+
+        @Override
+        public void setPosition(Point targetPosition) {
+            StubWebDriver.this.execute(DriverCommand.SET_CURRENT_WINDOW_POSITION, () -> {
+                StubWebDriver.this.current().position = targetPosition;
+            });
+        }
+
+        @Override
+        public Dimension getSize() {
+            return StubWebDriver.this.execute(DriverCommand.GET_CURRENT_WINDOW_SIZE, () -> StubWebDriver.this.current().size);
+        }
+
+        @Override
+        public Point getPosition() {
+            return StubWebDriver.this.execute(DriverCommand.GET_CURRENT_WINDOW_POSITION, () -> StubWebDriver.this.current().position);
+        }
+
+        @Override
+        public void maximize() {
+            StubWebDriver.this.execute(DriverCommand.MAXIMIZE_CURRENT_WINDOW, () -> {
+                StubWebDriver.this.current().position = new Point(0, 0);
+                StubWebDriver.this.current().size = new Dimension(1920, 1080);
+            });
+        }
+
+        @Override
+        public void fullscreen() {
+            StubWebDriver.this.execute(DriverCommand.FULLSCREEN_CURRENT_WINDOW, () -> {
+                StubWebDriver.this.current().position = new Point(0, 0);
+                StubWebDriver.this.current().size = new Dimension(1920, 1080);
+            });
+        }
+
+    }
+
+    /**
+     * Local or session storage of the driver. The storage is shared by all windows, whatever the origin of their pages.
+     */
+    private final class StubStorage implements LocalStorage, SessionStorage {
+
+        private final Map<String, String> storage;
+        private final String              getItem;
+        private final String              keySet;
+        private final String              setItem;
+        private final String              removeItem;
+        private final String              clear;
+        private final String              size;
+
+        private StubStorage(Map<String, String> storage, String getItem, String keySet, String setItem, String removeItem, String clear, String size) {
+            this.storage = storage;
+            this.getItem = getItem;
+            this.keySet = keySet;
+            this.setItem = setItem;
+            this.removeItem = removeItem;
+            this.clear = clear;
+            this.size = size;
+        }
+
+        @Override
+        public String getItem(String key) {
+            return StubWebDriver.this.execute(getItem, () -> storage.get(key));
+        }
+
+        @Override
+        public Set<String> keySet() {
+            return StubWebDriver.this.execute(keySet, () -> Collections.unmodifiableSet(new LinkedHashSet<>(storage.keySet())));
+        }
+
+        @Override
+        public void setItem(String key, String value) {
+            StubWebDriver.this.execute(setItem, () -> {
+                storage.put(String.valueOf(key), String.valueOf(value));
+            });
+        }
+
+        @Override
+        public String removeItem(String key) {
+            return StubWebDriver.this.execute(removeItem, () -> storage.remove(key));
+        }
+
+        @Override
+        public void clear() {
+            StubWebDriver.this.execute(clear, () -> {
+                storage.clear();
+            });
+        }
+
+        @Override
+        public int size() {
+            return StubWebDriver.this.execute(size, () -> storage.size());
+        }
+
+    }
+
+}
@@ -0,0 +1,182 @@
+package com.github.qacore.seleniumtestingtoolbox.stub;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.WebElement;
+
+import com.github.qacore.seleniumtestingtoolbox.WebDriverFactory;
+import com.github.qacore.seleniumtestingtoolbox.webdriver.AugmentedWebDriver;
+import com.github.qacore.seleniumtestingtoolbox.webdriver.html5.JSLocalStorage;
+
+/**
+ * Tests of the scripts simulated by {@link StubWebDriver}.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/leocarmona">https://github.com/leocarmona</a></li>
+ *         <li><a href="mailto:lcdesenv@gmail.com">lcdesenv@gmail.com</a></li>
+ *         </ul>
+ *
+ * @since 1.0.2
+ *
+ */
+public class StubWebDriverTest {
+
+    private StubWebDriver driver;
+
+    @Before
+    public void setUp() {
+        driver = new StubWebDriver(42).page("http://localhost/", () -> new StubElement("html").child(
+                new StubElement("body").child(
+                        new StubElement("a").id("link").text("Link"))));
+
+        driver.get("http://localhost/");
+    }
+
+    @Test
+    public void storageCallsWithLiteralAndArgumentParameters() {
+        driver.executeScript("localStorage.setItem('a', '1');");
+        driver.executeScript("localStorage.setItem(arguments[0], arguments[1]);", "b", 2);
+
+        assertEquals("1", driver.executeScript("return localStorage.getItem('a');"));
+        assertEquals("2", driver.executeScript("return localStorage.getItem(arguments[0]);", "b"));
+        assertEquals(2L, driver.executeScript("return localStorage.length;"));
+        assertEquals(Arrays.asList("a", "b"), driver.executeScript("return Object.keys(localStorage);"));
+        assertNull(driver.executeScript("return localStorage.getItem('missing');"));
+    }
+
+    @Test
+    public void storageCallsKeepVariablesBetweenStatements() {
+        driver.executeScript("sessionStorage.setItem('key', 'value');");
+
+        assertEquals("value", driver.executeScript("var item = sessionStorage.getItem(arguments[0]); sessionStorage.removeItem(arguments[0]); return item;", "key"));
+        assertEquals(0L, driver.executeScript("return sessionStorage.length;"));
+    }
+
+    @Test
+    public void localAndSessionStoragesAreSeparated() {
+        driver.executeScript("localStorage.setItem('key', 'local');");
+        driver.executeScript("sessionStorage.setItem('key', 'session');");
+
+        driver.executeScript("try { localStorage.clear(); } catch (e) { }");
+
+        assertEquals(0L, driver.executeScript("return localStorage.length;"));
+        assertEquals("session", driver.executeScript("return sessionStorage.getItem('key');"));
+        assertEquals("session", driver.getSessionStorage().getItem("key"));
+    }
+
+    @Test
+    public void storageSnapshotAndRestoreAreReachableFromTheAugmentedDriver() {
+        AugmentedWebDriver augmented = WebDriverFactory.augment(driver);
+        Map<String, String> items = new LinkedHashMap<>();
+
+        items.put("token", "abc");
+        items.put("user", "42");
+
+        driver.executeScript("localStorage.setItem('stale', 'x');");
+        augmented.getJSLocalStorage().restore(items);
+
+        assertEquals(items, augmented.getJSLocalStorage().snapshot());
+        assertEquals(2L, driver.executeScript("return localStorage.length;"));
+        assertTrue(augmented.getJSSessionStorage().snapshot().isEmpty());
+    }
+
+    @Test
+    public void storageSnapshotAndRestoreAreRecognizedByTheirCalls() {
+        Map<String, String> items = new LinkedHashMap<>();
+
+        items.put("a", "1");
+
+        driver.executeScript("const data = arguments[0];\n sessionStorage.clear();\n Object.keys(data).forEach(function (k) { sessionStorage.setItem(k, data[k]); });", items);
+
+        Object snapshot = driver.executeScript("var out = {}, n = sessionStorage.length; for (var j = 0; j < n; j++) { var k = sessionStorage.key(j); out[k] = sessionStorage.getItem(k); } return out;");
+
+        assertEquals(items, snapshot);
+        assertTrue(((Map<?, ?>) driver.executeScript("var r = {}; for (var i = 0; i < localStorage.length; i++) { r[localStorage.key(i)] = localStorage.getItem(localStorage.key(i)); } return r;")).isEmpty());
+    }
+
+    @Test
+    public void storageKeepsNullsAsStrings() {
+        Map<String, String> items = new LinkedHashMap<>();
+
+        items.put("restored", null);
+
+        new JSLocalStorage(driver).restore(items);
+        driver.executeScript("localStorage.setItem(arguments[0], arguments[1]);", "set", null);
+        driver.getSessionStorage().setItem("native", null);
+
+        assertEquals("null", driver.executeScript("return localStorage.getItem('restored');"));
+        assertEquals("null", driver.executeScript("return localStorage.getItem('set');"));
+        assertEquals("null", driver.getSessionStorage().getItem("native"));
+    }
+
+    @Test
+    public void windowOpenCreatesANewWindowWithoutSwitching() {
+        String first = driver.getWindowHandle();
+
+        driver.executeScript("window.open('', '_blank');");
+        driver.executeScript("window.open('http://localhost/');");
+
+        List<String> handles = new ArrayList<>(driver.getWindowHandles());
+
+        assertEquals(3, handles.size());
+        assertEquals(first, driver.getWindowHandle());
+
+        driver.switchTo().window(handles.get(1));
+        assertEquals(StubWebDriver.BLANK, driver.getCurrentUrl());
+
+        driver.switchTo().window(handles.get(2));
+        assertEquals("http://localhost/", driver.getCurrentUrl());
+        assertEquals(1, driver.findElements(By.id("link")).size());
+    }
+
+    @Test
+    public void registeredHandlersTakePrecedenceAndTheirResultsAreConverted() {
+        driver.script(script -> script.contains("answer"), (stub, args) -> Arrays.asList(42, 1.5f, args[0]));
+
+        WebElement link = driver.findElement(By.id("link"));
+        List<?> result = (List<?>) driver.executeScript("return answer(arguments[0]);", link);
+
+        assertEquals(42L, result.get(0));
+        assertEquals(1.5d, result.get(1));
+        assertEquals(link, result.get(2));
+        assertTrue(result.get(2) instanceof StubWebElement);
+    }
+
+    @Test(expected = JavascriptException.class)
+    public void otherScriptsThrow() {
+        driver.executeScript("return document.title;");
+    }
+
+    @Test(expected = JavascriptException.class)
+    public void scriptsMixingStorageCallsWithOtherCodeThrow() {
+        driver.executeScript("localStorage.setItem('a', '1'); doSomethingElse();");
+    }
+
+    @Test
+    public void storageLengthIsSimulated() {
+        assertEquals(0L, driver.executeScript("return localStorage.length;"));
+    }
+
+    @Test
+    public void scriptsAreCountedAsCommands() {
+        driver.executeScript("return localStorage.length;");
+        driver.executeScript("return sessionStorage.length;");
+
+        assertEquals(Long.valueOf(2), driver.getCommandCounts().get("executeScript"));
+    }
+
+}
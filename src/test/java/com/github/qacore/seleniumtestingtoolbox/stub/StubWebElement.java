@@ -0,0 +1,477 @@
+package com.github.qacore.seleniumtestingtoolbox.stub;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.ElementNotVisibleException;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.internal.FindsByClassName;
+import org.openqa.selenium.internal.FindsByCssSelector;
+import org.openqa.selenium.internal.FindsById;
+import org.openqa.selenium.internal.FindsByLinkText;
+import org.openqa.selenium.internal.FindsByName;
+import org.openqa.selenium.internal.FindsByTagName;
+import org.openqa.selenium.internal.FindsByXPath;
+import org.openqa.selenium.internal.WrapsDriver;
+import org.openqa.selenium.remote.DriverCommand;
+
+/**
+ * {@link WebElement} of a {@link StubWebDriver}, backed by a {@link StubElement node} of its DOM.
+ * <p>
+ * Each method is a command of the driver, with its simulated latency and failures. The element becomes stale when its node is removed from the document of the current window, or when the window navigates.
+ * </p>
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/leocarmona">https://github.com/leocarmona</a></li>
+ *         <li><a href="mailto:lcdesenv@gmail.com">lcdesenv@gmail.com</a></li>
+ *         </ul>
+ *
+ * @since 1.0.2
+ *
+ */
+public class StubWebElement implements WebElement, WrapsDriver, FindsById, FindsByName, FindsByClassName, FindsByTagName, FindsByCssSelector, FindsByXPath, FindsByLinkText {
+
+    private final StubWebDriver driver;
+    private final StubElement   node;
+
+    StubWebElement(StubWebDriver driver, StubElement node) {
+        this.driver = driver;
+        this.node = node;
+    }
+
+    /**
+     * @return The node of the element. Changes to the node must be made by {@link StubWebDriver#mutate(java.util.function.Consumer)} while the driver is in use by other threads.
+     */
+    public StubElement getNode() {
+        return node;
+    }
+
+    @Override
+    public WebDriver getWrappedDriver() {
+        return driver;
+    }
+
+    @Override
+    public void click() {
+        driver.execute(DriverCommand.CLICK_ELEMENT, () -> {
+            this.checkDisplayed();
+
+            if (node.hasAttribute("disabled")) {
+                return;
+            }
+
+            String type = String.valueOf(node.getAttribute("type")).toLowerCase(Locale.ROOT);
+
+            if ("input".equals(node.getTagName()) && "checkbox".equals(type)) {
+                node.attribute("checked", node.hasAttribute("checked") ? null : "checked");
+            } else if ("input".equals(node.getTagName()) && "radio".equals(type)) {
+                for (StubElement radio : StubSelectors.filter(node.getRoot(), e -> "input".equals(e.getTagName()) && "radio".equalsIgnoreCase(e.getAttribute("type")))) {
+                    if (radio.getAttribute("name") != null && radio.getAttribute("name").equals(node.getAttribute("name"))) {
+                        radio.attribute("checked", null);
+                    }
+                }
+
+                node.attribute("checked", "checked");
+            } else if ("option".equals(node.getTagName())) {
+                this.select();
+            } else if ("a".equals(node.getTagName()) && node.getAttribute("href") != null) {
+                if ("_blank".equals(node.getAttribute("target"))) {
+                    driver.openWindow(node.getAttribute("href"));
+                } else {
+                    driver.navigate(node.getAttribute("href"));
+                }
+            } else if (("button".equals(node.getTagName()) && !"button".equals(type) && !"reset".equals(type)) || ("input".equals(node.getTagName()) && ("submit".equals(type) || "image".equals(type)))) {
+                StubElement form = this.form();
+
+                if (form != null) {
+                    this.submit(form);
+                }
+            }
+        });
+    }
+
+    @Override
+    public void submit() {
+        driver.execute(DriverCommand.SUBMIT_ELEMENT, () -> {
+            this.checkAttached();
+
+            StubElement form = "form".equals(node.getTagName()) ? node : this.form();
+
+            if (form == null) {
+                throw new NoSuchElementException("The element is not in a form: " + node);
+            }
+
+            this.submit(form);
+        });
+    }
+
+    @Override
+    public void sendKeys(CharSequence... keysToSend) {
+        if (keysToSend == null) {
+            throw new IllegalArgumentException("Keys to send should be a not null CharSequence");
+        }
+
+        driver.execute(DriverCommand.SEND_KEYS_TO_ELEMENT, () -> {
+            this.checkDisplayed();
+
+            StringBuilder value = new StringBuilder(this.value());
+
+            for (CharSequence keys : keysToSend) {
+                for (int i = 0; i < keys.length(); i++) {
+                    char key = keys.charAt(i);
+
+                    // Keys are in the private use area of Unicode
+                    if (key < '\uE000' || key > '\uF8FF') {
+                        value.append(key);
+                    }
+                }
+            }
+
+            node.attribute("value", value.toString());
+        });
+    }
+
+    @Override
+    public void clear() {
+        driver.execute(DriverCommand.CLEAR_ELEMENT, () -> {
+            this.checkDisplayed();
+
+            node.attribute("value", "");
+        });
+    }
+
+    @Override
+    public String getTagName() {
+        return driver.execute(DriverCommand.GET_ELEMENT_TAG_NAME, () -> {
+            this.checkAttached();
+
+            return node.getTagName();
+        });
+    }
+
+    @Override
+    public String getAttribute(String name) {
+        return driver.execute(DriverCommand.GET_ELEMENT_ATTRIBUTE, () -> {
+            this.checkAttached();
+
+            String attribute = name.toLowerCase(Locale.ROOT);
+
+            if (StubElement.BOOLEAN_ATTRIBUTES.contains(attribute)) {
+                return node.hasAttribute(attribute) ? "true" : null;
+            }
+
+            switch (attribute) {
+                case "value":
+                    return this.value();
+
+                case "classname":
+                    return node.getAttribute("class");
+
+                case "textcontent":
+                case "innertext":
+                    return node.isDisplayed() ? node.getText() : "";
+
+                case "outerhtml":
+                    return node.toHtml();
+
+                case "innerhtml":
+                    String html = node.toHtml();
+
+                    return html.substring(node.toString().length(), html.length() - node.getTagName().length() - 3);
+
+                default:
+                    return node.getAttribute(attribute);
+            }
+        });
+    }
+
+    @Override
+    public boolean isSelected() {
+        return driver.execute(DriverCommand.IS_ELEMENT_SELECTED, () -> {
+            this.checkAttached();
+
+            return node.hasAttribute("checked") || node.hasAttribute("selected");
+        });
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return driver.execute(DriverCommand.IS_ELEMENT_ENABLED, () -> {
+            this.checkAttached();
+
+            return !node.hasAttribute("disabled");
+        });
+    }
+
+    @Override
+    public String getText() {
+        return driver.execute(DriverCommand.GET_ELEMENT_TEXT, () -> {
+            this.checkAttached();
+
+            return node.isDisplayed() ? node.getText() : "";
+        });
+    }
+
+    @Override
+    public boolean isDisplayed() {
+        return driver.execute(DriverCommand.IS_ELEMENT_DISPLAYED, () -> {
+            this.checkAttached();
+
+            return node.isDisplayed();
+        });
+    }
+
+    @Override
+    public Point getLocation() {
+        return driver.execute(DriverCommand.GET_ELEMENT_LOCATION, () -> {
+            this.checkAttached();
+
+            return node.getRect().getPoint();
+        });
+    }
+
+    @Override
+    public Dimension getSize() {
+        return driver.execute(DriverCommand.GET_ELEMENT_SIZE, () -> {
+            this.checkAttached();
+
+            return node.getRect().getDimension();
+        });
+    }
+
+    @Override
+    public Rectangle getRect() {
+        return driver.execute(DriverCommand.GET_ELEMENT_RECT, () -> {
+            this.checkAttached();
+
+            return node.getRect();
+        });
+    }
+
+    @Override
+    public String getCssValue(String propertyName) {
+        return driver.execute(DriverCommand.GET_ELEMENT_VALUE_OF_CSS_PROPERTY, () -> {
+            this.checkAttached();
+
+            String style = node.getAttribute("style");
+
+            if (style != null) {
+                for (String declaration : style.split(";")) {
+                    int colon = declaration.indexOf(':');
+
+                    if (colon > 0 && declaration.substring(0, colon).trim().equalsIgnoreCase(propertyName)) {
+                        return declaration.substring(colon + 1).trim();
+                    }
+                }
+            }
+
+            return "display".equalsIgnoreCase(propertyName) && !node.isDisplayed() ? "none" : "";
+        });
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target) throws WebDriverException {
+        byte[] png = driver.execute(DriverCommand.ELEMENT_SCREENSHOT, () -> {
+            this.checkDisplayed();
+
+            return driver.screenshot(node.getRect().getWidth(), node.getRect().getHeight());
+        });
+
+        return target.convertFromPngBytes(png);
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        return driver.execute(DriverCommand.FIND_CHILD_ELEMENTS, () -> {
+            this.checkAttached();
+
+            return new StubSearchContext(driver, node).findElements(by);
+        });
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        return driver.execute(DriverCommand.FIND_CHILD_ELEMENT, () -> {
+            this.checkAttached();
+
+            return new StubSearchContext(driver, node).findElement(by);
+        });
+    }
+
+    @Override
+    public WebElement findElementById(String using) {
+        return this.findElement(By.id(using));
+    }
+
+    @Override
+    public List<WebElement> findElementsById(String using) {
+        return this.findElements(By.id(using));
+    }
+
+    @Override
+    public WebElement findElementByName(String using) {
+        return this.findElement(By.name(using));
+    }
+
+    @Override
+    public List<WebElement> findElementsByName(String using) {
+        return this.findElements(By.name(using));
+    }
+
+    @Override
+    public WebElement findElementByClassName(String using) {
+        return this.findElement(By.className(using));
+    }
+
+    @Override
+    public List<WebElement> findElementsByClassName(String using) {
+        return this.findElements(By.className(using));
+    }
+
+    @Override
+    public WebElement findElementByTagName(String using) {
+        return this.findElement(By.tagName(using));
+    }
+
+    @Override
+    public List<WebElement> findElementsByTagName(String using) {
+        return this.findElements(By.tagName(using));
+    }
+
+    @Override
+    public WebElement findElementByCssSelector(String using) {
+        return this.findElement(By.cssSelector(using));
+    }
+
+    @Override
+    public List<WebElement> findElementsByCssSelector(String using) {
+        return this.findElements(By.cssSelector(using));
+    }
+
+    @Override
+    public WebElement findElementByXPath(String using) {
+        return this.findElement(By.xpath(using));
+    }
+
+    @Override
+    public List<WebElement> findElementsByXPath(String using) {
+        return this.findElements(By.xpath(using));
+    }
+
+    @Override
+    public WebElement findElementByLinkText(String using) {
+        return this.findElement(By.linkText(using));
+    }
+
+    @Override
+    public List<WebElement> findElementsByLinkText(String using) {
+        return this.findElements(By.linkText(using));
+    }
+
+    @Override
+    public WebElement findElementByPartialLinkText(String using) {
+        return this.findElement(By.partialLinkText(using));
+    }
+
+    @Override
+    public List<WebElement> findElementsByPartialLinkText(String using) {
+        return this.findElements(By.partialLinkText(using));
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof StubWebElement)) {
+            return false;
+        }
+
+        StubWebElement other = (StubWebElement) obj;
+
+        return driver == other.driver && node == other.node;
+    }
+
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(node);
+    }
+
+    @Override
+    public String toString() {
+        return "[" + driver + "] -> " + node;
+    }
+
+    private void checkAttached() {
+        if (!driver.isAttached(node)) {
+            throw new StaleElementReferenceException("The element is not attached to the page document: " + node);
+        }
+    }
+
+    private void checkDisplayed() {
+        this.checkAttached();
+
+        if (!node.isDisplayed()) {
+            throw new ElementNotVisibleException("The element is not visible: " + node);
+        }
+    }
+
+    private String value() {
+        String value = node.getAttribute("value");
+
+        if (value == null && ("textarea".equals(node.getTagName()) || "option".equals(node.getTagName()))) {
+            return node.getOwnText();
+        }
+
+        return value == null ? "" : value;
+    }
+
+    private StubElement form() {
+        StubElement form = node.getParent();
+
+        while (form != null && !"form".equals(form.getTagName())) {
+            form = form.getParent();
+        }
+
+        return form;
+    }
+
+    private void select() {
+        StubElement select = node.getParent();
+
+        while (select != null && !"select".equals(select.getTagName())) {
+            select = select.getParent();
+        }
+
+        if (select != null && select.hasAttribute("multiple")) {
+            node.attribute("selected", node.hasAttribute("selected") ? null : "selected");
+
+            return;
+        }
+
+        if (select != null) {
+            for (StubElement option : StubSelectors.filter(select, e -> "option".equals(e.getTagName()))) {
+                option.attribute("selected", null);
+            }
+        }
+
+        node.attribute("selected", "selected");
+    }
+
+    private void submit(StubElement form) {
+        String action = form.getAttribute("action");
+
+        if (action != null) {
+            driver.navigate(action);
+        }
+    }
+
+}
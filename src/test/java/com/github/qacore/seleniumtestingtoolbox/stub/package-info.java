@@ -0,0 +1,4 @@
+/**
+ * Provides an in-memory webdriver to test and measure the Selenium Testing Toolbox ecosystem without a browser. It is not part of the library jar: other modules, like the benchmarks, get it from the test jar.
+ */
+package com.github.qacore.seleniumtestingtoolbox.stub;
@@ -0,0 +1,68 @@
+package com.github.qacore.seleniumtestingtoolbox.webdriver;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * Tests of the {@link AttributesSnapshot} taken by the default {@link AugmentedWebElement.Attributes#snapshot()}.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/leocarmona">https://github.com/leocarmona</a></li>
+ *         <li><a href="mailto:lcdesenv@gmail.com">lcdesenv@gmail.com</a></li>
+ *         </ul>
+ *
+ * @since 1.0.2
+ *
+ */
+public class AttributesSnapshotTest {
+
+    @Test
+    public void defaultSnapshotsReadEachAttributeWithItsMethod() {
+        Map<String, String> markup = new HashMap<>();
+        markup.put("id", "email");
+        markup.put("class", "input  large");
+        markup.put("type", "email");
+        markup.put("required", "true");
+        markup.put("maxlength", "80");
+        markup.put("autocomplete", "off");
+        markup.put("formenctype", "text/plain");
+
+        AugmentedWebElement.Attributes attributes = new AbstractAttributes() {
+
+            @Override
+            protected String attribute(String name) {
+                return markup.get(name);
+            }
+
+        };
+
+        AttributesSnapshot snapshot = attributes.snapshot();
+
+        assertEquals("email", snapshot.id());
+        assertEquals("input large", snapshot.get("class"));
+        assertEquals("true", snapshot.get("required"));
+        assertNull(snapshot.get("checked"));
+        assertEquals(Integer.valueOf(80), snapshot.maxLength());
+        assertFalse(snapshot.autoComplete());
+        assertEquals(AugmentedWebElement.FormEncType.TEXT_PLAIN, snapshot.formEncType());
+
+        // the type of a text input is not a button type and its size is not set, so both are left out
+        assertFalse(snapshot.asMap().containsKey("type"));
+        assertFalse(snapshot.asMap().containsKey("size"));
+
+        attributes.invalidate();
+
+        markup.put("id", "login");
+
+        assertEquals("login", attributes.snapshot().id());
+    }
+
+}
@@ -0,0 +1,148 @@
+package com.github.qacore.seleniumtestingtoolbox.webdriver;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.After;
+import org.junit.Test;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.internal.WrapsDriver;
+
+import com.github.qacore.seleniumtestingtoolbox.WebDriverFactory;
+import com.github.qacore.seleniumtestingtoolbox.WebDriverManager;
+import com.github.qacore.seleniumtestingtoolbox.webdriver.events.AbstractAugmentedWebDriverEventListener;
+import com.github.qacore.seleniumtestingtoolbox.webdriver.events.EventsRegistry;
+
+/**
+ * Tests of the events dispatched by {@link DefaultAugmentedWebElement}.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/leocarmona">https://github.com/leocarmona</a></li>
+ *         <li><a href="mailto:lcdesenv@gmail.com">lcdesenv@gmail.com</a></li>
+ *         </ul>
+ *
+ * @since 1.0.2
+ *
+ */
+public class DefaultAugmentedWebElementTest {
+
+    @After
+    public void tearDown() {
+        WebDriverManager.quit();
+    }
+
+    @Test
+    public void elementsWithoutRegistryShareTheEmptyRegistry() {
+        DefaultAugmentedWebElement element = new DefaultAugmentedWebElement(element(null), "field", null);
+
+        assertSame(EventsRegistry.empty(), element.registry());
+    }
+
+    @Test
+    public void elementListenersChainToTheRegistryOfTheElement() {
+        EventsRegistry driverEvents = new EventsRegistry();
+        Recorder driverListener = new Recorder();
+        Recorder elementListener = new Recorder();
+        DefaultAugmentedWebElement element = new DefaultAugmentedWebElement(element(null), "field", driverEvents.register(driverListener));
+        DefaultAugmentedWebElement sibling = new DefaultAugmentedWebElement(element(null), "sibling", driverEvents);
+
+        element.events().register(elementListener);
+
+        assertSame(driverEvents, element.events().getParent());
+        assertSame(element.events(), element.registry());
+
+        element.click();
+        sibling.click();
+
+        assertEquals(1, elementListener.clicks.size());
+        assertEquals(2, driverListener.clicks.size());
+    }
+
+    @Test
+    public void augmentedElementsOfTheManagedDriverShareItsRegistry() {
+        WebDriver driver = driver();
+        Recorder driverListener = new Recorder();
+
+        WebDriverManager.setDriver(driver);
+        WebDriverManager.getDriver().events().register(driverListener);
+
+        DefaultAugmentedWebElement first = (DefaultAugmentedWebElement) WebDriverFactory.augment(element(driver), "first", null);
+        DefaultAugmentedWebElement second = (DefaultAugmentedWebElement) WebDriverFactory.augment(element(driver), "second", null);
+
+        assertSame(WebDriverManager.getDriver().events(), first.registry());
+        assertSame(first.registry(), second.registry());
+
+        Recorder elementListener = new Recorder();
+
+        second.events().register(elementListener);
+        first.click();
+        second.click();
+
+        assertEquals(2, driverListener.clicks.size());
+        assertEquals(1, elementListener.clicks.size());
+        assertTrue(WebDriverManager.getDriver().events().getParent() == null);
+    }
+
+    @Test
+    public void theElementRegistryIsCreatedOnce() throws InterruptedException {
+        DefaultAugmentedWebElement element = new DefaultAugmentedWebElement(element(null), "field", null);
+        List<EventsRegistry> registries = new CopyOnWriteArrayList<>();
+        Thread[] threads = new Thread[8];
+
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> registries.add(element.events()));
+            threads[i].start();
+        }
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertTrue(registries.stream().allMatch(registry -> registry == element.events()));
+    }
+
+    private static WebDriver driver() {
+        return proxy(WebDriver.class, null);
+    }
+
+    private static WebElement element(WebDriver driver) {
+        return proxy(WebElement.class, driver);
+    }
+
+    private static <T> T proxy(Class<T> type, WebDriver driver) {
+        return type.cast(Proxy.newProxyInstance(DefaultAugmentedWebElementTest.class.getClassLoader(), new Class<?>[] { type, WrapsDriver.class }, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                case "toString":
+                    return type.getSimpleName();
+                case "getWrappedDriver":
+                    return driver;
+                default:
+                    return null;
+            }
+        }));
+    }
+
+    private static class Recorder extends AbstractAugmentedWebDriverEventListener {
+
+        final List<WebElement> clicks = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void beforeClickOn(WebElement element, WebDriver driver) {
+            clicks.add(element);
+        }
+
+    }
+
+}
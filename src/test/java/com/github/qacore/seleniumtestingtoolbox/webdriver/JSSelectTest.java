@@ -0,0 +1,275 @@
+package com.github.qacore.seleniumtestingtoolbox.webdriver;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import com.github.qacore.seleniumtestingtoolbox.stub.StubElement;
+import com.github.qacore.seleniumtestingtoolbox.stub.StubWebDriver;
+import com.github.qacore.seleniumtestingtoolbox.stub.StubWebElement;
+import com.github.qacore.seleniumtestingtoolbox.webdriver.events.AbstractAugmentedWebDriverEventListener;
+
+/**
+ * Tests of {@link JSSelect}, with its scripts simulated on the {@link StubWebDriver} DOM.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/leocarmona">https://github.com/leocarmona</a></li>
+ *         <li><a href="mailto:lcdesenv@gmail.com">lcdesenv@gmail.com</a></li>
+ *         </ul>
+ *
+ * @since 1.0.2
+ *
+ */
+public class JSSelectTest {
+
+    private final List<String> events = new ArrayList<>();
+
+    private StubWebDriver      stub;
+    private AugmentedWebDriver driver;
+    private StubElement        select;
+
+    @Before
+    public void setUp() {
+        select = new StubElement("select").id("country").child(
+                new StubElement("option").attribute("value", "br").attribute("selected", "selected").text("Brazil"),
+                new StubElement("option").attribute("value", "pt").text("Portugal"),
+                new StubElement("option").attribute("value", "xx").attribute("disabled", "disabled").text("Nowhere"));
+
+        stub = new StubWebDriver(42).page("http://localhost/", () -> new StubElement("html").child(new StubElement("body").child(select)));
+        stub.script(JSSelect.MULTIPLE_SCRIPT::equals, (stub, args) -> this.isSelect(args[0]) ? node(args[0]).hasAttribute("multiple") : null);
+        stub.script(JSSelect.OPTIONS_SCRIPT::equals, this::options);
+        stub.script(JSSelect.SELECT_SCRIPT::equals, this::select);
+        stub.get("http://localhost/");
+
+        driver = new DefaultAugmentedWebDriver(stub);
+    }
+
+    @Test
+    public void selectsWithOneScriptAndFiresTheDomEvents() {
+        AugmentedWebElement country = driver.findElement(By.id("country"), "Country");
+        long before = this.scripts();
+
+        country.selectByVisibleText("Portugal");
+
+        assertEquals(before + 1, this.scripts());
+        assertEquals(Arrays.asList("click Portugal", "change"), events);
+        assertEquals("Portugal", country.getFirstSelectedOption().getText());
+        assertEquals(Arrays.asList("Portugal"), country.getAllSelectedOptions().stream().map(WebElement::getText).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void listenersSeeEachChangedOptionAsClicked() {
+        List<String> clicks = new ArrayList<>();
+
+        driver.events().register(new AbstractAugmentedWebDriverEventListener() {
+
+            @Override
+            public void beforeClickOn(WebElement element, WebDriver driver) {
+                clicks.add("before " + element + " " + select.getChildren().get(1).hasAttribute("selected"));
+            }
+
+            @Override
+            public void afterClickOn(WebElement element, WebDriver driver) {
+                clicks.add("after " + element + " " + select.getChildren().get(1).hasAttribute("selected"));
+            }
+
+        });
+
+        driver.findElement(By.id("country"), "Country").selectByValue("pt");
+
+        assertEquals(Arrays.asList("before Portugal false", "after Portugal true"), clicks);
+        assertEquals(Arrays.asList("click Portugal", "change"), events);
+    }
+
+    @Test
+    public void readsTheMultipleAttributeOnEveryCall() {
+        AugmentedWebElement country = driver.findElement(By.id("country"), "Country");
+
+        assertFalse(country.isMultiple());
+
+        stub.mutate(html -> select.attribute("multiple", "multiple"));
+
+        assertTrue(country.isMultiple());
+
+        country.selectByIndex(1);
+        country.deselectByValue("br");
+
+        assertEquals(Arrays.asList("Portugal"), country.getAllSelectedOptions().stream().map(WebElement::getText).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void refusesWhatAClickCannotDo() {
+        AugmentedWebElement country = driver.findElement(By.id("country"), "Country");
+
+        assertThrows(UnsupportedOperationException.class, () -> country.deselectAll());
+        assertThrows(UnsupportedOperationException.class, () -> country.selectByVisibleText("Nowhere"));
+        assertThrows(NoSuchElementException.class, () -> country.selectByValue("missing"));
+
+        stub.mutate(html -> select.attribute("disabled", "disabled"));
+
+        assertThrows(UnsupportedOperationException.class, () -> country.selectByValue("pt"));
+        assertTrue(events.isEmpty());
+    }
+
+    @Test
+    public void fallsBackToTheSeleniumSelectWhenTheScriptsCannotRun() {
+        StubWebDriver plain = new StubWebDriver(42).page("http://localhost/", () -> new StubElement("html").child(new StubElement("body").child(select)));
+        plain.script(script -> script.startsWith("var s = arguments[0]"), (stub, args) -> null);
+        plain.get("http://localhost/");
+
+        AugmentedWebDriver driver = new DefaultAugmentedWebDriver(plain);
+        List<String> clicks = new ArrayList<>();
+
+        driver.events().register(new AbstractAugmentedWebDriverEventListener() {
+
+            @Override
+            public void beforeClickOn(WebElement element, WebDriver driver) {
+                clicks.add("before " + element.getText());
+            }
+
+            @Override
+            public void afterClickOn(WebElement element, WebDriver driver) {
+                clicks.add("after " + element.getText());
+            }
+
+        });
+
+        AugmentedWebElement country = driver.findElement(By.id("country"), "Country");
+
+        assertFalse(country.isMultiple());
+
+        country.selectByValue("pt");
+
+        assertEquals(Arrays.asList("before Portugal", "after Portugal"), clicks);
+        assertEquals("Portugal", country.getFirstSelectedOption().getText());
+        assertEquals(3, country.getOptions().size());
+        assertThrows(UnsupportedOperationException.class, () -> country.deselectAll());
+        assertTrue(events.isEmpty());
+    }
+
+    private Object options(StubWebDriver stub, Object... args) {
+        if (!this.isSelect(args[0])) {
+            return null;
+        }
+
+        StubElement select = node(args[0]);
+        List<Object> rows = new ArrayList<>();
+
+        for (StubElement option : select.getChildren()) {
+            if ("all".equals(args[1]) || option.hasAttribute("selected")) {
+                rows.add(Arrays.asList(option, option.getText(), option.getAttribute("value"), select.getChildren().indexOf(option), option.hasAttribute("selected")));
+
+                if ("first".equals(args[1])) {
+                    break;
+                }
+            }
+        }
+
+        return Arrays.asList(select.hasAttribute("multiple"), rows);
+    }
+
+    private Object select(StubWebDriver stub, Object... args) {
+        if (!this.isSelect(args[0])) {
+            return null;
+        }
+
+        StubElement select = node(args[0]);
+        String by = (String) args[1];
+        boolean selecting = (Boolean) args[3];
+        boolean apply = (Boolean) args[4];
+        boolean multiple = select.hasAttribute("multiple");
+        boolean found = false;
+        List<Object> changed = new ArrayList<>();
+
+        if (!selecting && !multiple) {
+            return Arrays.asList(false, -1, changed);
+        }
+
+        if (select.hasAttribute("disabled")) {
+            return Arrays.asList(multiple, -2, changed);
+        }
+
+        List<StubElement> options = select.getChildren();
+
+        for (int i = 0; i < options.size(); i++) {
+            StubElement option = options.get(i);
+            Object key = "text".equals(by) ? option.getText() : "value".equals(by) ? option.getAttribute("value") : i;
+
+            if (!"all".equals(by) && !key.equals(args[2])) {
+                continue;
+            }
+
+            found = true;
+
+            if (option.hasAttribute("disabled")) {
+                if (selecting) {
+                    return Arrays.asList(multiple, -3, changed);
+                }
+
+                continue;
+            }
+
+            if (option.hasAttribute("selected") != selecting) {
+                if (apply) {
+                    if (selecting && !multiple) {
+                        options.forEach(other -> other.attribute("selected", null));
+                    }
+
+                    option.attribute("selected", selecting ? "selected" : null);
+                    events.add("click " + option.getText());
+                }
+
+                changed.add(Arrays.asList(option, option.getText()));
+            }
+
+            if (selecting && !multiple) {
+                break;
+            }
+        }
+
+        if (apply && !changed.isEmpty()) {
+            events.add("change");
+        }
+
+        return Arrays.asList(multiple, found || "all".equals(by) ? 1 : 0, changed);
+    }
+
+    private boolean isSelect(Object element) {
+        return "select".equals(node(element).getTagName());
+    }
+
+    private long scripts() {
+        return stub.getCommandCounts().getOrDefault("executeScript", 0L);
+    }
+
+    private static StubElement node(Object element) {
+        return ((StubWebElement) element).getNode();
+    }
+
+    private static void assertThrows(Class<? extends RuntimeException> expected, Runnable action) {
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            assertEquals(expected, e.getClass());
+
+            return;
+        }
+
+        throw new AssertionError("Expected " + expected.getSimpleName());
+    }
+
+}
@@ -0,0 +1,123 @@
+package com.github.qacore.seleniumtestingtoolbox.webdriver;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.html5.LocalStorage;
+import org.openqa.selenium.remote.DriverCommand;
+
+import com.github.qacore.seleniumtestingtoolbox.stub.StubElement;
+import com.github.qacore.seleniumtestingtoolbox.stub.StubWebDriver;
+import com.github.qacore.seleniumtestingtoolbox.webdriver.html5.JSLocalStorage;
+
+/**
+ * Tests of the window handles that {@link DefaultAugmentedWebDriver} keeps in its {@link WindowRegistry}.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/leocarmona">https://github.com/leocarmona</a></li>
+ *         <li><a href="mailto:lcdesenv@gmail.com">lcdesenv@gmail.com</a></li>
+ *         </ul>
+ *
+ * @since 1.0.2
+ *
+ */
+public class WindowRegistryTest {
+
+    private StubWebDriver      stub;
+    private AugmentedWebDriver driver;
+    private List<String>       handles;
+
+    @Before
+    public void setUp() {
+        stub = new StubWebDriver(42).page("http://localhost/", () -> new StubElement("html").child(
+                new StubElement("body").child(
+                        new StubElement("a").id("link").text("Link"))));
+
+        stub.get("http://localhost/");
+
+        driver = new DefaultAugmentedWebDriver(stub);
+        driver.switchTo().openNewAndSwitch();
+        driver.switchTo().openNewAndSwitch();
+
+        handles = new ArrayList<>(stub.getWindowHandles());
+    }
+
+    @Test
+    public void switchesDoNotAskTheBrowserForTheHandles() {
+        long before = this.windowHandlesCalls();
+
+        for (int i = 0; i < 5; i++) {
+            driver.switchTo().first();
+            assertEquals(handles.get(0), stub.getWindowHandle());
+
+            driver.switchTo().last();
+            assertEquals(handles.get(2), stub.getWindowHandle());
+
+            driver.switchTo().window(1);
+            assertEquals(handles.get(1), stub.getWindowHandle());
+        }
+
+        assertEquals(before, this.windowHandlesCalls());
+        assertEquals(handles.get(1), driver.getWindowHandle());
+    }
+
+    @Test
+    public void internalScriptsKeepTheHandles() {
+        LocalStorage storage = new JSLocalStorage((WebDriver) driver);
+
+        storage.setItem("key", "value");
+        storage.getItem("key");
+        storage.keySet();
+
+        long before = this.windowHandlesCalls();
+
+        driver.switchTo().first();
+        driver.switchTo().last();
+
+        assertEquals(before, this.windowHandlesCalls());
+    }
+
+    @Test
+    public void userScriptsRefreshTheHandlesOnce() {
+        driver.executeScript("window.open('http://localhost/');");
+
+        long before = this.windowHandlesCalls();
+
+        driver.switchTo().last();
+        driver.switchTo().first();
+        driver.switchTo().window(2);
+
+        assertEquals(before + 1, this.windowHandlesCalls());
+        assertEquals(handles.get(2), stub.getWindowHandle());
+
+        driver.switchTo().last();
+
+        assertEquals("http://localhost/", stub.getCurrentUrl());
+    }
+
+    @Test
+    public void closingTheCurrentWindowForgetsItWithoutAskingTheBrowser() {
+        driver.switchTo().last();
+
+        long before = this.windowHandlesCalls();
+
+        driver.close();
+        driver.switchTo().window(-1);
+
+        assertEquals(before, this.windowHandlesCalls());
+        assertEquals(handles.get(1), stub.getWindowHandle());
+        assertEquals(2, driver.getWindowHandles().size());
+    }
+
+    private long windowHandlesCalls() {
+        return stub.getCommandCounts().getOrDefault(DriverCommand.GET_WINDOW_HANDLES, 0L);
+    }
+
+}
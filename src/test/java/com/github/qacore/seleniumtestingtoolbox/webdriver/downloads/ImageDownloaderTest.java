@@ -0,0 +1,258 @@
+package com.github.qacore.seleniumtestingtoolbox.webdriver.downloads;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.WebElement;
+
+import com.github.qacore.seleniumtestingtoolbox.stub.StubElement;
+import com.github.qacore.seleniumtestingtoolbox.stub.StubWebDriver;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Tests of {@link ImageDownloader} against a local HTTP server and a {@link StubWebDriver}.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/leocarmona">https://github.com/leocarmona</a></li>
+ *         <li><a href="mailto:lcdesenv@gmail.com">lcdesenv@gmail.com</a></li>
+ *         </ul>
+ *
+ * @since 1.0.2
+ *
+ */
+public class ImageDownloaderTest {
+
+    private static final byte[]       IMAGE    = "png-bytes".getBytes(StandardCharsets.US_ASCII);
+
+    @Rule
+    public TemporaryFolder            folder   = new TemporaryFolder();
+
+    private final Map<String, String> cookies  = new ConcurrentHashMap<>();
+    private final Map<String, String> agents   = new ConcurrentHashMap<>();
+    private final Map<String, String> referers = new ConcurrentHashMap<>();
+
+    private HttpServer                server;
+    private String                    base;
+    private StubWebDriver             driver;
+    private ImageDownloader           downloader;
+
+    @Before
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", this::handle);
+        server.start();
+
+        base = "http://127.0.0.1:" + server.getAddress().getPort();
+
+        String png = "data:image/png;base64," + Base64.getEncoder().encodeToString(IMAGE);
+
+        driver = new StubWebDriver().page(base + "/page", () -> new StubElement("html").child(
+                new StubElement("body").child(
+                        new StubElement("img").attribute("src", base + "/img/a.png"),
+                        new StubElement("img").attribute("src", base + "/other/a.png?size=large"),
+                        new StubElement("img").attribute("src", base + "/redirect"),
+                        new StubElement("img").attribute("src", base + "/missing.png"),
+                        new StubElement("img").attribute("src", png),
+                        new StubElement("img"))));
+
+        driver.get(base + "/page");
+        driver.manage().addCookie(new Cookie("session", "abc"));
+        driver.manage().addCookie(new Cookie("private", "xyz", null, "/private", null));
+        driver.manage().addCookie(new Cookie("other", "123", "example.com", "/", null));
+
+        downloader = new ImageDownloader(driver, 4, 5000, 5000);
+    }
+
+    @After
+    public void tearDown() {
+        downloader.close();
+        server.stop(0);
+    }
+
+    @Test
+    public void downloadsEachImageWithTheSessionCookies() throws IOException {
+        Path directory = folder.getRoot().toPath().resolve("images");
+        List<DownloadResult> results = downloader.download(By.tagName("img"), directory);
+
+        assertEquals(6, results.size());
+
+        DownloadResult first = results.get(0);
+
+        assertTrue(first.isSuccess());
+        assertEquals(200, first.getStatus());
+        assertEquals(IMAGE.length, first.getBytes());
+        assertEquals(directory.resolve("a.png"), first.getFile());
+        assertArrayEquals(IMAGE, Files.readAllBytes(first.getFile()));
+
+        assertEquals("session=abc", cookies.get("/img/a.png"));
+        assertEquals("session=abc", cookies.get("/other/a.png"));
+        assertEquals(base + "/page", referers.get("/img/a.png"));
+    }
+
+    @Test
+    public void namesTheFilesAfterTheUrlsAndMakesThemUnique() {
+        Path directory = folder.getRoot().toPath();
+        List<DownloadResult> results = downloader.download(By.tagName("img"), directory);
+
+        assertEquals(directory.resolve("a.png"), results.get(0).getFile());
+        assertEquals(directory.resolve("a-2.png"), results.get(1).getFile());
+        assertEquals(directory.resolve("redirect"), results.get(2).getFile());
+        assertEquals(directory.resolve("image.png"), results.get(4).getFile());
+    }
+
+    @Test
+    public void followsRedirectsWithTheCookies() throws IOException {
+        DownloadResult redirected = downloader.download(By.tagName("img"), folder.getRoot().toPath()).get(2);
+
+        assertTrue(redirected.isSuccess());
+        assertEquals(200, redirected.getStatus());
+        assertEquals(base + "/redirect", redirected.getUrl());
+        assertArrayEquals(IMAGE, Files.readAllBytes(redirected.getFile()));
+        assertEquals("session=abc", cookies.get("/redirect"));
+        assertEquals("session=abc", cookies.get("/img/b.png"));
+    }
+
+    @Test
+    public void reportsFailedDownloadsWithoutFailingTheOthers() throws IOException {
+        Path directory = folder.getRoot().toPath();
+        List<DownloadResult> results = downloader.download(By.tagName("img"), directory);
+
+        DownloadResult missing = results.get(3);
+
+        assertFalse(missing.isSuccess());
+        assertEquals(404, missing.getStatus());
+        assertNull(missing.getFile());
+        assertFalse(Files.exists(directory.resolve("missing.png")));
+
+        DownloadResult empty = results.get(5);
+
+        assertFalse(empty.isSuccess());
+        assertNull(empty.getUrl());
+
+        List<String> files = new ArrayList<>();
+
+        try (Stream<Path> list = Files.list(directory)) {
+            list.forEach(file -> files.add(file.getFileName().toString()));
+        }
+
+        files.sort(null);
+
+        assertEquals(Arrays.asList("a-2.png", "a.png", "image.png", "redirect"), files);
+    }
+
+    @Test
+    public void createsTheFilesWithTheDefaultPermissions() throws IOException {
+        Path directory = folder.getRoot().toPath();
+
+        assumeTrue(directory.getFileSystem().supportedFileAttributeViews().contains("posix"));
+
+        List<DownloadResult> results = downloader.download(By.tagName("img"), directory);
+        Path reference = Files.createFile(directory.resolve("reference"));
+
+        assertEquals(Files.getPosixFilePermissions(reference), Files.getPosixFilePermissions(results.get(0).getFile()));
+        assertEquals(Files.getPosixFilePermissions(reference), Files.getPosixFilePermissions(results.get(4).getFile()));
+    }
+
+    @Test
+    public void decodesBase64DataUrls() throws IOException {
+        DownloadResult data = downloader.download(By.tagName("img"), folder.getRoot().toPath()).get(4);
+
+        assertTrue(data.isSuccess());
+        assertEquals(-1, data.getStatus());
+        assertArrayEquals(IMAGE, Files.readAllBytes(data.getFile()));
+    }
+
+    @Test
+    public void readsTheSourcesWithOneScript() {
+        driver.script(script -> script.contains("navigator.userAgent"), (stub, args) -> {
+            List<Object> result = new ArrayList<>(Arrays.asList("StubAgent/1.0", base + "/page"));
+
+            for (Object image : args) {
+                result.add(((WebElement) image).getAttribute("src"));
+            }
+
+            return result;
+        });
+
+        List<WebElement> images = driver.findElements(By.tagName("img"));
+        List<DownloadResult> results = downloader.download(images.subList(0, 1), folder.getRoot().toPath());
+
+        assertTrue(results.get(0).isSuccess());
+        assertEquals("StubAgent/1.0", agents.get("/img/a.png"));
+        assertEquals(Long.valueOf(1), driver.getCommandCounts().get("executeScript"));
+    }
+
+    @Test
+    public void sendsHostOnlyCookiesToTheirHostAndDomainCookiesToTheSubdomains() throws IOException {
+        Set<Cookie> cookies = new LinkedHashSet<>();
+
+        cookies.add(new Cookie("host", "1", "example.com", "/", null));
+        cookies.add(new Cookie("domain", "2", ".example.com", "/", null));
+        cookies.add(new Cookie("page", "3"));
+        cookies.add(new Cookie("secure", "4", "example.com", "/", null, true));
+        cookies.add(new Cookie("path", "5", "example.com", "/images", null));
+
+        assertEquals("host=1; domain=2; page=3", ImageDownloader.cookieHeader(cookies, new URL("http://example.com/a.png"), "http://example.com/"));
+        assertEquals("domain=2", ImageDownloader.cookieHeader(cookies, new URL("http://img.example.com/a.png"), "http://example.com/"));
+        assertEquals("host=1; domain=2; page=3; secure=4; path=5", ImageDownloader.cookieHeader(cookies, new URL("https://example.com/images/a.png"), "http://example.com/"));
+        assertEquals("", ImageDownloader.cookieHeader(cookies, new URL("http://notexample.com/a.png"), "http://example.com/"));
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+
+        exchange.getRequestBody().close();
+
+        cookies.put(path, String.valueOf(exchange.getRequestHeaders().getFirst("Cookie")));
+        agents.put(path, String.valueOf(exchange.getRequestHeaders().getFirst("User-Agent")));
+        referers.put(path, String.valueOf(exchange.getRequestHeaders().getFirst("Referer")));
+
+        if ("/redirect".equals(path)) {
+            exchange.getResponseHeaders().set("Location", "/img/b.png");
+            exchange.sendResponseHeaders(302, -1);
+        } else if (path.endsWith(".png") && !path.startsWith("/missing")) {
+            exchange.getResponseHeaders().set("Content-Type", "image/png");
+            exchange.sendResponseHeaders(200, IMAGE.length);
+
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(IMAGE);
+            }
+        } else {
+            exchange.sendResponseHeaders(404, -1);
+        }
+
+        exchange.close();
+    }
+
+}
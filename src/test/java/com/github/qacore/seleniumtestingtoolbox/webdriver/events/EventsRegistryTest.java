@@ -0,0 +1,168 @@
+package com.github.qacore.seleniumtestingtoolbox.webdriver.events;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.After;
+import org.junit.Test;
+import org.openqa.selenium.WebDriver;
+
+import com.github.qacore.seleniumtestingtoolbox.WebDriverManager;
+import com.github.qacore.seleniumtestingtoolbox.webdriver.AugmentedWebDriver;
+import com.github.qacore.seleniumtestingtoolbox.webdriver.DefaultAugmentedWebDriver;
+
+/**
+ * Tests of the synchronous and asynchronous dispatch of {@link EventsRegistry}.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/leocarmona">https://github.com/leocarmona</a></li>
+ *         <li><a href="mailto:lcdesenv@gmail.com">lcdesenv@gmail.com</a></li>
+ *         </ul>
+ *
+ * @since 1.0.2
+ *
+ */
+public class EventsRegistryTest {
+
+    private final EventsRegistry registry = new EventsRegistry();
+
+    @After
+    public void tearDown() {
+        registry.close();
+        WebDriverManager.quit();
+    }
+
+    @Test
+    public void onlyDetachedListenersAreCalledInBackground() {
+        Recorder attached = new Recorder();
+        Recorder detached = new DetachedRecorder();
+
+        registry.register(attached).register(detached).async(16, BackpressurePolicy.BLOCK);
+        registry.dispatch(e -> e.beforeNavigateTo("http://localhost/", null));
+        registry.flush();
+
+        assertSame(Thread.currentThread(), attached.threads.get(0));
+        assertNotEquals(Thread.currentThread(), detached.threads.get(0));
+    }
+
+    @Test
+    public void failuresOfDetachedListenersAreCounted() {
+        registry.register(new DetachedRecorder() {
+
+            @Override
+            public void beforeNavigateTo(String url, WebDriver driver) {
+                throw new IllegalStateException(url);
+            }
+
+        }).async(16, BackpressurePolicy.DROP);
+
+        registry.dispatch(e -> e.beforeNavigateTo("http://localhost/", null));
+        registry.flush();
+
+        assertEquals(1, registry.getFailedEvents());
+    }
+
+    @Test
+    public void quitStopsTheDispatcherThread() {
+        AugmentedWebDriver driver = new DefaultAugmentedWebDriver(driver());
+        Recorder detached = new DetachedRecorder();
+
+        driver.events().register(detached).async(16, BackpressurePolicy.BLOCK);
+        driver.events().dispatch(e -> e.beforeNavigateTo("http://localhost/", driver));
+        driver.quit();
+
+        assertEquals(1, detached.threads.size());
+        assertFalse(detached.threads.get(0).isAlive());
+        assertFalse(driver.events().isAsync());
+    }
+
+    @Test
+    public void managerQuitStopsTheDispatcherThread() {
+        Recorder detached = new DetachedRecorder();
+
+        WebDriverManager.setDriver(driver());
+        WebDriverManager.getDriver().events().register(detached).async(16, BackpressurePolicy.SAMPLE);
+        WebDriverManager.getDriver().events().dispatch(e -> e.beforeNavigateTo("http://localhost/", null));
+        WebDriverManager.quit();
+
+        assertEquals(1, detached.threads.size());
+        assertFalse(detached.threads.get(0).isAlive());
+    }
+
+    @Test
+    public void eventsSubmittedAfterShutdownAreDispatchedByTheCaller() {
+        AsyncEventsDispatcher dispatcher = new AsyncEventsDispatcher(1, BackpressurePolicy.BLOCK, 1);
+        Recorder detached = new DetachedRecorder();
+
+        dispatcher.shutdown();
+
+        for (int i = 0; i < 3; i++) {
+            dispatcher.submit(new AugmentedWebDriverEventListener[] { detached }, e -> e.beforeNavigateTo("http://localhost/", null));
+        }
+
+        assertEquals(3, detached.threads.size());
+        assertTrue(detached.threads.stream().allMatch(thread -> thread == Thread.currentThread()));
+        assertEquals(0, dispatcher.getPendingEvents());
+    }
+
+    @Test
+    public void chainedRegistriesDispatchToTheirParentsAsTheyAre() {
+        Recorder parent = new Recorder();
+        EventsRegistry child = new EventsRegistry(registry);
+
+        assertTrue(child.isEmpty());
+
+        registry.register(parent);
+        child.dispatch(e -> e.beforeNavigateTo("http://localhost/", null));
+
+        assertFalse(child.isEmpty());
+        assertEquals(1, parent.threads.size());
+        assertNull(new EventsRegistry(EventsRegistry.empty()).getParent());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void theEmptyRegistryCannotBeChanged() {
+        EventsRegistry.empty().register(new Recorder());
+    }
+
+    private static WebDriver driver() {
+        return (WebDriver) Proxy.newProxyInstance(EventsRegistryTest.class.getClassLoader(), new Class<?>[] { WebDriver.class }, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                case "toString":
+                    return "WebDriver";
+                default:
+                    return null;
+            }
+        });
+    }
+
+    private static class Recorder extends AbstractAugmentedWebDriverEventListener {
+
+        final List<Thread> threads = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void beforeNavigateTo(String url, WebDriver driver) {
+            threads.add(Thread.currentThread());
+        }
+
+    }
+
+    private static class DetachedRecorder extends Recorder implements DetachedEventListener {
+
+    }
+
+}
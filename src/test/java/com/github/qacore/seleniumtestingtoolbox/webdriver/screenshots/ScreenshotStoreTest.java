@@ -0,0 +1,204 @@
+package com.github.qacore.seleniumtestingtoolbox.webdriver.screenshots;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import javax.imageio.ImageIO;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests of {@link ScreenshotStore}, with small generated images.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/leocarmona">https://github.com/leocarmona</a></li>
+ *         <li><a href="mailto:lcdesenv@gmail.com">lcdesenv@gmail.com</a></li>
+ *         </ul>
+ *
+ * @since 1.0.2
+ *
+ */
+public class ScreenshotStoreTest {
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private Path                 directory;
+    private BufferedImage        page;
+    private BufferedImage        hovered;
+
+    @Before
+    public void setUp() {
+        directory = folder.getRoot().toPath().resolve("screenshots");
+        page = noise(4 * ScreenshotStore.TILE_SIZE, 4 * ScreenshotStore.TILE_SIZE, 1);
+        hovered = copy(page);
+
+        for (int y = 10; y < 30; y++) {
+            for (int x = 70; x < 120; x++) {
+                hovered.setRGB(x, y, 0xFF0000);
+            }
+        }
+    }
+
+    @Test
+    public void identicalScreenshotsAreStoredOnce() throws IOException {
+        ScreenshotStore store = new ScreenshotStore(directory, Long.MAX_VALUE);
+        byte[] png = png(page);
+
+        String id = store.store(png);
+
+        assertEquals(id, store.store(png.clone()));
+        assertEquals(ScreenshotStore.hash(png), id);
+        assertEquals(1, store.getCount());
+        assertEquals(1, store.getDuplicates());
+        assertEquals(png.length, store.getSize());
+        assertArrayEquals(png, store.load(id));
+        assertEquals(1, this.files());
+    }
+
+    @Test
+    public void similarScreenshotsAreStoredAsDeltasAndLoadedWithTheirPixels() throws IOException {
+        ScreenshotStore store = new ScreenshotStore(directory, Long.MAX_VALUE, true);
+        byte[] keyFrame = png(page);
+
+        String pageId = store.store(keyFrame);
+        String hoveredId = store.store(png(hovered));
+
+        assertTrue(Files.exists(directory.resolve(hoveredId + ".delta")));
+        assertTrue(Files.size(directory.resolve(hoveredId + ".delta")) < keyFrame.length / 4);
+        assertArrayEquals(keyFrame, store.load(pageId));
+        assertArrayEquals(pixels(hovered), pixels(image(store.load(hoveredId))));
+    }
+
+    @Test
+    public void screenshotsOfAnotherSizeAreNewKeyFrames() throws IOException {
+        ScreenshotStore store = new ScreenshotStore(directory, Long.MAX_VALUE, true);
+
+        store.store(png(page));
+
+        String other = store.store(png(noise(ScreenshotStore.TILE_SIZE, ScreenshotStore.TILE_SIZE, 2)));
+
+        assertTrue(Files.exists(directory.resolve(other + ".png")));
+    }
+
+    @Test
+    public void evictingAKeyFrameEvictsItsDeltas() throws IOException {
+        byte[] keyFrame = png(page);
+        byte[] small = png(noise(ScreenshotStore.TILE_SIZE, ScreenshotStore.TILE_SIZE, 2));
+        ScreenshotStore store = new ScreenshotStore(directory, keyFrame.length, true);
+
+        String pageId = store.store(keyFrame);
+        String hoveredId = store.store(png(hovered));
+
+        assertEquals(2, store.getCount());
+
+        String smallId = store.store(small);
+
+        assertFalse(store.contains(pageId));
+        assertFalse(store.contains(hoveredId));
+        assertTrue(store.contains(smallId));
+        assertEquals(small.length, store.getSize());
+        assertEquals(1, this.files());
+
+        try {
+            store.load(hoveredId);
+
+            throw new AssertionError("Expected a NoSuchFileException");
+        } catch (NoSuchFileException e) {
+            // evicted
+        }
+    }
+
+    @Test
+    public void reopenedStoresIndexTheStoredScreenshots() throws IOException {
+        ScreenshotStore store = new ScreenshotStore(directory, Long.MAX_VALUE, true);
+
+        String pageId = store.store(png(page));
+        String hoveredId = store.store(png(hovered));
+
+        ScreenshotStore reopened = new ScreenshotStore(directory, Long.MAX_VALUE, true);
+
+        assertEquals(2, reopened.getCount());
+        assertEquals(store.getSize(), reopened.getSize());
+        assertArrayEquals(pixels(hovered), pixels(image(reopened.load(hoveredId))));
+
+        Files.delete(directory.resolve(pageId + ".png"));
+
+        ScreenshotStore withoutKeyFrame = new ScreenshotStore(directory, Long.MAX_VALUE, true);
+
+        assertEquals(0, withoutKeyFrame.getCount());
+        assertEquals(0, this.files());
+    }
+
+    @Test
+    public void reopenedStoresStartANewKeyFrame() throws IOException {
+        new ScreenshotStore(directory, Long.MAX_VALUE, true).store(png(page));
+
+        String hoveredId = new ScreenshotStore(directory, Long.MAX_VALUE, true).store(png(hovered));
+
+        assertTrue(Files.exists(directory.resolve(hoveredId + ".png")));
+        assertNotEquals(ScreenshotStore.hash(png(page)), hoveredId);
+    }
+
+    private long files() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    private static BufferedImage noise(int width, int height, long seed) {
+        Random random = new Random(seed);
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                image.setRGB(x, y, random.nextInt(0x1000000));
+            }
+        }
+
+        return image;
+    }
+
+    private static BufferedImage copy(BufferedImage image) {
+        BufferedImage copy = new BufferedImage(image.getWidth(), image.getHeight(), image.getType());
+
+        copy.setData(image.getData());
+
+        return copy;
+    }
+
+    private static byte[] png(BufferedImage image) throws IOException {
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+
+        ImageIO.write(image, "png", png);
+
+        return png.toByteArray();
+    }
+
+    private static BufferedImage image(byte[] png) throws IOException {
+        return ImageIO.read(new ByteArrayInputStream(png));
+    }
+
+    private static int[] pixels(BufferedImage image) {
+        return image.getRGB(0, 0, image.getWidth(), image.getHeight(), null, 0, image.getWidth());
+    }
+
+}